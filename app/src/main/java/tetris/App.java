@@ -1,18 +1,74 @@
 package tetris;
 
 import javafx.application.Application;
+import javafx.application.Platform;
 import javafx.stage.Stage;
+import tetris.data.ScoreManager;
+import tetris.ui.MusicManager;
 import tetris.ui.SceneManager;
+import tetris.ui.SettingsManager;
+import tetris.ui.SoundEffectPlayer;
+
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
 
 public class App extends Application {
 
+    // 단계별 초기화 시간 (ms) - 여러 스레드에서 기록
+    private final Map<String, Long> startupTimings = new ConcurrentHashMap<>();
+
     @Override
     public void start(Stage primaryStage) {
+        long startTime = System.nanoTime();
         SceneManager sceneManager = new SceneManager(primaryStage);
-        sceneManager.showMainMenu();
+        sceneManager.showSplash();
+
+        // 설정/점수/음악 초기화는 FX 스레드 밖에서 동시에 진행
+        // 음악/효과음은 볼륨 설정이 필요하므로 설정 로드가 끝난 뒤 시작한다
+        CompletableFuture<Void> settings = CompletableFuture.runAsync(
+            () -> timed("settings", SettingsManager::getInstance));
+        CompletableFuture<Void> scores = CompletableFuture.runAsync(
+            () -> timed("scores", ScoreManager::getInstance));
+        CompletableFuture<Void> music = settings.thenRunAsync(
+            () -> timed("music", MusicManager::getInstance));
+        // 효과음은 첫 재생 지연이 없도록 미리 디코딩
+        CompletableFuture<Void> soundEffects = settings.thenRunAsync(
+            () -> timed("soundEffects", SoundEffectPlayer::getInstance));
+
+        CompletableFuture.allOf(settings, scores, music, soundEffects).whenComplete((ignored, error) -> {
+            if (error != null) {
+                // 실패한 싱글톤은 처음 사용할 때 다시 생성되므로 메뉴는 그대로 띄운다
+                System.err.println("[STARTUP] Background initialization failed: " + error.getMessage());
+            }
+            Platform.runLater(() -> {
+                timed("mainMenu", sceneManager::showMainMenu);
+                // 자주 오가는 화면은 메뉴가 뜬 뒤 백그라운드에서 미리 로드
+                sceneManager.preloadScenes();
+                logStartupTimings((System.nanoTime() - startTime) / 1_000_000);
+            });
+        });
+    }
+
+    private void timed(String stage, Runnable task) {
+        long start = System.nanoTime();
+        try {
+            task.run();
+        } finally {
+            startupTimings.put(stage, (System.nanoTime() - start) / 1_000_000);
+        }
+    }
+
+    private void logStartupTimings(long totalMillis) {
+        System.out.println("[STARTUP] settings=" + startupTimings.getOrDefault("settings", -1L) + "ms"
+            + ", scores=" + startupTimings.getOrDefault("scores", -1L) + "ms"
+            + ", music=" + startupTimings.getOrDefault("music", -1L) + "ms"
+            + ", soundEffects=" + startupTimings.getOrDefault("soundEffects", -1L) + "ms"
+            + ", mainMenu=" + startupTimings.getOrDefault("mainMenu", -1L) + "ms"
+            + ", total=" + totalMillis + "ms");
     }
 
     public static void main(String[] args) {
         launch(args);
     }
-}
\ No newline at end of file
+}
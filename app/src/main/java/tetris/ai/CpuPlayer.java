@@ -0,0 +1,83 @@
+package tetris.ai;
+
+import tetris.game.GameCommand;
+import tetris.game.GameEngine;
+import tetris.game.Piece;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 엔진 하나를 조작하는 컴퓨터 플레이어 (대전 화면의 2P 자리)
+ *
+ * 새 블록이 나오면 PlacementSearch로 한 번만 위치를 정하고, 그 뒤로는 게임 루프가 부를 때마다
+ * 정해진 간격으로 명령을 하나씩 실행한다 (사람처럼 블록이 움직이는 게 보이도록).
+ * 게임 루프(JavaFX 스레드)에서만 사용한다.
+ */
+public class CpuPlayer {
+    private final GameEngine engine;
+    private final PlacementSearch search;
+    private final List<GameCommand> plan = new ArrayList<>();
+    private final long moveDelayNanos;
+
+    private Piece plannedPiece;
+    private int planIndex = 0;
+    private long lastMoveTime = 0;
+
+    public CpuPlayer(GameEngine engine, long moveDelayNanos) {
+        this.engine = engine;
+        this.moveDelayNanos = moveDelayNanos;
+        this.search = new PlacementSearch(engine.getGameBoard().getWidth(), engine.getGameBoard().getHeight());
+    }
+
+    /**
+     * 난이도별 명령 간격 (어려울수록 빠르게 조작)
+     */
+    public static long moveDelayFor(String difficulty) {
+        switch (difficulty) {
+            case "Easy":
+                return 200_000_000L;
+            case "Hard":
+                return 50_000_000L;
+            default:    // Normal
+                return 110_000_000L;
+        }
+    }
+
+    /**
+     * 게임 루프에서 매 프레임 호출
+     * @param now 현재 시각 (나노초, AnimationTimer의 now)
+     */
+    public void update(long now) {
+        if (!engine.isGameRunning() || engine.isPaused()) {
+            return;
+        }
+        Piece current = engine.getCurrentPiece();
+        if (current == null) {
+            return;
+        }
+        if (current != plannedPiece) {
+            plan(current);
+            // 새 블록은 한 박자 쉬고 움직이기 시작
+            lastMoveTime = now;
+            return;
+        }
+        // 낙하가 빨라지면 블록이 한 칸 내려가는 동안 명령을 여러 개 실행할 수 있도록 간격을 줄인다
+        long delay = Math.min(moveDelayNanos, engine.getFallSpeed() / 4);
+        if (planIndex < plan.size() && now - lastMoveTime >= delay) {
+            engine.execute(plan.get(planIndex++));
+            lastMoveTime = now;
+        }
+    }
+
+    private void plan(Piece current) {
+        plannedPiece = current;
+        planIndex = 0;
+        plan.clear();
+        if (search.search(engine)) {
+            search.appendCommands(plan);
+        } else {
+            plan.add(GameCommand.HARD_DROP);
+        }
+    }
+}
@@ -0,0 +1,391 @@
+package tetris.ai;
+
+import tetris.game.GameBoard;
+import tetris.game.GameCommand;
+import tetris.game.GameEngine;
+import tetris.game.Piece;
+import tetris.game.PieceFactory;
+import tetris.game.PieceShape;
+import tetris.game.WallKicks;
+
+import java.util.List;
+
+/**
+ * CPU 플레이어용 착지 위치 탐색
+ *
+ * 현재 블록에서 회전(WallKicks 벽 차기 포함)과 좌우 이동으로 도달할 수 있는 모든 (회전, 열) 조합을 찾고, 각 위치에 다음 블록까지 놓아 본 뒤
+ * 보드 평가 점수(구멍, 울퉁불퉁함, 높이 합, 지운 줄, 공격 줄)가 가장 좋은 위치를 고른다.
+ * 보관(홀드)을 쓸 수 있으면 보관해서 나올 블록(보관 중인 블록, 없으면 다음 블록)으로도 같은 탐색을 해서
+ * 더 좋으면 HOLD부터 실행한다. 이때 다음 블록 자리는 미리보기 큐에서 한 칸 뒤의 블록으로 본다.
+ *
+ * 보드는 행마다 long 비트마스크(bit c = c번째 열)로 복사해서 다루고 (GameBoard의 행 비트를 그대로 가져옴),
+ * 블록 모양은 PieceShape에 미리 계산된 행 비트마스크를 쓰므로 충돌 검사는 행당 AND 한 번이다.
+ * 탐색용 배열은 보드 크기에 맞춰 만들어 두고, 크기가 다른 엔진을 만났을 때만 다시 만든다.
+ * 탐색 중에는 객체를 만들지 않으므로 (미리 만든 배열만 재사용) 한 번 결정하는 데 1ms 이내로 끝난다.
+ * 인스턴스 하나는 스레드 하나에서만 사용한다.
+ */
+public class PlacementSearch {
+    private static final int MAX_TYPE = PieceFactory.BOMB_PIECE;
+
+    // 평가 가중치 (높이 합, 지운 줄, 구멍, 울퉁불퉁함은 널리 쓰이는 값, 공격은 대전용 가산점)
+    private static final double AGGREGATE_HEIGHT_WEIGHT = -0.510066;
+    private static final double LINES_WEIGHT = 0.760666;
+    private static final double HOLES_WEIGHT = -0.35663;
+    private static final double BUMPINESS_WEIGHT = -0.184483;
+    private static final double ATTACK_WEIGHT = 0.3;
+    // 다음 블록이 나올 자리가 막히는 위치 (게임 오버)
+    private static final double TOP_OUT_SCORE = -1_000_000;
+
+    // 타입별 회전 표 (인덱스 = 타입)
+    private static final PieceShape[] SHAPES = new PieceShape[MAX_TYPE + 1];
+
+    static {
+        for (int type = 1; type <= MAX_TYPE; type++) {
+            SHAPES[type] = PieceFactory.shapeOf(type);
+        }
+    }
+
+    private int width;
+    private int height;
+    private long fullRow;
+
+    // 탐색용 보드 (0 = 현재 보드, 1 = 현재 블록을 놓은 뒤, 2 = 다음 블록까지 놓은 뒤)
+    private long[][] boards;
+    private int[] columnHeights;
+
+    // 회전 중인 블록 위치 (rotateWithKicks가 갱신)
+    private int poseX;
+    private int poseY;
+
+    // 마지막 탐색 결과
+    private int bestRotations;
+    private int bestShift;
+    private double bestScore;
+    private boolean found;
+    private boolean useHold;
+
+    public PlacementSearch() {
+        this(GameBoard.BOARD_WIDTH, GameBoard.BOARD_HEIGHT);
+    }
+
+    public PlacementSearch(int width, int height) {
+        resize(width, height);
+    }
+
+    private void resize(int width, int height) {
+        this.width = width;
+        this.height = height;
+        this.fullRow = width == Long.SIZE ? -1L : (1L << width) - 1;
+        this.boards = new long[3][height];
+        this.columnHeights = new int[width];
+    }
+
+    /**
+     * 엔진의 현재 블록을 놓을 위치 탐색
+     * @return 놓을 수 있는 위치가 있으면 true (결과는 appendCommands로 꺼냄)
+     */
+    public boolean search(GameEngine engine) {
+        found = false;
+        useHold = false;
+        Piece current = engine.getCurrentPiece();
+        if (current == null || !isKnownType(current.getType())) {
+            return false;
+        }
+        GameBoard board = engine.getGameBoard();
+        if (board.getWidth() != width || board.getHeight() != height) {
+            resize(board.getWidth(), board.getHeight());
+        }
+        long[] start = boards[0];
+        // 가장 높은 블록보다 위쪽은 보드 지표로 비어 있는 게 확실하므로 훑지 않는다
+        // (보이는 줄만 복사 - 숨은 줄까지 쌓였으면 어차피 거의 끝난 판이므로 숨은 줄은 비어 있다고 본다)
+        int highestRow = Math.max(0, board.getHighestRow());
+        for (int row = 0; row < highestRow; row++) {
+            start[row] = 0L;
+        }
+        for (int row = highestRow; row < height; row++) {
+            start[row] = board.getRowBits(row);
+        }
+
+        int nextType = previewType(engine, 0);
+        int spawnX = board.getSpawnX();
+        int spawnY = board.getSpawnY();
+        search(current.getType(), current.getRotation(), current.getX(), current.getY(), nextType, spawnX, spawnY);
+        if (!engine.canHold()) {
+            return found;
+        }
+
+        // 보관하면 나올 블록과 그 다음 블록
+        Piece held = engine.getHoldPiece();
+        int holdType = held != null ? held.getType() : nextType;
+        int afterHoldType = held != null ? nextType : previewType(engine, 1);
+        if (!isKnownType(holdType) || holdType == current.getType()) {
+            return found;
+        }
+        boolean keptFound = found;
+        double keptScore = bestScore;
+        int keptRotations = bestRotations;
+        int keptShift = bestShift;
+        if (search(holdType, 0, spawnX, spawnY, afterHoldType, spawnX, spawnY) && (!keptFound || bestScore > keptScore)) {
+            useHold = true;
+        } else {
+            found = keptFound;
+            bestScore = keptScore;
+            bestRotations = keptRotations;
+            bestShift = keptShift;
+        }
+        return found;
+    }
+
+    private static int previewType(GameEngine engine, int index) {
+        if (index >= engine.getPreviewCount()) {
+            return 0;
+        }
+        Piece piece = engine.getPreviewPiece(index);
+        return piece != null && isKnownType(piece.getType()) ? piece.getType() : 0;
+    }
+
+    /**
+     * boards[0]에 담긴 보드에서 탐색 (테스트에서 직접 보드를 채울 때 사용)
+     * @param nextType 다음 블록 타입 (0이면 한 블록만 봄)
+     */
+    boolean search(int type, int rotation, int x, int y, int nextType, int spawnX, int spawnY) {
+        found = false;
+        useHold = false;
+        bestScore = Double.NEGATIVE_INFINITY;
+        long[] start = boards[0];
+        long[] afterFirst = boards[1];
+        int rotationCount = SHAPES[type].getRotationCount();
+
+        // 회전(벽 차기 포함) -> 좌우 이동 -> 하드드롭 순서로 도달할 수 있는 위치만 본다
+        // (다음 블록 탐색이 poseX/poseY를 덮어쓰므로 회전 위치는 rx, ry에 따로 보관)
+        int rx = x;
+        int ry = y;
+        int rot = rotation;
+        for (int turns = 0; turns < rotationCount; turns++) {
+            if (turns == 0) {
+                if (collides(start, type, rot, rx, ry)) {
+                    break;
+                }
+            } else {
+                poseX = rx;
+                poseY = ry;
+                if (!rotateWithKicks(start, type, rot)) {
+                    break;
+                }
+                rot = (rot + 1) % rotationCount;
+                rx = poseX;
+                ry = poseY;
+            }
+            for (int direction = -1; direction <= 1; direction += 2) {
+                int targetX = direction < 0 ? rx : rx + 1;
+                while (!collides(start, type, rot, targetX, ry)) {
+                    int lines = place(start, afterFirst, type, rot, targetX, ry);
+                    double score = lines < 0 ? TOP_OUT_SCORE : scoreLines(lines)
+                        + (nextType != 0 ? bestNextScore(nextType, spawnX, spawnY) : evaluate(afterFirst));
+                    if (!found || score > bestScore) {
+                        found = true;
+                        bestScore = score;
+                        bestRotations = turns;
+                        bestShift = targetX - rx;
+                    }
+                    targetX += direction;
+                }
+            }
+        }
+        return found;
+    }
+
+    /**
+     * boards[1]에서 다음 블록을 놓을 수 있는 가장 좋은 점수
+     */
+    private double bestNextScore(int type, int spawnX, int spawnY) {
+        long[] afterFirst = boards[1];
+        long[] afterSecond = boards[2];
+        if (collides(afterFirst, type, 0, spawnX, spawnY)) {
+            return TOP_OUT_SCORE;
+        }
+        double best = TOP_OUT_SCORE;
+        int rotationCount = SHAPES[type].getRotationCount();
+        poseX = spawnX;
+        poseY = spawnY;
+        int rot = 0;
+        for (int turns = 0; turns < rotationCount; turns++) {
+            if (turns > 0) {
+                if (!rotateWithKicks(afterFirst, type, rot)) {
+                    break;
+                }
+                rot = (rot + 1) % rotationCount;
+            }
+            int rx = poseX;
+            int ry = poseY;
+            for (int direction = -1; direction <= 1; direction += 2) {
+                int targetX = direction < 0 ? rx : rx + 1;
+                while (!collides(afterFirst, type, rot, targetX, ry)) {
+                    int lines = place(afterFirst, afterSecond, type, rot, targetX, ry);
+                    if (lines >= 0) {
+                        best = Math.max(best, scoreLines(lines) + evaluate(afterSecond));
+                    }
+                    targetX += direction;
+                }
+            }
+        }
+        return best;
+    }
+
+    /**
+     * (poseX, poseY)에 있는 블록을 엔진과 같은 순서로 벽 차기를 시험하며 시계 방향으로 회전
+     * @return 회전했으면 true (poseX, poseY가 보정된 위치로 바뀜)
+     */
+    private boolean rotateWithKicks(long[] board, int type, int rot) {
+        int[] kicks = WallKicks.clockwise(type, rot);
+        int nextRot = (rot + 1) % SHAPES[type].getRotationCount();
+        for (int i = 0; i < kicks.length; i += 2) {
+            if (!collides(board, type, nextRot, poseX + kicks[i], poseY + kicks[i + 1])) {
+                poseX += kicks[i];
+                poseY += kicks[i + 1];
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * 마지막 탐색 결과를 명령으로 추가 ((보관) -> 회전 -> 이동 -> 하드드롭)
+     */
+    public void appendCommands(List<GameCommand> commands) {
+        if (!found) {
+            return;
+        }
+        if (useHold) {
+            commands.add(GameCommand.HOLD);
+        }
+        for (int i = 0; i < bestRotations; i++) {
+            commands.add(GameCommand.ROTATE);
+        }
+        GameCommand move = bestShift < 0 ? GameCommand.MOVE_LEFT : GameCommand.MOVE_RIGHT;
+        for (int i = 0; i < Math.abs(bestShift); i++) {
+            commands.add(move);
+        }
+        commands.add(GameCommand.HARD_DROP);
+    }
+
+    int getBestRotations() {
+        return bestRotations;
+    }
+
+    int getBestShift() {
+        return bestShift;
+    }
+
+    boolean isUsingHold() {
+        return useHold;
+    }
+
+    long[] getBoardRows() {
+        return boards[0];
+    }
+
+    private static boolean isKnownType(int type) {
+        return type >= 1 && type <= MAX_TYPE;
+    }
+
+    private boolean collides(long[] board, int type, int rot, int x, int y) {
+        PieceShape shape = SHAPES[type];
+        if (x + shape.getMinCol(rot) < 0 || x + shape.getMaxCol(rot) >= width) {
+            return true;
+        }
+        int rows = shape.getHeight(rot);
+        for (int row = 0; row < rows; row++) {
+            int mask = shape.getRowMask(rot, row);
+            int boardRow = y + row;
+            if (mask == 0 || boardRow < 0) {
+                continue;
+            }
+            if (boardRow >= height) {
+                return true;
+            }
+            long shifted = x >= 0 ? (long) mask << x : (long) mask >>> -x;
+            if ((board[boardRow] & shifted) != 0) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * from에 블록을 하드드롭한 결과를 to에 쓰고 꽉 찬 줄을 지운다
+     * @return 지운 줄 수 (블록 일부가 보드 위로 나가면 -1)
+     */
+    private int place(long[] from, long[] to, int type, int rot, int x, int y) {
+        while (!collides(from, type, rot, x, y + 1)) {
+            y++;
+        }
+        System.arraycopy(from, 0, to, 0, height);
+        PieceShape shape = SHAPES[type];
+        int rows = shape.getHeight(rot);
+        for (int row = 0; row < rows; row++) {
+            int mask = shape.getRowMask(rot, row);
+            if (mask == 0) {
+                continue;
+            }
+            if (y + row < 0) {
+                return -1;
+            }
+            to[y + row] |= x >= 0 ? (long) mask << x : (long) mask >>> -x;
+        }
+
+        // 꽉 찬 줄을 빼고 아래로 당김
+        int write = height - 1;
+        for (int read = height - 1; read >= 0; read--) {
+            if (to[read] != fullRow) {
+                to[write--] = to[read];
+            }
+        }
+        int lines = write + 1;
+        for (int row = write; row >= 0; row--) {
+            to[row] = 0L;
+        }
+        return lines;
+    }
+
+    private static double scoreLines(int lines) {
+        // 대전에서는 2줄 이상 지우면 그만큼 상대에게 공격이 간다
+        int attack = lines >= 2 ? lines : 0;
+        return LINES_WEIGHT * lines + ATTACK_WEIGHT * attack;
+    }
+
+    /**
+     * 보드 모양 점수 (높이 합, 구멍, 울퉁불퉁함)
+     */
+    private double evaluate(long[] board) {
+        int[] heights = columnHeights;
+        int holes = 0;
+        long seen = 0;   // 위에서부터 내려오며 블록을 한 번이라도 만난 열
+        for (int col = 0; col < width; col++) {
+            heights[col] = 0;
+        }
+        for (int row = 0; row < height; row++) {
+            long mask = board[row];
+            // 새로 블록을 만난 열의 높이 기록
+            long fresh = mask & ~seen;
+            while (fresh != 0) {
+                int col = Long.numberOfTrailingZeros(fresh);
+                heights[col] = height - row;
+                fresh &= fresh - 1;
+            }
+            seen |= mask;
+            // 위에 블록이 있는 빈 칸 = 구멍
+            holes += Long.bitCount(seen & ~mask);
+        }
+
+        int aggregateHeight = 0;
+        int bumpiness = 0;
+        for (int col = 0; col < width; col++) {
+            aggregateHeight += heights[col];
+            if (col > 0) {
+                bumpiness += Math.abs(heights[col] - heights[col - 1]);
+            }
+        }
+        return AGGREGATE_HEIGHT_WEIGHT * aggregateHeight + HOLES_WEIGHT * holes + BUMPINESS_WEIGHT * bumpiness;
+    }
+}
@@ -0,0 +1,208 @@
+package tetris.data;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.stream.Stream;
+
+/**
+ * ScoreManager를 여러 스레드(게임 방)에서 동시에 쓸 때 처리량이 코어 수에 따라 늘어나는지 재는 벤치마크
+ *
+ * 스레드 수를 1, 2, 4, ... 로 늘려 가며 작업마다 새 ScoreManager(임시 저널)로 같은 양을 돌리고 초당 처리량을 출력한다.
+ * - read-heavy: 조회 9 : 추가 1 (순위 조회가 대부분인 리더보드 서버)
+ * - mixed: 조회 1 : 추가 1 (여러 방에서 게임이 동시에 끝나는 경우)
+ *
+ * 실행: ./gradlew runScoreBenchmark --args="--threads 8 --ops 20000"
+ */
+public class ScoreBenchmark {
+
+    private static final String[] DIFFICULTIES = { "Easy", "Normal", "Hard" };
+
+    /**
+     * 명령줄 옵션
+     */
+    static final class Options {
+        int maxThreads = Runtime.getRuntime().availableProcessors();
+        int operationsPerThread = 20000;
+        int seedScores = 5000;   // 측정 전에 미리 넣어 두는 기록 수
+        int rounds = 3;          // 같은 조합을 몇 번 재서 가장 빠른 값을 쓸지 (JIT 예열 포함)
+
+        /**
+         * @throws IllegalArgumentException 잘못된 옵션
+         */
+        static Options parse(String[] args) {
+            Options options = new Options();
+            for (int i = 0; i < args.length; i++) {
+                String name = args[i];
+                if (i + 1 >= args.length) {
+                    throw new IllegalArgumentException("Missing value for " + name);
+                }
+                String value = args[++i];
+                switch (name) {
+                    case "--threads":
+                        options.maxThreads = Math.max(1, Integer.parseInt(value));
+                        break;
+                    case "--ops":
+                        options.operationsPerThread = Math.max(1, Integer.parseInt(value));
+                        break;
+                    case "--seed-scores":
+                        options.seedScores = Math.max(0, Integer.parseInt(value));
+                        break;
+                    case "--rounds":
+                        options.rounds = Math.max(1, Integer.parseInt(value));
+                        break;
+                    default:
+                        throw new IllegalArgumentException("Unknown option: " + name);
+                }
+            }
+            return options;
+        }
+    }
+
+    /**
+     * 측정할 작업 종류 (addEvery번째 작업마다 추가, 나머지는 조회)
+     */
+    enum Workload {
+        READ_HEAVY("read-heavy", 10),
+        MIXED("mixed", 2);
+
+        final String label;
+        final int addEvery;
+
+        Workload(String label, int addEvery) {
+            this.label = label;
+            this.addEvery = addEvery;
+        }
+    }
+
+    private final Options options;
+
+    ScoreBenchmark(Options options) {
+        this.options = options;
+    }
+
+    /**
+     * 측정할 스레드 수 목록 (1부터 두 배씩, 마지막은 최대 스레드 수)
+     */
+    static List<Integer> threadCounts(int maxThreads) {
+        List<Integer> counts = new ArrayList<>();
+        for (int threads = 1; threads < maxThreads; threads *= 2) {
+            counts.add(threads);
+        }
+        counts.add(maxThreads);
+        return counts;
+    }
+
+    /**
+     * 한 작업 종류를 주어진 스레드 수로 한 번 돌리고 초당 처리량 반환
+     */
+    double measure(Workload workload, int threads, Path dir) throws Exception {
+        ScoreManager manager = new ScoreManager(dir.resolve(workload.name().toLowerCase() + "-" + threads + ".journal"));
+        ExecutorService executor = Executors.newFixedThreadPool(threads);
+        try {
+            for (int i = 0; i < options.seedScores; i++) {
+                manager.addScore("Seed" + i, i, DIFFICULTIES[i % 3], i % 2 == 0 ? "NORMAL" : "ITEM");
+            }
+
+            CountDownLatch ready = new CountDownLatch(threads);
+            CountDownLatch start = new CountDownLatch(1);
+            List<Future<?>> futures = new ArrayList<>(threads);
+            for (int t = 0; t < threads; t++) {
+                futures.add(executor.submit(() -> {
+                    ready.countDown();
+                    start.await();
+                    runOperations(manager, workload);
+                    return null;
+                }));
+            }
+            ready.await();
+            long startTime = System.nanoTime();
+            start.countDown();
+            for (Future<?> future : futures) {
+                future.get();
+            }
+            long elapsedNanos = System.nanoTime() - startTime;
+            return (long) threads * options.operationsPerThread * 1e9 / elapsedNanos;
+        } finally {
+            executor.shutdown();
+            manager.close();
+        }
+    }
+
+    private void runOperations(ScoreManager manager, Workload workload) {
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+        for (int i = 0; i < options.operationsPerThread; i++) {
+            String mode = random.nextBoolean() ? "NORMAL" : "ITEM";
+            String difficulty = DIFFICULTIES[random.nextInt(DIFFICULTIES.length)];
+            if (i % workload.addEvery == 0) {
+                manager.addScore("B", random.nextInt(10000), difficulty, mode);
+            } else if (i % 3 == 0) {
+                manager.getFormattedScoresPage(mode, difficulty, 0, 10);
+            } else {
+                manager.getLifetimeRank(random.nextInt(10000), mode, difficulty);
+            }
+        }
+    }
+
+    /**
+     * 모든 작업 종류와 스레드 수 조합을 재서 출력
+     */
+    void run() throws Exception {
+        Path dir = Files.createTempDirectory("score-bench");
+        try {
+            for (Workload workload : Workload.values()) {
+                double singleThread = 0;
+                for (int threads : threadCounts(options.maxThreads)) {
+                    double best = 0;
+                    for (int round = 0; round < options.rounds; round++) {
+                        best = Math.max(best, measure(workload, threads, dir));
+                    }
+                    if (threads == 1) {
+                        singleThread = best;
+                    }
+                    System.out.printf("[SCORE-BENCH] %-10s threads=%-3d throughput=%,12.0f ops/s  speedup=%.2fx%n",
+                        workload.label, threads, best, best / singleThread);
+                }
+            }
+        } finally {
+            deleteRecursively(dir);
+        }
+    }
+
+    private static void deleteRecursively(Path dir) {
+        try (Stream<Path> paths = Files.walk(dir)) {
+            paths.sorted(Comparator.reverseOrder()).forEach(path -> path.toFile().delete());
+        } catch (IOException e) {
+            System.err.println("[SCORE-BENCH] Failed to delete " + dir + ": " + e.getMessage());
+        }
+    }
+
+    private static void printUsage() {
+        System.err.println("Usage: ScoreBenchmark [--threads MAX] [--ops PER_THREAD] [--seed-scores N] [--rounds N]");
+    }
+
+    public static void main(String[] args) throws Exception {
+        Options options;
+        try {
+            options = Options.parse(args);
+        } catch (IllegalArgumentException e) {
+            System.err.println("[SCORE-BENCH] " + e.getMessage());
+            printUsage();
+            System.exit(2);
+            return;
+        }
+
+        System.out.println("[SCORE-BENCH] cores=" + Runtime.getRuntime().availableProcessors()
+            + ", up to " + options.maxThreads + " threads, " + options.operationsPerThread + " ops/thread, "
+            + options.seedScores + " seeded scores, best of " + options.rounds);
+        new ScoreBenchmark(options).run();
+    }
+}
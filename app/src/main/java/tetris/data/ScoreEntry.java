@@ -14,9 +14,16 @@ public class ScoreEntry implements Serializable, Comparable<ScoreEntry> {
     private final String gameMode; // "NORMAL" or "ITEM"
     
     public ScoreEntry(String playerName, int score, String difficulty, String gameMode) {
+        this(playerName, score, LocalDateTime.now(), difficulty, gameMode);
+    }
+
+    /**
+     * 저장된 기록을 다시 읽을 때 사용 (기록 시각 유지)
+     */
+    public ScoreEntry(String playerName, int score, LocalDateTime date, String difficulty, String gameMode) {
         this.playerName = playerName;
         this.score = score;
-        this.date = LocalDateTime.now();
+        this.date = date;
         this.difficulty = difficulty;
         this.gameMode = gameMode;
     }
@@ -0,0 +1,261 @@
+package tetris.data;
+
+import java.util.ArrayDeque;
+import java.util.Random;
+
+/**
+ * 점수 내림차순으로 정렬된 순서 통계 트리 (treap)
+ * 각 노드가 서브트리 크기를 들고 있어서 삽입, k번째 조회, 특정 점수보다 높은 기록 수(순위)를
+ * 모두 O(log n)에 처리한다. 같은 점수는 먼저 기록된 것이 앞에 온다.
+ * 노드는 ScoreEntry 대신 점수와 기록 위치(ref)만 들고 있고, 이름/날짜는 필요할 때
+ * ScoreManager가 저널에서 읽어 온다.
+ * 동기화하지 않으므로 ScoreManager에서만 사용한다.
+ */
+public class ScoreIndex {
+
+    /**
+     * 순회 콜백 (점수 내림차순)
+     */
+    public interface RefVisitor {
+        void visit(long ref, int score);
+    }
+
+    private static final class Node {
+        final long ref;
+        final int score;
+        final int priority;
+        int size = 1;
+        Node left;
+        Node right;
+
+        Node(long ref, int score, int priority) {
+            this.ref = ref;
+            this.score = score;
+            this.priority = priority;
+        }
+    }
+
+    private final Random random = new Random();
+    private Node root;
+
+    // 누적 통계 (clear 전까지 유지)
+    private long scoreSum = 0;
+
+    public int size() {
+        return size(root);
+    }
+
+    public boolean isEmpty() {
+        return root == null;
+    }
+
+    /**
+     * 기록 추가
+     * @return 추가된 기록의 순서 위치 (1부터, 같은 점수 중에서는 맨 뒤)
+     */
+    public int insert(int score, long ref) {
+        Node node = new Node(ref, score, random.nextInt());
+        // 새 노드보다 앞에 오는 것: 점수가 같거나 높은 기존 기록 전부 (동점이면 나중 기록이 뒤)
+        Node[] parts = splitByScoreAtLeast(root, node.score);
+        int position = size(parts[0]) + 1; // merge가 노드 크기를 갱신하므로 먼저 계산
+        root = merge(merge(parts[0], node), parts[1]);
+        scoreSum += node.score;
+        return position;
+    }
+
+    public void clear() {
+        root = null;
+        scoreSum = 0;
+    }
+
+    /**
+     * score보다 높은 기록 수
+     */
+    public int countGreaterThan(int score) {
+        int count = 0;
+        Node node = root;
+        while (node != null) {
+            if (node.score > score) {
+                count += size(node.left) + 1;
+                node = node.right;
+            } else {
+                node = node.left;
+            }
+        }
+        return count;
+    }
+
+    /**
+     * score 이상인 기록 수
+     */
+    public int countAtLeast(int score) {
+        return score == Integer.MIN_VALUE ? size() : countGreaterThan(score - 1);
+    }
+
+    /**
+     * score를 받았을 때의 순위 (동점자는 같은 순위)
+     */
+    public int rankOf(int score) {
+        return countGreaterThan(score) + 1;
+    }
+
+    /**
+     * score보다 낮은 기록의 비율 (0 ~ 100)
+     */
+    public double percentileOf(int score) {
+        int total = size();
+        if (total == 0) {
+            return 0.0;
+        }
+        return (total - countAtLeast(score)) * 100.0 / total;
+    }
+
+    /**
+     * 순서상 index번째 기록의 ref (0부터)
+     */
+    public long refAt(int index) {
+        if (index < 0 || index >= size()) {
+            throw new IndexOutOfBoundsException("index " + index + ", size " + size());
+        }
+        Node node = root;
+        while (true) {
+            int leftSize = size(node.left);
+            if (index < leftSize) {
+                node = node.left;
+            } else if (index == leftSize) {
+                return node.ref;
+            } else {
+                index -= leftSize + 1;
+                node = node.right;
+            }
+        }
+    }
+
+    /**
+     * 상위 limit개 기록의 ref (점수 내림차순)
+     */
+    public long[] top(int limit) {
+        return range(0, limit);
+    }
+
+    /**
+     * from번째부터 최대 limit개 기록의 ref (페이지 조회용)
+     */
+    public long[] range(int from, int limit) {
+        from = Math.max(0, from);
+        int end = (int) Math.min(size(), (long) from + Math.max(0, limit));
+        if (from >= end) {
+            return new long[0];
+        }
+        long[] result = new long[end - from];
+        int count = 0;
+        // from번째 노드까지 내려가면서 왼쪽으로 꺾인 경로를 스택에 쌓고, 이후 중위 순회
+        ArrayDeque<Node> stack = new ArrayDeque<>();
+        Node node = root;
+        int index = from;
+        while (node != null) {
+            int leftSize = size(node.left);
+            if (index < leftSize) {
+                stack.push(node);
+                node = node.left;
+            } else if (index == leftSize) {
+                stack.push(node);
+                break;
+            } else {
+                index -= leftSize + 1;
+                node = node.right;
+            }
+        }
+        while (count < result.length && !stack.isEmpty()) {
+            Node current = stack.pop();
+            result[count++] = current.ref;
+            for (Node next = current.right; next != null; next = next.left) {
+                stack.push(next);
+            }
+        }
+        return result;
+    }
+
+    public int getHighScore() {
+        if (root == null) {
+            return 0;
+        }
+        Node node = root;
+        while (node.left != null) {
+            node = node.left;
+        }
+        return node.score;
+    }
+
+    public double getAverageScore() {
+        int total = size();
+        return total == 0 ? 0.0 : (double) scoreSum / total;
+    }
+
+    /**
+     * 모든 기록을 점수 내림차순으로 방문
+     */
+    public void forEach(RefVisitor visitor) {
+        ArrayDeque<Node> stack = new ArrayDeque<>();
+        Node node = root;
+        while (node != null || !stack.isEmpty()) {
+            while (node != null) {
+                stack.push(node);
+                node = node.left;
+            }
+            node = stack.pop();
+            visitor.visit(node.ref, node.score);
+            node = node.right;
+        }
+    }
+
+    // ===== treap 내부 연산 =====
+
+    private static int size(Node node) {
+        return node == null ? 0 : node.size;
+    }
+
+    private static void update(Node node) {
+        node.size = size(node.left) + size(node.right) + 1;
+    }
+
+    /**
+     * [score 이상인 노드들, score 미만인 노드들]로 분리
+     */
+    private static Node[] splitByScoreAtLeast(Node node, int score) {
+        if (node == null) {
+            return new Node[] { null, null };
+        }
+        if (node.score >= score) {
+            Node[] parts = splitByScoreAtLeast(node.right, score);
+            node.right = parts[0];
+            update(node);
+            parts[0] = node;
+            return parts;
+        } else {
+            Node[] parts = splitByScoreAtLeast(node.left, score);
+            node.left = parts[1];
+            update(node);
+            parts[1] = node;
+            return parts;
+        }
+    }
+
+    private static Node merge(Node left, Node right) {
+        if (left == null) {
+            return right;
+        }
+        if (right == null) {
+            return left;
+        }
+        if (left.priority > right.priority) {
+            left.right = merge(left.right, right);
+            update(left);
+            return left;
+        } else {
+            right.left = merge(left, right.left);
+            update(right);
+            return right;
+        }
+    }
+}
@@ -0,0 +1,570 @@
+package tetris.data;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.zip.CRC32;
+
+/**
+ * 점수 기록용 추가 전용(append-only) 바이너리 저널
+ *
+ * 파일 구조: [헤더 8바이트: MAGIC, VERSION] + [64바이트 고정 크기 레코드 ...]
+ * 레코드 구조 (빅엔디언):
+ *   0  op (1)          ADD / CLEAR_MODE / CLEAR_DIFFICULTY
+ *   1  mode 코드 (1)    0 = NORMAL, 1 = ITEM
+ *   2  difficulty 코드 (1)
+ *   3  이름 바이트 수 (1)
+ *   4  score (4)
+ *   8  epoch millis (8)
+ *   16 이름 UTF-8 (44, 남는 부분은 0)
+ *   60 CRC32 (4)     0~59 바이트에 대한 체크섬
+ *
+ * 쓰기는 백그라운드 스레드 하나가 큐에서 꺼내 모아서 처리하므로 호출한 스레드(FX 스레드)는 기다리지 않는다.
+ * append 메서드는 여러 스레드에서 동시에 호출해도 되고, 큐에 들어간 순서대로 기록된다.
+ * 쓰다가 프로그램이 죽으면 마지막 레코드만 CRC가 맞지 않게 되고, 다음 실행 시 그 지점부터 잘라낸다.
+ * 삭제/순위 밖으로 밀려난 기록이 쌓이면 살아있는 점수만 임시 파일에 다시 쓰고 원자적으로 교체(compaction)한다.
+ *
+ * 다시 읽을 때는 파일을 읽기 전용으로 메모리 매핑하고 레코드 번호로 바로 접근한다.
+ * RecordVisitor로 재생하면 점수와 코드만 넘기고 ScoreEntry를 만들지 않으므로,
+ * 이름/날짜는 read()로 화면에 보여줄 때만 읽는다.
+ */
+public class ScoreJournal {
+    static final int MAGIC = 0x54534A31; // "TSJ1"
+    static final int VERSION = 1;
+    static final int HEADER_SIZE = 8;
+    static final int RECORD_SIZE = 64;
+    static final int NAME_BYTES = 44;
+    private static final int CRC_OFFSET = RECORD_SIZE - 4;
+
+    static final byte OP_ADD = 1;
+    static final byte OP_CLEAR_MODE = 2;
+    static final byte OP_CLEAR_DIFFICULTY = 3;
+
+    private static final String[] MODES = { "NORMAL", "ITEM" };
+    private static final String[] DIFFICULTIES = { "Easy", "Normal", "Hard" };
+
+    // 죽은 레코드가 이 수 이상이고 전체의 절반을 넘으면 compaction
+    private static final int COMPACTION_MIN_RECORDS = 256;
+
+    /**
+     * 저널을 다시 읽을 때 레코드마다 호출되는 콜백
+     */
+    public interface Visitor {
+        void onAdd(ScoreEntry entry);
+
+        void onClear(String gameMode);
+
+        void onClearDifficulty(String gameMode, String difficulty);
+    }
+
+    /**
+     * ScoreEntry를 만들지 않는 재생 콜백 - 모드/난이도는 상수 문자열을 그대로 넘긴다
+     */
+    public interface RecordVisitor {
+        void onAdd(long recordNo, String gameMode, String difficulty, int score);
+
+        void onClear(String gameMode);
+
+        void onClearDifficulty(String gameMode, String difficulty);
+    }
+
+    private final Path file;
+    private final BlockingQueue<Object> queue = new LinkedBlockingQueue<>();
+    private final Thread writerThread;
+    private volatile boolean closed = false;
+
+    // 파일에 기록된(또는 기록 대기 중인) 레코드 수 - compaction 판단용
+    private final AtomicLong recordCount = new AtomicLong();
+
+    private FileChannel channel; // writer 스레드 전용 (replay 이전에는 열지 않음)
+
+    // 마지막 replay/remap 시점의 파일 매핑 (읽기 전용, 그 이후에 추가된 레코드는 포함하지 않음)
+    private volatile MappedByteBuffer mapped;
+    private volatile long mappedRecords = 0;
+
+    // 큐 명령
+    private static final class Compaction {
+        final List<ScoreEntry> liveEntries;
+
+        Compaction(List<ScoreEntry> liveEntries) {
+            this.liveEntries = liveEntries;
+        }
+    }
+
+    private static final Object SHUTDOWN = new Object();
+
+    public ScoreJournal(Path file) {
+        this.file = file;
+        this.writerThread = new Thread(this::writerLoop, "score-journal-writer");
+        this.writerThread.setDaemon(true);
+    }
+
+    public Path getFile() {
+        return file;
+    }
+
+    public boolean exists() {
+        return Files.exists(file);
+    }
+
+    /**
+     * 저널 전체를 순서대로 읽어서 visitor에 전달하고 writer 스레드를 시작
+     */
+    public void replay(Visitor visitor) {
+        replay(new RecordVisitor() {
+            @Override
+            public void onAdd(long recordNo, String gameMode, String difficulty, int score) {
+                visitor.onAdd(read(recordNo));
+            }
+
+            @Override
+            public void onClear(String gameMode) {
+                visitor.onClear(gameMode);
+            }
+
+            @Override
+            public void onClearDifficulty(String gameMode, String difficulty) {
+                visitor.onClearDifficulty(gameMode, difficulty);
+            }
+        });
+    }
+
+    /**
+     * 저널 전체를 매핑해서 순서대로 visitor에 전달하고 writer 스레드를 시작
+     * CRC가 맞지 않거나 잘린 레코드를 만나면 거기서 멈추고 파일을 그 앞까지 잘라낸다
+     */
+    public synchronized void replay(RecordVisitor visitor) {
+        long validLength = 0; // 유효한 데이터 끝 (-1이면 읽기 실패로 알 수 없음)
+        long count = 0;
+        boolean headerInvalid = false;
+        if (Files.exists(file)) {
+            try (FileChannel in = FileChannel.open(file, StandardOpenOption.READ, StandardOpenOption.WRITE)) {
+                long size = in.size();
+                ByteBuffer header = ByteBuffer.allocate(HEADER_SIZE);
+                if (size < HEADER_SIZE || readFully(in, header, 0) < HEADER_SIZE
+                        || header.getInt(0) != MAGIC || header.getInt(4) != VERSION) {
+                    headerInvalid = true;
+                    validLength = 0;
+                } else {
+                    count = scan(in, visitor);
+                    validLength = HEADER_SIZE + count * RECORD_SIZE;
+                    if (validLength < size) {
+                        System.err.println("[SCORE] Journal has " + (size - validLength)
+                            + " corrupt/partial bytes at the end, truncating");
+                        try {
+                            in.truncate(validLength);
+                        } catch (IOException e) {
+                            // 매핑된 파일을 자를 수 없는 OS에서는 그대로 두고 validLength부터 덮어쓴다
+                            System.err.println("[SCORE] Failed to truncate journal: " + e.getMessage());
+                        }
+                    }
+                }
+            } catch (IOException e) {
+                System.err.println("[SCORE] Failed to read journal: " + e.getMessage());
+                validLength = -1;
+            }
+        }
+        recordCount.set(count);
+
+        if (headerInvalid) {
+            // 저널이 아닌 파일은 지우지 않고 옆으로 옮겨 둔다
+            Path corrupt = file.resolveSibling(file.getFileName() + ".corrupt");
+            System.err.println("[SCORE] Journal header invalid, moving it to " + corrupt);
+            try {
+                Files.move(file, corrupt, StandardCopyOption.REPLACE_EXISTING);
+            } catch (IOException e) {
+                System.err.println("[SCORE] Failed to move invalid journal: " + e.getMessage());
+            }
+        }
+
+        try {
+            channel = FileChannel.open(file, StandardOpenOption.CREATE, StandardOpenOption.WRITE);
+            if (validLength < 0) {
+                // 읽지 못한 내용은 건드리지 않고 뒤에 이어서 기록
+                validLength = channel.size();
+            } else if (validLength < HEADER_SIZE) {
+                channel.truncate(0);
+                channel.write(newHeader(), 0);
+                validLength = HEADER_SIZE;
+            }
+            channel.position(validLength);
+        } catch (IOException e) {
+            System.err.println("[SCORE] Failed to open journal for writing: " + e.getMessage());
+        }
+        if (!writerThread.isAlive()) {
+            writerThread.start();
+        }
+    }
+
+    /**
+     * 쓰기 대기 중인 기록을 모두 반영한 뒤 파일을 다시 매핑해서 처음부터 방문
+     * compaction으로 레코드 번호가 바뀐 뒤 인덱스를 다시 만들 때 사용한다
+     */
+    public void remap(RecordVisitor visitor) {
+        flush();
+        synchronized (this) {
+            try (FileChannel in = FileChannel.open(file, StandardOpenOption.READ)) {
+                scan(in, visitor);
+            } catch (IOException e) {
+                System.err.println("[SCORE] Failed to remap journal: " + e.getMessage());
+            }
+        }
+    }
+
+    /**
+     * 매핑된 레코드 하나를 ScoreEntry로 읽음
+     * @param recordNo replay/remap에서 받은 레코드 번호
+     */
+    public ScoreEntry read(long recordNo) {
+        MappedByteBuffer buffer = mapped;
+        if (buffer == null || recordNo < 0 || recordNo >= mappedRecords) {
+            throw new IndexOutOfBoundsException("record " + recordNo + ", mapped " + mappedRecords);
+        }
+        int position = (int) (HEADER_SIZE + recordNo * RECORD_SIZE);
+        byte[] name = new byte[buffer.get(position + 3) & 0xFF];
+        buffer.get(position + 16, name);
+        LocalDateTime date = LocalDateTime.ofInstant(
+            Instant.ofEpochMilli(buffer.getLong(position + 8)), ZoneId.systemDefault());
+        return new ScoreEntry(new String(name, StandardCharsets.UTF_8), buffer.getInt(position + 4), date,
+            DIFFICULTIES[buffer.get(position + 2)], MODES[buffer.get(position + 1)]);
+    }
+
+    public void appendAdd(ScoreEntry entry) {
+        long epochMillis = entry.getDate().atZone(ZoneId.systemDefault()).toInstant().toEpochMilli();
+        enqueue(encode(OP_ADD, entry.getGameMode(), entry.getDifficulty(),
+            entry.getPlayerName(), entry.getScore(), epochMillis));
+    }
+
+    public void appendClear(String gameMode) {
+        enqueue(encode(OP_CLEAR_MODE, gameMode, null, "", 0, 0L));
+    }
+
+    public void appendClearDifficulty(String gameMode, String difficulty) {
+        enqueue(encode(OP_CLEAR_DIFFICULTY, gameMode, difficulty, "", 0, 0L));
+    }
+
+    /**
+     * 살아있는 점수 수에 비해 저널이 너무 길어졌는지
+     */
+    public boolean needsCompaction(int liveEntries) {
+        long records = recordCount.get();
+        long dead = records - liveEntries;
+        return dead >= COMPACTION_MIN_RECORDS && dead > records / 2;
+    }
+
+    /**
+     * 살아있는 점수만으로 저널을 다시 쓰도록 예약 (앞서 큐에 들어간 기록을 모두 쓴 뒤 실행)
+     * @param liveEntries 호출 시점의 점수 스냅샷 (호출 후 수정하지 않는 복사본)
+     */
+    public void compact(List<ScoreEntry> liveEntries) {
+        if (closed) {
+            return;
+        }
+        recordCount.set(liveEntries.size());
+        queue.add(new Compaction(liveEntries));
+    }
+
+    /**
+     * 지금까지 요청된 쓰기가 모두 디스크에 반영될 때까지 대기
+     */
+    public void flush() {
+        if (closed || !writerThread.isAlive()) {
+            return;
+        }
+        CountDownLatch latch = new CountDownLatch(1);
+        queue.add(latch);
+        try {
+            latch.await();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    /**
+     * 남은 쓰기를 마치고 writer 스레드와 파일을 닫음
+     */
+    public void close() {
+        if (closed) {
+            return;
+        }
+        flush();
+        closed = true;
+        queue.add(SHUTDOWN);
+        try {
+            writerThread.join(1000);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private void enqueue(ByteBuffer record) {
+        if (closed) {
+            return;
+        }
+        recordCount.incrementAndGet();
+        queue.add(record);
+    }
+
+    // ===== writer 스레드 =====
+
+    private void writerLoop() {
+        List<Object> batch = new ArrayList<>();
+        ByteBuffer pending = ByteBuffer.allocate(RECORD_SIZE * 64);
+        while (true) {
+            try {
+                batch.add(queue.take());
+            } catch (InterruptedException e) {
+                return;
+            }
+            queue.drainTo(batch);
+
+            for (Object command : batch) {
+                if (command instanceof ByteBuffer) {
+                    if (pending.remaining() < RECORD_SIZE) {
+                        writePending(pending);
+                    }
+                    pending.put((ByteBuffer) command);
+                    continue;
+                }
+                // 레코드가 아닌 명령 전에는 모아둔 레코드를 먼저 기록 (순서 보장)
+                writePending(pending);
+                if (command instanceof Compaction) {
+                    rewrite(((Compaction) command).liveEntries);
+                } else if (command instanceof CountDownLatch) {
+                    ((CountDownLatch) command).countDown();
+                } else if (command == SHUTDOWN) {
+                    closeChannel();
+                    return;
+                }
+            }
+            writePending(pending);
+            batch.clear();
+        }
+    }
+
+    private void writePending(ByteBuffer pending) {
+        if (pending.position() == 0) {
+            return;
+        }
+        pending.flip();
+        try {
+            if (channel != null) {
+                while (pending.hasRemaining()) {
+                    channel.write(pending);
+                }
+                channel.force(false);
+            }
+        } catch (IOException e) {
+            System.err.println("[SCORE] Failed to append to journal: " + e.getMessage());
+        }
+        pending.clear();
+    }
+
+    private void rewrite(List<ScoreEntry> liveEntries) {
+        Path temp = file.resolveSibling(file.getFileName() + ".tmp");
+        try (FileChannel out = FileChannel.open(temp, StandardOpenOption.CREATE,
+                StandardOpenOption.TRUNCATE_EXISTING, StandardOpenOption.WRITE)) {
+            ByteBuffer buffer = ByteBuffer.allocate(HEADER_SIZE + RECORD_SIZE * liveEntries.size());
+            buffer.put(newHeader());
+            for (ScoreEntry entry : liveEntries) {
+                long epochMillis = entry.getDate().atZone(ZoneId.systemDefault()).toInstant().toEpochMilli();
+                buffer.put(encode(OP_ADD, entry.getGameMode(), entry.getDifficulty(),
+                    entry.getPlayerName(), entry.getScore(), epochMillis));
+            }
+            buffer.flip();
+            while (buffer.hasRemaining()) {
+                out.write(buffer);
+            }
+            out.force(true);
+        } catch (IOException e) {
+            System.err.println("[SCORE] Journal compaction failed, keeping old journal: " + e.getMessage());
+            return;
+        }
+
+        closeChannel();
+        try {
+            Files.move(temp, file, StandardCopyOption.ATOMIC_MOVE, StandardCopyOption.REPLACE_EXISTING);
+        } catch (IOException e) {
+            System.err.println("[SCORE] Journal compaction rename failed: " + e.getMessage());
+        }
+        try {
+            channel = FileChannel.open(file, StandardOpenOption.WRITE);
+            channel.position(channel.size());
+        } catch (IOException e) {
+            channel = null;
+            System.err.println("[SCORE] Failed to reopen journal: " + e.getMessage());
+        }
+        System.out.println("[SCORE] Journal compacted to " + liveEntries.size() + " entries");
+    }
+
+    private void closeChannel() {
+        if (channel != null) {
+            try {
+                channel.close();
+            } catch (IOException e) {
+                System.err.println("[SCORE] Failed to close journal: " + e.getMessage());
+            }
+            channel = null;
+        }
+    }
+
+    // ===== 인코딩 =====
+
+    private static ByteBuffer newHeader() {
+        ByteBuffer header = ByteBuffer.allocate(HEADER_SIZE);
+        header.putInt(MAGIC).putInt(VERSION).flip();
+        return header;
+    }
+
+    static ByteBuffer encode(byte op, String gameMode, String difficulty, String playerName,
+                             int score, long epochMillis) {
+        ByteBuffer record = ByteBuffer.allocate(RECORD_SIZE);
+        byte[] name = truncateUtf8(playerName == null ? "" : playerName, NAME_BYTES);
+        record.put(op);
+        record.put(modeCode(gameMode));
+        record.put(difficultyCode(difficulty));
+        record.put((byte) name.length);
+        record.putInt(score);
+        record.putLong(epochMillis);
+        record.put(name);
+        CRC32 crc = new CRC32();
+        crc.update(record.array(), 0, CRC_OFFSET);
+        record.putInt(CRC_OFFSET, (int) crc.getValue());
+        record.position(0);
+        return record;
+    }
+
+    /**
+     * 파일을 읽기 전용으로 매핑하고 유효한 레코드를 순서대로 visitor에 전달
+     * @return 유효한 레코드 수 (처음으로 깨진 레코드 앞까지)
+     */
+    private long scan(FileChannel in, RecordVisitor visitor) throws IOException {
+        // MappedByteBuffer는 int 인덱스라 2GB(레코드 약 3300만 개)까지만 매핑
+        long size = Math.min(in.size(), Integer.MAX_VALUE);
+        MappedByteBuffer buffer = in.map(FileChannel.MapMode.READ_ONLY, 0, size);
+        mapped = buffer;
+        mappedRecords = Math.max(0, (size - HEADER_SIZE) / RECORD_SIZE);
+
+        CRC32 crc = new CRC32();
+        long count = 0;
+        for (long position = HEADER_SIZE; position + RECORD_SIZE <= size; position += RECORD_SIZE) {
+            if (!applyRecord(buffer, (int) position, count, crc, visitor)) {
+                break;
+            }
+            count++;
+        }
+        mappedRecords = count;
+        return count;
+    }
+
+    /**
+     * 레코드 하나를 검증하고 visitor에 전달
+     * @return CRC/형식이 올바르면 true
+     */
+    private static boolean applyRecord(ByteBuffer buffer, int position, long recordNo, CRC32 crc,
+                                       RecordVisitor visitor) {
+        ByteBuffer body = buffer.duplicate();
+        body.limit(position + CRC_OFFSET).position(position);
+        crc.reset();
+        crc.update(body);
+        if ((int) crc.getValue() != buffer.getInt(position + CRC_OFFSET)) {
+            return false;
+        }
+        byte op = buffer.get(position);
+        int mode = buffer.get(position + 1);
+        int difficulty = buffer.get(position + 2);
+        int nameLength = buffer.get(position + 3) & 0xFF;
+        if (mode < 0 || mode >= MODES.length || nameLength > NAME_BYTES) {
+            return false;
+        }
+        switch (op) {
+            case OP_ADD:
+                if (difficulty < 0 || difficulty >= DIFFICULTIES.length) {
+                    return false;
+                }
+                visitor.onAdd(recordNo, MODES[mode], DIFFICULTIES[difficulty], buffer.getInt(position + 4));
+                return true;
+            case OP_CLEAR_MODE:
+                visitor.onClear(MODES[mode]);
+                return true;
+            case OP_CLEAR_DIFFICULTY:
+                if (difficulty < 0 || difficulty >= DIFFICULTIES.length) {
+                    return false;
+                }
+                visitor.onClearDifficulty(MODES[mode], DIFFICULTIES[difficulty]);
+                return true;
+            default:
+                return false;
+        }
+    }
+
+    private static byte modeCode(String gameMode) {
+        return (byte) ("ITEM".equals(gameMode) ? 1 : 0);
+    }
+
+    private static byte difficultyCode(String difficulty) {
+        for (int i = 0; i < DIFFICULTIES.length; i++) {
+            if (DIFFICULTIES[i].equals(difficulty)) {
+                return (byte) i;
+            }
+        }
+        // 알 수 없는 난이도는 기본값(Normal)으로 저장
+        return 1;
+    }
+
+    /**
+     * 저널에 실제로 저장되는 이름 (UTF-8로 NAME_BYTES를 넘으면 문자 단위로 자른 이름, null이면 빈 문자열)
+     */
+    static String storedName(String playerName) {
+        if (playerName == null) {
+            return "";
+        }
+        byte[] name = truncateUtf8(playerName, NAME_BYTES);
+        return name.length == playerName.length() ? playerName : new String(name, StandardCharsets.UTF_8);
+    }
+
+    /**
+     * UTF-8로 maxBytes 이하가 되도록 문자 단위로 자름 (멀티바이트 문자가 중간에 잘리지 않게)
+     */
+    private static byte[] truncateUtf8(String text, int maxBytes) {
+        byte[] bytes = text.getBytes(StandardCharsets.UTF_8);
+        if (bytes.length <= maxBytes) {
+            return bytes;
+        }
+        int end = maxBytes;
+        // continuation byte(10xxxxxx) 위치면 문자 시작까지 뒤로
+        while (end > 0 && (bytes[end] & 0xC0) == 0x80) {
+            end--;
+        }
+        byte[] truncated = new byte[end];
+        System.arraycopy(bytes, 0, truncated, 0, end);
+        return truncated;
+    }
+
+    private static int readFully(FileChannel in, ByteBuffer buffer, long position) throws IOException {
+        int total = 0;
+        while (buffer.hasRemaining()) {
+            int read = in.read(buffer, position + total);
+            if (read < 0) {
+                break;
+            }
+            total += read;
+        }
+        return total;
+    }
+}
@@ -4,32 +4,109 @@ import java.io.*;
 import java.nio.file.Files;
 import java.nio.file.Path;
 import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
 import java.util.ArrayList;
-import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.function.Supplier;
 
 public class ScoreManager {
     private static final String APP_NAME = "Tetris";
     private static final String NORMAL_SCORE_FILENAME = "scores_normal.dat";
     private static final String ITEM_SCORE_FILENAME = "scores_item.dat";
-    private static final int MAX_SCORES = 10;
+    private static final String JOURNAL_FILENAME = "scores.journal";
+    private static final int MAX_SCORES = 10; // 순위표에 보여주는 개수 (기록은 전부 보관)
+    private static final String[] DIFFICULTIES = { "Easy", "Normal", "Hard" };
     private static ScoreManager instance;
-    
-    private List<ScoreEntry> normalScores;
-    private List<ScoreEntry> itemScores;
+
+    /**
+     * 모드 하나의 인덱스와 잠금
+     * 잠금을 모드별로 나눠서 일반/아이템 모드 기록은 서로 막지 않는다.
+     * 조회는 읽기 잠금으로 동시에, 추가/삭제는 쓰기 잠금으로 처리하고
+     * 저널 재구성(compaction)은 두 모드의 쓰기 잠금을 모두 잡는다.
+     */
+    private static final class ModeStripe {
+        final ReentrantReadWriteLock lock = new ReentrantReadWriteLock();
+        // 모드 전체 인덱스와 난이도별 인덱스 (생성 후 맵 자체는 바뀌지 않음)
+        final ScoreIndex all = new ScoreIndex();
+        final Map<String, ScoreIndex> byDifficulty = new HashMap<>();
+
+        ModeStripe() {
+            for (String difficulty : DIFFICULTIES) {
+                byDifficulty.put(difficulty, new ScoreIndex());
+            }
+        }
+
+        /**
+         * difficulty가 null이면 모드 전체 인덱스
+         */
+        ScoreIndex index(String difficulty) {
+            return difficulty == null ? all : byDifficulty.get(normalizeDifficulty(difficulty));
+        }
+
+        void clear() {
+            all.clear();
+            for (ScoreIndex index : byDifficulty.values()) {
+                index.clear();
+            }
+        }
+    }
+
+    private final ModeStripe normalStripe = new ModeStripe();
+    private final ModeStripe itemStripe = new ModeStripe();
+
+    // 이번 실행에서 추가해 아직 저널 매핑에 없는 기록 (ref는 음수)
+    // ref가 0 이상이면 저널의 레코드 번호이고, 이름/날짜는 매핑에서 필요할 때만 읽는다
+    private final AtomicLong sessionSequence = new AtomicLong();
+    private final Map<Long, ScoreEntry> sessionEntries = new ConcurrentHashMap<>();
+
+    // 살아있는 기록 수 (잠금 없이 compaction 필요 여부를 먼저 확인하는 용도)
+    private final AtomicInteger liveEntries = new AtomicInteger();
+
+    // 점수 변경 기록 (파일 쓰기는 저널의 백그라운드 스레드에서 처리)
+    private final ScoreJournal journal;
     
     private ScoreManager() {
-        normalScores = new ArrayList<>();
-        itemScores = new ArrayList<>();
+        this(getDataFile(JOURNAL_FILENAME));
+    }
+
+    /**
+     * 저널 위치를 지정해서 생성 (리더보드 서버/테스트용, 이전 버전 파일도 같은 디렉토리에서 찾는다)
+     * 만든 쪽에서 다 쓴 뒤 close()를 호출해야 남은 기록이 저널에 쓰인다.
+     */
+    public ScoreManager(Path journalFile) {
+        journal = new ScoreJournal(journalFile);
         loadScores();
     }
     
-    public static ScoreManager getInstance() {
+    public static synchronized ScoreManager getInstance() {
         if (instance == null) {
             instance = new ScoreManager();
+            // 공용 인스턴스는 닫는 곳이 없으므로 종료 시 아직 쓰지 못한 기록을 마저 기록
+            Runtime.getRuntime().addShutdownHook(new Thread(instance::close, "score-journal-shutdown"));
         }
         return instance;
     }
+
+    /**
+     * 지금까지 추가/삭제한 기록이 저널 파일에 반영될 때까지 대기
+     */
+    public void flush() {
+        journal.flush();
+    }
+
+    /**
+     * 남은 기록을 저널에 쓰고 닫음 (이후에는 사용하지 않는다)
+     */
+    public void close() {
+        journal.close();
+    }
     
     /**
      * 애플리케이션 데이터 디렉토리 경로를 반환
@@ -67,231 +144,380 @@ public class ScoreManager {
     }
     
     /**
-     * 점수 파일의 전체 경로를 반환
+     * 애플리케이션 데이터 디렉토리 안의 파일 경로를 반환 (점수 저널, 리더보드 대기 목록 등)
      */
-    private static Path getScoreFile(String filename) {
+    public static Path getDataFile(String filename) {
         return getDataDirectory().resolve(filename);
     }
     
+    /**
+     * 점수 추가 - 여러 게임(스레드)에서 동시에 호출해도 된다
+     */
     public boolean addScore(String playerName, int score, String difficulty, String gameMode) {
-        ScoreEntry newEntry = new ScoreEntry(playerName, score, difficulty, gameMode);
-        List<ScoreEntry> targetScores = gameMode.equals("ITEM") ? itemScores : normalScores;
-        
-        targetScores.add(newEntry);
-        Collections.sort(targetScores);
-        
-        // 난이도별로 점수 10개씩 제한
-        if (gameMode.equals("NORMAL")) {
-            // 일반 모드는 난이도별로 10개씩 유지
-            limitScoresByDifficulty(targetScores);
-        } else {
-            // 아이템 모드는 전체 10개 유지
-            if (targetScores.size() > MAX_SCORES) {
-                List<ScoreEntry> limitedScores = new ArrayList<>(targetScores.subList(0, MAX_SCORES));
-                targetScores.clear();
-                targetScores.addAll(limitedScores);
-            }
+        return addScore(new ScoreEntry(playerName, score, difficulty, gameMode));
+    }
+
+    /**
+     * 기록 시각이 정해진 점수 추가 (리더보드 서버가 받은 점수 등)
+     */
+    public boolean addScore(ScoreEntry newEntry) {
+        // 이번 실행 동안 보여 줄 기록도 저널에 남는 이름(길면 잘린 이름)으로 맞춤 - 재시작 전후 이름이 같도록
+        String storedName = ScoreJournal.storedName(newEntry.getPlayerName());
+        if (!storedName.equals(newEntry.getPlayerName())) {
+            newEntry = new ScoreEntry(storedName, newEntry.getScore(), newEntry.getDate(),
+                newEntry.getDifficulty(), newEntry.getGameMode());
         }
-        
-        // 추가된 점수가 상위 10위 안에 드는지 확인 (난이도별로 확인)
-        boolean isTopTen = false;
-        if (gameMode.equals("NORMAL")) {
-            // 같은 난이도 내에서 순위 확인
-            int rankInDifficulty = 0;
-            for (ScoreEntry entry : targetScores) {
-                if (entry.getDifficulty().equals(difficulty)) {
-                    rankInDifficulty++;
-                    if (entry.equals(newEntry)) {
-                        isTopTen = rankInDifficulty <= MAX_SCORES;
-                        break;
-                    }
-                }
-            }
-        } else {
-            isTopTen = targetScores.indexOf(newEntry) < MAX_SCORES;
+        String gameMode = newEntry.getGameMode();
+        String difficulty = newEntry.getDifficulty();
+        int score = newEntry.getScore();
+        ModeStripe stripe = stripe(gameMode);
+        int position;
+        stripe.lock.writeLock().lock();
+        try {
+            long ref = -sessionSequence.incrementAndGet();
+            sessionEntries.put(ref, newEntry);
+            position = insertScore(stripe, gameMode, difficulty, score, ref);
+            // 같은 모드 안에서는 인덱스에 들어간 순서와 저널 순서가 같아야 재시작 후 동점 순서가 유지된다
+            journal.appendAdd(newEntry);
+        } finally {
+            stripe.lock.writeLock().unlock();
         }
-        
-        saveScores(gameMode);
-        return isTopTen;
+        liveEntries.incrementAndGet();
+        compactJournalIfNeeded();
+
+        // 일반 모드는 같은 난이도 안에서, 아이템 모드는 전체에서 상위 10위 안에 드는지 확인
+        return position <= MAX_SCORES;
     }
-    
-    private void limitScoresByDifficulty(List<ScoreEntry> scores) {
-        // 각 난이도별로 점수 10개씩만 유지
-        List<String> difficulties = List.of("Easy", "Normal", "Hard");
-        List<ScoreEntry> limitedScores = new ArrayList<>();
-        
-        for (String difficulty : difficulties) {
-            List<ScoreEntry> difficultyScores = new ArrayList<>();
-            for (ScoreEntry entry : scores) {
-                if (entry.getDifficulty().equals(difficulty)) {
-                    difficultyScores.add(entry);
-                }
-            }
-            
-            // 해당 난이도에서 상위만 점수 10개만 추가
-            int count = Math.min(difficultyScores.size(), MAX_SCORES);
-            for (int i = 0; i < count; i++) {
-                limitedScores.add(difficultyScores.get(i));
+
+    /**
+     * 기록을 인덱스에 추가 (저널 재생 시에도 사용, 쓰기 잠금 안에서 호출)
+     * @return 순위표 기준 위치 (일반 모드: 난이도 내, 아이템 모드: 전체, 동점이면 기존 기록 뒤)
+     */
+    private static int insertScore(ModeStripe stripe, String gameMode, String difficulty, int score, long ref) {
+        int positionInDifficulty = stripe.index(difficulty).insert(score, ref);
+        int positionInMode = stripe.all.insert(score, ref);
+        return isItemMode(gameMode) ? positionInMode : positionInDifficulty;
+    }
+
+    /**
+     * ref가 가리키는 기록을 읽음 (저널 레코드는 매핑에서 그때그때 만든다)
+     * compaction과 겹치지 않도록 해당 모드의 잠금 안에서 호출
+     */
+    private ScoreEntry entry(long ref) {
+        return ref < 0 ? sessionEntries.get(ref) : journal.read(ref);
+    }
+
+    /**
+     * 기록된 순서 - 저널 레코드가 먼저, 그 뒤로 이번 실행에서 추가한 기록
+     */
+    private static long appendOrder(long ref) {
+        return ref >= 0 ? ref : Long.MAX_VALUE / 2 - ref;
+    }
+
+    private static boolean isItemMode(String gameMode) {
+        return "ITEM".equals(gameMode);
+    }
+
+    /**
+     * 저널과 같은 규칙으로 알 수 없는 난이도는 Normal로 취급
+     */
+    private static String normalizeDifficulty(String difficulty) {
+        for (String known : DIFFICULTIES) {
+            if (known.equals(difficulty)) {
+                return known;
             }
         }
-        
-        scores.clear();
-        scores.addAll(limitedScores);
-        Collections.sort(scores); // 전체 정렬
+        return "Normal";
     }
-    
-    public List<String> getFormattedScores(String gameMode) {
-        List<ScoreEntry> targetScores = gameMode.equals("ITEM") ? itemScores : normalScores;
-        List<String> formatted = new ArrayList<>();
-        
-        int currentRank = 1;
-        for (int i = 0; i < targetScores.size(); i++) {
-            // 이전 점수와 다르면 순위 업데이트
-            if (i > 0 && targetScores.get(i).getScore() != targetScores.get(i - 1).getScore()) {
-                currentRank = i + 1;
+
+    private ModeStripe stripe(String gameMode) {
+        return isItemMode(gameMode) ? itemStripe : normalStripe;
+    }
+
+    /**
+     * 해당 모드의 읽기 잠금 안에서 조회
+     */
+    private <T> T read(String gameMode, Supplier<T> query) {
+        ModeStripe stripe = stripe(gameMode);
+        stripe.lock.readLock().lock();
+        try {
+            return query.get();
+        } finally {
+            stripe.lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * 순위표 문자열 생성 - 같은 점수는 같은 순위
+     * @param index 순위 계산에 쓰는 인덱스 (페이지 첫 줄의 순위를 구할 때 사용)
+     */
+    private List<String> format(ScoreIndex index, long[] refs) {
+        List<String> formatted = new ArrayList<>(refs.length);
+        int currentRank = 0;
+        int previousScore = 0;
+        for (int i = 0; i < refs.length; i++) {
+            ScoreEntry entry = entry(refs[i]);
+            // 첫 줄이거나 이전 점수와 다르면 순위 업데이트
+            if (i == 0 || entry.getScore() != previousScore) {
+                currentRank = index.rankOf(entry.getScore());
             }
-            formatted.add(currentRank + ". " + targetScores.get(i).toString());
+            previousScore = entry.getScore();
+            formatted.add(currentRank + ". " + entry.toString());
         }
         return formatted;
     }
     
+    public List<String> getFormattedScores(String gameMode) {
+        return getFormattedScoresPage(gameMode, null, 0, MAX_SCORES);
+    }
+    
     public List<String> getFormattedScoresByDifficulty(String gameMode, String difficulty) {
-        List<ScoreEntry> targetScores = gameMode.equals("ITEM") ? itemScores : normalScores;
-        List<ScoreEntry> filteredScores = new ArrayList<>();
-        
-        // 해당 난이도의 점수만 필터링
-        for (ScoreEntry entry : targetScores) {
-            if (entry.getDifficulty().equals(difficulty)) {
-                filteredScores.add(entry);
-            }
-        }
-        
-        // 정렬
-        Collections.sort(filteredScores);
-        
-        // 최대 10개만 유지
-        List<ScoreEntry> topScores = filteredScores.size() > MAX_SCORES 
-            ? filteredScores.subList(0, MAX_SCORES) 
-            : filteredScores;
-        
-        // 포맷팅 - 같은 점수는 같은 순위
-        List<String> formatted = new ArrayList<>();
-        int currentRank = 1;
-        for (int i = 0; i < topScores.size(); i++) {
-            // 이전 점수와 다르면 순위 업데이트
-            if (i > 0 && topScores.get(i).getScore() != topScores.get(i - 1).getScore()) {
-                currentRank = i + 1;
+        return getFormattedScoresPage(gameMode, difficulty, 0, MAX_SCORES);
+    }
+
+    /**
+     * 순위표의 from번째부터 limit개 (스코어보드 페이지 이동용, 해당 페이지 기록만 읽는다)
+     * @param difficulty null이면 모드 전체
+     */
+    public List<String> getFormattedScoresPage(String gameMode, String difficulty, int from, int limit) {
+        return read(gameMode, () -> {
+            ScoreIndex index = stripe(gameMode).index(difficulty);
+            return format(index, index.range(from, limit));
+        });
+    }
+
+    /**
+     * 모드/난이도별 기록을 점수순으로 from번째부터 limit개 조회 (호출 시점의 복사본)
+     */
+    public List<ScoreEntry> getScores(String gameMode, String difficulty, int from, int limit) {
+        return read(gameMode, () -> {
+            long[] refs = stripe(gameMode).index(difficulty).range(from, limit);
+            List<ScoreEntry> result = new ArrayList<>(refs.length);
+            for (long ref : refs) {
+                result.add(entry(ref));
             }
-            formatted.add(currentRank + ". " + topScores.get(i).toString());
-        }
-        return formatted;
+            return result;
+        });
     }
     
     public void clearScores(String gameMode) {
-        if (gameMode.equals("ITEM")) {
-            itemScores.clear();
-        } else {
-            normalScores.clear();
+        ModeStripe stripe = stripe(gameMode);
+        int removed;
+        stripe.lock.writeLock().lock();
+        try {
+            removed = stripe.all.size();
+            stripe.clear();
+            journal.appendClear(gameMode);
+        } finally {
+            stripe.lock.writeLock().unlock();
         }
-        saveScores(gameMode);
+        liveEntries.addAndGet(-removed);
+        compactJournalIfNeeded();
     }
     
     public void clearScoresByDifficulty(String gameMode, String difficulty) {
-        List<ScoreEntry> targetScores = gameMode.equals("ITEM") ? itemScores : normalScores;
-        targetScores.removeIf(entry -> entry.getDifficulty().equals(difficulty));
-        saveScores(gameMode);
+        ModeStripe stripe = stripe(gameMode);
+        int removed;
+        stripe.lock.writeLock().lock();
+        try {
+            removed = stripe.index(difficulty).size();
+            clearDifficultyIndex(stripe, difficulty);
+            journal.appendClearDifficulty(gameMode, difficulty);
+        } finally {
+            stripe.lock.writeLock().unlock();
+        }
+        liveEntries.addAndGet(-removed);
+        compactJournalIfNeeded();
+    }
+
+    /**
+     * 난이도 인덱스를 비우고, 모드 전체 인덱스는 남은 난이도 기록으로 다시 구성
+     * (트리에서 개별 삭제를 지원하지 않으므로 드문 삭제 시에만 재구성, 쓰기 잠금 안에서 호출)
+     */
+    private static void clearDifficultyIndex(ModeStripe stripe, String difficulty) {
+        stripe.index(difficulty).clear();
+        List<long[]> remaining = new ArrayList<>();
+        for (ScoreIndex index : stripe.byDifficulty.values()) {
+            index.forEach((ref, score) -> remaining.add(new long[] { ref, score }));
+        }
+        // 동점 순서가 바뀌지 않도록 기록된 순서대로 다시 넣는다
+        remaining.sort(Comparator.comparingLong(pair -> appendOrder(pair[0])));
+        stripe.all.clear();
+        for (long[] pair : remaining) {
+            stripe.all.insert((int) pair[1], pair[0]);
+        }
     }
     
+    /**
+     * 모드 전체에서의 순위 (상위 10위 밖이면 -1)
+     */
     public int getRank(int score, String gameMode) {
-        List<ScoreEntry> targetScores = gameMode.equals("ITEM") ? itemScores : normalScores;
-        for (int i = 0; i < targetScores.size(); i++) {
-            if (targetScores.get(i).getScore() <= score) {
-                return i + 1;
-            }
-        }
-        return targetScores.size() < MAX_SCORES ? targetScores.size() + 1 : -1;
+        int rank = read(gameMode, () -> stripe(gameMode).all.rankOf(score));
+        return rank <= MAX_SCORES ? rank : -1;
     }
     
     /**
-     * 특정 모드와 난이도 내에서의 순위를 반환
+     * 특정 모드와 난이도 내에서의 순위를 반환 (상위 10위 밖이면 -1)
      */
     public int getRankByDifficulty(int score, String gameMode, String difficulty) {
-        if (gameMode.equals("ITEM")) {
+        if (isItemMode(gameMode)) {
             // 아이템 모드는 난이도가 없으므로 전체 순위 반환
             return getRank(score, gameMode);
         }
-        
-        // 일반 모드: 해당 난이도 내에서의 순위 계산
-        List<ScoreEntry> targetScores = normalScores;
-        List<ScoreEntry> difficultyScores = new ArrayList<>();
-        
-        // 해당 난이도의 점수만 필터링
-        for (ScoreEntry entry : targetScores) {
-            if (entry.getDifficulty().equals(difficulty)) {
-                difficultyScores.add(entry);
-            }
-        }
-        
-        // 정렬
-        Collections.sort(difficultyScores);
-        
-        // 순위 찾기
-        int rank = 1;
-        for (int i = 0; i < difficultyScores.size(); i++) {
-            // 동점자 처리
-            if (i > 0 && difficultyScores.get(i).getScore() != difficultyScores.get(i - 1).getScore()) {
-                rank = i + 1;
-            }
-            
-            if (difficultyScores.get(i).getScore() <= score) {
-                return rank;
-            }
-        }
-        
-        return difficultyScores.size() < MAX_SCORES ? difficultyScores.size() + 1 : -1;
+        int rank = getLifetimeRank(score, gameMode, difficulty);
+        return rank <= MAX_SCORES ? rank : -1;
+    }
+
+    /**
+     * 전체 기록 기준 순위 (10위 제한 없음)
+     */
+    public int getLifetimeRank(int score, String gameMode, String difficulty) {
+        return read(gameMode, () -> stripe(gameMode).index(difficulty).rankOf(score));
+    }
+
+    /**
+     * score보다 낮은 기록의 비율 (0 ~ 100)
+     */
+    public double getPercentile(int score, String gameMode, String difficulty) {
+        return read(gameMode, () -> stripe(gameMode).index(difficulty).percentileOf(score));
+    }
+
+    /**
+     * @param difficulty null이면 모드 전체
+     */
+    public int getScoreCount(String gameMode, String difficulty) {
+        return read(gameMode, () -> stripe(gameMode).index(difficulty).size());
+    }
+
+    public int getTotalGames(String gameMode) {
+        return getScoreCount(gameMode, null);
+    }
+
+    public double getAverageScore(String gameMode, String difficulty) {
+        return read(gameMode, () -> stripe(gameMode).index(difficulty).getAverageScore());
     }
     
     public int getHighScore(String gameMode) {
-        List<ScoreEntry> targetScores = gameMode.equals("ITEM") ? itemScores : normalScores;
-        return targetScores.isEmpty() ? 0 : targetScores.get(0).getScore();
+        return read(gameMode, () -> stripe(gameMode).all.getHighScore());
     }
     
-    private void saveScores(String gameMode) {
-        String fileName = gameMode.equals("ITEM") ? ITEM_SCORE_FILENAME : NORMAL_SCORE_FILENAME;
-        Path scorePath = getScoreFile(fileName);
-        List<ScoreEntry> targetScores = gameMode.equals("ITEM") ? itemScores : normalScores;
-        
-        try (ObjectOutputStream oos = new ObjectOutputStream(new FileOutputStream(scorePath.toFile()))) {
-            oos.writeObject(targetScores);
-        } catch (IOException e) {
-            System.err.println("Failed to save scores: " + e.getMessage());
+    /**
+     * 삭제된 기록이 저널에 많이 쌓였으면 현재 기록만으로 다시 쓰기
+     * 레코드 번호가 바뀌므로 두 모드를 모두 잠그고 다시 쓴 파일을 매핑해서 인덱스를 새로 만든다
+     */
+    private void compactJournalIfNeeded() {
+        if (!journal.needsCompaction(liveEntries.get())) {
+            return;
+        }
+        // 잠금 순서는 항상 일반 -> 아이템
+        normalStripe.lock.writeLock().lock();
+        itemStripe.lock.writeLock().lock();
+        try {
+            int live = normalStripe.all.size() + itemStripe.all.size();
+            if (journal.needsCompaction(live)) {
+                journal.compact(snapshotAllScores());
+                rebuildFromJournal();
+            }
+        } finally {
+            itemStripe.lock.writeLock().unlock();
+            normalStripe.lock.writeLock().unlock();
         }
     }
-    
-    @SuppressWarnings("unchecked")
+
+    /**
+     * 전체 기록을 기록 순서대로 복사 (재생 시 동점 순서가 유지되도록)
+     */
+    private List<ScoreEntry> snapshotAllScores() {
+        List<Long> refs = new ArrayList<>(normalStripe.all.size() + itemStripe.all.size());
+        normalStripe.all.forEach((ref, score) -> refs.add(ref));
+        itemStripe.all.forEach((ref, score) -> refs.add(ref));
+        refs.sort(Comparator.comparingLong(ScoreManager::appendOrder));
+        List<ScoreEntry> snapshot = new ArrayList<>(refs.size());
+        for (long ref : refs) {
+            snapshot.add(entry(ref));
+        }
+        return snapshot;
+    }
+
+    /**
+     * 저널을 처음부터 다시 매핑해서 인덱스 재구성 (이번 실행의 기록도 모두 저널로 넘어감)
+     * 두 모드의 쓰기 잠금 안에서 호출
+     */
+    private void rebuildFromJournal() {
+        normalStripe.clear();
+        itemStripe.clear();
+        journal.remap(indexRebuilder());
+        sessionEntries.clear();
+        liveEntries.set(normalStripe.all.size() + itemStripe.all.size());
+    }
+
+    private ScoreJournal.RecordVisitor indexRebuilder() {
+        return new ScoreJournal.RecordVisitor() {
+            @Override
+            public void onAdd(long recordNo, String gameMode, String difficulty, int score) {
+                insertScore(stripe(gameMode), gameMode, difficulty, score, recordNo);
+            }
+
+            @Override
+            public void onClear(String gameMode) {
+                stripe(gameMode).clear();
+            }
+
+            @Override
+            public void onClearDifficulty(String gameMode, String difficulty) {
+                clearDifficultyIndex(stripe(gameMode), difficulty);
+            }
+        };
+    }
+
     private void loadScores() {
-        // Load normal scores
-        Path normalPath = getScoreFile(NORMAL_SCORE_FILENAME);
-        File normalFile = normalPath.toFile();
-        if (normalFile.exists()) {
-            try (ObjectInputStream ois = new ObjectInputStream(new FileInputStream(normalFile))) {
-                normalScores = (List<ScoreEntry>) ois.readObject();
+        if (journal.exists()) {
+            // 점수와 위치만 인덱스에 올리고 이름/날짜는 스코어보드에서 볼 때 읽는다
+            journal.replay(indexRebuilder());
+            liveEntries.set(normalStripe.all.size() + itemStripe.all.size());
+            return;
+        }
+
+        // 저널이 없으면 이전 버전의 직렬화 파일에서 한 번 옮겨온다
+        List<ScoreEntry> legacyScores = new ArrayList<>();
+        legacyScores.addAll(loadLegacyScores(NORMAL_SCORE_FILENAME));
+        legacyScores.addAll(loadLegacyScores(ITEM_SCORE_FILENAME));
+        legacyScores.sort(Comparator.comparing(ScoreEntry::getDate));
+        journal.replay(indexRebuilder());
+        if (!legacyScores.isEmpty()) {
+            journal.compact(legacyScores);
+            rebuildFromJournal();
+            renameLegacyFile(NORMAL_SCORE_FILENAME);
+            renameLegacyFile(ITEM_SCORE_FILENAME);
+            System.out.println("[SCORE] Migrated " + legacyScores.size() + " scores to " + JOURNAL_FILENAME);
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    private List<ScoreEntry> loadLegacyScores(String fileName) {
+        File legacyFile = journal.getFile().resolveSibling(fileName).toFile();
+        if (legacyFile.exists()) {
+            try (ObjectInputStream ois = new ObjectInputStream(new FileInputStream(legacyFile))) {
+                return new ArrayList<>((List<ScoreEntry>) ois.readObject());
             } catch (IOException | ClassNotFoundException e) {
-                System.err.println("Failed to load normal scores: " + e.getMessage());
-                normalScores = new ArrayList<>();
+                System.err.println("Failed to load legacy scores (" + fileName + "): " + e.getMessage());
             }
         }
-        
-        // Load item scores
-        Path itemPath = getScoreFile(ITEM_SCORE_FILENAME);
-        File itemFile = itemPath.toFile();
-        if (itemFile.exists()) {
-            try (ObjectInputStream ois = new ObjectInputStream(new FileInputStream(itemFile))) {
-                itemScores = (List<ScoreEntry>) ois.readObject();
-            } catch (IOException | ClassNotFoundException e) {
-                System.err.println("Failed to load item scores: " + e.getMessage());
-                itemScores = new ArrayList<>();
+        return new ArrayList<>();
+    }
+
+    /**
+     * 옮겨온 이전 파일은 지우지 않고 .bak으로 남겨둔다
+     */
+    private void renameLegacyFile(String fileName) {
+        Path legacyPath = journal.getFile().resolveSibling(fileName);
+        if (Files.exists(legacyPath)) {
+            try {
+                Files.move(legacyPath, legacyPath.resolveSibling(fileName + ".bak"),
+                    StandardCopyOption.REPLACE_EXISTING);
+            } catch (IOException e) {
+                System.err.println("Failed to rename legacy score file: " + e.getMessage());
             }
         }
     }
-}
\ No newline at end of file
+}
@@ -16,10 +16,10 @@ public class BattleGameEngine {
     
     // 시간제한 모드 관련
     private long timeLimitSeconds; // 초 단위
-    private long gameStartTime; // 나노초 단위
-    private long pauseStartTime; // 일시정지 시작 시간 (나노초 단위)
-    private long totalPausedTime; // 총 일시정지된 시간 (나노초 단위)
     private boolean timeLimitMode;
+
+    // 대전 게임 시간 (update로만 진행, 일시정지 중에는 멈춤)
+    private final GameClock clock = new GameClock();
     
     // 승자 정보
     private String winner; // "PLAYER1", "PLAYER2", "DRAW", null
@@ -40,8 +40,17 @@ public class BattleGameEngine {
     }
     
     public BattleGameEngine(String battleMode) {
-        this.player1Engine = new GameEngine();
-        this.player2Engine = new GameEngine();
+        this(battleMode, settingsConfigFor(battleMode));
+    }
+
+    /**
+     * 설정 화면 값 대신 지정한 규칙으로 생성 (시뮬레이터용, SettingsManager를 건드리지 않음)
+     * 두 플레이어가 같은 config를 공유하므로 시드가 있으면 같은 순서로 블록을 받는다.
+     */
+    public BattleGameEngine(String battleMode, GameConfig config) {
+        GameConfig playerConfig = config.withGameMode("ITEM".equals(battleMode) ? "ITEM" : "NORMAL");
+        this.player1Engine = new GameEngine(playerConfig);
+        this.player2Engine = new GameEngine(playerConfig);
         this.isGameRunning = false;
         this.isPaused = false;
         this.timeLimitMode = "TIME_LIMIT".equals(battleMode);
@@ -49,41 +58,35 @@ public class BattleGameEngine {
         this.winner = null;
         this.pendingAttacksToPlayer1 = new LinkedList<>();
         this.pendingAttacksToPlayer2 = new LinkedList<>();
-        
-        // 아이템 모드 설정
-        if ("ITEM".equals(battleMode)) {
-            SettingsManager.getInstance().setGameMode("ITEM");
-        } else {
-            SettingsManager.getInstance().setGameMode("NORMAL");
-        }
+    }
+
+    /**
+     * 네트워크 대전용 - 상대와 같은 크기여야 보드 상태를 주고받을 수 있으므로 보드 크기 설정은 무시하고 기본 크기로 고정
+     */
+    public static BattleGameEngine forNetworkMatch(String battleMode) {
+        GameConfig config = settingsConfigFor(battleMode).withBoardSize(GameBoard.BOARD_WIDTH, GameBoard.BOARD_HEIGHT);
+        return new BattleGameEngine(battleMode, config);
+    }
+
+    // 현재 설정으로 규칙 생성 - 게임 모드는 대전 모드로 정하므로 저장된 설정은 바꾸지 않는다
+    private static GameConfig settingsConfigFor(String battleMode) {
+        return GameConfig.fromSettings().withGameMode("ITEM".equals(battleMode) ? "ITEM" : "NORMAL");
     }
     
     public void startGame() {
         isGameRunning = true;
         isPaused = false;
-        gameStartTime = System.nanoTime();
-        totalPausedTime = 0;
-        pauseStartTime = 0;
+        clock.reset();
         player1Engine.startGame();
         player2Engine.startGame();
     }
     
     public void pauseGame() {
         isPaused = !isPaused;
-        if (isPaused) {
-            // 일시정지 시작 시간 기록
-            pauseStartTime = System.nanoTime();
-            player1Engine.pauseGame();
-            player2Engine.pauseGame();
-        } else {
-            // 일시정지 해제 시 일시정지된 시간 누적
-            if (pauseStartTime > 0) {
-                totalPausedTime += System.nanoTime() - pauseStartTime;
-                pauseStartTime = 0;
-            }
-            player1Engine.pauseGame();
-            player2Engine.pauseGame();
-        }
+        // 일시정지 중에는 update가 시간을 진행하지 않으므로 따로 기록할 것이 없다
+        clock.resyncRealTime();
+        player1Engine.pauseGame();
+        player2Engine.pauseGame();
     }
     
     public void stopGame() {
@@ -156,9 +159,16 @@ public class BattleGameEngine {
     }
     
     /**
-     * 게임 루프 업데이트 (매 프레임 호출)
+     * 게임 루프 업데이트 (매 프레임 호출) - 실제 경과 시간만큼 진행
      */
     public void update() {
+        update(clock.sampleRealTime());
+    }
+
+    /**
+     * 게임 시간을 deltaNanos만큼 진행 (시뮬레이션/리플레이는 원하는 간격으로 직접 호출)
+     */
+    public void update(long deltaNanos) {
         if (!isGameRunning || isPaused) {
             return;
         }
@@ -174,15 +184,11 @@ public class BattleGameEngine {
             return;
         }
         
+        clock.advance(deltaNanos);
+
         // 시간제한 모드 체크
         if (timeLimitMode) {
-            long currentTime = System.nanoTime();
-            long pausedTime = totalPausedTime;
-            // 현재 일시정지 중이면 일시정지 시작 시간부터의 경과 시간도 빼기
-            if (isPaused && pauseStartTime > 0) {
-                pausedTime += currentTime - pauseStartTime;
-            }
-            long elapsed = (currentTime - gameStartTime - pausedTime) / 1_000_000_000L;
+            long elapsed = clock.now() / 1_000_000_000L;
             if (elapsed >= timeLimitSeconds) {
                 // 시간 종료 - 점수 높은 사람 승리
                 if (player1Engine.getScore() > player2Engine.getScore()) {
@@ -197,9 +203,9 @@ public class BattleGameEngine {
             }
         }
         
-        // 각 플레이어의 점수 2배 아이템 상태 업데이트
-        player1Engine.updateDoubleScoreStatus();
-        player2Engine.updateDoubleScoreStatus();
+        // 각 플레이어의 게임 시간과 점수 2배 아이템 상태 업데이트
+        player1Engine.update(deltaNanos);
+        player2Engine.update(deltaNanos);
         
         // 공격 메커니즘은 clearLinesManually() 호출 직후에 직접 처리됨
         // processAttacks()는 여기서 호출하지 않음
@@ -278,31 +284,28 @@ public class BattleGameEngine {
     
     /**
      * 대기 중인 공격을 한 줄씩 보드에 적용 (블록이 떨어진 후 호출)
+     * 게임 오버 판정은 줄마다 하지 않고 모두 넣은 뒤 한 번만 한다
      * @param playerNumber 플레이어 번호 (1 또는 2)
      */
     public void applyPendingAttacks(int playerNumber) {
         if (playerNumber == 1) {
-            // 플레이어 1에게 대기 중인 공격 한 줄씩 적용
-            while (!pendingAttacksToPlayer1.isEmpty()) {
-                AttackInfo attack = pendingAttacksToPlayer1.poll();
-                player1Engine.getGameBoard().addAttackLines(1, attack.emptyCol);
-                // 공격 블록 추가 후 게임 오버 체크
-                if (!player1Engine.getGameBoard().isValidPosition(player1Engine.getCurrentPiece())) {
-                    player1Engine.stopGame();
-                }
-            }
+            applyPendingAttacks(pendingAttacksToPlayer1, player1Engine);
         } else if (playerNumber == 2) {
-            // 플레이어 2에게 대기 중인 공격 한 줄씩 적용
-            while (!pendingAttacksToPlayer2.isEmpty()) {
-                AttackInfo attack = pendingAttacksToPlayer2.poll();
-                player2Engine.getGameBoard().addAttackLines(1, attack.emptyCol);
-                // 공격 블록 추가 후 게임 오버 체크
-                if (!player2Engine.getGameBoard().isValidPosition(player2Engine.getCurrentPiece())) {
-                    player2Engine.stopGame();
-                }
-            }
+            applyPendingAttacks(pendingAttacksToPlayer2, player2Engine);
         }
     }
+
+    private static void applyPendingAttacks(Queue<AttackInfo> pending, GameEngine engine) {
+        if (pending.isEmpty()) {
+            return;
+        }
+        while (!pending.isEmpty()) {
+            AttackInfo attack = pending.poll();
+            engine.addAttackLines(attack.lines, attack.emptyCol);
+        }
+        // 게임 오버 체크는 엔진이 처리 (GameOver 이벤트)
+        engine.checkTopOutAfterAttack();
+    }
     
     /**
      * 대기 중인 공격을 한 줄씩 보드에 적용 (양쪽 모두, 레거시 호환)
@@ -374,10 +377,9 @@ public class BattleGameEngine {
      * 게임 오버 체크
      */
     private void checkGameOver() {
-        boolean player1GameOver = !player1Engine.isGameRunning() || 
-                                  !player1Engine.getGameBoard().isValidPosition(player1Engine.getCurrentPiece());
-        boolean player2GameOver = !player2Engine.isGameRunning() || 
-                                  !player2Engine.getGameBoard().isValidPosition(player2Engine.getCurrentPiece());
+        // 블록이 나올 때, 고정될 때, 공격 줄을 받을 때 엔진이 이미 판정해서 멈추므로 실행 여부만 보면 된다
+        boolean player1GameOver = !player1Engine.isGameRunning();
+        boolean player2GameOver = !player2Engine.isGameRunning();
         
         if (player1GameOver && !player2GameOver) {
             winner = "PLAYER2";
@@ -427,16 +429,17 @@ public class BattleGameEngine {
         if (!timeLimitMode || !isGameRunning) {
             return 0;
         }
-        long currentTime = System.nanoTime();
-        long pausedTime = totalPausedTime;
-        // 현재 일시정지 중이면 일시정지 시작 시간부터의 경과 시간도 빼기
-        if (isPaused && pauseStartTime > 0) {
-            pausedTime += currentTime - pauseStartTime;
-        }
-        long elapsed = (currentTime - gameStartTime - pausedTime) / 1_000_000_000L;
+        long elapsed = clock.now() / 1_000_000_000L;
         return Math.max(0, timeLimitSeconds - elapsed);
     }
     
+    /**
+     * 대전 시작 후 흐른 게임 시간 (나노초, 일시정지 시간 제외)
+     */
+    public long getGameTime() {
+        return clock.now();
+    }
+
     public void setTimeLimit(long seconds) {
         this.timeLimitSeconds = seconds;
     }
@@ -1,233 +1,377 @@
 package tetris.game;
 
-import java.util.ArrayList;
-import java.util.List;
-
+/**
+ * 게임 보드 (칸 값, 아이템, 공격 블록 표시와 보드 지표)
+ *
+ * 크기는 GameConfig에서 정하며 (기본 10x20), 행마다 채워진 칸을 long 비트(bit c = c번째 열)로도 들고 있으므로
+ * 가로는 최대 64칸까지이고, 충돌 검사와 줄 판정은 가로 크기와 상관없이 행당 비트 연산 한 번이다.
+ *
+ * 보이는 줄 위에 BUFFER_ROWS만큼 숨은 줄이 있어서 보이는 줄 밖으로 걸쳐 고정된 블록도 사라지지 않는다.
+ * 행 번호는 보이는 맨 위 줄이 0이고 숨은 줄은 -1, -2, ... 이다 (getBoard()는 보이는 줄의 복사본).
+ * 안에서는 숨은 줄까지 한 배열에 담고 행 집합을 long 비트마스크로 다루므로 숨은 줄 + 세로는 64줄까지다.
+ * 게임 오버(top out)는 칸을 바꿀 때 함께 판정해 두므로 isToppedOut()은 값만 읽는다.
+ * - lock out: 블록이 보이는 줄에 한 칸도 걸치지 못하고 고정됨
+ * - 공격 줄에 밀려 숨은 줄 위로 블록이 넘침
+ * - block out(나오는 자리가 막힘)은 spawn()의 결과로 알 수 있다
+ */
 public class GameBoard {
+    // 기본 보드 크기
     public static final int BOARD_WIDTH = 10;
     public static final int BOARD_HEIGHT = 20;
-    private static final int SPAWN_X = BOARD_WIDTH / 2 - 1;
+    // 설정할 수 있는 보드 크기 (가로는 가장 긴 블록 4칸이 가운데에서 나올 수 있게, 세로는 공격 줄 10줄이 들어가게)
+    public static final int MIN_WIDTH = 6;
+    public static final int MAX_WIDTH = Long.SIZE;
+    public static final int MIN_HEIGHT = 16;
+    // 보이는 줄 위의 숨은 줄 수 (가장 긴 블록이 보이는 줄 밖에서 통째로 고정될 수 있는 높이)
+    public static final int BUFFER_ROWS = 4;
+    public static final int MAX_HEIGHT = Long.SIZE - BUFFER_ROWS;
     private static final int SPAWN_Y = 0;
+    // 가장 높은 블록이 위에서 이 줄 수 안으로 들어오면 위험 상태 (블록이 나오는 자리 바로 아래)
+    public static final int DANGER_ROWS = 4;
+    // 보드에 쌓일 수 있는 공격 줄 수
+    public static final int MAX_ATTACK_LINES = 10;
+
+    private final int width;
+    private final int height;       // 보이는 줄 수
+    private final int totalRows;    // 숨은 줄 + 보이는 줄 (안쪽 배열의 행 수, 안쪽 행 번호 = 보이는 행 번호 + BUFFER_ROWS)
+    private final int spawnX;
+    private final long fullRow;       // 한 행이 가득 찼을 때의 행 비트
 
     private int[][] board;
     private ItemType[][] itemBoard;  // 각 셀의 아이템 정보
     private boolean[][] attackBoard;  // 공격 블록 표시 (true면 공격 블록, 회색으로 표시)
-    private int attackLinesCount;  // 현재 보드에 있는 공격 줄 수 (최대 10줄)
+    private int attackLinesCount;  // 현재 보드에 있는 공격 줄 수 (최대 10줄, 맨 아래부터 공격 블록이 있는 연속된 줄)
+
+    // 보드 지표 - 칸을 바꾸는 곳에서 함께 갱신하므로 AI 평가나 위험 표시가 보드를 다시 훑지 않는다
+    private final long[] rowBits;        // 행마다 채워진 칸 (bit c = c번째 열)
+    private final int[] columnFill;      // 열마다 채워진 칸 수
+    private final int[] columnHeights;   // 바닥부터 열의 가장 높은 블록까지 (빈 열은 0)
+    private int filledCells;
+    private int aggregateHeight;
+    private int maxHeight;
+    // 가득 찬 행 (bit r = r번째 행) - 행 비트가 가득 차는 순간 켜짐
+    private long fullRowMask;
+    private final int[] rowAttackCount;  // 행마다 공격 블록 수
+    private long attackRowMask;          // 공격 블록이 있는 행 (bit r = r번째 행)
+    // 공격 줄을 넣을 때 맨 위에서 떼어 낸 행 배열을 잠시 담아 두는 곳 (줄마다 새 배열을 만들지 않음)
+    private final int[][] spareRows;
+    private final ItemType[][] spareItemRows;
+    private final boolean[][] spareAttackRows;
+    // lock out이나 숨은 줄 위로 블록이 넘친 적이 있으면 true (clearBoard 전까지 유지)
+    private boolean toppedOut;
+    // 마지막 processItemEffects에서 LINE_CLEAR로 지운 보이는 행 (bit r = r번째 행, 삭제 직전 기준)
+    private long lastItemClearMask;
 
     public GameBoard() {
-        this.board = new int[BOARD_HEIGHT][BOARD_WIDTH];
-        this.itemBoard = new ItemType[BOARD_HEIGHT][BOARD_WIDTH];
-        this.attackBoard = new boolean[BOARD_HEIGHT][BOARD_WIDTH];
+        this(BOARD_WIDTH, BOARD_HEIGHT);
+    }
+
+    /**
+     * @param width 가로 칸 수 (MIN_WIDTH ~ MAX_WIDTH)
+     * @param height 세로 칸 수 (MIN_HEIGHT ~ MAX_HEIGHT)
+     */
+    public GameBoard(int width, int height) {
+        if (width < MIN_WIDTH || width > MAX_WIDTH || height < MIN_HEIGHT || height > MAX_HEIGHT) {
+            throw new IllegalArgumentException("Unsupported board size: " + width + "x" + height);
+        }
+        this.width = width;
+        this.height = height;
+        this.totalRows = height + BUFFER_ROWS;
+        this.spawnX = width / 2 - 1;
+        this.fullRow = width == Long.SIZE ? -1L : (1L << width) - 1;
+        this.board = new int[totalRows][width];
+        this.itemBoard = new ItemType[totalRows][width];
+        this.attackBoard = new boolean[totalRows][width];
         this.attackLinesCount = 0;
+        this.rowBits = new long[totalRows];
+        this.columnFill = new int[width];
+        this.columnHeights = new int[width];
+        this.rowAttackCount = new int[totalRows];
+        this.spareRows = new int[totalRows][];
+        this.spareItemRows = new ItemType[totalRows][];
+        this.spareAttackRows = new boolean[totalRows][];
         clearBoard();
     }
 
     public void clearBoard() {
-        for (int row = 0; row < BOARD_HEIGHT; row++) {
-            for (int col = 0; col < BOARD_WIDTH; col++) {
+        for (int row = 0; row < totalRows; row++) {
+            for (int col = 0; col < width; col++) {
                 board[row][col] = 0;
                 itemBoard[row][col] = ItemType.NONE;
                 attackBoard[row][col] = false;
             }
         }
-        attackLinesCount = 0;
+        toppedOut = false;
+        rebuildMetrics();
     }
 
     public boolean isValidPosition(Piece piece) {
         if (piece == null) return false;
+        return canPlace(piece.getShapes(), piece.getRotation(), piece.getX(), piece.getY());
+    }
 
-        int[][] shape = piece.getShape();
+    /**
+     * 블록을 (x, y)에 해당 회전으로 놓을 수 있는지 확인 (Piece 없이 회전/벽 차기 후보를 검사할 때 사용)
+     * PieceShape에 미리 계산된 행 비트마스크를 보드 행 비트와 AND 하므로 블록 행마다 비교 한 번이다.
+     * 숨은 줄보다 위는 비어 있는 것으로 본다.
+     */
+    public boolean canPlace(PieceShape shapes, int rotation, int x, int y) {
+        if (x + shapes.getMinCol(rotation) < 0 || x + shapes.getMaxCol(rotation) >= width) {
+            return false;
+        }
+        int rows = shapes.getHeight(rotation);
+        for (int row = 0; row < rows; row++) {
+            int mask = shapes.getRowMask(rotation, row);
+            int newY = y + BUFFER_ROWS + row;
+            if (mask == 0 || newY < 0) {
+                continue;
+            }
+            if (newY >= totalRows) {
+                return false;
+            }
+            long shifted = x >= 0 ? (long) mask << x : (long) mask >>> -x;
+            if ((rowBits[newY] & shifted) != 0) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * 블록을 시계 방향으로 회전 (막히면 WallKicks 표 순서대로 옮겨 가며 들어갈 자리를 찾음)
+     * @return 회전했으면 true (블록의 회전과 위치가 바뀜), 들어갈 자리가 없으면 false (블록은 그대로)
+     */
+    public boolean rotateWithKicks(Piece piece) {
+        PieceShape shapes = piece.getShapes();
+        int fromRotation = piece.getRotation();
+        int toRotation = (fromRotation + 1) % shapes.getRotationCount();
         int x = piece.getX();
         int y = piece.getY();
+        int[] kicks = WallKicks.clockwise(piece.getType(), fromRotation);
+        for (int i = 0; i < kicks.length; i += 2) {
+            if (canPlace(shapes, toRotation, x + kicks[i], y + kicks[i + 1])) {
+                piece.rotate();
+                piece.setPosition(x + kicks[i], y + kicks[i + 1]);
+                return true;
+            }
+        }
+        return false;
+    }
 
-        for (int row = 0; row < shape.length; row++) {
-            for (int col = 0; col < shape[row].length; col++) {
-                if (shape[row][col] != 0) {
-                    int newX = x + col;
-                    int newY = y + row;
-
-                    if (newX < 0 || newX >= BOARD_WIDTH ||
-                        newY >= BOARD_HEIGHT ||
-                        (newY >= 0 && board[newY][newX] != 0)) {
-                        return false;
-                    }
-                }
+    /**
+     * 새 블록을 나오는 자리에 놓음 - 자리가 막혀 있으면 숨은 줄 안에서 한 줄씩 올려 본다
+     * @return 숨은 줄까지 올려도 들어갈 자리가 없으면 false (block out, 블록은 나오는 자리에 둠)
+     */
+    public boolean spawn(Piece piece) {
+        PieceShape shapes = piece.getShapes();
+        int rotation = piece.getRotation();
+        for (int y = SPAWN_Y; y >= -BUFFER_ROWS; y--) {
+            if (canPlace(shapes, rotation, spawnX, y)) {
+                piece.setPosition(spawnX, y);
+                return true;
             }
         }
-        return true;
+        piece.setPosition(spawnX, SPAWN_Y);
+        return false;
     }
 
-    public void placePiece(Piece piece) {
-        if (piece == null) return;
+    /**
+     * 블록을 보드에 고정 (보이는 줄에 한 칸도 걸치지 못했으면 lock out으로 게임 오버 표시)
+     * @return 블록이 닿은 행 중 가득 찬 보이는 행 (bit r = r번째 행, 행 칸 수로 바로 판단하므로 보드를 훑지 않음)
+     */
+    public long placePiece(Piece piece) {
+        if (piece == null) return 0L;
 
-        int[][] shape = piece.getShape();
+        PieceShape shapes = piece.getShapes();
+        int rotation = piece.getRotation();
         int x = piece.getX();
-        int y = piece.getY();
+        int y = piece.getY() + BUFFER_ROWS;
         int pieceType = piece.getType();
         if (piece.isWeightPiece()) {
             piece.setLanded(true);
         }
 
         // 블록을 보드에 배치하고 아이템 정보도 저장
-        for (int row = 0; row < shape.length; row++) {
-            for (int col = 0; col < shape[row].length; col++) {
-                if (shape[row][col] != 0) {
-                    int newX = x + col;
-                    int newY = y + row;
-
-                    if (newY >= 0 && newY < BOARD_HEIGHT &&
-                        newX >= 0 && newX < BOARD_WIDTH) {
-                        board[newY][newX] = pieceType;
-                        // 아이템 정보 저장
-                        itemBoard[newY][newX] = piece.getItemAt(row, col);
-                    }
-                }
+        long touchedRows = 0L;
+        boolean visible = false;
+        int blocks = shapes.getBlockCount(rotation);
+        for (int i = 0; i < blocks; i++) {
+            int row = shapes.getCellRow(rotation, i);
+            int col = shapes.getCellCol(rotation, i);
+            int newX = x + col;
+            int newY = y + row;
+
+            if (newY >= 0 && newY < totalRows &&
+                newX >= 0 && newX < width) {
+                writeCell(newY, newX, pieceType);
+                // 아이템 정보 저장
+                itemBoard[newY][newX] = piece.getItemAt(row, col);
+                touchedRows |= 1L << newY;
+                visible |= newY >= BUFFER_ROWS;
+            } else if (newY < 0) {
+                // 숨은 줄보다 위 - 칸을 잃으므로 게임 오버
+                toppedOut = true;
             }
         }
+        // 보이는 줄에 한 칸도 걸치지 못했으면 lock out
+        if (!visible) {
+            toppedOut = true;
+        }
+        updateSummary();
+        return (touchedRows & fullRowMask) >>> BUFFER_ROWS;
     }
 
+    /**
+     * 보이는 줄 중 가득 찬 줄을 모두 삭제하고 위의 줄을 내림
+     * 가득 찬 행은 행 칸 수로 이미 알고 있으므로 보드를 훑지 않는다
+     * 삭제하는 줄은 getFullLineMask()와 같다 (숨은 줄은 보이는 줄로 내려온 뒤에 삭제됨)
+     * @return 삭제한 줄 수
+     */
     public int clearLines() {
-        // 먼저 모든 가득 찬 줄의 인덱스를 수집
-        List<Integer> fullLineIndices = new ArrayList<>();
-        for (int row = BOARD_HEIGHT - 1; row >= 0; row--) {
-            if (isLineFull(row)) {
-                fullLineIndices.add(row);
-            }
-        }
-        
+        long visibleFullRows = fullRowMask & (-1L << BUFFER_ROWS);
         // 찾은 줄이 없으면 빠르게 반환
-        if (fullLineIndices.isEmpty()) {
+        if (visibleFullRows == 0L) {
             return 0;
         }
-        
-        // 내림차순으로 정렬하여 위에서부터 아래로 처리
-        fullLineIndices.sort((a, b) -> b - a);
-        
-        // 한 번의 배열 재구성으로 모든 줄 삭제 처리
-        int[] newBoard[] = new int[BOARD_HEIGHT][BOARD_WIDTH];
-        ItemType[][] newItemBoard = new ItemType[BOARD_HEIGHT][BOARD_WIDTH];
-        boolean[][] newAttackBoard = new boolean[BOARD_HEIGHT][BOARD_WIDTH];
-        
-        // 초기화
-        for (int i = 0; i < BOARD_HEIGHT; i++) {
-            for (int j = 0; j < BOARD_WIDTH; j++) {
-                newBoard[i][j] = 0;
-                newItemBoard[i][j] = ItemType.NONE;
-                newAttackBoard[i][j] = false;
+        return removeRows(visibleFullRows);
+    }
+
+    /**
+     * 비트가 켜진 행들을 삭제하고 위의 줄을 그만큼 내림 (줄 삭제, LINE_CLEAR 아이템 공용)
+     * 행 배열은 참조만 옮기고, 삭제한 행 배열은 비워서 맨 위에 다시 쓴다.
+     * @param mask 삭제할 행 (bit r = 안쪽 r번째 행)
+     * @return 삭제한 줄 수
+     */
+    private int removeRows(long mask) {
+        int removed = Long.bitCount(mask);
+
+        // 지표: 열마다 삭제한 행에 있던 칸 수만큼 줄어듦
+        for (long rows = mask; rows != 0; rows &= rows - 1) {
+            for (long cols = rowBits[Long.numberOfTrailingZeros(rows)]; cols != 0; cols &= cols - 1) {
+                columnFill[Long.numberOfTrailingZeros(cols)]--;
             }
         }
-        
-        // 삭제되지 않은 줄들을 새 배열에 복사 (위에서 채우기)
-        int targetRow = BOARD_HEIGHT - 1;
-        for (int sourceRow = BOARD_HEIGHT - 1; sourceRow >= 0; sourceRow--) {
-            if (!fullLineIndices.contains(sourceRow)) {
-                for (int col = 0; col < BOARD_WIDTH; col++) {
-                    newBoard[targetRow][col] = board[sourceRow][col];
-                    newItemBoard[targetRow][col] = itemBoard[sourceRow][col];
-                    newAttackBoard[targetRow][col] = attackBoard[sourceRow][col];
-                }
-                targetRow--;
+        // 열의 가장 높은 블록은 그 아래에서 삭제한 줄 수만큼 내려감 (가장 높은 블록이 삭제됐으면 더 아래에서 찾음)
+        for (int col = 0; col < width; col++) {
+            if (columnHeights[col] == 0) {
+                continue;
+            }
+            int oldTop = totalRows - columnHeights[col];
+            int top = oldTop + Long.bitCount(mask >>> oldTop);
+            columnHeights[col] = totalRows - top;
+        }
+
+        // 아래에서 위로 삭제되지 않은 줄을 아래쪽부터 채움 (지표: 행 비트, 공격 블록 수도 같이 옮김)
+        long fullMask = 0L;
+        long attackMask = 0L;
+        int writeRow = totalRows - 1;
+        for (int row = totalRows - 1; row >= 0; row--) {
+            if ((mask & (1L << row)) != 0) {
+                continue;
+            }
+            if (writeRow != row) {
+                int[] boardRow = board[writeRow];
+                ItemType[] itemRow = itemBoard[writeRow];
+                boolean[] attackRow = attackBoard[writeRow];
+                board[writeRow] = board[row];
+                itemBoard[writeRow] = itemBoard[row];
+                attackBoard[writeRow] = attackBoard[row];
+                // 원래 자리에는 아래로 밀려난 행(삭제됐거나 이미 옮긴 행)의 배열을 둠 - 마지막에 위쪽 행만 비움
+                board[row] = boardRow;
+                itemBoard[row] = itemRow;
+                attackBoard[row] = attackRow;
+                rowBits[writeRow] = rowBits[row];
+                rowAttackCount[writeRow] = rowAttackCount[row];
             }
+            if (rowBits[writeRow] == fullRow) {
+                fullMask |= 1L << writeRow;
+            }
+            if (rowAttackCount[writeRow] > 0) {
+                attackMask |= 1L << writeRow;
+            }
+            writeRow--;
+        }
+        // 남은 위쪽 행 비우기
+        while (writeRow >= 0) {
+            java.util.Arrays.fill(board[writeRow], 0);
+            java.util.Arrays.fill(itemBoard[writeRow], ItemType.NONE);
+            java.util.Arrays.fill(attackBoard[writeRow], false);
+            rowBits[writeRow] = 0L;
+            rowAttackCount[writeRow] = 0;
+            writeRow--;
+        }
+        fullRowMask = fullMask;
+        attackRowMask = attackMask;
+
+        // 가장 높은 블록이 삭제된 열은 그 아래 빈칸을 건너뜀
+        for (int col = 0; col < width; col++) {
+            int top = totalRows - columnHeights[col];
+            while (top < totalRows && board[top][col] == 0) {
+                top++;
+            }
+            columnHeights[col] = totalRows - top;
         }
-        
-        // 새 보드로 교체
-        this.board = newBoard;
-        this.itemBoard = newItemBoard;
-        this.attackBoard = newAttackBoard;
-        
+        updateSummary();
+
         // 공격 줄이 삭제되면 공격 줄 수 업데이트
         updateAttackLinesCount();
 
-        return fullLineIndices.size();
+        return removed;
     }
     
     /**
-     * 공격 줄 수를 실제 보드 상태에 맞게 업데이트
+     * 공격 줄 수를 공격 행 비트에서 다시 구함 (맨 아래 행부터 연속으로 켜진 비트 수, 보드를 훑지 않음)
      */
     private void updateAttackLinesCount() {
-        attackLinesCount = 0;
-        // 아래쪽부터 공격 줄 수 계산
-        for (int row = BOARD_HEIGHT - 1; row >= 0; row--) {
-            boolean hasAttackBlock = false;
-            for (int col = 0; col < BOARD_WIDTH; col++) {
-                if (attackBoard[row][col]) {
-                    hasAttackBlock = true;
-                    break;
-                }
-            }
-            if (hasAttackBlock) {
-                attackLinesCount++;
-            } else {
-                // 공격 블록이 없는 줄을 만나면 중단 (연속된 공격 줄만 카운트)
-                break;
-            }
-        }
+        // 맨 아래 행(bit totalRows - 1)을 최상위 비트로 올려서 앞쪽의 연속된 1 개수를 셈
+        long aligned = attackRowMask << (Long.SIZE - totalRows);
+        attackLinesCount = Long.numberOfLeadingZeros(~aligned);
     }
     
     /**
-     * 삭제될 줄들의 행 번호를 반환 (애니메이션용)
+     * 삭제될 보이는 줄들을 비트마스크로 반환 (bit r = r번째 행, 칸을 바꿀 때 함께 갱신하므로 보드를 훑지 않음)
      */
-    public List<Integer> getFullLines() {
-        List<Integer> fullLines = new ArrayList<>();
-        for (int row = BOARD_HEIGHT - 1; row >= 0; row--) {
-            if (isLineFull(row)) {
-                fullLines.add(row);
-            }
-        }
-        return fullLines;
-    }
-
-    private boolean isLineFull(int row) {
-        for (int col = 0; col < BOARD_WIDTH; col++) {
-            if (board[row][col] == 0) {
-                return false;
-            }
-        }
-        return true;
-    }
-
-    private void clearLine(int row) {
-        for (int col = 0; col < BOARD_WIDTH; col++) {
-            board[row][col] = 0;
-            itemBoard[row][col] = ItemType.NONE;
-            attackBoard[row][col] = false; // 공격 블록도 초기화
-        }
-    }
-
-    private void dropLinesAbove(int clearedRow) {
-        // 공격 블록도 함께 이동
-        for (int row = clearedRow; row > 0; row--) {
-            for (int col = 0; col < BOARD_WIDTH; col++) {
-                board[row][col] = board[row - 1][col];
-                itemBoard[row][col] = itemBoard[row - 1][col];
-                attackBoard[row][col] = attackBoard[row - 1][col];
-            }
-        }
-
-        for (int col = 0; col < BOARD_WIDTH; col++) {
-            board[0][col] = 0;
-            itemBoard[0][col] = ItemType.NONE;
-            attackBoard[0][col] = false;
-        }
+    public long getFullLineMask() {
+        return fullRowMask >>> BUFFER_ROWS;
     }
 
+    /**
+     * @param row 행 (숨은 줄은 음수, -BUFFER_ROWS까지)
+     */
     public int getCell(int row, int col) {
-        if (row >= 0 && row < BOARD_HEIGHT && col >= 0 && col < BOARD_WIDTH) {
+        row += BUFFER_ROWS;
+        if (row >= 0 && row < totalRows && col >= 0 && col < width) {
             return board[row][col];
         }
         return 0;
     }
 
     public int getSpawnX() {
-        return SPAWN_X;
+        return spawnX;
     }
 
     public int getSpawnY() {
         return SPAWN_Y;
     }
 
+    /**
+     * 보이는 줄의 칸 값 복사본 (바꿔도 보드에는 영향 없음, 자주 읽을 때는 getCell/getRowBits 사용)
+     */
     public int[][] getBoard() {
-        return board;
+        int[][] copy = new int[height][];
+        for (int row = 0; row < height; row++) {
+            copy[row] = board[row + BUFFER_ROWS].clone();
+        }
+        return copy;
+    }
+
+    /**
+     * 칸 하나를 바꾸고 보드 지표도 함께 갱신 (테스트에서 보드 상태를 만들 때 사용)
+     * @param row 행 (숨은 줄은 음수, -BUFFER_ROWS까지)
+     */
+    void setCell(int row, int col, int value) {
+        writeCell(row + BUFFER_ROWS, col, value);
+        updateSummary();
     }
 
     /**
@@ -237,7 +381,8 @@ public class GameBoard {
      * @return 아이템 타입
      */
     public ItemType getItemAt(int row, int col) {
-        if (row >= 0 && row < BOARD_HEIGHT && col >= 0 && col < BOARD_WIDTH) {
+        row += BUFFER_ROWS;
+        if (row >= 0 && row < totalRows && col >= 0 && col < width) {
             return itemBoard[row][col];
         }
         return ItemType.NONE;
@@ -246,75 +391,82 @@ public class GameBoard {
     /**
      * 아이템 효과를 처리 (LINE_CLEAR, BOMB)
      * 블록이 배치될 때 호출되어, 아이템 효과를 적용
+     * 아이템이 있는 행/열은 비트마스크로 모으므로 중복 확인이나 박싱이 없다.
      * @param piece 배치된 블록
      * @return 삭제된 줄의 수
      */
     public int processItemEffects(Piece piece) {
+        lastItemClearMask = 0L;
         if (piece == null || !piece.hasItem()) {
             return 0;
         }
 
-        List<Integer> rowsToClean = new ArrayList<>();
-        List<Integer> bombRows = new ArrayList<>();
-        List<Integer> bombCols = new ArrayList<>();
+        long rowsToClean = 0L;   // bit r = LINE_CLEAR로 지울 행
+        long bombRows = 0L;      // bit r = 폭탄이 있는 행
+        long bombCols = 0L;      // bit c = 폭탄이 있는 열
 
         // 블록이 배치된 위치에서 아이템 찾기
-        int[][] shape = piece.getShape();
+        PieceShape shapes = piece.getShapes();
+        int rotation = piece.getRotation();
         int x = piece.getX();
-        int y = piece.getY();
-
-        for (int row = 0; row < shape.length; row++) {
-            for (int col = 0; col < shape[row].length; col++) {
-                if (shape[row][col] != 0) {
-                    ItemType itemType = piece.getItemAt(row, col);
-                    int boardRow = y + row;
-                    int boardCol = x + col;
-
-                    if (itemType == ItemType.LINE_CLEAR) {
-                        // LINE_CLEAR: 해당 줄 삭제
-                        if (boardRow >= 0 && boardRow < BOARD_HEIGHT) {
-                            if (!rowsToClean.contains(boardRow)) {
-                                rowsToClean.add(boardRow);
-                            }
-                        }
-                    } else if (itemType == ItemType.BOMB) {
-                        // BOMB: 2x2 폭탄이 차지하는 모든 행과 열 수집
-                        if (boardRow >= 0 && boardRow < BOARD_HEIGHT && !bombRows.contains(boardRow)) {
-                            bombRows.add(boardRow);
-                        }
-                        if (boardCol >= 0 && boardCol < BOARD_WIDTH && !bombCols.contains(boardCol)) {
-                            bombCols.add(boardCol);
-                        }
-                    }
+        int y = piece.getY() + BUFFER_ROWS;
+
+        int blocks = shapes.getBlockCount(rotation);
+        for (int i = 0; i < blocks; i++) {
+            int row = shapes.getCellRow(rotation, i);
+            int col = shapes.getCellCol(rotation, i);
+            ItemType itemType = piece.getItemAt(row, col);
+            int boardRow = y + row;
+            int boardCol = x + col;
+
+            if (itemType == ItemType.LINE_CLEAR) {
+                // LINE_CLEAR: 해당 줄 삭제 (일반 줄 삭제처럼 보이는 줄만)
+                if (boardRow >= BUFFER_ROWS && boardRow < totalRows) {
+                    rowsToClean |= 1L << boardRow;
+                }
+            } else if (itemType == ItemType.BOMB) {
+                // BOMB: 폭탄이 차지하는 모든 행과 열 수집
+                if (boardRow >= 0 && boardRow < totalRows) {
+                    bombRows |= 1L << boardRow;
+                }
+                if (boardCol >= 0 && boardCol < width) {
+                    bombCols |= 1L << boardCol;
                 }
             }
         }
 
         // 폭탄 효과 처리: 해당 행과 열의 모든 블록 제거
-        if (!bombRows.isEmpty() || !bombCols.isEmpty()) {
+        if (bombRows != 0L || bombCols != 0L) {
             processBombEffect(bombRows, bombCols);
         }
 
-        // LINE_CLEAR 효과: 찾은 줄들을 삭제 (아래쪽부터)
-        rowsToClean.sort((a, b) -> b - a);  // 내림차순 정렬
-        for (int rowToClean : rowsToClean) {
-            clearLine(rowToClean);
-            dropLinesAbove(rowToClean);
+        // LINE_CLEAR 효과: 찾은 줄들을 한 번에 삭제
+        if (rowsToClean == 0L) {
+            return 0;
         }
+        lastItemClearMask = rowsToClean >>> BUFFER_ROWS;
+        return removeRows(rowsToClean);
+    }
 
-        return rowsToClean.size();
+    /**
+     * 마지막 processItemEffects에서 LINE_CLEAR로 지운 행 (bit r = r번째 보이는 행, 비트 수 = 반환한 줄 수)
+     */
+    public long getLastItemClearMask() {
+        return lastItemClearMask;
     }
 
     /**
      * 폭탄 효과 처리: 1x1 폭탄을 중심으로 3x3 범위의 블록을 모두 제거
      * 제거 후 중력을 적용하여 떠있는 블록들을 아래로 이동
-     * @param bombRows 폭탄이 위치한 행
-     * @param bombCols 폭탄이 위치한 열
+     * @param bombRows 폭탄이 위치한 행 (bit r = r번째 행)
+     * @param bombCols 폭탄이 위치한 열 (bit c = c번째 열)
      */
-    private void processBombEffect(List<Integer> bombRows, List<Integer> bombCols) {
+    private void processBombEffect(long bombRows, long bombCols) {
         // 각 폭탄 위치에 대해 3x3 범위 제거
-        for (int bombRow : bombRows) {
-            for (int bombCol : bombCols) {
+        for (long rows = bombRows; rows != 0; rows &= rows - 1) {
+            int bombRow = Long.numberOfTrailingZeros(rows);
+            for (long cols = bombCols; cols != 0; cols &= cols - 1) {
+                int bombCol = Long.numberOfTrailingZeros(cols);
                 // 폭탄을 중심으로 3x3 범위 제거 (bombRow-1 ~ bombRow+1, bombCol-1 ~ bombCol+1)
                 for (int row = bombRow - 1; row <= bombRow + 1; row++) {
                     for (int col = bombCol - 1; col <= bombCol + 1; col++) {
@@ -334,52 +486,53 @@ public class GameBoard {
      * @param col 열
      */
     private void clearCell(int row, int col) {
-        if (row >= 0 && row < BOARD_HEIGHT && col >= 0 && col < BOARD_WIDTH) {
-            board[row][col] = 0;
+        if (row >= 0 && row < totalRows && col >= 0 && col < width) {
+            writeCell(row, col, 0);
             itemBoard[row][col] = ItemType.NONE;
-            attackBoard[row][col] = false;
+            clearAttack(row, col);
         }
     }
 
     /**
      * 중력 적용: 떠있는 블록들을 열별로 아래로 이동
-     * 각 열에 대해 빈 공간을 제거하고 블록들을 아래로 밀착시킴
+     * 각 열을 제자리에서 아래부터 당겨 채우고 (임시 배열 없음), 구멍이 없는 열(높이 = 칸 수)은 건너뛴다
      */
     private void applyGravity() {
-        // 각 열에 대해 중력 적용
-        for (int col = 0; col < BOARD_WIDTH; col++) {
-            // 해당 열의 블록들을 아래쪽부터 수집 (빈 공간 제외)
-            int[] columnBlocks = new int[BOARD_HEIGHT];
-            ItemType[] columnItems = new ItemType[BOARD_HEIGHT];
-            boolean[] columnAttacks = new boolean[BOARD_HEIGHT];
-            int writeIndex = BOARD_HEIGHT - 1;
-
-            // 아래에서 위로 스캔하면서 블록이 있는 것만 수집
-            for (int row = BOARD_HEIGHT - 1; row >= 0; row--) {
-                if (board[row][col] != 0) {
-                    columnBlocks[writeIndex] = board[row][col];
-                    columnItems[writeIndex] = itemBoard[row][col];
-                    columnAttacks[writeIndex] = attackBoard[row][col];
-                    writeIndex--;
-                }
+        for (int col = 0; col < width; col++) {
+            if (columnHeights[col] == columnFill[col]) {
+                continue;
             }
-
-            // 나머지는 0으로 채움 (위쪽 빈 공간)
-            while (writeIndex >= 0) {
-                columnBlocks[writeIndex] = 0;
-                columnItems[writeIndex] = ItemType.NONE;
-                columnAttacks[writeIndex] = false;
-                writeIndex--;
-            }
-
-            // 정리된 열을 다시 보드에 적용
-            for (int row = 0; row < BOARD_HEIGHT; row++) {
-                board[row][col] = columnBlocks[row];
-                itemBoard[row][col] = columnItems[row];
-                attackBoard[row][col] = columnAttacks[row];
+            // 아래에서 위로 훑으면서 블록을 writeRow로 당겨 내림 (행 비트/공격 블록 수도 같이 옮김)
+            long bit = 1L << col;
+            int writeRow = totalRows - 1;
+            for (int row = totalRows - 1; row >= totalRows - columnHeights[col]; row--) {
+                int value = board[row][col];
+                if (value == 0) {
+                    continue;
+                }
+                if (writeRow != row) {
+                    board[writeRow][col] = value;
+                    itemBoard[writeRow][col] = itemBoard[row][col];
+                    board[row][col] = 0;
+                    itemBoard[row][col] = ItemType.NONE;
+                    rowBits[writeRow] |= bit;
+                    rowBits[row] &= ~bit;
+                    if (attackBoard[row][col]) {
+                        attackBoard[writeRow][col] = true;
+                        attackBoard[row][col] = false;
+                        rowAttackCount[writeRow]++;
+                        rowAttackCount[row]--;
+                    }
+                }
+                writeRow--;
             }
+            // 빈칸 없이 바닥부터 쌓였으므로 높이 = 칸 수
+            columnHeights[col] = columnFill[col];
         }
 
+        updateRowMasks();
+        updateSummary();
+
         // 공격 줄 수 업데이트 (중력 적용 후 변경될 수 있음)
         updateAttackLinesCount();
     }
@@ -393,29 +546,28 @@ public class GameBoard {
             return;
         }
 
-        int[][] shape = piece.getShape();
         int x = piece.getX();
-        int y = piece.getY();
+        int y = piece.getY() + BUFFER_ROWS;
 
         // 무게추 블록의 가장 아래쪽 행
         int bottomRow = 1;
+        int boardRow = y + bottomRow + 1;  // 무게추 바로 밑
+        if (boardRow < 0 || boardRow >= totalRows) {
+            return;
+        }
 
-        // 무게추의 가장 아래 행의 각 블록 밑에 있는 보드의 블록들을 지우기
-        for (int col = 0; col < shape[bottomRow].length; col++) {
-            if (shape[bottomRow][col] != 0) {
-                int boardCol = x + col;
-                int boardRow = y + bottomRow + 1;  // 무게추 바로 밑
-                
-                // 해당 열의 밑에 있는 모든 블록 지우기
-                if (boardCol >= 0 && boardCol < BOARD_WIDTH && boardRow >= 0 && boardRow < BOARD_HEIGHT) {
-                    if (board[boardRow][boardCol] != 0) {
-                        piece.setLanded(true);
-                        board[boardRow][boardCol] = 0;
-                        itemBoard[boardRow][boardCol] = ItemType.NONE;
-                    }
-                }
+        // 무게추의 가장 아래 행의 각 블록 밑에 있는 보드의 블록들을 지우기 (행 비트마스크의 켜진 열만)
+        for (int cols = piece.getShapes().getRowMask(piece.getRotation(), bottomRow); cols != 0; cols &= cols - 1) {
+            int boardCol = x + Integer.numberOfTrailingZeros(cols);
+            if (boardCol >= 0 && boardCol < width && board[boardRow][boardCol] != 0) {
+                piece.setLanded(true);
+                writeCell(boardRow, boardCol, 0);
+                itemBoard[boardRow][boardCol] = ItemType.NONE;
+                clearAttack(boardRow, boardCol);
             }
         }
+        updateSummary();
+        updateAttackLinesCount();
     }
     
     /**
@@ -429,6 +581,7 @@ public class GameBoard {
     /**
      * 공격 블록을 보드 아래쪽에 추가
      * 최대 10줄까지만 추가 가능, 여러 번의 공격은 아래쪽으로 누적
+     * 행 배열은 참조만 옮기므로 (맨 위에서 떼어 낸 행 배열을 공격 줄로 채워 맨 아래에 붙임) 칸을 하나씩 복사하지 않는다.
      * @param numLines 추가할 줄 수
      * @param emptyCol 빈칸 위치 (마지막 블록이 채워진 열)
      */
@@ -439,51 +592,80 @@ public class GameBoard {
         
         // 최대 10줄 제한
         int newAttackLinesCount = attackLinesCount + numLines;
-        if (newAttackLinesCount > 10) {
+        if (newAttackLinesCount > MAX_ATTACK_LINES) {
             // 10줄을 넘으면 제일 아래쪽 부분을 잘라냄
-            int excessLines = newAttackLinesCount - 10;
+            int excessLines = newAttackLinesCount - MAX_ATTACK_LINES;
             removeBottomAttackLines(excessLines);
-            numLines = 10 - attackLinesCount; // 추가할 수 있는 줄 수만큼만 추가
+            numLines = MAX_ATTACK_LINES - attackLinesCount; // 추가할 수 있는 줄 수만큼만 추가
         }
         
         if (numLines <= 0) {
             return; // 추가할 줄이 없음
         }
-        
-        // 기존 블록들을 위로 올림 (공격 블록을 아래에 추가하기 위해)
-        for (int row = 0; row < BOARD_HEIGHT - numLines; row++) {
-            for (int col = 0; col < BOARD_WIDTH; col++) {
-                board[row][col] = board[row + numLines][col];
-                itemBoard[row][col] = itemBoard[row + numLines][col];
-                attackBoard[row][col] = attackBoard[row + numLines][col];
-            }
+
+        // 숨은 줄 위로 블록이 밀려 나가면 게임 오버 (사라진 블록 때문에 지표는 다시 계산)
+        boolean overflow = maxHeight > totalRows - numLines;
+        if (overflow) {
+            toppedOut = true;
         }
-        
-        // 맨 아래쪽에 공격 블록 추가 (아래서부터 쌓임)
-        // 보드를 위로 올린 후, 맨 아래(BOARD_HEIGHT - numLines 위치부터)에 공격 블록 추가
-        // 기존 공격 블록은 이미 위로 올라갔으므로, 새로운 공격 블록은 그 아래에 추가
+        int emptyColPos = Math.max(0, Math.min(emptyCol, width - 1));
+
+        // 기존 행들을 위로 올리고 (참조만 이동), 맨 위에서 밀려난 행 배열을 맨 아래 공격 줄로 다시 씀
+        int keep = totalRows - numLines;
+        System.arraycopy(board, 0, spareRows, 0, numLines);
+        System.arraycopy(itemBoard, 0, spareItemRows, 0, numLines);
+        System.arraycopy(attackBoard, 0, spareAttackRows, 0, numLines);
+        System.arraycopy(board, numLines, board, 0, keep);
+        System.arraycopy(itemBoard, numLines, itemBoard, 0, keep);
+        System.arraycopy(attackBoard, numLines, attackBoard, 0, keep);
         for (int i = 0; i < numLines; i++) {
-            int row = BOARD_HEIGHT - numLines + i;
+            int row = keep + i;
+            board[row] = spareRows[i];
+            itemBoard[row] = spareItemRows[i];
+            attackBoard[row] = spareAttackRows[i];
+            spareRows[i] = null;
+            spareItemRows[i] = null;
+            spareAttackRows[i] = null;
             // 마지막 블록이 채워진 위치에 빈칸 생성
-            int emptyColPos = Math.max(0, Math.min(emptyCol, BOARD_WIDTH - 1));
-            for (int col = 0; col < BOARD_WIDTH; col++) {
-                if (col == emptyColPos) {
-                    board[row][col] = 0;
-                    attackBoard[row][col] = false;
-                } else {
-                    board[row][col] = 8; // 공격 블록 타입 (회색으로 표시)
-                    attackBoard[row][col] = true;
-                }
-                itemBoard[row][col] = ItemType.NONE;
+            java.util.Arrays.fill(board[row], 8); // 공격 블록 타입 (회색으로 표시)
+            java.util.Arrays.fill(itemBoard[row], ItemType.NONE);
+            java.util.Arrays.fill(attackBoard[row], true);
+            board[row][emptyColPos] = 0;
+            attackBoard[row][emptyColPos] = false;
+        }
+
+        // 공격 행: 기존 행은 위로 밀고 새 줄은 모두 공격 행 (공격 줄 수도 행 비트에서 바로 나옴)
+        System.arraycopy(rowAttackCount, numLines, rowAttackCount, 0, keep);
+        for (int row = keep; row < totalRows; row++) {
+            rowAttackCount[row] = width - 1;
+        }
+        attackRowMask = (attackRowMask >>> numLines) | (((1L << numLines) - 1) << keep);
+        updateAttackLinesCount();
+
+        if (overflow) {
+            rebuildMetrics();
+            return;
+        }
+        // 지표: 행은 그대로 위로 밀고, 빈칸 열을 뺀 나머지 열은 공격 줄 수만큼 높아짐 (빈칸 열은 블록이 있었을 때만 구멍이 늘어남)
+        System.arraycopy(rowBits, numLines, rowBits, 0, keep);
+        fullRowMask >>>= numLines;
+        for (int row = keep; row < totalRows; row++) {
+            rowBits[row] = fullRow & ~(1L << emptyColPos);
+        }
+        for (int col = 0; col < width; col++) {
+            if (col != emptyColPos) {
+                columnFill[col] += numLines;
+                columnHeights[col] += numLines;
+            } else if (columnHeights[col] > 0) {
+                columnHeights[col] += numLines;
             }
         }
-        
-        // 공격 줄 수 업데이트
-        attackLinesCount += numLines;
+        updateSummary();
     }
     
     /**
      * 보드 아래쪽에서 공격 줄 제거 (10줄 제한을 위해)
+     * 맨 아래 공격 줄들을 통째로 잘라내고 위의 행들을 그만큼 내림 (행 배열은 참조만 옮기고, 잘라낸 배열은 비워서 맨 위에 씀)
      * @param numLines 제거할 줄 수
      */
     private void removeBottomAttackLines(int numLines) {
@@ -493,38 +675,47 @@ public class GameBoard {
         
         // 아래쪽부터 공격 줄 제거
         int linesToRemove = Math.min(numLines, attackLinesCount);
-        for (int i = 0; i < linesToRemove; i++) {
-            int row = BOARD_HEIGHT - 1 - i;
-            for (int col = 0; col < BOARD_WIDTH; col++) {
-                if (attackBoard[row][col]) {
-                    board[row][col] = 0;
-                    attackBoard[row][col] = false;
-                    itemBoard[row][col] = ItemType.NONE;
-                }
+        int keep = totalRows - linesToRemove;
+
+        // 지표: 잘라낸 행의 칸만큼 열 칸 수가 줄고, 열 높이는 잘라낸 줄 수만큼 낮아짐 (그 아래만 차 있던 열은 0)
+        for (int row = keep; row < totalRows; row++) {
+            for (long cols = rowBits[row]; cols != 0; cols &= cols - 1) {
+                columnFill[Long.numberOfTrailingZeros(cols)]--;
             }
         }
-        
-        attackLinesCount -= linesToRemove;
-        
-        // 빈 공간을 채우기 위해 블록들을 아래로 이동
-        for (int row = BOARD_HEIGHT - 1; row >= 0; row--) {
-            boolean isEmpty = true;
-            for (int col = 0; col < BOARD_WIDTH; col++) {
-                if (board[row][col] != 0) {
-                    isEmpty = false;
-                    break;
-                }
-            }
-            
-            if (isEmpty && row > 0) {
-                // 빈 줄을 위의 줄로 채움
-                for (int col = 0; col < BOARD_WIDTH; col++) {
-                    board[row][col] = board[row - 1][col];
-                    itemBoard[row][col] = itemBoard[row - 1][col];
-                    attackBoard[row][col] = attackBoard[row - 1][col];
-                }
-            }
+        for (int col = 0; col < width; col++) {
+            columnHeights[col] = Math.max(0, columnHeights[col] - linesToRemove);
         }
+
+        System.arraycopy(board, keep, spareRows, 0, linesToRemove);
+        System.arraycopy(itemBoard, keep, spareItemRows, 0, linesToRemove);
+        System.arraycopy(attackBoard, keep, spareAttackRows, 0, linesToRemove);
+        System.arraycopy(board, 0, board, linesToRemove, keep);
+        System.arraycopy(itemBoard, 0, itemBoard, linesToRemove, keep);
+        System.arraycopy(attackBoard, 0, attackBoard, linesToRemove, keep);
+        for (int i = 0; i < linesToRemove; i++) {
+            board[i] = spareRows[i];
+            itemBoard[i] = spareItemRows[i];
+            attackBoard[i] = spareAttackRows[i];
+            spareRows[i] = null;
+            spareItemRows[i] = null;
+            spareAttackRows[i] = null;
+            java.util.Arrays.fill(board[i], 0);
+            java.util.Arrays.fill(itemBoard[i], ItemType.NONE);
+            java.util.Arrays.fill(attackBoard[i], false);
+        }
+
+        long validRows = totalRows == Long.SIZE ? -1L : (1L << totalRows) - 1;
+        System.arraycopy(rowBits, 0, rowBits, linesToRemove, keep);
+        System.arraycopy(rowAttackCount, 0, rowAttackCount, linesToRemove, keep);
+        for (int row = 0; row < linesToRemove; row++) {
+            rowBits[row] = 0L;
+            rowAttackCount[row] = 0;
+        }
+        fullRowMask = (fullRowMask << linesToRemove) & validRows;
+        attackRowMask = (attackRowMask << linesToRemove) & validRows;
+        updateAttackLinesCount();
+        updateSummary();
     }
     
     /**
@@ -540,7 +731,7 @@ public class GameBoard {
      * @return 10줄이면 true
      */
     public boolean isAttackLinesFull() {
-        return attackLinesCount >= 10;
+        return attackLinesCount >= MAX_ATTACK_LINES;
     }
     
     /**
@@ -550,9 +741,205 @@ public class GameBoard {
      * @return 공격 블록이면 true
      */
     public boolean isAttackBlock(int row, int col) {
-        if (row >= 0 && row < BOARD_HEIGHT && col >= 0 && col < BOARD_WIDTH) {
+        row += BUFFER_ROWS;
+        if (row >= 0 && row < totalRows && col >= 0 && col < width) {
             return attackBoard[row][col];
         }
         return false;
     }
-}
\ No newline at end of file
+
+    /**
+     * 칸 하나를 바꾸면서 행 비트, 열 칸 수와 열 높이를 갱신 (합계는 updateSummary에서)
+     */
+    private void writeCell(int row, int col, int value) {
+        boolean wasFilled = board[row][col] != 0;
+        board[row][col] = value;
+        if (wasFilled == (value != 0)) {
+            return;
+        }
+        if (value != 0) {
+            rowBits[row] |= 1L << col;
+            if (rowBits[row] == fullRow) {
+                fullRowMask |= 1L << row;
+            }
+            columnFill[col]++;
+            columnHeights[col] = Math.max(columnHeights[col], totalRows - row);
+        } else {
+            rowBits[row] &= ~(1L << col);
+            fullRowMask &= ~(1L << row);
+            columnFill[col]--;
+            if (columnHeights[col] == totalRows - row) {
+                // 가장 높은 블록을 지웠으면 그 아래에서 다음 블록을 찾음
+                int top = row + 1;
+                while (top < totalRows && board[top][col] == 0) {
+                    top++;
+                }
+                columnHeights[col] = totalRows - top;
+            }
+        }
+    }
+
+    private void clearAttack(int row, int col) {
+        if (attackBoard[row][col]) {
+            attackBoard[row][col] = false;
+            if (--rowAttackCount[row] == 0) {
+                attackRowMask &= ~(1L << row);
+            }
+        }
+    }
+
+    /**
+     * 열 지표로 전체 칸 수, 높이 합, 최고 높이를 다시 합산 (열 수만큼만 훑음)
+     */
+    private void updateSummary() {
+        filledCells = 0;
+        aggregateHeight = 0;
+        maxHeight = 0;
+        for (int col = 0; col < width; col++) {
+            filledCells += columnFill[col];
+            aggregateHeight += columnHeights[col];
+            maxHeight = Math.max(maxHeight, columnHeights[col]);
+        }
+    }
+
+    /**
+     * 보드 전체를 훑어서 지표를 처음부터 계산 (초기화, 드문 효과 처리 뒤)
+     */
+    private void rebuildMetrics() {
+        for (int row = 0; row < totalRows; row++) {
+            rowBits[row] = 0L;
+            rowAttackCount[row] = 0;
+        }
+        for (int col = 0; col < width; col++) {
+            columnFill[col] = 0;
+            columnHeights[col] = 0;
+        }
+        for (int row = totalRows - 1; row >= 0; row--) {
+            for (int col = 0; col < width; col++) {
+                if (board[row][col] != 0) {
+                    rowBits[row] |= 1L << col;
+                    columnFill[col]++;
+                    columnHeights[col] = totalRows - row;
+                }
+                if (attackBoard[row][col]) {
+                    rowAttackCount[row]++;
+                }
+            }
+        }
+        updateRowMasks();
+        updateSummary();
+        updateAttackLinesCount();
+    }
+
+    /**
+     * 행 비트/공격 블록 수에서 가득 찬 행, 공격 행 비트를 다시 만듦
+     */
+    private void updateRowMasks() {
+        fullRowMask = 0L;
+        attackRowMask = 0L;
+        for (int row = 0; row < totalRows; row++) {
+            if (rowBits[row] == fullRow) {
+                fullRowMask |= 1L << row;
+            }
+            if (rowAttackCount[row] > 0) {
+                attackRowMask |= 1L << row;
+            }
+        }
+    }
+
+    /**
+     * @return 열 높이 (바닥부터 가장 높은 블록까지, 빈 열은 0)
+     */
+    public int getColumnHeight(int col) {
+        if (col < 0 || col >= width) {
+            return 0;
+        }
+        return columnHeights[col];
+    }
+
+    /**
+     * @return 해당 행에 채워진 칸 수
+     */
+    public int getRowFillCount(int row) {
+        row += BUFFER_ROWS;
+        if (row < 0 || row >= totalRows) {
+            return 0;
+        }
+        return Long.bitCount(rowBits[row]);
+    }
+
+    /**
+     * @return 해당 행에 채워진 칸 (bit c = c번째 열, 범위 밖이면 0) - AI가 보드를 칸마다 읽지 않고 복사할 때 사용
+     */
+    public long getRowBits(int row) {
+        row += BUFFER_ROWS;
+        if (row < 0 || row >= totalRows) {
+            return 0L;
+        }
+        return rowBits[row];
+    }
+
+    public int getWidth() {
+        return width;
+    }
+
+    /**
+     * @return 보이는 줄 수 (숨은 줄 제외)
+     */
+    public int getHeight() {
+        return height;
+    }
+
+    /**
+     * @return 위에 블록이 있는 빈 칸 수 (열마다 높이 - 채워진 칸 수의 합)
+     */
+    public int getHoleCount() {
+        return aggregateHeight - filledCells;
+    }
+
+    /**
+     * @return 모든 열 높이의 합
+     */
+    public int getAggregateHeight() {
+        return aggregateHeight;
+    }
+
+    /**
+     * @return 가장 높은 열의 높이 (숨은 줄까지 쌓였으면 getHeight()보다 큼)
+     */
+    public int getMaxHeight() {
+        return maxHeight;
+    }
+
+    /**
+     * @return 블록이 있는 가장 위 행 번호 (빈 보드면 getHeight(), 숨은 줄에 블록이 있으면 음수)
+     */
+    public int getHighestRow() {
+        return height - maxHeight;
+    }
+
+    /**
+     * @return 이웃한 열 높이 차이의 합 (울퉁불퉁함)
+     */
+    public int getBumpiness() {
+        int bumpiness = 0;
+        for (int col = 1; col < width; col++) {
+            bumpiness += Math.abs(columnHeights[col] - columnHeights[col - 1]);
+        }
+        return bumpiness;
+    }
+
+    /**
+     * 블록이 위에서 DANGER_ROWS 줄 안까지 쌓였는지 (위험 표시용)
+     */
+    public boolean isInDanger() {
+        return getHighestRow() < DANGER_ROWS;
+    }
+
+    /**
+     * lock out이나 공격 줄로 숨은 줄 위까지 넘쳐서 게임이 끝나야 하는지 (칸을 바꿀 때 판정해 둔 값)
+     */
+    public boolean isToppedOut() {
+        return toppedOut;
+    }
+}
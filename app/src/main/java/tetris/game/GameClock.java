@@ -0,0 +1,51 @@
+package tetris.game;
+
+/**
+ * 엔진 내부 게임 시간 (나노초)
+ *
+ * 엔진이 update(delta)를 받을 때만 앞으로 가고, 일시정지 중에는 엔진이 advance()를 부르지 않으므로 멈춰 있다.
+ * 점수 2배 지속시간, 시간제한 모드 같은 시간 효과는 모두 이 시간을 기준으로 계산한다.
+ * 화면 없이 돌리는 시뮬레이션은 원하는 만큼 advance()해서 실제 시간보다 빠르게 진행할 수 있다.
+ */
+public final class GameClock {
+    // 실제 시간으로 진행할 때 한 번에 넘어갈 수 있는 최대 시간 (게임 루프가 멈춰 있던 구간은 건너뜀)
+    private static final long MAX_REAL_TIME_STEP = 1_000_000_000L;
+
+    private long now = 0;
+    private long lastRealTime = -1;
+
+    /**
+     * 현재 게임 시간 (나노초, 0부터 시작)
+     */
+    public long now() {
+        return now;
+    }
+
+    public void advance(long deltaNanos) {
+        if (deltaNanos > 0) {
+            now += deltaNanos;
+        }
+    }
+
+    public void reset() {
+        now = 0;
+        lastRealTime = -1;
+    }
+
+    /**
+     * 지난 호출 이후 흐른 실제 시간 (화면 게임 루프용, 첫 호출은 0)
+     */
+    public long sampleRealTime() {
+        long realTime = System.nanoTime();
+        long delta = lastRealTime < 0 ? 0 : Math.min(realTime - lastRealTime, MAX_REAL_TIME_STEP);
+        lastRealTime = realTime;
+        return delta;
+    }
+
+    /**
+     * 다음 sampleRealTime()을 0부터 다시 잰다 (일시정지 전환 등으로 루프가 끊겼을 때)
+     */
+    public void resyncRealTime() {
+        lastRealTime = -1;
+    }
+}
@@ -0,0 +1,16 @@
+package tetris.game;
+
+/**
+ * 엔진이 받는 조작 명령
+ * 키 입력은 handleKeyPress에서 설정된 키에 따라 이 명령으로 바뀌고,
+ * 시뮬레이터/AI는 키 설정 없이 바로 GameEngine.execute()를 호출한다.
+ */
+public enum GameCommand {
+    MOVE_LEFT,
+    MOVE_RIGHT,
+    SOFT_DROP,
+    ROTATE,
+    HARD_DROP,
+    SKIP,       // 다음 블록에 SKIP 아이템이 있을 때만 동작
+    HOLD        // 블록 하나당 한 번만 동작
+}
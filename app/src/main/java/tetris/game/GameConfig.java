@@ -0,0 +1,265 @@
+package tetris.game;
+
+import tetris.ui.SettingsManager;
+
+import java.util.Random;
+
+/**
+ * 한 게임 동안 바뀌지 않는 규칙 묶음 (난이도, 게임 모드, 낙하 속도 곡선, 보드 크기)
+ *
+ * 낙하 간격, 속도 보너스, 줄 삭제 점수는 생성할 때 레벨별 배열로 미리 계산해 두고
+ * 게임 중에는 배열에서 꺼내 쓰기만 한다 (매 프레임 Math.pow 계산 없음).
+ * 대전 모드에서는 두 플레이어의 엔진이 같은 GameConfig를 공유한다.
+ */
+public final class GameConfig {
+    // 표로 만들어 두는 최고 레벨 (그 이상은 마지막 값 사용)
+    public static final int MAX_TABLE_LEVEL = 99;
+
+    private static final long BASE_FALL_SPEED = 1_000_000_000L;
+    // 바닥에 닿은 블록이 고정되기까지 기다리는 시간과, 그동안 이동/회전으로 시간을 다시 채울 수 있는 횟수
+    public static final long DEFAULT_LOCK_DELAY = 500_000_000L;
+    public static final int DEFAULT_MAX_LOCK_RESETS = 15;
+    // 미리 보여 주는 다음 블록 수
+    public static final int DEFAULT_PREVIEW_COUNT = 5;
+    public static final int MAX_PREVIEW_COUNT = 6;
+    // 한 번에 지운 줄 수별 기본 점수 (레벨을 곱한다)
+    private static final int[] LINE_CLEAR_BASE = { 0, 100, 300, 500, 800 };
+
+    private final String difficulty;
+    private final String gameMode;
+    private final SpeedCurve speedCurve;
+    private final int linesPerLevel;
+    // 블록 순서 시드 (null이면 게임마다 무작위)
+    private final Long seed;
+    // 고정 지연 (0이면 바닥에 닿는 즉시 고정)
+    private final long lockDelay;
+    private final int maxLockResets;
+    private final int previewCount;
+    private final int boardWidth;
+    private final int boardHeight;
+
+    // 레벨별 표 (인덱스 = 레벨, 0번은 레벨 1과 같은 값)
+    private final long[] fallIntervals;
+    private final int[] speedBonus;
+    // [레벨 * 5 + 지운 줄 수]
+    private final int[] lineClearScores;
+
+    public GameConfig(String difficulty, String gameMode, SpeedCurve speedCurve) {
+        this.difficulty = difficulty;
+        this.gameMode = gameMode;
+        this.speedCurve = speedCurve;
+        this.linesPerLevel = linesPerLevelFor(difficulty);
+        this.seed = null;
+        this.lockDelay = DEFAULT_LOCK_DELAY;
+        this.maxLockResets = DEFAULT_MAX_LOCK_RESETS;
+        this.previewCount = DEFAULT_PREVIEW_COUNT;
+        this.boardWidth = GameBoard.BOARD_WIDTH;
+        this.boardHeight = GameBoard.BOARD_HEIGHT;
+
+        fallIntervals = new long[MAX_TABLE_LEVEL + 1];
+        speedBonus = new int[MAX_TABLE_LEVEL + 1];
+        for (int level = 1; level <= MAX_TABLE_LEVEL; level++) {
+            long interval = Math.max(1L, (long) (BASE_FALL_SPEED * speedCurve.secondsPerRow(level)));
+            fallIntervals[level] = interval;
+            speedBonus[level] = bonusFor(interval);
+        }
+        fallIntervals[0] = fallIntervals[1];
+        speedBonus[0] = speedBonus[1];
+
+        lineClearScores = new int[(MAX_TABLE_LEVEL + 1) * LINE_CLEAR_BASE.length];
+        for (int level = 0; level <= MAX_TABLE_LEVEL; level++) {
+            for (int lines = 0; lines < LINE_CLEAR_BASE.length; lines++) {
+                lineClearScores[level * LINE_CLEAR_BASE.length + lines] = LINE_CLEAR_BASE[lines] * level;
+            }
+        }
+    }
+
+    // 게임 모드/시드/고정 지연/미리보기 수/보드 크기만 다른 설정 - 레벨 표는 그대로 공유
+    private GameConfig(GameConfig base, String gameMode, Long seed, long lockDelay, int maxLockResets, int previewCount,
+                       int boardWidth, int boardHeight) {
+        this.difficulty = base.difficulty;
+        this.gameMode = gameMode;
+        this.speedCurve = base.speedCurve;
+        this.linesPerLevel = base.linesPerLevel;
+        this.seed = seed;
+        this.lockDelay = lockDelay;
+        this.maxLockResets = maxLockResets;
+        this.previewCount = previewCount;
+        this.boardWidth = boardWidth;
+        this.boardHeight = boardHeight;
+        this.fallIntervals = base.fallIntervals;
+        this.speedBonus = base.speedBonus;
+        this.lineClearScores = base.lineClearScores;
+    }
+
+    /**
+     * 현재 설정 화면의 값으로 생성
+     * 낙하 속도 곡선은 -Dtetris.speedCurve=classic|guideline 으로 고를 수 있다 (기본 classic)
+     * 보드 크기는 -Dtetris.boardWidth, -Dtetris.boardHeight 로 바꿀 수 있다 (기본 10x20)
+     */
+    public static GameConfig fromSettings() {
+        SettingsManager settings = SettingsManager.getInstance();
+        GameConfig config = new GameConfig(settings.getDifficulty(), settings.getGameMode(),
+            SpeedCurve.byName(System.getProperty("tetris.speedCurve")));
+        int width = intProperty("tetris.boardWidth", GameBoard.BOARD_WIDTH);
+        int height = intProperty("tetris.boardHeight", GameBoard.BOARD_HEIGHT);
+        return config.withBoardSize(width, height);
+    }
+
+    private static int intProperty(String name, int defaultValue) {
+        String value = System.getProperty(name);
+        if (value == null) {
+            return defaultValue;
+        }
+        try {
+            return Integer.parseInt(value.trim());
+        } catch (NumberFormatException e) {
+            System.err.println("[CONFIG] Invalid " + name + ": " + value);
+            return defaultValue;
+        }
+    }
+
+    public GameConfig withGameMode(String gameMode) {
+        return gameMode.equals(this.gameMode) ? this : new GameConfig(this, gameMode, seed, lockDelay, maxLockResets, previewCount, boardWidth, boardHeight);
+    }
+
+    /**
+     * 블록 순서를 고정한 설정 (같은 시드의 엔진은 같은 순서로 블록을 받는다)
+     */
+    public GameConfig withSeed(long seed) {
+        return new GameConfig(this, gameMode, seed, lockDelay, maxLockResets, previewCount, boardWidth, boardHeight);
+    }
+
+    /**
+     * 고정 지연을 바꾼 설정
+     * @param lockDelay 바닥에 닿은 뒤 고정까지 기다리는 게임 시간 (나노초, 0이면 즉시 고정)
+     * @param maxLockResets 바닥에 닿은 채로 이동/회전해서 기다리는 시간을 다시 채울 수 있는 횟수
+     */
+    public GameConfig withLockDelay(long lockDelay, int maxLockResets) {
+        return new GameConfig(this, gameMode, seed, Math.max(0, lockDelay), Math.max(0, maxLockResets), previewCount, boardWidth, boardHeight);
+    }
+
+    /**
+     * 미리보기 블록 수를 바꾼 설정 (1 ~ MAX_PREVIEW_COUNT)
+     */
+    public GameConfig withPreviewCount(int previewCount) {
+        int count = Math.max(1, Math.min(MAX_PREVIEW_COUNT, previewCount));
+        return new GameConfig(this, gameMode, seed, lockDelay, maxLockResets, count, boardWidth, boardHeight);
+    }
+
+    /**
+     * 보드 크기를 바꾼 설정 (가로 GameBoard.MIN_WIDTH ~ MAX_WIDTH, 세로 MIN_HEIGHT ~ MAX_HEIGHT로 맞춤)
+     */
+    public GameConfig withBoardSize(int width, int height) {
+        int w = Math.max(GameBoard.MIN_WIDTH, Math.min(GameBoard.MAX_WIDTH, width));
+        int h = Math.max(GameBoard.MIN_HEIGHT, Math.min(GameBoard.MAX_HEIGHT, height));
+        if (w == boardWidth && h == boardHeight) {
+            return this;
+        }
+        return new GameConfig(this, gameMode, seed, lockDelay, maxLockResets, previewCount, w, h);
+    }
+
+    /**
+     * 이 설정으로 시작하는 엔진용 블록 생성기
+     */
+    public PieceGenerator createPieceGenerator() {
+        return new PieceGenerator(difficulty, seed != null ? new Random(seed) : new Random());
+    }
+
+    /**
+     * 난이도별 레벨업에 필요한 줄 수
+     */
+    private static int linesPerLevelFor(String difficulty) {
+        switch (difficulty) {
+            case "Easy":
+                return 12;
+            case "Hard":
+                return 8;
+            default:    // Normal
+                return 10;
+        }
+    }
+
+    /**
+     * 낙하 간격에 따른 점수 배율 (1초 기준으로 빠를수록 커짐, 최소 1)
+     */
+    static int bonusFor(long fallInterval) {
+        return Math.max(1, (int) Math.round((double) BASE_FALL_SPEED / fallInterval));
+    }
+
+    public String getDifficulty() {
+        return difficulty;
+    }
+
+    public String getGameMode() {
+        return gameMode;
+    }
+
+    public boolean isItemMode() {
+        return "ITEM".equals(gameMode);
+    }
+
+    public boolean isSeeded() {
+        return seed != null;
+    }
+
+    public long getLockDelay() {
+        return lockDelay;
+    }
+
+    public int getMaxLockResets() {
+        return maxLockResets;
+    }
+
+    public int getPreviewCount() {
+        return previewCount;
+    }
+
+    public int getBoardWidth() {
+        return boardWidth;
+    }
+
+    public int getBoardHeight() {
+        return boardHeight;
+    }
+
+    public SpeedCurve getSpeedCurve() {
+        return speedCurve;
+    }
+
+    public int getLinesPerLevel() {
+        return linesPerLevel;
+    }
+
+    /**
+     * 해당 레벨의 한 칸 낙하 간격 (나노초)
+     */
+    public long getFallInterval(int level) {
+        return fallIntervals[clampLevel(level)];
+    }
+
+    /**
+     * 해당 레벨의 낙하 속도 점수 배율
+     */
+    public int getSpeedBonus(int level) {
+        return speedBonus[clampLevel(level)];
+    }
+
+    /**
+     * 줄 삭제 점수 (점수 2배 아이템 적용 전)
+     * @param lines 한 번에 지운 줄 수 (1~4, 그 외는 0점)
+     */
+    public int getLineClearScore(int lines, int level) {
+        if (lines < 0 || lines >= LINE_CLEAR_BASE.length) {
+            return 0;
+        }
+        if (level > MAX_TABLE_LEVEL) {
+            return LINE_CLEAR_BASE[lines] * level;
+        }
+        return lineClearScores[Math.max(0, level) * LINE_CLEAR_BASE.length + lines];
+    }
+
+    private static int clampLevel(int level) {
+        return level < 0 ? 0 : Math.min(level, MAX_TABLE_LEVEL);
+    }
+}
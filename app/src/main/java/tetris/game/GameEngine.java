@@ -5,36 +5,65 @@ import tetris.ui.SettingsManager;
 public class GameEngine {
     private GameBoard gameBoard;
     private Piece currentPiece;
-    private Piece nextPiece;
+    // 다음 블록 미리보기 큐 (링 버퍼, previewHead가 바로 다음 블록) - 비는 칸이 생기면 바로 가방에서 채운다
+    private final Piece[] previewQueue;
+    private int previewHead = 0;
+    // 보관(홀드) 중인 블록 (없으면 null), 블록 하나를 놓을 때까지 한 번만 보관 가능
+    private Piece holdPiece;
+    private boolean holdUsed = false;
+    // 고스트(착지 위치) 계산용 블록 - 타입별로 하나씩 만들어 재사용 (인덱스 = 타입)
+    private final Piece[] ghostPieces = new Piece[PieceFactory.BOMB_PIECE + 1];
     private int score;
     private int level;
     private int linesCleared;
     private int linesClearedSinceLastItem;  // 마지막 아이템 이후 삭제된 줄 수
     private boolean isGameRunning;
     private boolean isPaused;
-    private long currentFallSpeed = 1_000_000_000L;
-    
-    // 블록 배치 후 콜백 (대전 모드 공격 적용용)
-    private Runnable onPiecePlacedCallback = null;
-    
-    // 줄 삭제 콜백 (삭제된 줄 개수와 함께)
-    private java.util.function.Consumer<Integer> onLinesClearedCallback = null;
+    // 블록을 놓을 곳이 없어 끝났는지 (block out, lock out, 공격 줄로 넘침)
+    private boolean toppedOut;
+    private long currentFallSpeed;
+    private int currentSpeedBonus;
+
+    // 난이도/모드/낙하 속도 표 (대전 모드에서는 두 엔진이 공유)
+    private final GameConfig config;
+
+    // 시간 효과 기준 시간 (update로만 진행, 일시정지 중에는 멈춤)
+    private final GameClock clock = new GameClock();
+
+    // 이 엔진 전용 블록 가방 (시드가 있으면 블록 순서가 고정됨)
+    private final PieceGenerator pieceGenerator;
     
-    private static final long BASE_FALL_SPEED = 1_000_000_000L;
+    // 이벤트 리스너 (copy-on-write 배열 - 이벤트 발생 시 할당 없음)
+    private static final GameEventListener[] NO_LISTENERS = new GameEventListener[0];
+    private GameEventListener[] eventListeners = NO_LISTENERS;
 
     // 아이템 생성 조건
     private static final int LINES_TO_SPAWN_ITEM = 10; // 10줄 제거
 
     // 점수 2배 아이템 관련
     private boolean isDoubleScoreActive;
-    private long doubleScoreEndTime;  // 나노초 단위
+    private long doubleScoreEndTime;  // 게임 시간 (나노초)
     private static final long DOUBLE_SCORE_DURATION = 30_000_000_000L;  // 30초
     
     // 마지막으로 배치된 블록의 열 위치 (공격 메커니즘용)
     private int lastPlacedBlockCol = -1;
 
+    // 고정 지연 - 바닥에 닿은 블록은 config.getLockDelay() 동안 (게임 시간) 더 움직일 수 있다
+    private boolean grounded = false;
+    private long lockStartTime = 0;     // 게임 시간 (나노초)
+    private int lockResets = 0;         // 바닥에 닿은 채로 이동/회전해서 시간을 다시 채운 횟수
+    private int lowestY = 0;            // 이 블록이 내려간 가장 낮은 행 (더 내려가면 횟수 초기화)
+
     public GameEngine() {
-        this.gameBoard = new GameBoard();
+        this(GameConfig.fromSettings());
+    }
+
+    public GameEngine(GameConfig config) {
+        this.config = config;
+        this.pieceGenerator = config.createPieceGenerator();
+        this.currentFallSpeed = config.getFallInterval(1);
+        this.currentSpeedBonus = config.getSpeedBonus(1);
+        this.gameBoard = new GameBoard(config.getBoardWidth(), config.getBoardHeight());
         this.score = 0;
         this.level = 1;
         this.linesCleared = 0;
@@ -43,7 +72,10 @@ public class GameEngine {
         this.isPaused = false;
         this.isDoubleScoreActive = false;
         this.doubleScoreEndTime = 0;
-        generateNextPiece();
+        this.previewQueue = new Piece[config.getPreviewCount()];
+        for (int i = 0; i < previewQueue.length; i++) {
+            previewQueue[i] = generatePiece();
+        }
         spawnNewPiece();
     }
 
@@ -54,6 +86,47 @@ public class GameEngine {
 
     public void pauseGame() {
         isPaused = !isPaused;
+        clock.resyncRealTime();
+    }
+
+    /**
+     * 실제 경과 시간만큼 게임 시간을 진행 (화면 게임 루프에서 매 프레임 호출)
+     */
+    public void update() {
+        update(clock.sampleRealTime());
+    }
+
+    /**
+     * 게임 시간을 deltaNanos만큼 진행하고 시간 효과를 갱신 (일시정지/종료 상태면 무시)
+     */
+    public void update(long deltaNanos) {
+        if (!isGameRunning || isPaused) {
+            return;
+        }
+        clock.advance(deltaNanos);
+        updateDoubleScoreStatus();
+        updateLockDelay();
+    }
+
+    /**
+     * 고정 지연이 끝난 블록을 고정 (밑의 블록이 사라져 떠 있으면 다시 떨어지게 둔다)
+     */
+    private void updateLockDelay() {
+        if (!grounded || currentPiece == null || clock.now() - lockStartTime < config.getLockDelay()) {
+            return;
+        }
+        if (canMoveDown()) {
+            grounded = false;
+        } else {
+            lockPiece();
+        }
+    }
+
+    /**
+     * 게임 시작 후 흐른 게임 시간 (나노초, 일시정지 시간 제외)
+     */
+    public long getGameTime() {
+        return clock.now();
     }
 
     public void stopGame() {
@@ -61,6 +134,46 @@ public class GameEngine {
         isPaused = false;
     }
 
+    /**
+     * 블록을 더 이상 놓을 수 없어 게임 종료 (GameOver 이벤트 발생)
+     */
+    private void gameOver() {
+        toppedOut = true;
+        stopGame();
+        GameEventListener[] listeners = eventListeners;
+        for (int i = 0; i < listeners.length; i++) {
+            listeners[i].onGameOver(this);
+        }
+    }
+
+    /**
+     * 이벤트 리스너 등록
+     */
+    public void addGameEventListener(GameEventListener listener) {
+        if (listener == null) {
+            return;
+        }
+        GameEventListener[] listeners = java.util.Arrays.copyOf(eventListeners, eventListeners.length + 1);
+        listeners[listeners.length - 1] = listener;
+        eventListeners = listeners;
+    }
+
+    /**
+     * 이벤트 리스너 해제
+     */
+    public void removeGameEventListener(GameEventListener listener) {
+        GameEventListener[] listeners = eventListeners;
+        for (int i = 0; i < listeners.length; i++) {
+            if (listeners[i] == listener) {
+                GameEventListener[] updated = new GameEventListener[listeners.length - 1];
+                System.arraycopy(listeners, 0, updated, 0, i);
+                System.arraycopy(listeners, i + 1, updated, i, listeners.length - i - 1);
+                eventListeners = updated.length == 0 ? NO_LISTENERS : updated;
+                return;
+            }
+        }
+    }
+
     public void handleKeyPress(javafx.scene.input.KeyCode keyCode) {
         if (!isGameRunning || isPaused || currentPiece == null) {
             return;
@@ -70,28 +183,81 @@ public class GameEngine {
         String keyName = keyCode.getName().toUpperCase();
 
         if (keyName.equals(settings.getKeyLeft())) {
-            movePieceLeft();
+            execute(GameCommand.MOVE_LEFT);
         } else if (keyName.equals(settings.getKeyRight())) {
-            movePieceRight();
+            execute(GameCommand.MOVE_RIGHT);
         } else if (keyName.equals(settings.getKeyDown())) {
-            movePieceDown();
+            execute(GameCommand.SOFT_DROP);
         } else if (keyName.equals(settings.getKeyRotate())) {
-            rotatePiece();
+            execute(GameCommand.ROTATE);
         } else if (keyName.equals(settings.getKeyHardDrop()) || keyCode == javafx.scene.input.KeyCode.SPACE) {
-            hardDrop();
-        } else if (keyCode == javafx.scene.input.KeyCode.N && hasSkipItem()) {
-            // N키를 누르고 nextPiece가 SKIP 아이템을 가지고 있으면 블록 넘기기
-            skipCurrentPiece();
+            execute(GameCommand.HARD_DROP);
+        } else if (keyCode == javafx.scene.input.KeyCode.N) {
+            // N키를 누르고 다음 블록이 SKIP 아이템을 가지고 있으면 블록 넘기기
+            execute(GameCommand.SKIP);
+        } else if (keyCode == javafx.scene.input.KeyCode.C) {
+            execute(GameCommand.HOLD);
         }
     }
 
+    /**
+     * 조작 명령 실행 (키 설정과 무관 - 시뮬레이터/AI용)
+     */
+    public void execute(GameCommand command) {
+        if (!isGameRunning || isPaused || currentPiece == null) {
+            return;
+        }
+
+        switch (command) {
+            case MOVE_LEFT:
+                movePieceLeft();
+                break;
+            case MOVE_RIGHT:
+                movePieceRight();
+                break;
+            case SOFT_DROP:
+                movePieceDown();
+                break;
+            case ROTATE:
+                rotatePiece();
+                break;
+            case HARD_DROP:
+                hardDrop();
+                break;
+            case SKIP:
+                if (hasSkipItem()) {
+                    skipCurrentPiece();
+                }
+                break;
+            case HOLD:
+                holdCurrentPiece();
+                break;
+        }
+    }
+
+    /**
+     * 낙하 간격을 직접 지정 (레벨이 오르면 GameConfig 표의 값으로 다시 바뀐다)
+     */
     public void setFallSpeed(long fallSpeed) {
-        this.currentFallSpeed = fallSpeed;
+        if (fallSpeed != currentFallSpeed) {
+            this.currentFallSpeed = fallSpeed;
+            this.currentSpeedBonus = GameConfig.bonusFor(fallSpeed);
+        }
+    }
+
+    /**
+     * 현재 레벨의 한 칸 낙하 간격 (나노초)
+     */
+    public long getFallSpeed() {
+        return currentFallSpeed;
     }
 
     public int getFallSpeedBonusMultiplier() {
-        double multiplier = (double) BASE_FALL_SPEED / currentFallSpeed;
-        return Math.max(1, (int) Math.round(multiplier));
+        return currentSpeedBonus;
+    }
+
+    public GameConfig getConfig() {
+        return config;
     }
 
     private void movePieceLeft() {
@@ -104,6 +270,8 @@ public class GameEngine {
             currentPiece.moveLeft();
             if (!gameBoard.isValidPosition(currentPiece)) {
                 currentPiece.moveRight();
+            } else {
+                onGroundedPieceMoved();
             }
         }
     }
@@ -118,13 +286,12 @@ public class GameEngine {
             currentPiece.moveRight();
             if (!gameBoard.isValidPosition(currentPiece)) {
                 currentPiece.moveLeft();
+            } else {
+                onGroundedPieceMoved();
             }
         }
     }
 
-    // 블록이 방금 배치되었는지 여부 (공격 적용 타이밍용)
-    private boolean pieceJustPlaced = false;
-    
     public void movePieceDown() {
         if (currentPiece != null) {
             currentPiece.moveDown();
@@ -132,40 +299,84 @@ public class GameEngine {
             if (!gameBoard.isValidPosition(currentPiece)) {
                 // 이동 불가능 - 블록이 착지함
                 currentPiece.moveUp();
-                placePiece();
-                pieceJustPlaced = true; // 블록이 배치됨을 표시
+                if (config.getLockDelay() == 0 || (grounded && clock.now() - lockStartTime >= config.getLockDelay())) {
+                    lockPiece();
+                } else if (!grounded) {
+                    // 고정 지연 시작 - 실제 고정은 update()에서 시간이 지나면
+                    grounded = true;
+                    lockStartTime = clock.now();
+                }
             } else {
-                // 이동 성공 - 무게추면 밑의 블록 지우기
+                // 이동 성공 - 더 낮은 행에 처음 닿았으면 이동/회전 횟수 초기화
+                if (currentPiece.getY() > lowestY) {
+                    lowestY = currentPiece.getY();
+                    lockResets = 0;
+                }
+                grounded = false;
+
+                // 무게추면 밑의 블록 지우기
                 if (currentPiece.isWeightPiece()) {
                     gameBoard.processWeightEffect(currentPiece);
                 }
 
                 // 소프트드롭 점수 추가
                 updateScoreForSoftDrop();
-                pieceJustPlaced = false;
             }
         }
     }
     
+    private void lockPiece() {
+        placePiece();
+    }
+
+    private boolean canMoveDown() {
+        return gameBoard.canPlace(currentPiece.getShapes(), currentPiece.getRotation(),
+            currentPiece.getX(), currentPiece.getY() + 1);
+    }
+
     /**
-     * 블록이 방금 배치되었는지 확인 (공격 적용 타이밍용)
+     * 바닥에 닿은 블록이 이동/회전에 성공하면 고정 대기 시간을 다시 채움 (블록당 최대 maxLockResets번)
+     * 옆으로 밀려 떠 있게 되면 다시 낙하 상태로 돌아간다
      */
-    public boolean isPieceJustPlaced() {
-        return pieceJustPlaced;
+    private void onGroundedPieceMoved() {
+        if (!grounded) {
+            return;
+        }
+        if (lockResets < config.getMaxLockResets()) {
+            lockResets++;
+            lockStartTime = clock.now();
+        }
+        if (canMoveDown()) {
+            grounded = false;
+        }
     }
-    
+
     /**
-     * 블록 배치 플래그 리셋 (공격 적용 후 호출)
+     * 현재 블록이 바닥에 닿아 고정을 기다리는 중인지
      */
-    public void resetPieceJustPlaced() {
-        pieceJustPlaced = false;
+    public boolean isPieceGrounded() {
+        return grounded;
+    }
+
+    private void resetLockState() {
+        grounded = false;
+        lockResets = 0;
+        lowestY = currentPiece != null ? currentPiece.getY() : 0;
     }
 
     private void rotatePiece() {
         if (currentPiece != null) {
-            currentPiece.rotate();
-            if (!gameBoard.isValidPosition(currentPiece)) {
-                currentPiece.rotateBack();
+            // 무게추가 이미 착지했으면 회전 불가 (좌우 이동과 같음)
+            if (currentPiece.isWeightPiece() && currentPiece.hasLanded()) {
+                return;
+            }
+
+            if (gameBoard.rotateWithKicks(currentPiece)) {
+                onGroundedPieceMoved();
+                GameEventListener[] listeners = eventListeners;
+                for (int i = 0; i < listeners.length; i++) {
+                    listeners[i].onPieceRotated(this);
+                }
             }
         }
     }
@@ -249,85 +460,181 @@ public class GameEngine {
                     }
                 }
             }
-            lastPlacedBlockCol = Math.max(0, Math.min(maxCol, GameBoard.BOARD_WIDTH - 1));
+            lastPlacedBlockCol = Math.max(0, Math.min(maxCol, gameBoard.getWidth() - 1));
 
             // 블록을 보드에 배치
             gameBoard.placePiece(currentPiece);
 
             // 아이템 효과 처리 (LINE_CLEAR 아이템이 있으면 즉시 줄 삭제)
+            ItemType triggeredItem = currentPiece.getItemType();
             int itemClearedLines = gameBoard.processItemEffects(currentPiece);
             
             // 일반 줄 삭제는 하지 않음 - 애니메이션 처리를 위해 별도로 호출
             // int normalClearedLines = gameBoard.clearLines();
 
-            // 아이템으로 삭제된 줄만 점수 업데이트
+            // 아이템으로 삭제된 줄도 일반 줄 삭제와 같이 점수 반영 + 이벤트
             if (itemClearedLines > 0) {
-                updateScore(itemClearedLines);
+                onRowsCleared(itemClearedLines, gameBoard.getLastItemClearMask());
             }
 
-            spawnNewPiece();
+            GameEventListener[] listeners = eventListeners;
+            if (triggeredItem != ItemType.NONE && triggeredItem != ItemType.SKIP) {
+                for (int i = 0; i < listeners.length; i++) {
+                    listeners[i].onItemTriggered(this, triggeredItem);
+                }
+            }
 
-            // 공격 블록이 추가된 후에도 게임 오버 체크
-            if (!gameBoard.isValidPosition(currentPiece)) {
-                stopGame();
+            // 나올 자리가 막혔거나 (block out) 방금 놓은 블록이 보이는 줄 밖에 고정됐으면 (lock out) 게임 오버
+            if (!spawnNewPiece() || gameBoard.isToppedOut()) {
+                gameOver();
             }
             
-            // 블록 배치 후 콜백 호출 (대전 모드 공격 적용용)
-            if (onPiecePlacedCallback != null) {
-                onPiecePlacedCallback.run();
+            // 블록 배치 이벤트 (대전 모드 공격 적용, 줄 삭제 등)
+            listeners = eventListeners;
+            for (int i = 0; i < listeners.length; i++) {
+                listeners[i].onPiecePlaced(this, lastPlacedBlockCol);
             }
         }
     }
     
-    /**
-     * 블록 배치 후 콜백 설정 (대전 모드 공격 적용용)
-     */
-    public void setOnPiecePlacedCallback(Runnable callback) {
-        this.onPiecePlacedCallback = callback;
-    }
-    
     /**
      * 줄 삭제를 수동으로 처리 (애니메이션 후 호출)
+     * 삭제한 줄 수는 리스너에 넘기는 rowMask의 비트 수와 같다 (둘 다 보이는 줄 기준)
      */
-    public void clearLinesManually() {
+    public int clearLinesManually() {
+        long rowMask = gameBoard.getFullLineMask();
+        if (rowMask == 0) {
+            return 0;
+        }
         int normalClearedLines = gameBoard.clearLines();
         if (normalClearedLines > 0) {
-            updateScore(normalClearedLines);
-            // 줄이 삭제되었을 때 콜백 호출
-            if (onLinesClearedCallback != null) {
-                onLinesClearedCallback.accept(normalClearedLines);
-            }
+            onRowsCleared(normalClearedLines, rowMask);
         }
+        return normalClearedLines;
     }
 
     /**
-     * 줄 삭제 콜백 설정
+     * 줄이 삭제된 뒤 처리 (일반 줄 삭제, LINE_CLEAR 아이템 공용): 점수 반영 후 리스너 호출
+     * @param rowMask 삭제 직전 기준 삭제된 행 (비트 수 = clearedLines)
      */
-    public void setOnLinesClearedCallback(java.util.function.Consumer<Integer> callback) {
-        this.onLinesClearedCallback = callback;
+    private void onRowsCleared(int clearedLines, long rowMask) {
+        updateScore(clearedLines);
+        GameEventListener[] listeners = eventListeners;
+        for (int i = 0; i < listeners.length; i++) {
+            listeners[i].onLinesCleared(this, clearedLines, rowMask);
+        }
     }
 
-    private void spawnNewPiece() {
-        currentPiece = nextPiece;
-        generateNextPiece();
-        if (currentPiece != null) {
-            currentPiece.setPosition(gameBoard.getSpawnX(), gameBoard.getSpawnY());
+    /**
+     * 공격 줄을 보드 아래에 추가 (대전 모드)
+     * 추가 후 게임 오버 판정은 checkTopOutAfterAttack과 같음
+     * @param lines 추가할 줄 수
+     * @param emptyCol 빈칸 위치
+     */
+    public void receiveAttackLines(int lines, int emptyCol) {
+        addAttackLines(lines, emptyCol);
+        checkTopOutAfterAttack();
+    }
+
+    /**
+     * 공격 줄만 추가하고 게임 오버 판정은 미룸 (여러 번의 공격을 몰아서 넣을 때, 끝나고 checkTopOutAfterAttack 한 번)
+     */
+    void addAttackLines(int lines, int emptyCol) {
+        gameBoard.addAttackLines(lines, emptyCol);
+        GameEventListener[] listeners = eventListeners;
+        for (int i = 0; i < listeners.length; i++) {
+            listeners[i].onAttackReceived(this, lines, emptyCol);
         }
     }
 
-    private void generateNextPiece() {
-        SettingsManager settings = SettingsManager.getInstance();
-        String gameMode = settings.getGameMode();
+    /**
+     * 공격 줄을 넣은 뒤 게임 오버 판정
+     * 숨은 줄 위로 블록이 밀려 나갔으면 게임 오버이고, 올라온 줄이 현재 블록과 겹치면 블록을 위로 밀어 올린다
+     * (숨은 줄 끝까지 올려도 겹치면 게임 오버)
+     */
+    void checkTopOutAfterAttack() {
+        if (!isGameRunning) {
+            return;
+        }
+        if (gameBoard.isToppedOut()) {
+            gameOver();
+            return;
+        }
+        if (currentPiece == null) {
+            return;
+        }
+        int y = currentPiece.getY();
+        while (!gameBoard.isValidPosition(currentPiece)) {
+            if (currentPiece.getY() <= -GameBoard.BUFFER_ROWS) {
+                currentPiece.setPosition(currentPiece.getX(), y);
+                gameOver();
+                return;
+            }
+            currentPiece.moveUp();
+        }
+    }
+
+    /**
+     * @return 나올 자리가 막혀서 놓지 못했으면 false (block out)
+     */
+    private boolean spawnNewPiece() {
+        currentPiece = takeNextPiece();
+        resetLockState();
+        holdUsed = false;
+        return gameBoard.spawn(currentPiece);
+    }
 
+    /**
+     * 미리보기 큐 맨 앞 블록을 꺼내고, 비는 칸(큐의 맨 뒤가 됨)을 새 블록으로 채움
+     */
+    private Piece takeNextPiece() {
+        Piece piece = previewQueue[previewHead];
+        previewQueue[previewHead] = generatePiece();
+        previewHead = (previewHead + 1) % previewQueue.length;
+        return piece;
+    }
+
+    /**
+     * 가방에서 블록 하나 생성 (큐에 들어가는 시점에 아이템 여부가 정해진다)
+     */
+    private Piece generatePiece() {
         // ITEM 모드이고 10줄마다 아이템 블록 생성
-        boolean shouldHaveItem = "ITEM".equals(gameMode) && linesClearedSinceLastItem >= LINES_TO_SPAWN_ITEM;
+        boolean shouldHaveItem = config.isItemMode() && linesClearedSinceLastItem >= LINES_TO_SPAWN_ITEM;
 
-        nextPiece = PieceFactory.createRandomPiece(shouldHaveItem);
+        Piece piece = pieceGenerator.next(shouldHaveItem);
 
         // 아이템이 생성되었으면 카운터 리셋
-        if (shouldHaveItem && nextPiece.hasItem()) {
+        if (shouldHaveItem && piece.hasItem()) {
             linesClearedSinceLastItem = 0;
         }
+        return piece;
+    }
+
+    /**
+     * 현재 블록을 보관하고 보관 중이던 블록(없으면 다음 블록)을 꺼냄 - 블록을 놓을 때까지 한 번만
+     */
+    private void holdCurrentPiece() {
+        if (holdUsed || currentPiece == null) {
+            return;
+        }
+        // 무게추가 이미 착지했으면 보관 불가 (좌우 이동과 같음)
+        if (currentPiece.isWeightPiece() && currentPiece.hasLanded()) {
+            return;
+        }
+
+        Piece held = holdPiece;
+        holdPiece = currentPiece;
+        // 보관한 블록은 처음 방향으로 되돌림 (아이템 칸도 같이 돌아감)
+        while (holdPiece.getRotation() != 0) {
+            holdPiece.rotateBack();
+        }
+        currentPiece = held != null ? held : takeNextPiece();
+        resetLockState();
+        holdUsed = true;
+
+        if (!gameBoard.spawn(currentPiece)) {
+            gameOver();
+        }
     }
 
     private void updateScoreForSoftDrop() {
@@ -360,21 +667,7 @@ public class GameEngine {
         this.linesCleared += clearedLines;
         this.linesClearedSinceLastItem += clearedLines;  // 아이템 카운터도 업데이트
 
-        int baseScore = 0;
-        switch (clearedLines) {
-            case 1:
-                baseScore = 100 * level;
-                break;
-            case 2:
-                baseScore = 300 * level;
-                break;
-            case 3:
-                baseScore = 500 * level;
-                break;
-            case 4:
-                baseScore = 800 * level;
-                break;
-        }
+        int baseScore = config.getLineClearScore(clearedLines, level);
 
         // 점수 2배 아이템이 활성화되어 있으면 2배 적용
         if (isDoubleScoreActive) {
@@ -383,42 +676,53 @@ public class GameEngine {
 
         score += baseScore;
 
-        SettingsManager settings = SettingsManager.getInstance();
-        String difficulty = settings.getDifficulty();
-        int linesPerLevel;
-
-        switch (difficulty) {
-            case "Easy":
-                linesPerLevel = 12;
-                break;
-            case "Hard":
-                linesPerLevel = 8;
-                break;
-            default:    // Normal
-                linesPerLevel = 10;
-                break;
+        int previousLevel = level;
+        level = (linesCleared / config.getLinesPerLevel()) + 1;
+        if (level > previousLevel) {
+            currentFallSpeed = config.getFallInterval(level);
+            currentSpeedBonus = config.getSpeedBonus(level);
+            GameEventListener[] listeners = eventListeners;
+            for (int i = 0; i < listeners.length; i++) {
+                listeners[i].onLevelUp(this, level);
+            }
         }
-
-        level = (linesCleared / linesPerLevel) + 1;
     }
 
     public GameBoard getGameBoard() {
         return gameBoard;
     }
     
+    public Piece getCurrentPiece() {
+        return currentPiece;
+    }
+
+    public Piece getNextPiece() {
+        return previewQueue[previewHead];
+    }
+
     /**
-     * 줄 삭제로 인한 점수 업데이트 (UI에서 직접 호출)
+     * 미리보기 큐의 블록 (0 = 바로 다음 블록, getPreviewCount() - 1 = 가장 나중 블록)
      */
-    public void updateScoreForClear(int clearedLines) {
-        updateScore(clearedLines);
+    public Piece getPreviewPiece(int index) {
+        return previewQueue[(previewHead + index) % previewQueue.length];
     }
 
-    public Piece getCurrentPiece() {
-        return currentPiece;
+    public int getPreviewCount() {
+        return previewQueue.length;
     }
 
-    public Piece getNextPiece() {
-        return nextPiece;
+    /**
+     * 보관 중인 블록 (없으면 null)
+     */
+    public Piece getHoldPiece() {
+        return holdPiece;
+    }
+
+    /**
+     * 이번 블록에서 아직 보관(홀드)을 쓸 수 있는지
+     */
+    public boolean canHold() {
+        return !holdUsed;
     }
 
     public int getScore() {
@@ -443,6 +747,13 @@ public class GameEngine {
         return isGameRunning;
     }
 
+    /**
+     * @return 블록을 놓을 곳이 없어 게임이 끝났으면 true (stopGame으로 멈춘 경우는 false)
+     */
+    public boolean isToppedOut() {
+        return toppedOut;
+    }
+
     public boolean isPaused() {
         return isPaused;
     }
@@ -452,14 +763,14 @@ public class GameEngine {
      */
     public void activateDoubleScore() {
         isDoubleScoreActive = true;
-        doubleScoreEndTime = System.nanoTime() + DOUBLE_SCORE_DURATION;
+        doubleScoreEndTime = clock.now() + DOUBLE_SCORE_DURATION;
     }
 
     /**
-     * 점수 2배 아이템의 상태를 업데이트 (매 프레임마다 호출)
+     * 점수 2배 아이템의 상태를 업데이트 (update에서 호출)
      */
     public void updateDoubleScoreStatus() {
-        if (isDoubleScoreActive && System.nanoTime() >= doubleScoreEndTime) {
+        if (isDoubleScoreActive && clock.now() >= doubleScoreEndTime) {
             isDoubleScoreActive = false;
         }
     }
@@ -480,16 +791,17 @@ public class GameEngine {
         if (!isDoubleScoreActive) {
             return 0;
         }
-        long remaining = doubleScoreEndTime - System.nanoTime();
+        long remaining = doubleScoreEndTime - clock.now();
         return (int) Math.max(0, remaining / 1_000_000_000L);
     }
 
     /**
-     * nextPiece가 SKIP 아이템을 가지고 있는지 확인
+     * 다음 블록이 SKIP 아이템을 가지고 있는지 확인
      * @return SKIP 아이템이 있으면 true
      */
     public boolean hasSkipItem() {
-        if (nextPiece == null || !nextPiece.hasItem()) {
+        Piece nextPiece = getNextPiece();
+        if (!nextPiece.hasItem()) {
             return false;
         }
 
@@ -513,23 +825,23 @@ public class GameEngine {
      * 다음 블록은 현재 블록과 반드시 달라야 함
      */
     public void skipCurrentPiece() {
-        if (nextPiece == null) {
-            return;
-        }
-
         // 현재 블록의 타입 저장
         int oldType = currentPiece.getType();
 
-        // 다음 블록을 현재 블록으로 설정
-        currentPiece = nextPiece;
-        currentPiece.setPosition(gameBoard.getSpawnX(), gameBoard.getSpawnY());
+        // 다음 블록을 현재 블록으로 설정 (새 블록이 나온 것이므로 다시 보관 가능)
+        currentPiece = takeNextPiece();
+        resetLockState();
+        holdUsed = false;
+        boolean spawned = gameBoard.spawn(currentPiece);
 
-        // 새로운 다음 블록 생성 (이전 블록과 달라야 함)
-        generateNextPieceDifferentFrom(oldType);
+        // 새로 다음 블록이 된 블록이 버린 블록과 같은 타입이면 다른 블록으로 바꿈
+        if (previewQueue[previewHead].getType() == oldType) {
+            previewQueue[previewHead] = generatePieceDifferentFrom(oldType);
+        }
 
-        // 게임 오버 체크
-        if (!gameBoard.isValidPosition(currentPiece)) {
-            stopGame();
+        // 게임 오버 체크 (block out)
+        if (!spawned) {
+            gameOver();
         }
     }
 
@@ -537,32 +849,24 @@ public class GameEngine {
      * 특정 타입과 다른 블록을 생성
      * @param excludeType 제외할 블록 타입
      */
-    private void generateNextPieceDifferentFrom(int excludeType) {
-        SettingsManager settings = SettingsManager.getInstance();
-        String gameMode = settings.getGameMode();
-
+    private Piece generatePieceDifferentFrom(int excludeType) {
         // ITEM 모드이고 10줄마다 아이템 블록 생성
-        boolean shouldHaveItem = "ITEM".equals(gameMode) && linesClearedSinceLastItem >= LINES_TO_SPAWN_ITEM;
+        boolean shouldHaveItem = config.isItemMode() && linesClearedSinceLastItem >= LINES_TO_SPAWN_ITEM;
 
         int maxAttempts = 10;
         int attempts = 0;
+        Piece piece;
 
         do {
-            nextPiece = PieceFactory.createRandomPiece(shouldHaveItem);
+            piece = pieceGenerator.next(shouldHaveItem);
             attempts++;
-        } while (nextPiece.getType() == excludeType && attempts < maxAttempts);
+        } while (piece.getType() == excludeType && attempts < maxAttempts);
 
         // 아이템이 생성되었으면 카운터 리셋
-        if (shouldHaveItem && nextPiece.hasItem()) {
+        if (shouldHaveItem && piece.hasItem()) {
             linesClearedSinceLastItem = 0;
         }
-    }
-    
-    /**
-     * 삭제될 줄들의 행 번호를 반환 (애니메이션용)
-     */
-    public java.util.List<Integer> getFullLines() {
-        return gameBoard.getFullLines();
+        return piece;
     }
     
     /**
@@ -574,6 +878,7 @@ public class GameEngine {
     
     /**
      * 현재 블록이 착지할 위치의 블록을 반환
+     * 타입별로 미리 만든 블록을 재사용하므로, 반환된 블록은 다음 호출 전까지만 유효하다 (렌더링용).
      * @return 착지할 위치의 블록, 블록이 없으면 null
      */
     public Piece getLandingPiece() {
@@ -581,8 +886,15 @@ public class GameEngine {
             return null;
         }
         
-        // 블록의 복사본을 만들어서 시뮬레이션
-        Piece testPiece = currentPiece.copy();
+        // 현재 블록 상태를 복사해서 시뮬레이션
+        int type = currentPiece.getType();
+        Piece testPiece = ghostPieces[type];
+        if (testPiece == null) {
+            testPiece = currentPiece.copy();
+            ghostPieces[type] = testPiece;
+        } else {
+            testPiece.copyFrom(currentPiece);
+        }
         
         // 블록을 아래로 내려가면서 착지 위치 찾기
         while (gameBoard.isValidPosition(testPiece)) {
@@ -665,8 +977,8 @@ public class GameEngine {
         if (landingRow < 0) {
             return 0;
         }
-        if (landingRow >= GameBoard.BOARD_HEIGHT) {
-            return GameBoard.BOARD_HEIGHT - 1;
+        if (landingRow >= gameBoard.getHeight()) {
+            return gameBoard.getHeight() - 1;
         }
         
         return landingRow;
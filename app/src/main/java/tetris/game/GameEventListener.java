@@ -0,0 +1,67 @@
+package tetris.game;
+
+/**
+ * 게임 엔진 이벤트 리스너
+ * 엔진 상태가 실제로 바뀌는 시점에만 호출되므로 렌더러/효과음/네트워크/통계 코드가
+ * 매 프레임 엔진을 폴링할 필요가 없다.
+ * 모든 인자는 primitive 또는 enum이라 이벤트마다 객체를 할당하지 않는다.
+ * 필요한 메서드만 오버라이드해서 사용한다.
+ */
+public interface GameEventListener {
+
+    /**
+     * 블록이 보드에 고정되고 다음 블록이 스폰된 직후
+     * @param engine 이벤트를 발생시킨 엔진
+     * @param lastPlacedCol 고정된 블록의 가장 오른쪽 열 (공격 빈칸 위치)
+     */
+    default void onPiecePlaced(GameEngine engine, int lastPlacedCol) {
+    }
+
+    /**
+     * 현재 블록이 실제로 회전한 직후 (벽에 막혀 되돌린 경우는 호출되지 않음)
+     * @param engine 이벤트를 발생시킨 엔진
+     */
+    default void onPieceRotated(GameEngine engine) {
+    }
+
+    /**
+     * 완성된 줄이 삭제된 직후 (점수/레벨 반영 후)
+     * @param engine 이벤트를 발생시킨 엔진
+     * @param clearedLines 삭제된 줄 수
+     * @param rowMask 삭제 직전 기준 삭제된 행 비트마스크 (bit r = r번째 행)
+     */
+    default void onLinesCleared(GameEngine engine, int clearedLines, long rowMask) {
+    }
+
+    /**
+     * 아이템 효과가 발동된 직후
+     * @param engine 이벤트를 발생시킨 엔진
+     * @param itemType 발동된 아이템
+     */
+    default void onItemTriggered(GameEngine engine, ItemType itemType) {
+    }
+
+    /**
+     * 공격 줄이 보드 아래에 추가된 직후
+     * @param engine 공격을 받은 엔진
+     * @param lines 추가된 줄 수
+     * @param emptyCol 공격 줄의 빈칸 위치
+     */
+    default void onAttackReceived(GameEngine engine, int lines, int emptyCol) {
+    }
+
+    /**
+     * 레벨이 올라간 직후
+     * @param engine 이벤트를 발생시킨 엔진
+     * @param newLevel 새 레벨
+     */
+    default void onLevelUp(GameEngine engine, int newLevel) {
+    }
+
+    /**
+     * 블록이 더 이상 스폰될 수 없어 게임이 끝난 직후
+     * @param engine 이벤트를 발생시킨 엔진
+     */
+    default void onGameOver(GameEngine engine) {
+    }
+}
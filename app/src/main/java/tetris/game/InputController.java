@@ -0,0 +1,283 @@
+package tetris.game;
+
+import tetris.ui.SettingsManager;
+
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * 키 상태를 게임 루프마다 읽어서 엔진 명령으로 바꾸는 입력 처리기
+ *
+ * OS 키 반복에 기대지 않고 눌린 키 상태만 기억했다가 update()에서 직접 반복한다.
+ * - 좌우 이동: 누르는 순간 한 칸, DAS 동안 계속 누르고 있으면 그 뒤로 ARR 간격마다 한 칸 (ARR 0이면 벽까지)
+ *   좌우를 같이 누르면 나중에 누른 방향이 우선
+ * - 소프트드롭: 누르는 순간 한 칸, 그 뒤로 (낙하 간격 / softDropFactor)마다 한 칸
+ * - 회전, 하드드롭, 넘기기, 보관: 누를 때 한 번만 (OS 키 반복은 무시)
+ * 줄 삭제 애니메이션 중에는 setBuffering(true)로 누른 명령을 모아 두었다가 애니메이션이 끝나면 순서대로 실행한다.
+ * 그동안에도 DAS는 계속 충전되므로 애니메이션 직후 바로 벽까지 밀 수 있다.
+ *
+ * 게임 루프(JavaFX 스레드)에서만 사용한다.
+ */
+public class InputController {
+    public static final long DEFAULT_DAS = 167_000_000L;    // 약 10프레임
+    public static final long DEFAULT_ARR = 33_000_000L;     // 약 2프레임
+    public static final int DEFAULT_SOFT_DROP_FACTOR = 20;
+
+    private static final int COMMAND_COUNT = GameCommand.values().length;
+    private static final int BUFFER_SIZE = 16;
+
+    private final GameEngine engine;
+    // 한 번 update에서 반복할 수 있는 최대 횟수 (ARR 0 / 매우 빠른 소프트드롭도 보드 크기를 넘을 일은 없다)
+    private final int maxRepeats;
+    private final long das;
+    private final long arr;
+    private final int softDropFactor;
+
+    // 키 이름(SettingsManager와 같은 대문자 이름) -> 명령
+    private final Map<String, GameCommand> bindings = new HashMap<>();
+    // [명령 순서] = 해당 명령의 키가 눌려 있는지 (OS 키 반복 무시용)
+    private final boolean[] held = new boolean[COMMAND_COUNT];
+
+    // 좌우 자동 이동 (null이면 없음)
+    private GameCommand shiftDirection;
+    private long shiftCharge;           // 방향키를 누른 뒤 흐른 시간
+    private long softDropCharge;
+
+    // 애니메이션 중 모아 둔 명령 (누른 순서대로)
+    private final GameCommand[] buffer = new GameCommand[BUFFER_SIZE];
+    private int bufferCount = 0;
+    private boolean buffering = false;
+
+    public InputController(GameEngine engine) {
+        this(engine, DEFAULT_DAS, DEFAULT_ARR, DEFAULT_SOFT_DROP_FACTOR);
+    }
+
+    /**
+     * @param das 자동 이동이 시작되기까지 눌러야 하는 시간 (나노초)
+     * @param arr 자동 이동 간격 (나노초, 0이면 벽까지 한 번에)
+     * @param softDropFactor 소프트드롭이 자연 낙하보다 몇 배 빠른지
+     */
+    public InputController(GameEngine engine, long das, long arr, int softDropFactor) {
+        this.engine = engine;
+        this.das = Math.max(0, das);
+        this.arr = Math.max(0, arr);
+        this.softDropFactor = Math.max(1, softDropFactor);
+        GameBoard board = engine.getGameBoard();
+        this.maxRepeats = Math.max(board.getWidth(), board.getHeight());
+    }
+
+    /**
+     * 시스템 속성(tetris.das, tetris.arr - 밀리초, tetris.softDropFactor)으로 조정한 입력 처리기
+     */
+    public static InputController fromSystemProperties(GameEngine engine) {
+        long das = millisProperty("tetris.das", DEFAULT_DAS);
+        long arr = millisProperty("tetris.arr", DEFAULT_ARR);
+        int factor = DEFAULT_SOFT_DROP_FACTOR;
+        String value = System.getProperty("tetris.softDropFactor");
+        if (value != null) {
+            try {
+                factor = Integer.parseInt(value.trim());
+            } catch (NumberFormatException e) {
+                System.err.println("[INPUT] Invalid tetris.softDropFactor: " + value);
+            }
+        }
+        return new InputController(engine, das, arr, factor);
+    }
+
+    private static long millisProperty(String name, long defaultNanos) {
+        String value = System.getProperty(name);
+        if (value == null) {
+            return defaultNanos;
+        }
+        try {
+            return Long.parseLong(value.trim()) * 1_000_000L;
+        } catch (NumberFormatException e) {
+            System.err.println("[INPUT] Invalid " + name + ": " + value);
+            return defaultNanos;
+        }
+    }
+
+    /**
+     * 키를 명령에 연결 (같은 키를 다시 연결하면 덮어씀, null 키는 무시)
+     * @param keyName KeyCode.getName().toUpperCase() 형식의 키 이름
+     */
+    public void bind(String keyName, GameCommand command) {
+        if (keyName != null) {
+            bindings.put(keyName.toUpperCase(), command);
+        }
+    }
+
+    /**
+     * 1P 키 설정과 공용 키 (SPACE 하드드롭, N 블록 넘기기, C 보관) 연결 - GameEngine.handleKeyPress와 같은 배치
+     * 공용 키를 먼저 연결하므로 설정에서 같은 키를 쓰면 설정이 우선한다
+     */
+    public void bindPlayer1Keys() {
+        SettingsManager settings = SettingsManager.getInstance();
+        bind("SPACE", GameCommand.HARD_DROP);
+        bind("N", GameCommand.SKIP);
+        bind("C", GameCommand.HOLD);
+        bind(settings.getKeyLeft(), GameCommand.MOVE_LEFT);
+        bind(settings.getKeyRight(), GameCommand.MOVE_RIGHT);
+        bind(settings.getKeyDown(), GameCommand.SOFT_DROP);
+        bind(settings.getKeyRotate(), GameCommand.ROTATE);
+        bind(settings.getKeyHardDrop(), GameCommand.HARD_DROP);
+    }
+
+    /**
+     * 2P 키 설정과 2P 보관 키 (SHIFT) 연결 (대전 모드)
+     */
+    public void bindPlayer2Keys() {
+        SettingsManager settings = SettingsManager.getInstance();
+        bind("SHIFT", GameCommand.HOLD);
+        bind(settings.getKeyLeftP2(), GameCommand.MOVE_LEFT);
+        bind(settings.getKeyRightP2(), GameCommand.MOVE_RIGHT);
+        bind(settings.getKeyDownP2(), GameCommand.SOFT_DROP);
+        bind(settings.getKeyRotateP2(), GameCommand.ROTATE);
+        bind(settings.getKeyHardDropP2(), GameCommand.HARD_DROP);
+    }
+
+    /**
+     * 키 누름 (OS 키 반복으로 다시 들어온 누름은 무시)
+     * @param keyName KeyCode.getName().toUpperCase() 형식의 키 이름
+     * @return 연결된 키면 true
+     */
+    public boolean keyPressed(String keyName) {
+        GameCommand command = bindings.get(keyName);
+        if (command == null) {
+            return false;
+        }
+        if (held[command.ordinal()]) {
+            return true;
+        }
+        held[command.ordinal()] = true;
+
+        switch (command) {
+            case MOVE_LEFT:
+            case MOVE_RIGHT:
+                shiftDirection = command;
+                shiftCharge = 0;
+                break;
+            case SOFT_DROP:
+                softDropCharge = 0;
+                break;
+            default:
+                break;
+        }
+        submit(command);
+        return true;
+    }
+
+    /**
+     * 키 뗌
+     * @return 연결된 키면 true
+     */
+    public boolean keyReleased(String keyName) {
+        GameCommand command = bindings.get(keyName);
+        if (command == null) {
+            return false;
+        }
+        held[command.ordinal()] = false;
+
+        if (command == shiftDirection) {
+            // 반대 방향을 아직 누르고 있으면 그쪽으로 다시 충전 시작
+            GameCommand other = command == GameCommand.MOVE_LEFT ? GameCommand.MOVE_RIGHT : GameCommand.MOVE_LEFT;
+            shiftDirection = held[other.ordinal()] ? other : null;
+            shiftCharge = 0;
+        }
+        return true;
+    }
+
+    /**
+     * 눌린 키와 모아 둔 명령을 모두 버림 (일시정지, 재시작, 화면 전환 시)
+     */
+    public void releaseAll() {
+        for (int i = 0; i < held.length; i++) {
+            held[i] = false;
+        }
+        shiftDirection = null;
+        shiftCharge = 0;
+        softDropCharge = 0;
+        bufferCount = 0;
+    }
+
+    /**
+     * 켜져 있는 동안 누른 명령은 실행하지 않고 모아 둔다 (줄 삭제 애니메이션 중)
+     */
+    public void setBuffering(boolean buffering) {
+        this.buffering = buffering;
+    }
+
+    public boolean isBuffering() {
+        return buffering;
+    }
+
+    /**
+     * 게임 루프에서 매 프레임 호출 - 모아 둔 명령을 실행하고 자동 이동/소프트드롭을 반복
+     * @param deltaNanos 지난 호출 이후 흐른 시간
+     * @return 이번 호출에서 실행한 명령 수 (대전 화면에서 상태 전송 여부 판단용)
+     */
+    public int update(long deltaNanos) {
+        if (deltaNanos < 0) {
+            deltaNanos = 0;
+        }
+        long previousCharge = shiftCharge;
+        if (shiftDirection != null) {
+            shiftCharge += deltaNanos;
+        }
+        if (buffering) {
+            // DAS는 충전하되 이동은 애니메이션이 끝난 뒤에
+            return 0;
+        }
+        int executed = flushBuffer();
+
+        if (shiftDirection != null && shiftCharge >= das) {
+            int repeats;
+            if (arr == 0) {
+                repeats = maxRepeats;
+            } else {
+                // 이번 구간에서 지나간 (das + k * arr) 시점의 수
+                long before = previousCharge < das ? 0 : (previousCharge - das) / arr + 1;
+                long after = (shiftCharge - das) / arr + 1;
+                repeats = (int) Math.min(maxRepeats, after - before);
+            }
+            for (int i = 0; i < repeats; i++) {
+                engine.execute(shiftDirection);
+            }
+            executed += repeats;
+        }
+
+        if (held[GameCommand.SOFT_DROP.ordinal()]) {
+            long interval = Math.max(1, engine.getFallSpeed() / softDropFactor);
+            softDropCharge += deltaNanos;
+            int repeats = 0;
+            while (softDropCharge >= interval && repeats < maxRepeats) {
+                engine.execute(GameCommand.SOFT_DROP);
+                softDropCharge -= interval;
+                repeats++;
+            }
+            if (repeats == maxRepeats) {
+                softDropCharge = 0;
+            }
+            executed += repeats;
+        }
+        return executed;
+    }
+
+    private void submit(GameCommand command) {
+        if (!buffering && bufferCount == 0) {
+            engine.execute(command);
+        } else if (bufferCount < BUFFER_SIZE) {
+            buffer[bufferCount++] = command;
+        }
+    }
+
+    private int flushBuffer() {
+        int count = bufferCount;
+        for (int i = 0; i < count; i++) {
+            engine.execute(buffer[i]);
+            buffer[i] = null;
+        }
+        bufferCount = 0;
+        return count;
+    }
+}
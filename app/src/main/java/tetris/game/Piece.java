@@ -1,15 +1,17 @@
 package tetris.game;
 
-import java.util.ArrayList;
-import java.util.List;
-
+/**
+ * 보드 위에서 움직이는 블록 하나
+ *
+ * 모양/회전 표/아이템 칸 이동 표는 타입별로 공유하는 PieceShape에 있고,
+ * 블록마다 가지는 건 위치(x, y), 회전 번호, 아이템 정보 같은 기본형 필드뿐이다.
+ * 그래서 회전과 아이템 위치 계산은 표 조회만으로 끝나고 객체를 만들지 않는다.
+ */
 public class Piece {
-    private int[][] shape;
+    private final PieceShape shapes;
     private int x;
     private int y;
-    private int type;
     private int rotation;
-    private int[][][] rotations;
 
     // 아이템 정보
     private ItemType itemType;  // 아이템 타입 (NONE, LINE_CLEAR, DOUBLE_SCORE, SKIP 등)
@@ -18,11 +20,9 @@ public class Piece {
     // 무게추 아이템 관련
     private boolean hasLanded;  // 블록이 한 번이라도 착지했는지 여부 (무게추 전용)
 
-    public Piece(int[][][] rotations, int type) {
-        this.rotations = rotations;
-        this.type = type;
+    public Piece(PieceShape shapes) {
+        this.shapes = shapes;
         this.rotation = 0;
-        this.shape = rotations[0];
         this.x = 0;
         this.y = 0;
         this.hasLanded = false;
@@ -50,136 +50,24 @@ public class Piece {
 
     /**
      * 조각을 시계 방향으로 90도 회전시킵니다.
-     * 아이템이 있는 경우, 아이템의 위치를 조각의 중심을 기준으로 회전시켜
-     * 회전 후에도 아이템이 기하학적으로 올바른 위치의 블록에 있도록 보장합니다.
+     * 아이템이 있는 경우, 조각의 중심을 기준으로 회전한 위치의 블록으로 아이템을 옮깁니다 (PieceShape의 미리 계산된 표 사용).
      */
     public void rotate() {
         if (itemBlockIndex != -1) {
-            // 1. 현재 아이템의 shape 배열 기준 좌표 (row, col)를 가져옵니다.
-            int itemRow = getItemRow();
-            int itemCol = getItemCol();
-            // 2. 현재 조각의 기하학적 중심점을 계산합니다.
-            double[] center = getCenter();
-            // 3. 중심점 기준 아이템의 상대 좌표를 계산합니다.
-            double relativeX = itemCol - center[1];
-            double relativeY = itemRow - center[0];
-
-            // 4. 상대 좌표를 시계 방향으로 90도 회전시킵니다. (x, y) -> (y, -x)
-            double newRelativeX = -relativeY;
-            double newRelativeY = relativeX;
-
-            // 5. 조각의 회전 상태를 업데이트하고 새로운 shape 배열을 가져옵니다.
-            rotation = (rotation + 1) % rotations.length;
-            shape = rotations[rotation];
-            // 6. 새로운 shape의 중심점을 다시 계산합니다.
-            center = getCenter();
-
-            // 7. 새로운 중심점과 회전된 상대 좌표를 이용해 아이템의 새로운 절대 좌표를 계산합니다.
-            int newRow = (int) Math.round(center[0] + newRelativeY);
-            int newCol = (int) Math.round(center[1] + newRelativeX);
-
-            // 8. 계산된 새 좌표에서 가장 가까운 블록을 찾아 itemBlockIndex를 업데이트합니다.
-            updateItemBlockIndex(newRow, newCol);
-        } else {
-            // 아이템이 없으면 단순히 회전만 수행합니다.
-            rotation = (rotation + 1) % rotations.length;
-            shape = rotations[rotation];
+            itemBlockIndex = shapes.getClockwiseIndex(rotation, itemBlockIndex);
         }
+        rotation = (rotation + 1) % shapes.getRotationCount();
     }
 
     /**
      * 조각을 반시계 방향으로 90도 회전시킵니다.
-     * 아이템이 있는 경우, 아이템의 위치를 조각의 중심을 기준으로 회전시켜
-     * 회전 후에도 아이템이 기하학적으로 올바른 위치의 블록에 있도록 보장합니다.
+     * 아이템이 있는 경우, 조각의 중심을 기준으로 회전한 위치의 블록으로 아이템을 옮깁니다 (PieceShape의 미리 계산된 표 사용).
      */
     public void rotateBack() {
         if (itemBlockIndex != -1) {
-            // 1. 현재 아이템의 shape 배열 기준 좌표 (row, col)를 가져옵니다.
-            int itemRow = getItemRow();
-            int itemCol = getItemCol();
-            // 2. 현재 조각의 기하학적 중심점을 계산합니다.
-            double[] center = getCenter();
-            // 3. 중심점 기준 아이템의 상대 좌표를 계산합니다.
-            double relativeX = itemCol - center[1];
-            double relativeY = itemRow - center[0];
-
-            // 4. 상대 좌표를 반시계 방향으로 90도 회전시킵니다. (x, y) -> (-y, x)
-            double newRelativeX = relativeY;
-            double newRelativeY = -relativeX;
-
-            // 5. 조각의 회전 상태를 업데이트하고 새로운 shape 배열을 가져옵니다.
-            rotation = (rotation - 1 + rotations.length) % rotations.length;
-            shape = rotations[rotation];
-            // 6. 새로운 shape의 중심점을 다시 계산합니다.
-            center = getCenter();
-
-            // 7. 새로운 중심점과 회전된 상대 좌표를 이용해 아이템의 새로운 절대 좌표를 계산합니다.
-            int newRow = (int) Math.round(center[0] + newRelativeY);
-            int newCol = (int) Math.round(center[1] + newRelativeX);
-
-            // 8. 계산된 새 좌표에서 가장 가까운 블록을 찾아 itemBlockIndex를 업데이트합니다.
-            updateItemBlockIndex(newRow, newCol);
-        } else {
-            // 아이템이 없으면 단순히 회전만 수행합니다.
-            rotation = (rotation - 1 + rotations.length) % rotations.length;
-            shape = rotations[rotation];
-        }
-    }
-
-    /**
-     * 현재 조각(shape)을 구성하는 모든 블록들의 기하학적 중심점을 계산합니다.
-     * @return double 배열, [중심 y좌표, 중심 x좌표]
-     */
-    private double[] getCenter() {
-        List<int[]> blockCoords = new ArrayList<>();
-        // shape 배열을 순회하며 블록(0이 아닌 값)의 좌표를 리스트에 추가합니다.
-        for (int r = 0; r < shape.length; r++) {
-            for (int c = 0; c < shape[r].length; c++) {
-                if (shape[r][c] != 0) {
-                    blockCoords.add(new int[]{r, c});
-                }
-            }
-        }
-        double sumX = 0;
-        double sumY = 0;
-        // 모든 블록 좌표의 합을 구합니다.
-        for (int[] coord : blockCoords) {
-            sumY += coord[0];
-            sumX += coord[1];
-        }
-        // 좌표 합을 블록의 개수로 나누어 평균, 즉 중심점을 계산합니다.
-        return new double[]{sumY / blockCoords.size(), sumX / blockCoords.size()};
-    }
-
-    /**
-     * 회전 후 계산된 목표 좌표(targetRow, targetCol)와 가장 가까운 블록을 찾아
-     * 그 블록의 논리적 인덱스로 itemBlockIndex를 업데이트합니다.
-     * @param targetRow 목표 행 좌표
-     * @param targetCol 목표 열 좌표
-     */
-    private void updateItemBlockIndex(int targetRow, int targetCol) {
-        int blockIndex = 0;
-        int closestBlockIndex = -1;
-        double minDistance = Double.MAX_VALUE;
-
-        // 현재 shape의 모든 블록을 순회합니다.
-        for (int r = 0; r < shape.length; r++) {
-            for (int c = 0; c < shape[r].length; c++) {
-                if (shape[r][c] != 0) {
-                    // 각 블록과 목표 좌표 사이의 유클리드 거리를 계산합니다.
-                    double distance = Math.sqrt(Math.pow(r - targetRow, 2) + Math.pow(c - targetCol, 2));
-                    // 현재까지의 최소 거리보다 더 가까운 블록을 찾으면,
-                    if (distance < minDistance) {
-                        // 최소 거리를 업데이트하고 해당 블록의 논리적 인덱스를 저장합니다.
-                        minDistance = distance;
-                        closestBlockIndex = blockIndex;
-                    }
-                    blockIndex++;
-                }
-            }
+            itemBlockIndex = shapes.getCounterClockwiseIndex(rotation, itemBlockIndex);
         }
-        // 가장 가까웠던 블록의 인덱스로 itemBlockIndex를 업데이트합니다.
-        this.itemBlockIndex = closestBlockIndex;
+        rotation = (rotation - 1 + shapes.getRotationCount()) % shapes.getRotationCount();
     }
 
     public void setPosition(int x, int y) {
@@ -187,8 +75,15 @@ public class Piece {
         this.y = y;
     }
 
+    /**
+     * 현재 회전의 모양 배열 (같은 타입의 블록끼리 공유하므로 읽기만 할 것)
+     */
     public int[][] getShape() {
-        return shape;
+        return shapes.getShape(rotation);
+    }
+
+    public PieceShape getShapes() {
+        return shapes;
     }
 
     public int getX() {
@@ -200,7 +95,7 @@ public class Piece {
     }
 
     public int getType() {
-        return type;
+        return shapes.getType();
     }
 
     public int getRotation() {
@@ -208,18 +103,26 @@ public class Piece {
     }
 
     public Piece copy() {
-        Piece copy = new Piece(rotations, type);
-        copy.x = this.x;
-        copy.y = this.y;
-        copy.rotation = this.rotation;
-        copy.shape = this.shape;
-        copy.hasLanded = this.hasLanded;
+        Piece copy = new Piece(shapes);
+        copy.copyFrom(this);
+        return copy;
+    }
 
-        // 아이템 정보 복사
-        copy.itemType = this.itemType;
-        copy.itemBlockIndex = this.itemBlockIndex;
+    /**
+     * 같은 타입 블록의 위치/회전/아이템 상태를 그대로 가져옴 (미리 만든 블록을 재사용할 때)
+     */
+    public void copyFrom(Piece other) {
+        if (other.shapes != shapes) {
+            throw new IllegalArgumentException("Piece type mismatch: " + other.getType() + " != " + getType());
+        }
+        this.x = other.x;
+        this.y = other.y;
+        this.rotation = other.rotation;
+        this.hasLanded = other.hasLanded;
 
-        return copy;
+        // 아이템 정보 복사
+        this.itemType = other.itemType;
+        this.itemBlockIndex = other.itemBlockIndex;
     }
 
     /**
@@ -229,27 +132,22 @@ public class Piece {
      * @param itemType 아이템 타입
      */
     public void setItemAt(int row, int col, ItemType itemType) {
-        if (row >= 0 && row < shape.length && col >= 0 && col < shape[row].length) {
-            if (shape[row][col] != 0) {  // 블록이 있는 위치에만 아이템 설정 가능
-                // row, col을 논리적 인덱스로 변환
-                int blockIndex = 0;
-                boolean found = false;
-                for (int r = 0; r < shape.length && !found; r++) {
-                    for (int c = 0; c < shape[r].length && !found; c++) {
-                        if (shape[r][c] != 0) {
-                            if (r == row && c == col) {
-                                this.itemType = itemType;
-                                this.itemBlockIndex = itemType != ItemType.NONE ? blockIndex : -1;
-                                found = true;
-                            }
-                            blockIndex++;
-                        }
-                    }
-                }
-            }
+        // 블록이 있는 위치에만 아이템 설정 가능
+        int blockIndex = shapes.getBlockIndex(rotation, row, col);
+        if (blockIndex != -1) {
+            this.itemType = itemType;
+            this.itemBlockIndex = itemType != ItemType.NONE ? blockIndex : -1;
         }
     }
 
+    /**
+     * 블록 인덱스로 아이템을 설정
+     * @param blockIndex 현재 회전 기준 블록 인덱스 (행 우선 순서)
+     */
+    void setItemAtBlock(int blockIndex, ItemType itemType) {
+        setItemAt(shapes.getCellRow(rotation, blockIndex), shapes.getCellCol(rotation, blockIndex), itemType);
+    }
+
     /**
      * 특정 셀의 아이템 타입을 반환
      * @param row 행 (shape 배열 기준)
@@ -260,24 +158,8 @@ public class Piece {
         if (itemBlockIndex == -1 || itemType == ItemType.NONE) {
             return ItemType.NONE;
         }
-
-        if (row >= 0 && row < shape.length && col >= 0 && col < shape[0].length) {
-            if (shape[row][col] != 0) {  // 블록이 있는 위치만 확인
-                // row, col을 논리적 인덱스로 변환하여 확인
-                int blockIndex = 0;
-                for (int r = 0; r < shape.length; r++) {
-                    for (int c = 0; c < shape[r].length; c++) {
-                        if (shape[r][c] != 0) {
-                            if (r == row && c == col) {
-                                return blockIndex == itemBlockIndex ? itemType : ItemType.NONE;
-                            }
-                            blockIndex++;
-                        }
-                    }
-                }
-            }
-        }
-        return ItemType.NONE;
+        int blockIndex = shapes.getBlockIndex(rotation, row, col);
+        return blockIndex != -1 && blockIndex == itemBlockIndex ? itemType : ItemType.NONE;
     }
 
     /**
@@ -288,20 +170,7 @@ public class Piece {
         if (itemBlockIndex == -1) {
             return -1;
         }
-
-        // 논리적 인덱스를 현재 shape의 row로 변환
-        int blockIndex = 0;
-        for (int r = 0; r < shape.length; r++) {
-            for (int c = 0; c < shape[r].length; c++) {
-                if (shape[r][c] != 0) {
-                    if (blockIndex == itemBlockIndex) {
-                        return r;
-                    }
-                    blockIndex++;
-                }
-            }
-        }
-        return -1;
+        return shapes.getCellRow(rotation, itemBlockIndex);
     }
 
     /**
@@ -312,20 +181,7 @@ public class Piece {
         if (itemBlockIndex == -1) {
             return -1;
         }
-
-        // 논리적 인덱스를 현재 shape의 col로 변환
-        int blockIndex = 0;
-        for (int r = 0; r < shape.length; r++) {
-            for (int c = 0; c < shape[r].length; c++) {
-                if (shape[r][c] != 0) {
-                    if (blockIndex == itemBlockIndex) {
-                        return c;
-                    }
-                    blockIndex++;
-                }
-            }
-        }
-        return -1;
+        return shapes.getCellCol(rotation, itemBlockIndex);
     }
 
     /**
@@ -336,6 +192,14 @@ public class Piece {
         return itemBlockIndex != -1 && itemType != ItemType.NONE;
     }
 
+    /**
+     * 이 블록이 가진 아이템 타입을 반환
+     * @return 아이템 타입, 아이템이 없으면 NONE
+     */
+    public ItemType getItemType() {
+        return hasItem() ? itemType : ItemType.NONE;
+    }
+
     /**
      * 블록이 착지했는지 여부를 반환
      * @return 착지했으면 true, 아니면 false
@@ -357,6 +221,6 @@ public class Piece {
      * @return WEIGHT 타입이면 true, 아니면 false
      */
     public boolean isWeightPiece() {
-        return this.type == PieceFactory.WEIGHT_PIECE;
+        return shapes.getType() == PieceFactory.WEIGHT_PIECE;
     }
 }
\ No newline at end of file
@@ -1,7 +1,6 @@
 package tetris.game;
 
-import java.util.ArrayList;
-import java.util.List;
+import java.util.Random;
 import tetris.ui.SettingsManager;
 
 public class PieceFactory {
@@ -77,25 +76,39 @@ public class PieceFactory {
         {{9}}
     };
 
-    private static List<Integer> pieceBag = new ArrayList<>();
-    private static int bagIndex = 0;
+    // 타입별 회전 표 (인덱스 = 타입, 모든 Piece가 공유)
+    private static final PieceShape[] SHAPES = {
+        null,
+        new PieceShape(I_PIECE, I_ROTATIONS),
+        new PieceShape(O_PIECE, O_ROTATIONS),
+        new PieceShape(T_PIECE, T_ROTATIONS),
+        new PieceShape(S_PIECE, S_ROTATIONS),
+        new PieceShape(Z_PIECE, Z_ROTATIONS),
+        new PieceShape(J_PIECE, J_ROTATIONS),
+        new PieceShape(L_PIECE, L_ROTATIONS),
+        new PieceShape(WEIGHT_PIECE, WEIGHT_ROTATIONS),
+        new PieceShape(BOMB_PIECE, BOMB_ROTATIONS)
+    };
+
+    // 엔진 없이 블록을 만들 때 쓰는 공용 생성기 (엔진은 각자 PieceGenerator를 가진다)
+    private static PieceGenerator sharedGenerator;
 
     public static Piece createPiece(int type) {
         switch (type) {
             case I_PIECE:
-                return new Piece(I_ROTATIONS, I_PIECE);
+                return new Piece(SHAPES[I_PIECE]);
             case O_PIECE:
-                return new Piece(O_ROTATIONS, O_PIECE);
+                return new Piece(SHAPES[O_PIECE]);
             case T_PIECE:
-                return new Piece(T_ROTATIONS, T_PIECE);
+                return new Piece(SHAPES[T_PIECE]);
             case S_PIECE:
-                return new Piece(S_ROTATIONS, S_PIECE);
+                return new Piece(SHAPES[S_PIECE]);
             case Z_PIECE:
-                return new Piece(Z_ROTATIONS, Z_PIECE);
+                return new Piece(SHAPES[Z_PIECE]);
             case J_PIECE:
-                return new Piece(J_ROTATIONS, J_PIECE);
+                return new Piece(SHAPES[J_PIECE]);
             case L_PIECE:
-                return new Piece(L_ROTATIONS, L_PIECE);
+                return new Piece(SHAPES[L_PIECE]);
             case WEIGHT_PIECE:
                 return createWeightPiece();
             case BOMB_PIECE:
@@ -105,6 +118,13 @@ public class PieceFactory {
         }
     }
 
+    /**
+     * 타입의 회전 표 (1~9, 모르는 타입이면 I 블록)
+     */
+    public static PieceShape shapeOf(int type) {
+        return type >= I_PIECE && type <= BOMB_PIECE ? SHAPES[type] : SHAPES[I_PIECE];
+    }
+
     /**
      * 무작위 블록 생성 (아이템 없음)
      * @return 생성된 블록
@@ -118,97 +138,21 @@ public class PieceFactory {
      * @param shouldHaveItem 아이템 포함 여부
      * @return 생성된 블록
      */
-    public static Piece createRandomPiece(boolean shouldHaveItem) {
-        SettingsManager settings = SettingsManager.getInstance();
-        String difficulty = settings.getDifficulty();
-
-        // 아이템을 생성해야 하는 경우 1/5 확률로 LINE_CLEAR, WEIGHT, DOUBLE_SCORE, BOMB, SKIP 중 선택
-        if (shouldHaveItem) {
-            double random = Math.random();
-            if (random < 0.2) {
-                // LINE_CLEAR 아이템 블록 생성
-                if (bagIndex >= pieceBag.size()) {
-                    refillBag(difficulty);
-                }
-                int type = pieceBag.get(bagIndex++);
-                Piece piece = createPiece(type);
-                addItemToPiece(piece, ItemType.LINE_CLEAR);
-                return piece;
-            } else if (random < 0.4) {
-                // WEIGHT 블록 생성 (무게추는 블록 전체가 아이템)
-                return createWeightPiece();
-            } else if (random < 0.6) {
-                // DOUBLE_SCORE 아이템 블록 생성
-                if (bagIndex >= pieceBag.size()) {
-                    refillBag(difficulty);
-                }
-                int type = pieceBag.get(bagIndex++);
-                Piece piece = createPiece(type);
-                addItemToPiece(piece, ItemType.DOUBLE_SCORE);
-                return piece;
-            } else if (random < 0.8) {
-                // BOMB 블록 생성 (2x2 폭탄 블록)
-                return createBombPiece();
-            } else {
-                // SKIP 아이템 블록 생성
-                if (bagIndex >= pieceBag.size()) {
-                    refillBag(difficulty);
-                }
-                int type = pieceBag.get(bagIndex++);
-                Piece piece = createPiece(type);
-                addItemToPiece(piece, ItemType.SKIP);
-                return piece;
-            }
+    public static synchronized Piece createRandomPiece(boolean shouldHaveItem) {
+        String difficulty = SettingsManager.getInstance().getDifficulty();
+        // 난이도가 바뀌면 새 가방부터 시작
+        if (sharedGenerator == null || !sharedGenerator.getDifficulty().equals(difficulty)) {
+            sharedGenerator = new PieceGenerator(difficulty, new Random());
         }
-
-        // 일반 블록 생성
-        if (bagIndex >= pieceBag.size()) {
-            refillBag(difficulty);
-        }
-
-        // 가방에서 다음 블럭을 순서대로 꺼내기
-        int type = pieceBag.get(bagIndex++);
-        Piece piece = createPiece(type);
-
-        return piece;
+        return sharedGenerator.next(shouldHaveItem);
     }
 
-    private static void refillBag(String difficulty) {
-        pieceBag.clear();
-        
-        for (int i = 2; i <= 7; i++) {
-            for (int j = 0; j < 10; j++) {
-                pieceBag.add(i);
-            }
-        }
-
-        // 난이도에 따라 I 블록의 개수 조절
-        int iPieceCount;
-        if ("Easy".equals(difficulty)) {
-            iPieceCount = 12;
-        } else if ("Hard".equals(difficulty)) {
-            iPieceCount = 8;
-        } else {    // Normal
-            iPieceCount = 10;
-        }
-
-        for (int i = 0; i < iPieceCount; i++) {
-            pieceBag.add(I_PIECE);
-        }
-
-        // 가방을 무작위로 섞음
-        java.util.Collections.shuffle(pieceBag);
-        bagIndex = 0;
-    }
-
-
-
     /**
      * 무게추 블록 생성
      * @return 무게추 블록 (모든 셀에 WEIGHT 아이템 표시)
      */
     public static Piece createWeightPiece() {
-        Piece piece = new Piece(WEIGHT_ROTATIONS, WEIGHT_PIECE);
+        Piece piece = new Piece(SHAPES[WEIGHT_PIECE]);
 
         // 무게추 블록의 모든 셀에 WEIGHT 아이템 표시
         int[][] shape = piece.getShape();
@@ -228,7 +172,7 @@ public class PieceFactory {
      * @return 폭탄 블록 (십자가 모양으로 삭제)
      */
     public static Piece createBombPiece() {
-        Piece piece = new Piece(BOMB_ROTATIONS, BOMB_PIECE);
+        Piece piece = new Piece(SHAPES[BOMB_PIECE]);
 
         // 폭탄 블록에 BOMB 아이템 표시
         int[][] shape = piece.getShape();
@@ -247,25 +191,13 @@ public class PieceFactory {
      * 블록의 무작위 위치에 아이템을 추가
      * @param piece 아이템을 추가할 블록
      * @param itemType 추가할 아이템 타입
+     * @param random 위치 선택에 쓸 난수 (생성기의 시드를 따른다)
      */
-    private static void addItemToPiece(Piece piece, ItemType itemType) {
-        int[][] shape = piece.getShape();
-        List<int[]> validPositions = new ArrayList<>();
-
-        // 블록이 있는 모든 셀의 위치를 찾기
-        for (int i = 0; i < shape.length; i++) {
-            for (int j = 0; j < shape[i].length; j++) {
-                if (shape[i][j] != 0) {  // 블록이 있는 셀
-                    validPositions.add(new int[]{i, j});
-                }
-            }
-        }
-
-        // 유효한 위치가 있으면 무작위로 하나 선택
-        if (!validPositions.isEmpty()) {
-            int randomIndex = (int) (Math.random() * validPositions.size());
-            int[] position = validPositions.get(randomIndex);
-            piece.setItemAt(position[0], position[1], itemType);
+    static void addItemToPiece(Piece piece, ItemType itemType, Random random) {
+        // 블록이 있는 칸 중 하나를 무작위로 선택 (칸 번호는 행 우선 순서)
+        int blockCount = piece.getShapes().getBlockCount(piece.getRotation());
+        if (blockCount > 0) {
+            piece.setItemAtBlock(random.nextInt(blockCount), itemType);
         }
     }
-}
\ No newline at end of file
+}
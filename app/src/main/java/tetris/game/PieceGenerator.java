@@ -0,0 +1,99 @@
+package tetris.game;
+
+import java.util.Random;
+
+/**
+ * 엔진 하나가 쓰는 블록 생성기 (가방 방식)
+ *
+ * 가방과 난수를 엔진마다 따로 가지므로 여러 게임을 동시에 돌려도 서로 섞이지 않고,
+ * 같은 시드로 만들면 항상 같은 블록 순서가 나온다 (시뮬레이션/리플레이용).
+ * 가방은 int 배열로 들고 있어서 (박싱 없음) 블록을 미리 뽑아 두는 미리보기 큐를 채울 때도 블록 객체 말고는 할당이 없다.
+ */
+public class PieceGenerator {
+    private final String difficulty;
+    private final Random random;
+    private final int[] pieceBag;
+    private int bagIndex;
+
+    public PieceGenerator(String difficulty, Random random) {
+        this.difficulty = difficulty;
+        this.random = random;
+        this.pieceBag = new int[6 * 10 + iPieceCountFor(difficulty)];
+        this.bagIndex = pieceBag.length;
+    }
+
+    public String getDifficulty() {
+        return difficulty;
+    }
+
+    /**
+     * 다음 블록 생성
+     * @param shouldHaveItem 아이템 포함 여부
+     */
+    public Piece next(boolean shouldHaveItem) {
+        // 아이템을 생성해야 하는 경우 1/5 확률로 LINE_CLEAR, WEIGHT, DOUBLE_SCORE, BOMB, SKIP 중 선택
+        if (shouldHaveItem) {
+            double roll = random.nextDouble();
+            if (roll < 0.2) {
+                return nextWithItem(ItemType.LINE_CLEAR);
+            } else if (roll < 0.4) {
+                // 무게추는 블록 전체가 아이템
+                return PieceFactory.createWeightPiece();
+            } else if (roll < 0.6) {
+                return nextWithItem(ItemType.DOUBLE_SCORE);
+            } else if (roll < 0.8) {
+                return PieceFactory.createBombPiece();
+            } else {
+                return nextWithItem(ItemType.SKIP);
+            }
+        }
+
+        // 가방에서 다음 블럭을 순서대로 꺼내기
+        return PieceFactory.createPiece(nextType());
+    }
+
+    private Piece nextWithItem(ItemType itemType) {
+        Piece piece = PieceFactory.createPiece(nextType());
+        PieceFactory.addItemToPiece(piece, itemType, random);
+        return piece;
+    }
+
+    private int nextType() {
+        if (bagIndex >= pieceBag.length) {
+            refillBag();
+        }
+        return pieceBag[bagIndex++];
+    }
+
+    // 난이도에 따라 I 블록의 개수 조절
+    private static int iPieceCountFor(String difficulty) {
+        if ("Easy".equals(difficulty)) {
+            return 12;
+        } else if ("Hard".equals(difficulty)) {
+            return 8;
+        } else {    // Normal
+            return 10;
+        }
+    }
+
+    private void refillBag() {
+        int count = 0;
+        for (int i = 2; i <= 7; i++) {
+            for (int j = 0; j < 10; j++) {
+                pieceBag[count++] = i;
+            }
+        }
+        while (count < pieceBag.length) {
+            pieceBag[count++] = PieceFactory.I_PIECE;
+        }
+
+        // 가방을 무작위로 섞음 (Collections.shuffle과 같은 순서로 난수를 써서 시드별 블록 순서를 유지)
+        for (int i = pieceBag.length; i > 1; i--) {
+            int j = random.nextInt(i);
+            int tmp = pieceBag[i - 1];
+            pieceBag[i - 1] = pieceBag[j];
+            pieceBag[j] = tmp;
+        }
+        bagIndex = 0;
+    }
+}
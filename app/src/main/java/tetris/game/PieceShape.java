@@ -0,0 +1,192 @@
+package tetris.game;
+
+/**
+ * 블록 타입 하나의 회전 표 (변하지 않는 공유 객체)
+ *
+ * 같은 타입의 Piece는 모두 PieceFactory가 만들어 둔 PieceShape 하나를 가리키고, 위치와 회전 상태만 각자 가진다.
+ * 회전할 때 아이템 칸이 옮겨 가는 자리(블록 중심 기준으로 90도 돌린 뒤 가장 가까운 칸)도 여기서 미리 계산해 두므로
+ * Piece.rotate()/rotateBack()은 표를 한 번 찾는 것으로 끝난다.
+ *
+ * 칸 번호(블록 인덱스)는 모양 배열을 행 우선으로 훑을 때 블록이 나오는 순서다.
+ */
+public final class PieceShape {
+    private final int type;
+    // [회전] = 모양 배열 (공유하므로 절대 수정하지 않는다)
+    private final int[][][] shapes;
+    // [회전][블록 인덱스] = 모양 배열 기준 행/열
+    private final int[][] cellRows;
+    private final int[][] cellCols;
+    // [회전][행][열] = 블록 인덱스 (빈 칸은 -1)
+    private final int[][][] indexAt;
+    // [회전][블록 인덱스] = 시계/반시계 방향으로 회전한 뒤의 블록 인덱스
+    private final int[][] clockwiseIndex;
+    private final int[][] counterClockwiseIndex;
+    // [회전][행] = 블록이 차지하는 열 비트 (모양 배열의 0번 열 = bit 0)
+    private final int[][] rowMasks;
+    // [회전] = 블록이 있는 가장 왼쪽/오른쪽 열
+    private final int[] minCols;
+    private final int[] maxCols;
+
+    PieceShape(int type, int[][][] rotations) {
+        this.type = type;
+        this.shapes = rotations;
+        int count = rotations.length;
+        cellRows = new int[count][];
+        cellCols = new int[count][];
+        indexAt = new int[count][][];
+        rowMasks = new int[count][];
+        minCols = new int[count];
+        maxCols = new int[count];
+
+        for (int rotation = 0; rotation < count; rotation++) {
+            int[][] shape = rotations[rotation];
+            int blocks = 0;
+            for (int[] row : shape) {
+                for (int cell : row) {
+                    if (cell != 0) {
+                        blocks++;
+                    }
+                }
+            }
+
+            cellRows[rotation] = new int[blocks];
+            cellCols[rotation] = new int[blocks];
+            indexAt[rotation] = new int[shape.length][];
+            rowMasks[rotation] = new int[shape.length];
+            int minCol = Integer.MAX_VALUE;
+            int maxCol = Integer.MIN_VALUE;
+            int index = 0;
+            for (int r = 0; r < shape.length; r++) {
+                indexAt[rotation][r] = new int[shape[r].length];
+                for (int c = 0; c < shape[r].length; c++) {
+                    if (shape[r][c] != 0) {
+                        cellRows[rotation][index] = r;
+                        cellCols[rotation][index] = c;
+                        indexAt[rotation][r][c] = index++;
+                        rowMasks[rotation][r] |= 1 << c;
+                        minCol = Math.min(minCol, c);
+                        maxCol = Math.max(maxCol, c);
+                    } else {
+                        indexAt[rotation][r][c] = -1;
+                    }
+                }
+            }
+            minCols[rotation] = minCol;
+            maxCols[rotation] = maxCol;
+        }
+
+        clockwiseIndex = new int[count][];
+        counterClockwiseIndex = new int[count][];
+        for (int rotation = 0; rotation < count; rotation++) {
+            clockwiseIndex[rotation] = remap(rotation, (rotation + 1) % count, true);
+            counterClockwiseIndex[rotation] = remap(rotation, (rotation - 1 + count) % count, false);
+        }
+    }
+
+    /**
+     * from 회전의 각 블록이 to 회전에서 옮겨 가는 블록 인덱스
+     * 블록 중심 기준으로 90도 돌린 좌표에서 가장 가까운 블록 (같은 거리면 앞 번호)
+     */
+    private int[] remap(int from, int to, boolean clockwise) {
+        int[] result = new int[cellRows[from].length];
+        double fromRow = centerOf(cellRows[from]);
+        double fromCol = centerOf(cellCols[from]);
+        double toRow = centerOf(cellRows[to]);
+        double toCol = centerOf(cellCols[to]);
+
+        for (int index = 0; index < result.length; index++) {
+            double relativeX = cellCols[from][index] - fromCol;
+            double relativeY = cellRows[from][index] - fromRow;
+            // 시계 방향 (x, y) -> (-y, x), 반시계 방향 (x, y) -> (y, -x)
+            double rotatedX = clockwise ? -relativeY : relativeY;
+            double rotatedY = clockwise ? relativeX : -relativeX;
+            int targetRow = (int) Math.round(toRow + rotatedY);
+            int targetCol = (int) Math.round(toCol + rotatedX);
+
+            int closest = -1;
+            double minDistance = Double.MAX_VALUE;
+            for (int candidate = 0; candidate < cellRows[to].length; candidate++) {
+                double distance = Math.hypot(cellRows[to][candidate] - targetRow, cellCols[to][candidate] - targetCol);
+                if (distance < minDistance) {
+                    minDistance = distance;
+                    closest = candidate;
+                }
+            }
+            result[index] = closest;
+        }
+        return result;
+    }
+
+    private static double centerOf(int[] coords) {
+        double sum = 0;
+        for (int coord : coords) {
+            sum += coord;
+        }
+        return sum / coords.length;
+    }
+
+    public int getType() {
+        return type;
+    }
+
+    public int getRotationCount() {
+        return shapes.length;
+    }
+
+    /**
+     * 모양 배열 (공유 객체이므로 읽기만 할 것)
+     */
+    public int[][] getShape(int rotation) {
+        return shapes[rotation];
+    }
+
+    public int getBlockCount(int rotation) {
+        return cellRows[rotation].length;
+    }
+
+    public int getCellRow(int rotation, int blockIndex) {
+        return cellRows[rotation][blockIndex];
+    }
+
+    public int getCellCol(int rotation, int blockIndex) {
+        return cellCols[rotation][blockIndex];
+    }
+
+    /**
+     * @return (row, col) 칸의 블록 인덱스, 빈 칸이거나 범위 밖이면 -1
+     */
+    public int getBlockIndex(int rotation, int row, int col) {
+        int[][] indices = indexAt[rotation];
+        if (row < 0 || row >= indices.length || col < 0 || col >= indices[row].length) {
+            return -1;
+        }
+        return indices[row][col];
+    }
+
+    public int getClockwiseIndex(int rotation, int blockIndex) {
+        return clockwiseIndex[rotation][blockIndex];
+    }
+
+    public int getCounterClockwiseIndex(int rotation, int blockIndex) {
+        return counterClockwiseIndex[rotation][blockIndex];
+    }
+
+    /**
+     * @return 해당 행에서 블록이 차지하는 열 비트 (bit c = 모양 배열의 c번째 열)
+     */
+    public int getRowMask(int rotation, int row) {
+        return rowMasks[rotation][row];
+    }
+
+    public int getHeight(int rotation) {
+        return shapes[rotation].length;
+    }
+
+    public int getMinCol(int rotation) {
+        return minCols[rotation];
+    }
+
+    public int getMaxCol(int rotation) {
+        return maxCols[rotation];
+    }
+}
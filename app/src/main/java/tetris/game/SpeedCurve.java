@@ -0,0 +1,50 @@
+package tetris.game;
+
+/**
+ * 레벨별 블록 낙하 속도 정의 (한 칸 내려가는 데 걸리는 초)
+ * GameConfig가 생성될 때 한 번만 계산해서 표로 만들어 두므로, 여기서는 계산 비용을 신경 쓰지 않아도 된다.
+ * 직접 정의한 곡선은 람다나 fromTable()로 만든다.
+ */
+@FunctionalInterface
+public interface SpeedCurve {
+
+    /**
+     * @param level 1 이상의 레벨
+     * @return 한 칸 낙하 간격 (초)
+     */
+    double secondsPerRow(int level);
+
+    /**
+     * 기존 방식 - 레벨마다 10%씩 빨라짐 (레벨 1 = 1초)
+     */
+    SpeedCurve CLASSIC = level -> Math.pow(0.9, level - 1);
+
+    /**
+     * 가이드라인 방식 - (0.8 - (레벨-1) * 0.007)^(레벨-1) 초, 레벨 20 이후로는 더 빨라지지 않음
+     */
+    SpeedCurve GUIDELINE = level -> {
+        int capped = Math.min(level, 20);
+        return Math.pow(0.8 - (capped - 1) * 0.007, capped - 1);
+    };
+
+    /**
+     * 레벨별 간격을 직접 지정 (secondsPerRow[0]이 레벨 1, 표보다 높은 레벨은 마지막 값 사용)
+     */
+    static SpeedCurve fromTable(double... secondsPerRow) {
+        if (secondsPerRow.length == 0) {
+            throw new IllegalArgumentException("Speed table is empty");
+        }
+        double[] table = secondsPerRow.clone();
+        return level -> table[Math.min(level, table.length) - 1];
+    }
+
+    /**
+     * 이름으로 기본 곡선 선택 ("classic", "guideline"), 모르는 이름이면 CLASSIC
+     */
+    static SpeedCurve byName(String name) {
+        if (name != null && name.equalsIgnoreCase("guideline")) {
+            return GUIDELINE;
+        }
+        return CLASSIC;
+    }
+}
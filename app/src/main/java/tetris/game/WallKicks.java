@@ -0,0 +1,113 @@
+package tetris.game;
+
+import java.util.Arrays;
+
+/**
+ * 회전이 막혔을 때 시험해 볼 위치 보정 표 (SRS 방식 벽 차기)
+ *
+ * 회전한 모양을 제자리(0, 0)에 먼저 놓아 보고, 안 되면 표의 순서대로 옮겨 가며 처음으로 들어가는 자리를 쓴다.
+ * 이 게임의 회전 표는 SRS와 달리 모양을 감싸는 최소 사각형의 왼쪽 위를 기준으로 하므로
+ * SRS 보정값을 그대로 옮겨 쓰되, y축은 아래가 + 인 보드 좌표로 뒤집어 두었다.
+ * 회전은 시계 방향 하나뿐이므로 SRS 표 중 시계 방향 전이만 쓴다.
+ * - J, L, S, T, Z: SRS의 JLSTZ 표 (S, Z는 상태가 2개라 0, R 에서 나가는 전이만 사용)
+ * - I: SRS의 I 표 (상태 2개, 0, R 에서 나가는 전이만 사용)
+ * - O, 무게추, 폭탄: 회전해도 모양이 같으므로 보정 없음
+ * 왼쪽 위 기준이라 회전 후 모양이 커지면 오른쪽 벽이나 바닥에서만 막히므로,
+ * SRS 표 뒤에 왼쪽으로 1~3칸, 위로 1~3칸 미는 후보를 덧붙였다.
+ *
+ * 모든 보정값은 클래스 로딩 때 [타입][회전 전 상태]별 배열로 만들어 두고, 게임 중에는 배열만 돌려준다.
+ */
+public final class WallKicks {
+
+    // SRS 시계 방향 보정값 (x, y - y는 위쪽이 +), 0 = 처음 상태, R = 시계 방향 1회, 2 = 2회, L = 3회
+    // 게임에 반시계 방향 회전 키가 없으므로 시계 방향 전이만 둔다
+    private static final int[][] JLSTZ_0_TO_R = { {0, 0}, {-1, 0}, {-1, 1}, {0, -2}, {-1, -2} };
+    private static final int[][] JLSTZ_R_TO_2 = { {0, 0}, {1, 0}, {1, -1}, {0, 2}, {1, 2} };
+    private static final int[][] JLSTZ_2_TO_L = { {0, 0}, {1, 0}, {1, 1}, {0, -2}, {1, -2} };
+    private static final int[][] JLSTZ_L_TO_0 = { {0, 0}, {-1, 0}, {-1, -1}, {0, 2}, {-1, 2} };
+
+    private static final int[][] I_0_TO_R = { {0, 0}, {-2, 0}, {1, 0}, {-2, -1}, {1, 2} };
+    private static final int[][] I_R_TO_2 = { {0, 0}, {-1, 0}, {2, 0}, {-1, 2}, {2, -1} };
+
+    private static final int[][] NO_KICK = { {0, 0} };
+    // 오른쪽 벽/바닥에서 커지는 회전용 (보드 좌표, SRS 표에 없는 것만 덧붙임)
+    private static final int[][] WALL_PUSH = { {-1, 0}, {-2, 0}, {-3, 0}, {0, -1}, {0, -2}, {0, -3} };
+
+    // [타입][회전 전 상태] = 보드 좌표 보정값을 (dx, dy) 순서로 펼친 배열
+    private static final int[][][] CLOCKWISE = new int[PieceFactory.BOMB_PIECE + 1][][];
+
+    static {
+        for (int type = PieceFactory.I_PIECE; type <= PieceFactory.BOMB_PIECE; type++) {
+            int states = PieceFactory.shapeOf(type).getRotationCount();
+            CLOCKWISE[type] = new int[states][];
+            for (int from = 0; from < states; from++) {
+                CLOCKWISE[type][from] = toBoard(srsKicks(type, states, from));
+            }
+        }
+    }
+
+    private WallKicks() {
+    }
+
+    private static int[][] srsKicks(int type, int states, int from) {
+        if (states == 1) {
+            return NO_KICK;
+        }
+        if (type == PieceFactory.I_PIECE) {
+            // 상태 0 = 가로, 1 = 세로(R) - R에서 시계 방향으로 돌린 2는 가로 모양과 같다
+            return from == 0 ? I_0_TO_R : I_R_TO_2;
+        }
+        if (states == 2) {
+            // S, Z: 상태 1을 R로 보고, R에서 시계 방향으로 돌린 2는 상태 0과 같은 모양으로 본다
+            return from == 0 ? JLSTZ_0_TO_R : JLSTZ_R_TO_2;
+        }
+        switch (from) {
+            case 0:
+                return JLSTZ_0_TO_R;
+            case 1:
+                return JLSTZ_R_TO_2;
+            case 2:
+                return JLSTZ_2_TO_L;
+            default:
+                return JLSTZ_L_TO_0;
+        }
+    }
+
+    // SRS (y 위쪽 +) -> 보드 좌표 (y 아래쪽 +), (dx, dy) 순서로 펼친 뒤 벽 밀기 후보를 덧붙임
+    private static int[] toBoard(int[][] kicks) {
+        int[] offsets = new int[(kicks.length + WALL_PUSH.length) * 2];
+        int count = 0;
+        for (int[] kick : kicks) {
+            offsets[count * 2] = kick[0];
+            offsets[count * 2 + 1] = -kick[1];
+            count++;
+        }
+        if (kicks != NO_KICK) {
+            for (int[] push : WALL_PUSH) {
+                if (!contains(offsets, count, push[0], push[1])) {
+                    offsets[count * 2] = push[0];
+                    offsets[count * 2 + 1] = push[1];
+                    count++;
+                }
+            }
+        }
+        return Arrays.copyOf(offsets, count * 2);
+    }
+
+    private static boolean contains(int[] offsets, int count, int dx, int dy) {
+        for (int i = 0; i < count; i++) {
+            if (offsets[i * 2] == dx && offsets[i * 2 + 1] == dy) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * 시계 방향 회전 보정값 (dx0, dy0, dx1, dy1, ...) - 공유 배열이므로 읽기만 할 것
+     * @param fromRotation 회전하기 전 상태
+     */
+    public static int[] clockwise(int type, int fromRotation) {
+        return CLOCKWISE[type][fromRotation];
+    }
+}
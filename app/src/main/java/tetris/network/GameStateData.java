@@ -21,6 +21,10 @@ public class GameStateData implements Serializable {
     // 다음 블록 정보
     private int[][] nextPieceShape;
     private int nextPieceType;
+
+    // 미리보기 큐와 보관 블록 (타입만, 보관 블록이 없으면 0)
+    private int[] previewPieceTypes = new int[0];
+    private int holdPieceType;
     
     // 공격 정보
     private int incomingAttackLines;  // 대기 중인 공격 줄 수
@@ -97,6 +101,25 @@ public class GameStateData implements Serializable {
         return nextPieceType;
     }
     
+    /**
+     * 미리보기 큐와 보관 블록 정보 설정 (상태를 보내기 전에 호출)
+     * @param previewPieceTypes 다음 블록부터 순서대로 블록 타입
+     * @param holdPieceType 보관 중인 블록 타입 (없으면 0)
+     */
+    public void setPieceQueue(int[] previewPieceTypes, int holdPieceType) {
+        this.previewPieceTypes = previewPieceTypes != null ? previewPieceTypes : new int[0];
+        this.holdPieceType = holdPieceType;
+    }
+
+    public int[] getPreviewPieceTypes() {
+        // 이전 버전에서 보낸 상태에는 이 필드가 없을 수 있다
+        return previewPieceTypes != null ? previewPieceTypes : new int[0];
+    }
+
+    public int getHoldPieceType() {
+        return holdPieceType;
+    }
+
     public int getIncomingAttackLines() {
         return incomingAttackLines;
     }
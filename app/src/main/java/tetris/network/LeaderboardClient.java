@@ -0,0 +1,299 @@
+package tetris.network;
+
+import tetris.data.ScoreManager;
+
+import java.io.IOException;
+import java.net.InetAddress;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.Executors;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
+
+/**
+ * 게임기 쪽 리더보드 클라이언트
+ *
+ * submit()은 점수를 대기 목록에 넣기만 하고 바로 돌아온다. 백그라운드 스레드가 주기적으로
+ * (또는 대기 점수가 많이 쌓이면 즉시) 모아서 SCORE_SUBMIT 한 번으로 보내고,
+ * 서버의 SCORE_ACK를 받은 점수만 대기 목록에서 지운다. 서버가 꺼져 있으면 다음 주기에 다시 연결해서 보낸다.
+ * 대기 목록은 PendingSubmissionLog 파일에도 기록하므로 게임기를 껐다 켜도 못 보낸 점수를 이어서 보낸다.
+ * 전송은 GameClient를 그대로 사용한다.
+ *
+ * -Dtetris.leaderboard=host[:port] 로 실행하면 getShared()가 공용 인스턴스를 만든다.
+ */
+public class LeaderboardClient {
+    private static final int MAX_BATCH = 50;
+    private static final long FLUSH_INTERVAL_MS = 2000;
+    private static final long QUERY_TIMEOUT_MS = 3000;
+    private static final String PENDING_FILENAME = "leaderboard_pending.log";
+
+    private static LeaderboardClient shared;
+    private static boolean sharedResolved = false;
+
+    private final String host;
+    private final int port;
+    private final String cabinetId;
+
+    // 아직 ACK를 받지 못한 점수 (제출 순서 유지)
+    private final Map<String, ScoreSubmission> pending = Collections.synchronizedMap(new LinkedHashMap<>());
+    private final PendingSubmissionLog pendingLog; // null이면 대기 목록을 메모리에만 보관
+    private final BlockingQueue<List<String>> queryResults = new LinkedBlockingQueue<>();
+    private final ScheduledExecutorService scheduler;
+    private GameClient connection; // scheduler 스레드와 fetchTop에서만 사용 (this로 동기화)
+
+    public LeaderboardClient(String host, int port, String cabinetId) {
+        this(host, port, cabinetId, null);
+    }
+
+    /**
+     * @param pendingFile 서버가 아직 받지 못한 점수를 기록할 파일 (null이면 메모리에만 보관)
+     */
+    public LeaderboardClient(String host, int port, String cabinetId, Path pendingFile) {
+        this.host = host;
+        this.port = port;
+        this.cabinetId = cabinetId;
+        this.pendingLog = pendingFile != null ? new PendingSubmissionLog(pendingFile) : null;
+        this.scheduler = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "leaderboard-submitter");
+            thread.setDaemon(true);
+            return thread;
+        });
+        if (pendingLog != null) {
+            // 파일 기록은 모두 scheduler 스레드에서 순서대로 처리되므로 이후 submit의 기록보다 먼저 끝난다
+            scheduler.execute(this::restorePending);
+        }
+        scheduler.scheduleWithFixedDelay(this::flushPending, FLUSH_INTERVAL_MS, FLUSH_INTERVAL_MS,
+            TimeUnit.MILLISECONDS);
+    }
+
+    /**
+     * -Dtetris.leaderboard 설정이 있으면 공용 클라이언트, 없으면 null
+     */
+    public static synchronized LeaderboardClient getShared() {
+        if (!sharedResolved) {
+            sharedResolved = true;
+            String address = System.getProperty("tetris.leaderboard");
+            if (address != null && !address.isBlank()) {
+                String[] parts = address.trim().split(":");
+                int port = parts.length > 1 ? Integer.parseInt(parts[1]) : LeaderboardServer.DEFAULT_PORT;
+                shared = new LeaderboardClient(parts[0], port, System.getProperty("tetris.cabinet", defaultCabinetId()),
+                    ScoreManager.getDataFile(PENDING_FILENAME));
+                Runtime.getRuntime().addShutdownHook(new Thread(shared::close, "leaderboard-shutdown"));
+                System.out.println("[LEADERBOARD] Sharing scores with " + parts[0] + ":" + port);
+            }
+        }
+        return shared;
+    }
+
+    private static String defaultCabinetId() {
+        try {
+            return InetAddress.getLocalHost().getHostName();
+        } catch (IOException e) {
+            return "cabinet";
+        }
+    }
+
+    /**
+     * 점수 제출 예약 (FX 스레드에서 호출해도 네트워크를 기다리지 않는다)
+     */
+    public void submit(String playerName, int score, String difficulty, String gameMode) {
+        ScoreSubmission submission = new ScoreSubmission(UUID.randomUUID().toString(), cabinetId,
+            playerName, score, difficulty, gameMode, System.currentTimeMillis());
+        int waiting;
+        synchronized (pending) {
+            pending.put(submission.getSubmissionId(), submission);
+            waiting = pending.size();
+        }
+        if (pendingLog != null) {
+            runOnScheduler(() -> pendingLog.appendAdd(submission));
+        }
+        if (waiting >= MAX_BATCH) {
+            flush();
+        }
+    }
+
+    public int getPendingCount() {
+        return pending.size();
+    }
+
+    /**
+     * 대기 중인 점수를 지금 보내도록 요청
+     */
+    public void flush() {
+        runOnScheduler(this::flushPending);
+    }
+
+    /**
+     * 서버 순위표 조회 (응답이 없으면 빈 목록)
+     * @param difficulty null이면 모드 전체
+     */
+    @SuppressWarnings("unchecked")
+    public synchronized List<String> fetchTop(String gameMode, String difficulty, int limit) {
+        try {
+            queryResults.clear();
+            ensureConnected().sendMessage(new NetworkMessage(NetworkMessage.MessageType.LEADERBOARD_QUERY,
+                new LeaderboardQuery(gameMode, difficulty, limit)));
+            List<String> result = queryResults.poll(QUERY_TIMEOUT_MS, TimeUnit.MILLISECONDS);
+            return result != null ? result : new ArrayList<>();
+        } catch (IOException e) {
+            System.err.println("[LEADERBOARD] Query failed: " + e.getMessage());
+            dropConnection();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        return new ArrayList<>();
+    }
+
+    /**
+     * 서버 순위표를 백그라운드에서 조회하고 결과를 callback으로 넘김 (FX 스레드에서 호출용)
+     * callback은 scheduler 스레드에서 호출되므로 화면 갱신은 Platform.runLater로 넘겨야 한다.
+     */
+    public void fetchTop(String gameMode, String difficulty, int limit, Consumer<List<String>> callback) {
+        runOnScheduler(() -> callback.accept(fetchTop(gameMode, difficulty, limit)));
+    }
+
+    /**
+     * 남은 파일 기록을 마치고 연결을 닫음 (대기 중인 점수는 파일에 남아 다음 실행 때 보낸다)
+     */
+    public void close() {
+        scheduler.shutdown();
+        try {
+            scheduler.awaitTermination(1, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        scheduler.shutdownNow();
+        synchronized (this) {
+            dropConnection();
+        }
+    }
+
+    private void runOnScheduler(Runnable task) {
+        try {
+            scheduler.execute(task);
+        } catch (RejectedExecutionException e) {
+            // close() 이후 - 대기 목록은 파일에 남아 있다
+        }
+    }
+
+    // ===== scheduler 스레드 =====
+
+    private void restorePending() {
+        Map<String, ScoreSubmission> restored = pendingLog.load();
+        if (restored.isEmpty()) {
+            return;
+        }
+        synchronized (pending) {
+            for (ScoreSubmission submission : restored.values()) {
+                pending.putIfAbsent(submission.getSubmissionId(), submission);
+            }
+        }
+        System.out.println("[LEADERBOARD] Resending " + restored.size() + " scores from the previous session");
+        flushPending();
+    }
+
+    private void recordAcked(List<String> acked) {
+        boolean allSent = pending.isEmpty();
+        // 다 보냈으면 파일을 비우고, 아니면 ACK만 덧붙인다
+        if (allSent) {
+            pendingLog.rewrite(List.of());
+        } else {
+            pendingLog.appendAck(acked);
+        }
+    }
+
+    private void flushPending() {
+        ArrayList<ScoreSubmission> batch;
+        synchronized (pending) {
+            if (pending.isEmpty()) {
+                return;
+            }
+            batch = new ArrayList<>(Math.min(pending.size(), MAX_BATCH));
+            for (ScoreSubmission submission : pending.values()) {
+                batch.add(submission);
+                if (batch.size() == MAX_BATCH) {
+                    break;
+                }
+            }
+        }
+        synchronized (this) {
+            try {
+                ensureConnected().sendMessage(new NetworkMessage(NetworkMessage.MessageType.SCORE_SUBMIT, batch));
+            } catch (IOException e) {
+                // 대기 목록은 그대로 두고 다음 주기에 다시 시도
+                System.err.println("[LEADERBOARD] Submit failed (" + batch.size() + " waiting): " + e.getMessage());
+                dropConnection();
+            }
+        }
+    }
+
+    private GameClient ensureConnected() throws IOException {
+        if (connection != null && connection.isConnected()) {
+            return connection;
+        }
+        GameClient client = new GameClient();
+        client.setMessageHandler(new GameClient.MessageHandler() {
+            @Override
+            @SuppressWarnings("unchecked")
+            public void onMessageReceived(Object message) {
+                if (!(message instanceof NetworkMessage)) {
+                    return;
+                }
+                NetworkMessage netMsg = (NetworkMessage) message;
+                if (netMsg.getType() == NetworkMessage.MessageType.SCORE_ACK) {
+                    List<String> acked = (List<String>) netMsg.getData();
+                    synchronized (pending) {
+                        for (String id : acked) {
+                            pending.remove(id);
+                        }
+                    }
+                    if (pendingLog != null) {
+                        runOnScheduler(() -> recordAcked(acked));
+                    }
+                    // 더 남았으면 이어서 전송
+                    if (!pending.isEmpty()) {
+                        flush();
+                    }
+                } else if (netMsg.getType() == NetworkMessage.MessageType.LEADERBOARD_RESULT) {
+                    queryResults.offer((List<String>) netMsg.getData());
+                }
+            }
+
+            @Override
+            public void onConnected() {
+            }
+
+            @Override
+            public void onDisconnected() {
+            }
+
+            @Override
+            public void onError(Exception e) {
+                System.err.println("[LEADERBOARD] Connection error: " + e.getMessage());
+            }
+
+            @Override
+            public void onRttUpdate(long rtt) {
+            }
+        });
+        client.connect(host, port);
+        connection = client;
+        return client;
+    }
+
+    private void dropConnection() {
+        if (connection != null) {
+            connection.close();
+            connection = null;
+        }
+    }
+}
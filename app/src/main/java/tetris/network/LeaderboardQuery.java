@@ -0,0 +1,32 @@
+package tetris.network;
+
+import java.io.Serializable;
+
+/**
+ * 리더보드 서버에 보내는 순위표 조회 요청
+ */
+public class LeaderboardQuery implements Serializable {
+    private static final long serialVersionUID = 1L;
+
+    private final String gameMode;
+    private final String difficulty; // null이면 모드 전체
+    private final int limit;
+
+    public LeaderboardQuery(String gameMode, String difficulty, int limit) {
+        this.gameMode = gameMode;
+        this.difficulty = difficulty;
+        this.limit = limit;
+    }
+
+    public String getGameMode() {
+        return gameMode;
+    }
+
+    public String getDifficulty() {
+        return difficulty;
+    }
+
+    public int getLimit() {
+        return limit;
+    }
+}
@@ -0,0 +1,342 @@
+package tetris.network;
+
+import tetris.data.ScoreEntry;
+import tetris.data.ScoreManager;
+
+import java.io.*;
+import java.net.*;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 여러 게임기(캐비닛)가 함께 쓰는 리더보드 서버
+ *
+ * 클라이언트마다 연결 하나를 유지하고 GameServer/GameClient와 같은 NetworkMessage 스트림으로 통신한다.
+ * - SCORE_SUBMIT: ScoreSubmission 목록을 한 번에 받아 저장하고 SCORE_ACK로 처리한 ID를 돌려준다.
+ *   이미 받은 ID는 다시 저장하지 않고 ACK만 보낸다 (클라이언트 재전송 대비).
+ *   저장한 ID는 저널 옆의 .ids 파일에도 기록하므로 서버를 다시 켜도 재전송된 점수를 걸러낸다.
+ * - LEADERBOARD_QUERY: 순위표 문자열을 LEADERBOARD_RESULT로 돌려준다. 모드별 버전이 바뀌지 않았으면 캐시 사용.
+ * 점수는 ScoreManager(저널)에 저장되므로 서버를 다시 켜도 순위가 유지된다.
+ *
+ * 실행: ./gradlew runLeaderboardServer --args="7788 leaderboard.journal"
+ */
+public class LeaderboardServer {
+    public static final int DEFAULT_PORT = 7788;
+    private static final String DEFAULT_JOURNAL = "leaderboard.journal";
+    private static final int MAX_QUERY_LIMIT = 100;
+    // 중복 확인용으로 기억하는 최근 제출 ID 수 (.ids 파일도 이 수만큼만 남긴다)
+    private static final int RECENT_ID_CAPACITY = 100_000;
+
+    private final ServerSocket serverSocket;
+    private final ScoreManager scoreManager;
+    private final ExecutorService clientPool;
+    private final List<Socket> clientSockets = Collections.synchronizedList(new ArrayList<>());
+    private volatile boolean isRunning = false;
+    private Thread acceptThread;
+    // 저장한 제출 ID 기록 파일 (한 줄에 하나, idFileLock으로 동기화해서 덧붙인다)
+    private final Path idFile;
+    private final Object idFileLock = new Object();
+
+    // 최근에 저장한 제출 ID (오래된 것부터 삭제)
+    private final Map<String, Boolean> recentIds = Collections.synchronizedMap(
+        new LinkedHashMap<String, Boolean>() {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<String, Boolean> eldest) {
+                return size() > RECENT_ID_CAPACITY;
+            }
+        });
+
+    // 순위표 캐시 - 해당 모드의 버전이 같을 때만 사용
+    private static final class CachedTop {
+        final long version;
+        final ArrayList<String> lines;
+
+        CachedTop(long version, ArrayList<String> lines) {
+            this.version = version;
+            this.lines = lines;
+        }
+    }
+
+    private final Map<String, CachedTop> topCache = new ConcurrentHashMap<>();
+    private final AtomicLong normalVersion = new AtomicLong();
+    private final AtomicLong itemVersion = new AtomicLong();
+
+    // 통계
+    private final AtomicLong acceptedCount = new AtomicLong();
+    private final AtomicLong duplicateCount = new AtomicLong();
+
+    public LeaderboardServer(int port, Path journalFile) throws IOException {
+        System.out.println("[LEADERBOARD] Creating server on port " + port + " (journal: " + journalFile + ")");
+        serverSocket = new ServerSocket(port);
+        scoreManager = new ScoreManager(journalFile);
+        idFile = journalFile.resolveSibling(journalFile.getFileName() + ".ids");
+        loadSubmittedIds();
+        AtomicInteger threadIds = new AtomicInteger();
+        clientPool = Executors.newCachedThreadPool(runnable -> {
+            Thread thread = new Thread(runnable, "leaderboard-client-" + threadIds.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    public int getPort() {
+        return serverSocket.getLocalPort();
+    }
+
+    public void start() {
+        isRunning = true;
+        acceptThread = new Thread(() -> {
+            System.out.println("[LEADERBOARD] Waiting for clients...");
+            while (isRunning) {
+                try {
+                    Socket socket = serverSocket.accept();
+                    System.out.println("[LEADERBOARD] Client connected from: " + socket.getInetAddress());
+                    clientSockets.add(socket);
+                    clientPool.execute(() -> serveClient(socket));
+                } catch (IOException e) {
+                    if (isRunning) {
+                        System.err.println("[LEADERBOARD] Accept failed: " + e.getMessage());
+                    }
+                }
+            }
+            System.out.println("[LEADERBOARD] Accept thread stopped");
+        }, "leaderboard-accept");
+        acceptThread.start();
+    }
+
+    private void serveClient(Socket socket) {
+        try (ObjectOutputStream out = new ObjectOutputStream(socket.getOutputStream())) {
+            // GameServer와 같은 순서: 헤더를 먼저 보내야 상대편 ObjectInputStream 생성이 끝난다
+            out.flush();
+            ObjectInputStream in = new ObjectInputStream(socket.getInputStream());
+
+            while (isRunning && !socket.isClosed()) {
+                Object msg = in.readObject();
+                if (!(msg instanceof NetworkMessage)) {
+                    continue;
+                }
+                NetworkMessage netMsg = (NetworkMessage) msg;
+                NetworkMessage reply = handleMessage(netMsg);
+                if (reply != null) {
+                    out.writeObject(reply);
+                    out.flush();
+                    // 같은 목록 객체를 다시 보낼 때 예전 내용이 전송되지 않도록
+                    out.reset();
+                }
+            }
+        } catch (EOFException | SocketException e) {
+            System.out.println("[LEADERBOARD] Client disconnected: " + socket.getInetAddress());
+        } catch (IOException | ClassNotFoundException e) {
+            System.err.println("[LEADERBOARD] Client error: " + e.getMessage());
+        } finally {
+            clientSockets.remove(socket);
+            try {
+                socket.close();
+            } catch (IOException e) {
+                System.err.println("[LEADERBOARD] Error closing client socket: " + e.getMessage());
+            }
+        }
+    }
+
+    /**
+     * 메시지 하나 처리
+     * @return 돌려보낼 응답 (없으면 null)
+     */
+    @SuppressWarnings("unchecked")
+    NetworkMessage handleMessage(NetworkMessage netMsg) {
+        switch (netMsg.getType()) {
+            case PING:
+                return new NetworkMessage(NetworkMessage.MessageType.PONG, netMsg.getData());
+            case SCORE_SUBMIT:
+                return new NetworkMessage(NetworkMessage.MessageType.SCORE_ACK,
+                    submit((List<ScoreSubmission>) netMsg.getData()));
+            case LEADERBOARD_QUERY:
+                return new NetworkMessage(NetworkMessage.MessageType.LEADERBOARD_RESULT,
+                    query((LeaderboardQuery) netMsg.getData()));
+            default:
+                return null;
+        }
+    }
+
+    /**
+     * 제출된 점수 묶음 저장
+     * @return 저장했거나 이미 저장돼 있던 제출 ID (클라이언트는 이 ID를 대기 목록에서 지운다)
+     */
+    ArrayList<String> submit(List<ScoreSubmission> batch) {
+        ArrayList<String> acked = new ArrayList<>(batch.size());
+        ArrayList<String> stored = new ArrayList<>(batch.size());
+        boolean normalChanged = false;
+        boolean itemChanged = false;
+        for (ScoreSubmission submission : batch) {
+            // putIfAbsent가 null이 아니면 이미 받은 제출
+            if (recentIds.putIfAbsent(submission.getSubmissionId(), Boolean.TRUE) != null) {
+                duplicateCount.incrementAndGet();
+                acked.add(submission.getSubmissionId());
+                continue;
+            }
+            LocalDateTime date = LocalDateTime.ofInstant(
+                Instant.ofEpochMilli(submission.getEpochMillis()), ZoneId.systemDefault());
+            scoreManager.addScore(new ScoreEntry(submission.getPlayerName(), submission.getScore(), date,
+                submission.getDifficulty(), submission.getGameMode()));
+            acceptedCount.incrementAndGet();
+            acked.add(submission.getSubmissionId());
+            stored.add(submission.getSubmissionId());
+            if ("ITEM".equals(submission.getGameMode())) {
+                itemChanged = true;
+            } else {
+                normalChanged = true;
+            }
+        }
+        if (!stored.isEmpty()) {
+            // 점수가 저널에 기록된 뒤에 ID를 남겨야, 중간에 죽어도 ACK 못 받은 점수가 중복으로 걸러져 사라지지 않는다
+            scoreManager.flush();
+            appendSubmittedIds(stored);
+        }
+        // 묶음 하나에 버전은 한 번만 올린다
+        if (normalChanged) {
+            normalVersion.incrementAndGet();
+        }
+        if (itemChanged) {
+            itemVersion.incrementAndGet();
+        }
+        return acked;
+    }
+
+    /**
+     * 순위표 조회 - 마지막 제출 이후 같은 조회면 캐시된 결과를 그대로 돌려준다
+     */
+    ArrayList<String> query(LeaderboardQuery query) {
+        String gameMode = query.getGameMode();
+        int limit = Math.max(1, Math.min(query.getLimit(), MAX_QUERY_LIMIT));
+        long version = ("ITEM".equals(gameMode) ? itemVersion : normalVersion).get();
+        String key = gameMode + "/" + query.getDifficulty() + "/" + limit;
+
+        CachedTop cached = topCache.get(key);
+        if (cached != null && cached.version == version) {
+            return cached.lines;
+        }
+        ArrayList<String> lines = new ArrayList<>(
+            scoreManager.getFormattedScoresPage(gameMode, query.getDifficulty(), 0, limit));
+        topCache.put(key, new CachedTop(version, lines));
+        return lines;
+    }
+
+    /**
+     * .ids 파일에서 이전에 저장한 제출 ID를 읽어 둔다 (너무 길어졌으면 최근 것만 남기고 다시 쓴다)
+     */
+    private void loadSubmittedIds() {
+        List<String> ids;
+        try {
+            ids = Files.readAllLines(idFile, StandardCharsets.UTF_8);
+        } catch (NoSuchFileException e) {
+            return;
+        } catch (IOException e) {
+            System.err.println("[LEADERBOARD] Failed to read submission ids: " + e.getMessage());
+            return;
+        }
+        for (String id : ids) {
+            if (!id.isEmpty()) {
+                recentIds.put(id, Boolean.TRUE);
+            }
+        }
+        System.out.println("[LEADERBOARD] Loaded " + recentIds.size() + " submission ids");
+        if (ids.size() > RECENT_ID_CAPACITY) {
+            rewriteSubmittedIds();
+        }
+    }
+
+    private void rewriteSubmittedIds() {
+        Path tempFile = idFile.resolveSibling(idFile.getFileName() + ".tmp");
+        try {
+            synchronized (recentIds) {
+                Files.write(tempFile, recentIds.keySet(), StandardCharsets.UTF_8);
+            }
+            try {
+                Files.move(tempFile, idFile, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+            } catch (AtomicMoveNotSupportedException e) {
+                Files.move(tempFile, idFile, StandardCopyOption.REPLACE_EXISTING);
+            }
+        } catch (IOException e) {
+            System.err.println("[LEADERBOARD] Failed to compact submission ids: " + e.getMessage());
+        }
+    }
+
+    private void appendSubmittedIds(List<String> ids) {
+        StringBuilder lines = new StringBuilder();
+        for (String id : ids) {
+            lines.append(id).append('\n');
+        }
+        ByteBuffer bytes = ByteBuffer.wrap(lines.toString().getBytes(StandardCharsets.UTF_8));
+        synchronized (idFileLock) {
+            try (FileChannel channel = FileChannel.open(idFile, StandardOpenOption.CREATE,
+                    StandardOpenOption.WRITE, StandardOpenOption.APPEND)) {
+                while (bytes.hasRemaining()) {
+                    channel.write(bytes);
+                }
+                channel.force(false);
+            } catch (IOException e) {
+                System.err.println("[LEADERBOARD] Failed to record submission ids: " + e.getMessage());
+            }
+        }
+    }
+
+    public long getAcceptedCount() {
+        return acceptedCount.get();
+    }
+
+    public long getDuplicateCount() {
+        return duplicateCount.get();
+    }
+
+    public void close() {
+        System.out.println("[LEADERBOARD] Closing server...");
+        isRunning = false;
+        try {
+            serverSocket.close();
+        } catch (IOException e) {
+            System.err.println("[LEADERBOARD] Error closing server socket: " + e.getMessage());
+        }
+        synchronized (clientSockets) {
+            for (Socket socket : clientSockets) {
+                try {
+                    socket.close();
+                } catch (IOException e) {
+                    System.err.println("[LEADERBOARD] Error closing client socket: " + e.getMessage());
+                }
+            }
+        }
+        clientPool.shutdownNow();
+        scoreManager.close();
+        System.out.println("[LEADERBOARD] Server closed (accepted " + acceptedCount.get()
+            + ", duplicates " + duplicateCount.get() + ")");
+    }
+
+    public static void main(String[] args) throws IOException {
+        int port = args.length > 0 ? Integer.parseInt(args[0]) : DEFAULT_PORT;
+        Path journal = Paths.get(args.length > 1 ? args[1] : DEFAULT_JOURNAL);
+        LeaderboardServer server = new LeaderboardServer(port, journal);
+        Runtime.getRuntime().addShutdownHook(new Thread(server::close, "leaderboard-shutdown"));
+        server.start();
+    }
+}
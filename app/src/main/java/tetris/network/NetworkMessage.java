@@ -24,7 +24,11 @@ public class NetworkMessage implements Serializable {
         REMATCH_RESPONSE,   // 재시합 응답 (수락/거부)
         TIME_SYNC,          // 시간제한 모드 타이머 동기화
         TIME_UP,            // 시간 종료 알림
-        LOBBY_READY         // 로비 진입 완료 알림 (상태 동기화용)
+        LOBBY_READY,        // 로비 진입 완료 알림 (상태 동기화용)
+        SCORE_SUBMIT,       // 리더보드 점수 제출 (ScoreSubmission 목록)
+        SCORE_ACK,          // 저장 완료된 제출 ID 목록
+        LEADERBOARD_QUERY,  // 순위표 조회 (LeaderboardQuery)
+        LEADERBOARD_RESULT  // 순위표 조회 결과 (순위 문자열 목록)
     }
     
     private MessageType type;
@@ -0,0 +1,122 @@
+package tetris.network;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.List;
+
+/**
+ * 리더보드 서버가 아직 받지 못한 점수를 보관하는 추가 전용 텍스트 로그
+ *
+ * 제출할 때 "ADD" 줄을, 서버 ACK를 받으면 "ACK" 줄을 덧붙인다. 다시 읽을 때 ACK된 제출을 빼면
+ * 남은 것이 대기 목록이므로, 게임기를 껐다 켜도 서버에 못 보낸 점수를 이어서 보낸다.
+ * 파일 쓰기는 LeaderboardClient의 scheduler 스레드에서만 한다.
+ */
+final class PendingSubmissionLog {
+    private static final String ADD = "ADD";
+    private static final String ACK = "ACK";
+    private static final String SEPARATOR = "\t";
+
+    private final Path file;
+
+    PendingSubmissionLog(Path file) {
+        this.file = file;
+    }
+
+    /**
+     * ACK되지 않은 제출을 제출 순서대로 읽고, 남은 것만으로 파일을 다시 쓴다
+     * 쓰다가 끊긴 마지막 줄처럼 형식이 맞지 않는 줄은 건너뛴다.
+     */
+    LinkedHashMap<String, ScoreSubmission> load() {
+        LinkedHashMap<String, ScoreSubmission> pending = new LinkedHashMap<>();
+        List<String> lines;
+        try {
+            lines = Files.readAllLines(file, StandardCharsets.UTF_8);
+        } catch (NoSuchFileException e) {
+            return pending;
+        } catch (IOException e) {
+            System.err.println("[LEADERBOARD] Failed to read pending scores: " + e.getMessage());
+            return pending;
+        }
+        for (String line : lines) {
+            String[] fields = line.split(SEPARATOR, -1);
+            try {
+                if (ADD.equals(fields[0]) && fields.length == 8) {
+                    pending.put(fields[1], new ScoreSubmission(fields[1], fields[2], fields[3],
+                        Integer.parseInt(fields[4]), fields[5], fields[6], Long.parseLong(fields[7])));
+                } else if (ACK.equals(fields[0]) && fields.length == 2) {
+                    pending.remove(fields[1]);
+                }
+            } catch (NumberFormatException e) {
+                System.err.println("[LEADERBOARD] Skipping malformed pending score: " + line);
+            }
+        }
+        rewrite(pending.values());
+        return pending;
+    }
+
+    void appendAdd(ScoreSubmission submission) {
+        append(addLine(submission));
+    }
+
+    void appendAck(List<String> submissionIds) {
+        StringBuilder lines = new StringBuilder();
+        for (String id : submissionIds) {
+            lines.append(ACK).append(SEPARATOR).append(id).append('\n');
+        }
+        append(lines.toString());
+    }
+
+    /**
+     * 주어진 대기 목록만 남기고 파일을 다시 쓴다 (임시 파일에 쓴 뒤 교체)
+     */
+    void rewrite(Collection<ScoreSubmission> pending) {
+        Path tempFile = file.resolveSibling(file.getFileName() + ".tmp");
+        try {
+            if (pending.isEmpty()) {
+                Files.deleteIfExists(file);
+                return;
+            }
+            StringBuilder lines = new StringBuilder();
+            for (ScoreSubmission submission : pending) {
+                lines.append(addLine(submission));
+            }
+            Files.write(tempFile, lines.toString().getBytes(StandardCharsets.UTF_8));
+            try {
+                Files.move(tempFile, file, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+            } catch (AtomicMoveNotSupportedException e) {
+                Files.move(tempFile, file, StandardCopyOption.REPLACE_EXISTING);
+            }
+        } catch (IOException e) {
+            System.err.println("[LEADERBOARD] Failed to rewrite pending scores: " + e.getMessage());
+        }
+    }
+
+    private void append(String text) {
+        try {
+            Files.write(file, text.getBytes(StandardCharsets.UTF_8),
+                StandardOpenOption.CREATE, StandardOpenOption.WRITE, StandardOpenOption.APPEND);
+        } catch (IOException e) {
+            System.err.println("[LEADERBOARD] Failed to record pending score: " + e.getMessage());
+        }
+    }
+
+    private static String addLine(ScoreSubmission submission) {
+        return String.join(SEPARATOR, ADD, submission.getSubmissionId(), clean(submission.getCabinetId()),
+            clean(submission.getPlayerName()), String.valueOf(submission.getScore()),
+            submission.getDifficulty(), submission.getGameMode(), String.valueOf(submission.getEpochMillis()))
+            + "\n";
+    }
+
+    // 구분자와 줄바꿈은 공백으로 (이름은 화면 입력값이라 그대로 쓰면 줄 형식이 깨질 수 있다)
+    private static String clean(String value) {
+        return value == null ? "" : value.replace('\t', ' ').replace('\n', ' ').replace('\r', ' ');
+    }
+}
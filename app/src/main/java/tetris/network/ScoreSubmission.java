@@ -0,0 +1,58 @@
+package tetris.network;
+
+import java.io.Serializable;
+
+/**
+ * 리더보드 서버로 보내는 점수 하나
+ * submissionId는 클라이언트가 만든 고유 ID로, 응답을 못 받아 다시 보낸 점수를 서버가 걸러내는 데 쓴다.
+ */
+public class ScoreSubmission implements Serializable {
+    private static final long serialVersionUID = 1L;
+
+    private final String submissionId;
+    private final String cabinetId;
+    private final String playerName;
+    private final int score;
+    private final String difficulty;
+    private final String gameMode;
+    private final long epochMillis;
+
+    public ScoreSubmission(String submissionId, String cabinetId, String playerName, int score,
+                           String difficulty, String gameMode, long epochMillis) {
+        this.submissionId = submissionId;
+        this.cabinetId = cabinetId;
+        this.playerName = playerName;
+        this.score = score;
+        this.difficulty = difficulty;
+        this.gameMode = gameMode;
+        this.epochMillis = epochMillis;
+    }
+
+    public String getSubmissionId() {
+        return submissionId;
+    }
+
+    public String getCabinetId() {
+        return cabinetId;
+    }
+
+    public String getPlayerName() {
+        return playerName;
+    }
+
+    public int getScore() {
+        return score;
+    }
+
+    public String getDifficulty() {
+        return difficulty;
+    }
+
+    public String getGameMode() {
+        return gameMode;
+    }
+
+    public long getEpochMillis() {
+        return epochMillis;
+    }
+}
@@ -0,0 +1,74 @@
+package tetris.sim;
+
+import tetris.game.ItemType;
+
+/**
+ * 시뮬레이션한 게임 한 판에서 플레이어 한 명의 결과
+ */
+public class GameResult {
+    private final int score;
+    private final int linesCleared;
+    private final int level;
+    private final int piecesPlaced;
+    private final long gameTimeNanos;
+    private final int[] itemsTriggered; // ItemType.ordinal() 별 발동 횟수
+    private final boolean toppedOut;    // 블록을 놓을 곳이 없어 끝남 (false면 블록 수 제한 등으로 중단)
+    private final int decisions;            // 전략이 블록 놓을 곳을 정한 횟수
+    private final long decisionNanos;       // 전략이 놓을 곳을 정하는 데 쓴 실제 시간 합계
+    private final long maxDecisionNanos;    // 가장 오래 걸린 한 번
+
+    public GameResult(int score, int linesCleared, int level, int piecesPlaced, long gameTimeNanos,
+                      int[] itemsTriggered, boolean toppedOut,
+                      int decisions, long decisionNanos, long maxDecisionNanos) {
+        this.score = score;
+        this.linesCleared = linesCleared;
+        this.level = level;
+        this.piecesPlaced = piecesPlaced;
+        this.gameTimeNanos = gameTimeNanos;
+        this.itemsTriggered = itemsTriggered;
+        this.toppedOut = toppedOut;
+        this.decisions = decisions;
+        this.decisionNanos = decisionNanos;
+        this.maxDecisionNanos = maxDecisionNanos;
+    }
+
+    public int getScore() {
+        return score;
+    }
+
+    public int getLinesCleared() {
+        return linesCleared;
+    }
+
+    public int getLevel() {
+        return level;
+    }
+
+    public int getPiecesPlaced() {
+        return piecesPlaced;
+    }
+
+    public long getGameTimeNanos() {
+        return gameTimeNanos;
+    }
+
+    public int getItemsTriggered(ItemType itemType) {
+        return itemsTriggered[itemType.ordinal()];
+    }
+
+    public boolean isToppedOut() {
+        return toppedOut;
+    }
+
+    public int getDecisions() {
+        return decisions;
+    }
+
+    public long getDecisionNanos() {
+        return decisionNanos;
+    }
+
+    public long getMaxDecisionNanos() {
+        return maxDecisionNanos;
+    }
+}
@@ -0,0 +1,94 @@
+package tetris.sim;
+
+import tetris.game.GameBoard;
+import tetris.game.GameCommand;
+import tetris.game.GameEngine;
+import tetris.game.Piece;
+
+import java.util.List;
+
+/**
+ * 모든 회전/열 조합 중 블록이 가장 낮게 착지하는 곳에 놓음
+ * 동점이면 줄을 더 많이 채우는 쪽을 고른다. 사람처럼 오래 버티는 기준선 전략.
+ */
+public class LowestStackStrategy implements Strategy {
+
+    @Override
+    public void planPiece(GameEngine engine, List<GameCommand> commands) {
+        Piece current = engine.getCurrentPiece();
+        GameBoard board = engine.getGameBoard();
+        if (current == null) {
+            return;
+        }
+
+        int bestRotations = 0;
+        int bestX = current.getX();
+        int bestFromX = current.getX();
+        int bestBottom = Integer.MIN_VALUE;
+        int bestFilled = -1;
+
+        Piece rotated = current.copy();
+        Piece candidate = current.copy();
+        for (int rotations = 0; rotations < 4; rotations++) {
+            if (rotations > 0) {
+                // 엔진과 같이 벽 차기로 회전 (들어갈 자리가 없으면 더 돌릴 수 없음)
+                if (!board.rotateWithKicks(rotated)) {
+                    break;
+                }
+                // 회전 상태를 한 바퀴 다 봤으면 종료
+                if (rotated.getRotation() == current.getRotation()) {
+                    break;
+                }
+            }
+            int[][] shape = rotated.getShape();
+            for (int x = -shape[0].length + 1; x < board.getWidth(); x++) {
+                candidate.copyFrom(rotated);
+                candidate.setPosition(x, rotated.getY());
+                if (!board.isValidPosition(candidate)) {
+                    continue;
+                }
+                while (board.isValidPosition(candidate)) {
+                    candidate.moveDown();
+                }
+                candidate.moveUp();
+
+                int bottom = candidate.getY() + shape.length;
+                int filled = filledNeighbours(board, candidate);
+                if (bottom > bestBottom || (bottom == bestBottom && filled > bestFilled)) {
+                    bestBottom = bottom;
+                    bestFilled = filled;
+                    bestRotations = rotations;
+                    bestX = x;
+                    bestFromX = rotated.getX();
+                }
+            }
+        }
+
+        for (int i = 0; i < bestRotations; i++) {
+            commands.add(GameCommand.ROTATE);
+        }
+        // 회전한 뒤(벽 차기로 옮겨진 위치)부터 목표 열까지 이동
+        int shift = bestX - bestFromX;
+        GameCommand move = shift < 0 ? GameCommand.MOVE_LEFT : GameCommand.MOVE_RIGHT;
+        for (int i = 0; i < Math.abs(shift); i++) {
+            commands.add(move);
+        }
+        commands.add(GameCommand.HARD_DROP);
+    }
+
+    /**
+     * 놓인 블록이 채우는 행들에 이미 있는 블록 수 (줄 완성에 가까울수록 큼)
+     */
+    private static int filledNeighbours(GameBoard board, Piece piece) {
+        int[][] shape = piece.getShape();
+        int filled = 0;
+        for (int row = 0; row < shape.length; row++) {
+            int boardRow = piece.getY() + row;
+            if (boardRow < 0) {
+                continue;
+            }
+            filled += board.getRowFillCount(boardRow);
+        }
+        return filled;
+    }
+}
@@ -0,0 +1,33 @@
+package tetris.sim;
+
+import tetris.game.GameCommand;
+import tetris.game.GameEngine;
+
+import java.util.List;
+import java.util.Random;
+
+/**
+ * 회전 수와 좌우 이동을 무작위로 골라서 떨어뜨림 (가장 빠른 부하 생성용)
+ */
+public class RandomStrategy implements Strategy {
+    private final Random random;
+
+    public RandomStrategy(long seed) {
+        this.random = new Random(seed);
+    }
+
+    @Override
+    public void planPiece(GameEngine engine, List<GameCommand> commands) {
+        int rotations = random.nextInt(4);
+        for (int i = 0; i < rotations; i++) {
+            commands.add(GameCommand.ROTATE);
+        }
+        int width = engine.getGameBoard().getWidth();
+        int shift = random.nextInt(width) - width / 2;
+        GameCommand move = shift < 0 ? GameCommand.MOVE_LEFT : GameCommand.MOVE_RIGHT;
+        for (int i = 0; i < Math.abs(shift); i++) {
+            commands.add(move);
+        }
+        commands.add(GameCommand.HARD_DROP);
+    }
+}
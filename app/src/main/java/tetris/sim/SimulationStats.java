@@ -0,0 +1,144 @@
+package tetris.sim;
+
+import tetris.game.ItemType;
+
+import java.io.PrintStream;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * 여러 스레드에서 끝난 게임 결과를 모아 요약 (기록/조회 모두 synchronized)
+ */
+public class SimulationStats {
+    private int games = 0;
+    private int results = 0;     // 플레이어별 결과 수 (대전은 게임당 2개)
+    private int toppedOut = 0;
+    private long totalPieces = 0;
+    private long totalLines = 0;
+    private long totalScore = 0;
+    private long totalGameTimeNanos = 0;
+    private long totalDecisions = 0;
+    private long totalDecisionNanos = 0;
+    private long maxDecisionNanos = 0;
+    private int maxLevel = 0;
+    private int[] scores = new int[64];
+    private final long[] itemsTriggered = new long[ItemType.values().length];
+    private final Map<String, Integer> winners = new LinkedHashMap<>();
+
+    /**
+     * 혼자 하는 게임 한 판 기록
+     */
+    public synchronized void recordGame(GameResult result) {
+        games++;
+        addResult(result);
+    }
+
+    /**
+     * 대전 한 판 기록
+     * @param winner "PLAYER1", "PLAYER2", "DRAW" 또는 끝나지 않았으면 "UNFINISHED"
+     */
+    public synchronized void recordBattle(GameResult player1, GameResult player2, String winner) {
+        games++;
+        addResult(player1);
+        addResult(player2);
+        winners.merge(winner, 1, Integer::sum);
+    }
+
+    private void addResult(GameResult result) {
+        if (results == scores.length) {
+            scores = Arrays.copyOf(scores, scores.length * 2);
+        }
+        scores[results++] = result.getScore();
+        if (result.isToppedOut()) {
+            toppedOut++;
+        }
+        totalPieces += result.getPiecesPlaced();
+        totalLines += result.getLinesCleared();
+        totalScore += result.getScore();
+        totalGameTimeNanos += result.getGameTimeNanos();
+        maxLevel = Math.max(maxLevel, result.getLevel());
+        totalDecisions += result.getDecisions();
+        totalDecisionNanos += result.getDecisionNanos();
+        maxDecisionNanos = Math.max(maxDecisionNanos, result.getMaxDecisionNanos());
+        for (ItemType itemType : ItemType.values()) {
+            itemsTriggered[itemType.ordinal()] += result.getItemsTriggered(itemType);
+        }
+    }
+
+    public synchronized int getGames() {
+        return games;
+    }
+
+    public synchronized long getTotalPieces() {
+        return totalPieces;
+    }
+
+    public synchronized long getTotalLines() {
+        return totalLines;
+    }
+
+    public synchronized long getTotalDecisions() {
+        return totalDecisions;
+    }
+
+    /**
+     * 전략이 블록 하나를 놓을 곳을 정하는 데 걸린 평균 실제 시간 (결정이 없으면 0)
+     */
+    public synchronized long getAverageDecisionNanos() {
+        return totalDecisions == 0 ? 0 : totalDecisionNanos / totalDecisions;
+    }
+
+    public synchronized long getMaxDecisionNanos() {
+        return maxDecisionNanos;
+    }
+
+    public synchronized int getWinCount(String winner) {
+        return winners.getOrDefault(winner, 0);
+    }
+
+    /**
+     * 점수 백분위 (0~100, 결과가 없으면 0)
+     */
+    public synchronized int getScorePercentile(double percentile) {
+        if (results == 0) {
+            return 0;
+        }
+        int[] sorted = Arrays.copyOf(scores, results);
+        Arrays.sort(sorted);
+        int index = (int) Math.ceil(percentile / 100.0 * results) - 1;
+        return sorted[Math.max(0, Math.min(index, results - 1))];
+    }
+
+    /**
+     * 처리량과 결과 요약 출력
+     * @param wallNanos 전체 시뮬레이션에 걸린 실제 시간
+     */
+    public synchronized void printReport(PrintStream out, long wallNanos) {
+        double seconds = Math.max(wallNanos, 1) / 1e9;
+        int perResult = Math.max(results, 1);
+        out.printf("[SIM] games=%d time=%.2fs throughput=%.1f games/s %.0f pieces/s%n",
+            games, seconds, games / seconds, totalPieces / seconds);
+        out.printf("[SIM] score avg=%.1f p50=%d p90=%d max=%d%n",
+            (double) totalScore / perResult, getScorePercentile(50), getScorePercentile(90), getScorePercentile(100));
+        out.printf("[SIM] per player: pieces=%.1f lines=%.1f gameTime=%.1fs maxLevel=%d toppedOut=%d/%d%n",
+            (double) totalPieces / perResult, (double) totalLines / perResult,
+            totalGameTimeNanos / 1e9 / perResult, maxLevel, toppedOut, results);
+        out.printf("[SIM] decision latency avg=%.1fus max=%.1fus (%d decisions)%n",
+            getAverageDecisionNanos() / 1e3, maxDecisionNanos / 1e3, totalDecisions);
+
+        StringBuilder items = new StringBuilder();
+        for (ItemType itemType : ItemType.values()) {
+            if (itemType != ItemType.NONE && itemsTriggered[itemType.ordinal()] > 0) {
+                items.append(' ').append(itemType).append('=')
+                    .append(String.format("%.2f", (double) itemsTriggered[itemType.ordinal()] / perResult));
+            }
+        }
+        if (items.length() > 0) {
+            out.println("[SIM] items per player:" + items);
+        }
+        if (!winners.isEmpty()) {
+            out.println("[SIM] winners: " + winners);
+        }
+    }
+}
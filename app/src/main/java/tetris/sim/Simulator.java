@@ -0,0 +1,315 @@
+package tetris.sim;
+
+import tetris.game.BattleGameEngine;
+import tetris.game.GameCommand;
+import tetris.game.GameConfig;
+import tetris.game.GameEngine;
+import tetris.game.GameEventListener;
+import tetris.game.ItemType;
+import tetris.game.SpeedCurve;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * 화면 없이 게임 규칙만 돌리는 대량 시뮬레이터
+ *
+ * 게임마다 엔진/전략/블록 가방을 따로 만들어 스레드 풀에서 동시에 돌리고, 결과를 SimulationStats에 모은다.
+ * 게임 i는 시드 (seed + i)를 쓰므로 같은 옵션이면 스레드 수와 상관없이 항상 같은 결과가 나온다.
+ * 블록 하나를 놓을 때마다 게임 시간을 --piece-time-ms 만큼 진행한다 (점수 2배/시간제한 계산용).
+ * 전략이 블록 놓을 곳을 정하는 데 걸린 실제 시간도 재서 리포트에 보여 준다 (AI 결정 지연 확인용).
+ *
+ * 실행: ./gradlew runSimulator --args="--games 1000 --threads 8 --mode ITEM --strategy lowest"
+ */
+public class Simulator {
+
+    /**
+     * 명령줄 옵션
+     */
+    static final class Options {
+        int games = 100;
+        int threads = Runtime.getRuntime().availableProcessors();
+        long seed = System.currentTimeMillis();
+        String strategy = "lowest";
+        String opponentStrategy = null; // null이면 strategy와 같음
+        String mode = "NORMAL";
+        String difficulty = "Normal";
+        String battleMode = null;       // NORMAL, ITEM, TIME_LIMIT (null이면 혼자 하는 게임)
+        long timeLimitSeconds = 180;
+        String curve = "classic";
+        int maxPieces = 1000;           // 플레이어당 최대 블록 수 (끝나지 않는 게임 방지)
+        long pieceTimeNanos = 1_000_000_000L;
+
+        /**
+         * @throws IllegalArgumentException 잘못된 옵션
+         */
+        static Options parse(String[] args) {
+            Options options = new Options();
+            for (int i = 0; i < args.length; i++) {
+                String name = args[i];
+                if (i + 1 >= args.length) {
+                    throw new IllegalArgumentException("Missing value for " + name);
+                }
+                String value = args[++i];
+                switch (name) {
+                    case "--games":
+                        options.games = Integer.parseInt(value);
+                        break;
+                    case "--threads":
+                        options.threads = Math.max(1, Integer.parseInt(value));
+                        break;
+                    case "--seed":
+                        options.seed = Long.parseLong(value);
+                        break;
+                    case "--strategy":
+                        options.strategy = value;
+                        break;
+                    case "--opponent":
+                        options.opponentStrategy = value;
+                        break;
+                    case "--mode":
+                        options.mode = value.toUpperCase();
+                        break;
+                    case "--difficulty":
+                        options.difficulty = value;
+                        break;
+                    case "--battle":
+                        options.battleMode = value.toUpperCase();
+                        break;
+                    case "--time-limit":
+                        options.timeLimitSeconds = Long.parseLong(value);
+                        break;
+                    case "--curve":
+                        options.curve = value;
+                        break;
+                    case "--max-pieces":
+                        options.maxPieces = Integer.parseInt(value);
+                        break;
+                    case "--piece-time-ms":
+                        options.pieceTimeNanos = Long.parseLong(value) * 1_000_000L;
+                        break;
+                    default:
+                        throw new IllegalArgumentException("Unknown option: " + name);
+                }
+            }
+            // 전략 이름은 게임을 시작하기 전에 확인
+            Strategy.create(options.strategy, 0);
+            if (options.opponentStrategy != null) {
+                Strategy.create(options.opponentStrategy, 0);
+            }
+            return options;
+        }
+    }
+
+    private final Options options;
+    private final GameConfig baseConfig;
+
+    Simulator(Options options) {
+        this.options = options;
+        this.baseConfig = new GameConfig(options.difficulty, options.mode, SpeedCurve.byName(options.curve));
+    }
+
+    /**
+     * 모든 게임을 스레드 풀에서 실행하고 결과 반환
+     */
+    SimulationStats run() throws Exception {
+        SimulationStats stats = new SimulationStats();
+        AtomicInteger threadIds = new AtomicInteger();
+        ExecutorService pool = Executors.newFixedThreadPool(options.threads, runnable -> {
+            Thread thread = new Thread(runnable, "sim-worker-" + threadIds.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        });
+        try {
+            List<Future<?>> futures = new ArrayList<>(options.games);
+            for (int i = 0; i < options.games; i++) {
+                long gameSeed = options.seed + i;
+                futures.add(pool.submit(() -> {
+                    if (options.battleMode != null) {
+                        playBattle(gameSeed, stats);
+                    } else {
+                        stats.recordGame(playSolo(gameSeed));
+                    }
+                }));
+            }
+            for (Future<?> future : futures) {
+                future.get();
+            }
+        } finally {
+            pool.shutdownNow();
+        }
+        return stats;
+    }
+
+    /**
+     * 혼자 하는 게임 한 판
+     */
+    GameResult playSolo(long seed) {
+        GameEngine engine = new GameEngine(baseConfig.withSeed(seed));
+        Strategy strategy = Strategy.create(options.strategy, strategySeed(seed, 1));
+        PlayerTracker tracker = new PlayerTracker();
+        engine.addGameEventListener(new GameEventListener() {
+            @Override
+            public void onPiecePlaced(GameEngine placed, int lastPlacedCol) {
+                tracker.piecesPlaced++;
+                // 화면과 같이 블록이 고정되면 바로 줄 삭제
+                placed.clearLinesManually();
+            }
+
+            @Override
+            public void onItemTriggered(GameEngine triggered, ItemType itemType) {
+                tracker.itemsTriggered[itemType.ordinal()]++;
+            }
+        });
+
+        engine.startGame();
+        List<GameCommand> commands = new ArrayList<>();
+        while (engine.isGameRunning() && tracker.piecesPlaced < options.maxPieces) {
+            if (!playPiece(engine, strategy, tracker, commands)) {
+                break;
+            }
+            engine.update(options.pieceTimeNanos);
+        }
+        return tracker.toResult(engine);
+    }
+
+    /**
+     * 대전 한 판 (두 플레이어가 번갈아 한 블록씩 놓음)
+     */
+    void playBattle(long seed, SimulationStats stats) {
+        BattleGameEngine battle = new BattleGameEngine(options.battleMode, baseConfig.withSeed(seed));
+        battle.setTimeLimit(options.timeLimitSeconds);
+        GameEngine player1 = battle.getPlayer1Engine();
+        GameEngine player2 = battle.getPlayer2Engine();
+        Strategy strategy1 = Strategy.create(options.strategy, strategySeed(seed, 1));
+        Strategy strategy2 = Strategy.create(
+            options.opponentStrategy != null ? options.opponentStrategy : options.strategy, strategySeed(seed, 2));
+        PlayerTracker tracker1 = new PlayerTracker();
+        PlayerTracker tracker2 = new PlayerTracker();
+
+        // BattleGameScreenController와 같은 순서: 대기 공격 적용 -> 줄 삭제 -> 상대에게 공격
+        GameEventListener listener = new GameEventListener() {
+            @Override
+            public void onPiecePlaced(GameEngine engine, int lastPlacedCol) {
+                int player = engine == player1 ? 1 : 2;
+                (player == 1 ? tracker1 : tracker2).piecesPlaced++;
+                battle.applyPendingAttacks(player);
+                if (battle.isGameRunning()) {
+                    engine.clearLinesManually();
+                }
+            }
+
+            @Override
+            public void onLinesCleared(GameEngine engine, int clearedLines, long rowMask) {
+                if (engine == player1) {
+                    battle.processPlayer1Attack(clearedLines, engine.getLastPlacedBlockCol());
+                } else {
+                    battle.processPlayer2Attack(clearedLines, engine.getLastPlacedBlockCol());
+                }
+            }
+
+            @Override
+            public void onItemTriggered(GameEngine engine, ItemType itemType) {
+                (engine == player1 ? tracker1 : tracker2).itemsTriggered[itemType.ordinal()]++;
+            }
+        };
+        player1.addGameEventListener(listener);
+        player2.addGameEventListener(listener);
+
+        battle.startGame();
+        List<GameCommand> commands = new ArrayList<>();
+        while (battle.isGameRunning() && battle.getWinner() == null
+                && tracker1.piecesPlaced + tracker2.piecesPlaced < options.maxPieces * 2) {
+            boolean moved = playPiece(player1, strategy1, tracker1, commands);
+            moved |= playPiece(player2, strategy2, tracker2, commands);
+            battle.update(options.pieceTimeNanos);
+            if (!moved) {
+                break;
+            }
+        }
+        String winner = battle.getWinner() != null ? battle.getWinner() : "UNFINISHED";
+        stats.recordBattle(tracker1.toResult(player1), tracker2.toResult(player2), winner);
+    }
+
+    /**
+     * 전략이 고른 명령으로 블록 하나를 놓음
+     * @return 블록을 놓았으면 true (엔진이 멈춰 있으면 false)
+     */
+    private static boolean playPiece(GameEngine engine, Strategy strategy, PlayerTracker tracker,
+                                     List<GameCommand> commands) {
+        if (!engine.isGameRunning()) {
+            return false;
+        }
+        int placedBefore = tracker.piecesPlaced;
+        commands.clear();
+        long start = System.nanoTime();
+        strategy.planPiece(engine, commands);
+        tracker.recordDecision(System.nanoTime() - start);
+        for (int i = 0; i < commands.size() && tracker.piecesPlaced == placedBefore; i++) {
+            engine.execute(commands.get(i));
+        }
+        if (tracker.piecesPlaced == placedBefore) {
+            engine.execute(GameCommand.HARD_DROP);
+        }
+        return tracker.piecesPlaced > placedBefore;
+    }
+
+    // 블록 순서와 다른 난수를 쓰도록 시드를 섞음
+    private static long strategySeed(long gameSeed, int player) {
+        return gameSeed * 31 + player * 0x9E3779B97F4A7C15L;
+    }
+
+    /**
+     * 플레이어 한 명의 진행 상황 (그 게임을 돌리는 스레드에서만 사용)
+     */
+    private static final class PlayerTracker {
+        int piecesPlaced = 0;
+        final int[] itemsTriggered = new int[ItemType.values().length];
+        int decisions = 0;
+        long decisionNanos = 0;
+        long maxDecisionNanos = 0;
+
+        void recordDecision(long nanos) {
+            decisions++;
+            decisionNanos += nanos;
+            maxDecisionNanos = Math.max(maxDecisionNanos, nanos);
+        }
+
+        GameResult toResult(GameEngine engine) {
+            return new GameResult(engine.getScore(), engine.getLinesCleared(), engine.getLevel(), piecesPlaced,
+                engine.getGameTime(), itemsTriggered, engine.isToppedOut(),
+                decisions, decisionNanos, maxDecisionNanos);
+        }
+    }
+
+    private static void printUsage() {
+        System.err.println("Usage: Simulator [--games N] [--threads T] [--seed S] [--strategy random|lowest|ai]");
+        System.err.println("                 [--mode NORMAL|ITEM] [--difficulty Easy|Normal|Hard] [--curve classic|guideline]");
+        System.err.println("                 [--battle NORMAL|ITEM|TIME_LIMIT] [--opponent STRATEGY] [--time-limit SECONDS]");
+        System.err.println("                 [--max-pieces N] [--piece-time-ms MS]");
+    }
+
+    public static void main(String[] args) throws Exception {
+        Options options;
+        try {
+            options = Options.parse(args);
+        } catch (IllegalArgumentException e) {
+            System.err.println("[SIM] " + e.getMessage());
+            printUsage();
+            System.exit(2);
+            return;
+        }
+
+        System.out.println("[SIM] " + options.games + " games on " + options.threads + " threads (seed "
+            + options.seed + ", strategy " + options.strategy + ", "
+            + (options.battleMode != null ? "battle " + options.battleMode : options.mode) + ", "
+            + options.difficulty + ")");
+        long start = System.nanoTime();
+        SimulationStats stats = new Simulator(options).run();
+        stats.printReport(System.out, System.nanoTime() - start);
+    }
+}
@@ -0,0 +1,45 @@
+package tetris.sim;
+
+import tetris.ai.PlacementSearch;
+import tetris.game.GameCommand;
+import tetris.game.GameEngine;
+
+import java.util.List;
+
+/**
+ * 시뮬레이터에서 블록을 놓는 방법
+ * 게임마다 새로 만들어지므로 (create) 구현체는 스레드 안전할 필요가 없다.
+ */
+public interface Strategy {
+
+    /**
+     * 현재 블록을 놓기 위한 명령을 commands에 추가
+     * HARD_DROP으로 끝나지 않으면 시뮬레이터가 마지막에 HARD_DROP을 붙인다.
+     */
+    void planPiece(GameEngine engine, List<GameCommand> commands);
+
+    /**
+     * 이름으로 전략 생성 ("random", "lowest", "ai")
+     * @param seed 전략이 쓰는 난수 시드
+     * @throws IllegalArgumentException 모르는 이름
+     */
+    static Strategy create(String name, long seed) {
+        switch (name.toLowerCase()) {
+            case "random":
+                return new RandomStrategy(seed);
+            case "lowest":
+                return new LowestStackStrategy();
+            case "ai": {
+                // 대전 화면의 컴퓨터 플레이어와 같은 탐색 (다음 블록까지 보고 결정)
+                PlacementSearch search = new PlacementSearch();
+                return (engine, commands) -> {
+                    if (search.search(engine)) {
+                        search.appendCommands(commands);
+                    }
+                };
+            }
+            default:
+                throw new IllegalArgumentException("Unknown strategy: " + name);
+        }
+    }
+}
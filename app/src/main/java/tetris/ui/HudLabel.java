@@ -0,0 +1,73 @@
+package tetris.ui;
+
+import javafx.scene.control.Label;
+import java.util.function.LongFunction;
+
+/**
+ * HUD 라벨의 마지막 표시 값을 기억해 두었다가 값이 바뀐 경우에만 setText 하는 헬퍼
+ * 매 프레임 같은 문자열을 다시 넣으면 문자열 할당과 CSS/레이아웃 패스가 계속 발생하므로
+ * 컨트롤러의 updateUI()에서는 이 클래스를 거쳐서 라벨을 갱신한다
+ */
+public final class HudLabel {
+    private final LongFunction<String> formatter;
+
+    // 마지막으로 반영한 라벨과 값 (라벨이 교체되면 다시 그린다)
+    private Label boundLabel;
+    private long lastValue;
+    private boolean showingValue;
+    private boolean cleared;
+
+    public HudLabel(String prefix) {
+        this(value -> prefix + value);
+    }
+
+    public HudLabel(LongFunction<String> formatter) {
+        this.formatter = formatter;
+    }
+
+    /**
+     * 값이 바뀌었을 때만 라벨 텍스트를 갱신
+     * @return 실제로 텍스트를 갱신했으면 true (스타일도 이때만 바꾸면 된다)
+     */
+    public boolean update(Label label, long value) {
+        if (label == null) {
+            return false;
+        }
+        if (label == boundLabel && showingValue && value == lastValue) {
+            return false;
+        }
+        label.setText(formatter.apply(value));
+        boundLabel = label;
+        lastValue = value;
+        showingValue = true;
+        cleared = false;
+        return true;
+    }
+
+    /**
+     * 라벨을 빈 문자열로 비움 (이미 비어 있으면 아무것도 하지 않음)
+     * @return 실제로 텍스트를 갱신했으면 true
+     */
+    public boolean clear(Label label) {
+        if (label == null) {
+            return false;
+        }
+        if (label == boundLabel && cleared) {
+            return false;
+        }
+        label.setText("");
+        boundLabel = label;
+        showingValue = false;
+        cleared = true;
+        return true;
+    }
+
+    /**
+     * 다른 코드가 라벨을 직접 건드린 경우 다음 갱신을 강제
+     */
+    public void invalidate() {
+        boundLabel = null;
+        showingValue = false;
+        cleared = false;
+    }
+}
@@ -11,8 +11,8 @@ public class MusicManager {
     private static MusicManager instance;
     
     private MediaPlayer backgroundMusicPlayer;
-    private MediaPlayer gameMusicPlayer;
-    private MediaPlayer removeBlockSoundPlayer;
+    private MediaPlayer gameMusicPlayer; // 처음 게임을 시작할 때 생성
+    private boolean gameMusicLoaded = false;
     
     private SettingsManager settingsManager;
     
@@ -21,7 +21,7 @@ public class MusicManager {
         initializeMusic();
     }
     
-    public static MusicManager getInstance() {
+    public static synchronized MusicManager getInstance() {
         if (instance == null) {
             instance = new MusicManager();
         }
@@ -30,6 +30,7 @@ public class MusicManager {
     
     /**
      * 음악 파일들을 초기화
+     * 게임 브금은 메뉴에서는 필요 없으므로 getGameMusicPlayer()에서 처음 사용할 때 만든다
      */
     private void initializeMusic() {
         try {
@@ -41,27 +42,33 @@ public class MusicManager {
                 backgroundMusicPlayer.setCycleCount(MediaPlayer.INDEFINITE); // 무한 반복
             }
             
-            // 게임 브금
-            URL gameMusicUrl = getClass().getResource("/assets/music/Game_Music.mp3");
-            if (gameMusicUrl != null) {
-                Media gameMedia = new Media(gameMusicUrl.toExternalForm());
-                gameMusicPlayer = new MediaPlayer(gameMedia);
-                gameMusicPlayer.setCycleCount(MediaPlayer.INDEFINITE); // 무한 반복
-            }
-            
-            // 블록 삭제 효과음
-            URL removeBlockUrl = getClass().getResource("/assets/music/Remove_Block.mp3");
-            if (removeBlockUrl != null) {
-                Media removeBlockMedia = new Media(removeBlockUrl.toExternalForm());
-                removeBlockSoundPlayer = new MediaPlayer(removeBlockMedia);
-            }
-            
             updateVolume();
         } catch (Exception e) {
             System.err.println("음악 파일 로드 실패: " + e.getMessage());
         }
     }
     
+    /**
+     * 게임 브금 플레이어 (최초 호출 시 생성)
+     */
+    private MediaPlayer getGameMusicPlayer() {
+        if (!gameMusicLoaded) {
+            gameMusicLoaded = true;
+            try {
+                URL gameMusicUrl = getClass().getResource("/assets/music/Game_Music.mp3");
+                if (gameMusicUrl != null) {
+                    Media gameMedia = new Media(gameMusicUrl.toExternalForm());
+                    gameMusicPlayer = new MediaPlayer(gameMedia);
+                    gameMusicPlayer.setCycleCount(MediaPlayer.INDEFINITE); // 무한 반복
+                    gameMusicPlayer.setVolume(settingsManager.getVolume() / 100.0);
+                }
+            } catch (Exception e) {
+                System.err.println("게임 브금 로드 실패: " + e.getMessage());
+            }
+        }
+        return gameMusicPlayer;
+    }
+
     /**
      * 볼륨 설정 업데이트
      */
@@ -74,9 +81,6 @@ public class MusicManager {
         if (gameMusicPlayer != null) {
             gameMusicPlayer.setVolume(volume);
         }
-        if (removeBlockSoundPlayer != null) {
-            removeBlockSoundPlayer.setVolume(volume);
-        }
     }
     
     /**
@@ -105,26 +109,19 @@ public class MusicManager {
         
         stopAllMusic();
         
-        if (gameMusicPlayer != null) {
+        MediaPlayer player = getGameMusicPlayer();
+        if (player != null) {
             updateVolume();
-            gameMusicPlayer.play();
+            player.play();
         }
     }
     
     /**
      * 블록 삭제 효과음 재생
+     * 효과음은 SoundEffectPlayer(AudioClip)가 담당한다
      */
     public void playRemoveBlockSound() {
-        if (!settingsManager.isSoundEffectsEnabled()) {
-            return;
-        }
-        
-        if (removeBlockSoundPlayer != null) {
-            updateVolume();
-            // 효과음은 처음부터 재생
-            removeBlockSoundPlayer.stop();
-            removeBlockSoundPlayer.play();
-        }
+        SoundEffectPlayer.getInstance().play(SoundEffect.LINE_CLEAR);
     }
     
     /**
@@ -189,9 +186,7 @@ public class MusicManager {
         if (gameMusicPlayer != null) {
             gameMusicPlayer.dispose();
         }
-        if (removeBlockSoundPlayer != null) {
-            removeBlockSoundPlayer.dispose();
-        }
+        SoundEffectPlayer.getInstance().stopAll();
     }
 }
 
@@ -0,0 +1,16 @@
+package tetris.ui;
+
+/**
+ * SceneManager가 캐시해 둔 화면을 다시 띄울 때 호출되는 컨트롤러 리셋 훅
+ * initialize()는 FXML을 처음 로드할 때 한 번만 실행되므로, 화면에 들어올 때마다
+ * 다시 해야 하는 일(점수 다시 읽기, 음악 재생, 새 게임 시작 등)은 여기서 처리한다.
+ */
+public interface ReusableController {
+
+    /**
+     * 캐시된 Scene이 Stage에 다시 설정되기 직전에 FX 스레드에서 호출된다.
+     * 백그라운드에서 미리 로드한 화면은 처음 띄울 때도 호출된다.
+     * 화면별 setter(setFinalScore, setNetworkObjects 등)는 이 메서드 다음에 호출된다.
+     */
+    void onSceneReused();
+}
@@ -1,14 +1,21 @@
 package tetris.ui;
 
 import javafx.fxml.FXMLLoader;
+import javafx.scene.Parent;
 import javafx.scene.Scene;
+import javafx.scene.control.Label;
+import javafx.scene.layout.StackPane;
 import javafx.stage.Stage;
 import java.io.IOException;
 import java.net.URL;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
 
 public class SceneManager {
     private final Stage primaryStage;
-    
+
     // 화면 크기 상수 (작게, 중간, 크게)
     private static final double SMALL_WIDTH = 480;
     private static final double SMALL_HEIGHT = 720;
@@ -17,6 +24,45 @@ public class SceneManager {
     private static final double LARGE_WIDTH = 720;
     private static final double LARGE_HEIGHT = 1080;
 
+    // 한 번 만든 Scene을 다시 쓰는 화면 (컨트롤러가 ReusableController로 상태를 리셋)
+    // 배틀 화면과 네트워크 대기/로비 화면은 매번 새로 만든다
+    private static final Set<String> CACHEABLE_SCENES = Set.of(
+        "/fxml/MainMenu.fxml",
+        "/fxml/GameScreen.fxml",
+        "/fxml/SettingsScreen.fxml",
+        "/fxml/ScoreBoard.fxml",
+        "/fxml/GameOverScreen.fxml",
+        "/fxml/BattleModeSelection.fxml",
+        "/fxml/PVPModeSelection.fxml",
+        "/fxml/PVPGameScreen.fxml"
+    );
+
+    // 시작 시 백그라운드에서 미리 파싱해 둘 화면
+    // initialize()에서 게임 시작이나 음악 재생 같은 부수효과가 없는 화면만 넣는다
+    private static final List<String> PRELOAD_SCENES = List.of(
+        "/fxml/SettingsScreen.fxml",
+        "/fxml/ScoreBoard.fxml",
+        "/fxml/GameOverScreen.fxml",
+        "/fxml/BattleModeSelection.fxml",
+        "/fxml/PVPModeSelection.fxml",
+        "/fxml/PVPGameScreen.fxml"
+    );
+
+    // 키: FXML 경로 + Scene 크기 (화면 크기 설정이 바뀌면 다른 항목이 된다)
+    private final Map<String, CachedScene> sceneCache = new ConcurrentHashMap<>();
+    // 미리 로드했지만 아직 Scene으로 만들지 않은 FXML (Scene 생성은 FX 스레드에서)
+    private final Map<String, FXMLLoader> preloadedLoaders = new ConcurrentHashMap<>();
+
+    private static final class CachedScene {
+        final Scene scene;
+        final Object controller;
+
+        CachedScene(Scene scene, Object controller) {
+            this.scene = scene;
+            this.controller = controller;
+        }
+    }
+
     public SceneManager(Stage primaryStage) {
         this.primaryStage = primaryStage;
         setupStage();
@@ -28,6 +74,48 @@ public class SceneManager {
         primaryStage.setOnCloseRequest(e -> System.exit(0));
     }
 
+    /**
+     * 시작 시 싱글톤/리소스를 초기화하는 동안 보여줄 최소한의 화면
+     * 설정 파일을 읽기 전이라 화면 크기 설정 대신 작은 고정 크기를 쓴다
+     */
+    public void showSplash() {
+        Label loadingLabel = new Label("TETRIS\nLoading...");
+        loadingLabel.setStyle("-fx-text-fill: #ffffff; -fx-font-size: 24px; -fx-font-weight: bold;"
+            + " -fx-text-alignment: center;");
+        StackPane root = new StackPane(loadingLabel);
+        root.setStyle("-fx-background-color: #000000;");
+        applyScene(new Scene(root, 320, 180));
+    }
+
+    /**
+     * 자주 오가는 화면의 FXML을 데몬 스레드에서 미리 파싱
+     * 실패해도 해당 화면을 처음 열 때 평소처럼 로드하므로 로그만 남긴다
+     */
+    public void preloadScenes() {
+        String screenSize = SettingsManager.getInstance().getScreenSize();
+        Thread preloader = new Thread(() -> {
+            long start = System.nanoTime();
+            for (String fxmlPath : PRELOAD_SCENES) {
+                double[] size = resolveSceneSize(fxmlPath, screenSize);
+                String key = cacheKey(fxmlPath, size[0], size[1]);
+                if (sceneCache.containsKey(key) || preloadedLoaders.containsKey(key)) {
+                    continue;
+                }
+                try {
+                    FXMLLoader loader = new FXMLLoader(getClass().getResource(fxmlPath));
+                    loader.load();
+                    preloadedLoaders.putIfAbsent(key, loader);
+                } catch (IOException | RuntimeException e) {
+                    System.err.println("[SCENE] Preload failed: " + fxmlPath + " (" + e.getMessage() + ")");
+                }
+            }
+            System.out.println("[SCENE] Preloaded " + preloadedLoaders.size() + " scenes in "
+                + (System.nanoTime() - start) / 1_000_000 + "ms");
+        }, "scene-preloader");
+        preloader.setDaemon(true);
+        preloader.start();
+    }
+
     public void showMainMenu() {
         loadScene("/fxml/MainMenu.fxml");
     }
@@ -69,7 +157,14 @@ public class SceneManager {
     }
 
     public void showBattleGameScreen(String battleMode) {
-        loadBattleScene("/fxml/BattleGameScreen.fxml", battleMode);
+        loadBattleScene("/fxml/BattleGameScreen.fxml", battleMode, false);
+    }
+
+    /**
+     * 2P를 컴퓨터가 조작하는 대전 화면
+     */
+    public void showBattleGameScreenAgainstComputer(String battleMode) {
+        loadBattleScene("/fxml/BattleGameScreen.fxml", battleMode, true);
     }
 
     public void showPVPGameScreen(String gameMode, Object gameServer, Object gameClient, boolean isServer) {
@@ -90,71 +185,10 @@ public class SceneManager {
 
     private void loadScene(String fxmlPath, int finalScore) {
         try {
-            // 현재 설정된 화면 크기 가져오기
-            String screenSize = SettingsManager.getInstance().getScreenSize();
-            double width = MEDIUM_WIDTH;
-            double height = MEDIUM_HEIGHT;
-            
-            switch (screenSize) {
-                case "작게":
-                    width = SMALL_WIDTH;
-                    height = SMALL_HEIGHT;
-                    break;
-                case "중간":
-                    width = MEDIUM_WIDTH;
-                    height = MEDIUM_HEIGHT;
-                    break;
-                case "크게":
-                    width = LARGE_WIDTH;
-                    height = LARGE_HEIGHT;
-                    break;
-                default:
-                    // 기본값은 중간
-                    width = MEDIUM_WIDTH;
-                    height = MEDIUM_HEIGHT;
-                    break;
-            }
-            
-            FXMLLoader loader = new FXMLLoader(getClass().getResource(fxmlPath));
-            Scene scene = new Scene(loader.load(), width, height);
-            
-            // CSS 스타일 로드
-            String cssPath = null;
-            if (fxmlPath.contains("GameScreen")) {
-                cssPath = "/css/GameScreen.css";
-            } else if (fxmlPath.contains("MainMenu")) {
-                cssPath = "/css/MainMenu.css";
-            } else if (fxmlPath.contains("SettingsScreen")) {
-                cssPath = "/css/SettingsScreen.css";
-            } else if (fxmlPath.contains("ScoreBoard")) {
-                cssPath = "/css/ScoreBoard.css";
-            } else if (fxmlPath.contains("GameOverScreen")) {
-                cssPath = "/css/GameOverScreen.css";
-            } else if (fxmlPath.contains("BattleModeSelection")) {
-                cssPath = "/css/MainMenu.css"; // 같은 스타일 사용
-            } else if (fxmlPath.contains("PVPModeSelection")
-                    || fxmlPath.contains("PVPNetworkSelection")
-                    || fxmlPath.contains("PVPServerWaiting")
-                    || fxmlPath.contains("PVPClientConnection")) {
-                cssPath = "/css/MainMenu.css"; // 같은 스타일 사용
-            } else if (fxmlPath.contains("BattleGameScreen")) {
-                cssPath = "/css/GameScreen.css"; // 같은 스타일 사용
-            } else if (fxmlPath.contains("PVPGameScreen")) {
-                cssPath = "/css/GameScreen.css"; // 같은 스타일 사용
-            }
-            
-            if (cssPath != null) {
-                URL cssUrl = getClass().getResource(cssPath);
-                if (cssUrl != null) {
-                    scene.getStylesheets().add(cssUrl.toExternalForm());
-                    System.out.println("CSS 로드 성공: " + cssPath);
-                } else {
-                    System.err.println("CSS 파일을 찾을 수 없습니다: " + cssPath);
-                }
-            }
+            CachedScene loaded = obtainScene(fxmlPath);
 
             // 컨트롤러에 SceneManager 설정
-            Object controller = loader.getController();
+            Object controller = loaded.controller;
             if (controller instanceof tetris.ui.controllers.MainMenuController) {
                 ((tetris.ui.controllers.MainMenuController) controller).setSceneManager(this);
             } else if (controller instanceof tetris.ui.controllers.GameScreenController) {
@@ -172,7 +206,7 @@ public class SceneManager {
             } else if (controller instanceof tetris.ui.controllers.PVPClientConnectionController) {
                 ((tetris.ui.controllers.PVPClientConnectionController) controller).setSceneManager(this);
             } else if (controller instanceof tetris.ui.controllers.GameOverController) {
-                tetris.ui.controllers.GameOverController gameOverController = 
+                tetris.ui.controllers.GameOverController gameOverController =
                     (tetris.ui.controllers.GameOverController) controller;
                 gameOverController.setSceneManager(this);
                 if (finalScore > 0) {
@@ -180,66 +214,28 @@ public class SceneManager {
                 }
             }
 
-            applyScene(scene);
+            applyScene(loaded.scene);
         } catch (IOException e) {
             System.err.println("Error loading scene: " + fxmlPath);
             e.printStackTrace();
         }
     }
 
-    private void loadBattleScene(String fxmlPath, String battleMode) {
+    private void loadBattleScene(String fxmlPath, String battleMode, boolean cpuOpponent) {
         try {
-            String screenSize = SettingsManager.getInstance().getScreenSize();
-            double width = MEDIUM_WIDTH;
-            double height = MEDIUM_HEIGHT;
-
-            switch (screenSize) {
-                case "작게":
-                    width = SMALL_WIDTH;
-                    height = SMALL_HEIGHT;
-                    break;
-                case "중간":
-                    width = MEDIUM_WIDTH;
-                    height = MEDIUM_HEIGHT;
-                    break;
-                case "크게":
-                    width = LARGE_WIDTH;
-                    height = LARGE_HEIGHT;
-                    break;
-                default:
-                    width = MEDIUM_WIDTH;
-                    height = MEDIUM_HEIGHT;
-                    break;
-            }
-
-            // 대전 모드는 화면이 넓어야 하므로 가로로 확장
-            if (screenSize.equals("작게")) {
-                width = 840; 
-            } else if (screenSize.equals("크게")) {
-                width = 1080; 
-            } else {
-                width = width * 1.6; // 중간은 기존 비율 유지
-            }
-
-            FXMLLoader loader = new FXMLLoader(getClass().getResource(fxmlPath));
-            Scene scene = new Scene(loader.load(), width, height);
-
-            // CSS 스타일 로드
-            URL cssUrl = getClass().getResource("/css/BattleGameScreen.css");
-            if (cssUrl != null) {
-                scene.getStylesheets().add(cssUrl.toExternalForm());
-            }
+            CachedScene loaded = obtainScene(fxmlPath);
 
             // 컨트롤러에 SceneManager와 배틀 모드 설정
-            Object controller = loader.getController();
+            Object controller = loaded.controller;
             if (controller instanceof tetris.ui.controllers.BattleGameScreenController) {
                 tetris.ui.controllers.BattleGameScreenController battleController =
                     (tetris.ui.controllers.BattleGameScreenController) controller;
                 battleController.setSceneManager(this);
+                battleController.setCpuOpponent(cpuOpponent);
                 battleController.setBattleMode(battleMode);
             }
 
-            applyScene(scene);
+            applyScene(loaded.scene);
         } catch (IOException e) {
             System.err.println("Error loading battle scene: " + fxmlPath);
             e.printStackTrace();
@@ -250,52 +246,11 @@ public class SceneManager {
         System.out.println("[SCENE] Loading PVP scene: " + fxmlPath);
         System.out.println("[SCENE] Game mode: " + gameMode + ", isServer: " + isServer);
         try {
-            String screenSize = SettingsManager.getInstance().getScreenSize();
-            double width = MEDIUM_WIDTH;
-            double height = MEDIUM_HEIGHT;
-
-            switch (screenSize) {
-                case "작게":
-                    width = SMALL_WIDTH;
-                    height = SMALL_HEIGHT;
-                    break;
-                case "중간":
-                    width = MEDIUM_WIDTH;
-                    height = MEDIUM_HEIGHT;
-                    break;
-                case "크게":
-                    width = LARGE_WIDTH;
-                    height = LARGE_HEIGHT;
-                    break;
-                default:
-                    width = MEDIUM_WIDTH;
-                    height = MEDIUM_HEIGHT;
-                    break;
-            }
-
-            // PVP 모드는 화면이 넓어야 하므로 가로로 확장 (2개 보드 표시)
-            if (screenSize.equals("작게")) {
-                width = 900; // 작은 화면: 900px
-            } else if (screenSize.equals("크게")) {
-                width = 1120; // 큰 화면: 1120px
-            } else {
-                width = width * 1.6; // 중간은 기존 비율 유지
-            }
-
-            System.out.println("[SCENE] Loading FXML...");
-            FXMLLoader loader = new FXMLLoader(getClass().getResource(fxmlPath));
-            Scene scene = new Scene(loader.load(), width, height);
-
-            // CSS 스타일 로드
-            URL cssUrl = getClass().getResource("/css/PVPGameScreen.css");
-            if (cssUrl != null) {
-                scene.getStylesheets().add(cssUrl.toExternalForm());
-                System.out.println("[SCENE] CSS loaded");
-            }
+            CachedScene loaded = obtainScene(fxmlPath);
 
             // 컨트롤러에 SceneManager와 게임 모드, 네트워크 객체 설정
             System.out.println("[SCENE] Getting controller...");
-            Object controller = loader.getController();
+            Object controller = loaded.controller;
             if (controller instanceof tetris.ui.controllers.PVPGameScreenController) {
                 System.out.println("[SCENE] PVPGameScreenController found, configuring...");
                 tetris.ui.controllers.PVPGameScreenController pvpController =
@@ -311,7 +266,7 @@ public class SceneManager {
             }
 
             System.out.println("[SCENE] Displaying scene...");
-            applyScene(scene);
+            applyScene(loaded.scene);
             System.out.println("[SCENE] PVP scene loaded successfully");
         } catch (IOException e) {
             System.err.println("[SCENE] Error loading PVP scene: " + fxmlPath);
@@ -321,40 +276,10 @@ public class SceneManager {
 
     private void loadPVPNetworkScene(String fxmlPath, String gameMode) {
         try {
-            String screenSize = SettingsManager.getInstance().getScreenSize();
-            double width = MEDIUM_WIDTH;
-            double height = MEDIUM_HEIGHT;
-
-            switch (screenSize) {
-                case "작게":
-                    width = SMALL_WIDTH;
-                    height = SMALL_HEIGHT;
-                    break;
-                case "중간":
-                    width = MEDIUM_WIDTH;
-                    height = MEDIUM_HEIGHT;
-                    break;
-                case "크게":
-                    width = LARGE_WIDTH;
-                    height = LARGE_HEIGHT;
-                    break;
-                default:
-                    width = MEDIUM_WIDTH;
-                    height = MEDIUM_HEIGHT;
-                    break;
-            }
-
-            FXMLLoader loader = new FXMLLoader(getClass().getResource(fxmlPath));
-            Scene scene = new Scene(loader.load(), width, height);
-
-            // CSS 스타일 로드
-            URL cssUrl = getClass().getResource("/css/MainMenu.css");
-            if (cssUrl != null) {
-                scene.getStylesheets().add(cssUrl.toExternalForm());
-            }
+            CachedScene loaded = obtainScene(fxmlPath);
 
             // 컨트롤러에 SceneManager와 게임 모드 설정
-            Object controller = loader.getController();
+            Object controller = loaded.controller;
             if (controller instanceof tetris.ui.controllers.PVPNetworkSelectionController) {
                 tetris.ui.controllers.PVPNetworkSelectionController networkController =
                     (tetris.ui.controllers.PVPNetworkSelectionController) controller;
@@ -362,7 +287,7 @@ public class SceneManager {
                 networkController.setGameMode(gameMode);
             }
 
-            applyScene(scene);
+            applyScene(loaded.scene);
         } catch (IOException e) {
             System.err.println("Error loading PVP network selection scene: " + fxmlPath);
             e.printStackTrace();
@@ -371,49 +296,20 @@ public class SceneManager {
 
     private void loadPVPServerWaitingScene(String fxmlPath, Object gameServer, String serverIP) {
         try {
-            String screenSize = SettingsManager.getInstance().getScreenSize();
-            double width = MEDIUM_WIDTH;
-            double height = MEDIUM_HEIGHT;
-
-            switch (screenSize) {
-                case "작게":
-                    width = SMALL_WIDTH;
-                    height = SMALL_HEIGHT;
-                    break;
-                case "중간":
-                    width = MEDIUM_WIDTH;
-                    height = MEDIUM_HEIGHT;
-                    break;
-                case "크게":
-                    width = LARGE_WIDTH;
-                    height = LARGE_HEIGHT;
-                    break;
-                default:
-                    width = MEDIUM_WIDTH;
-                    height = MEDIUM_HEIGHT;
-                    break;
-            }
-
-            FXMLLoader loader = new FXMLLoader(getClass().getResource(fxmlPath));
-            Scene scene = new Scene(loader.load(), width, height);
+            CachedScene loaded = obtainScene(fxmlPath);
 
-            URL cssUrl = getClass().getResource("/css/MainMenu.css");
-            if (cssUrl != null) {
-                scene.getStylesheets().add(cssUrl.toExternalForm());
-            }
-
-            Object controller = loader.getController();
+            Object controller = loaded.controller;
             if (controller instanceof tetris.ui.controllers.PVPServerWaitingController) {
                 tetris.ui.controllers.PVPServerWaitingController waitingController =
                     (tetris.ui.controllers.PVPServerWaitingController) controller;
                 waitingController.setSceneManager(this);
                 waitingController.setServerInfo(
-                    (tetris.network.GameServer) gameServer, 
+                    (tetris.network.GameServer) gameServer,
                     serverIP
                 );
             }
 
-            applyScene(scene);
+            applyScene(loaded.scene);
         } catch (IOException e) {
             System.err.println("Error loading PVP server waiting scene: " + fxmlPath);
             e.printStackTrace();
@@ -422,38 +318,9 @@ public class SceneManager {
 
     private void loadPVPLobbyScene(String fxmlPath, Object gameServer, Object gameClient, boolean isServer) {
         try {
-            String screenSize = SettingsManager.getInstance().getScreenSize();
-            double width = MEDIUM_WIDTH;
-            double height = MEDIUM_HEIGHT;
-
-            switch (screenSize) {
-                case "작게":
-                    width = SMALL_WIDTH;
-                    height = SMALL_HEIGHT;
-                    break;
-                case "중간":
-                    width = MEDIUM_WIDTH;
-                    height = MEDIUM_HEIGHT;
-                    break;
-                case "크게":
-                    width = LARGE_WIDTH;
-                    height = LARGE_HEIGHT;
-                    break;
-                default:
-                    width = MEDIUM_WIDTH;
-                    height = MEDIUM_HEIGHT;
-                    break;
-            }
-
-            FXMLLoader loader = new FXMLLoader(getClass().getResource(fxmlPath));
-            Scene scene = new Scene(loader.load(), width, height);
+            CachedScene loaded = obtainScene(fxmlPath);
 
-            URL cssUrl = getClass().getResource("/css/MainMenu.css");
-            if (cssUrl != null) {
-                scene.getStylesheets().add(cssUrl.toExternalForm());
-            }
-
-            Object controller = loader.getController();
+            Object controller = loaded.controller;
             if (controller instanceof tetris.ui.controllers.PVPLobbyController) {
                 tetris.ui.controllers.PVPLobbyController lobbyController =
                     (tetris.ui.controllers.PVPLobbyController) controller;
@@ -465,13 +332,145 @@ public class SceneManager {
                 );
             }
 
-            applyScene(scene);
+            applyScene(loaded.scene);
         } catch (IOException e) {
             System.err.println("Error loading PVP lobby scene: " + fxmlPath);
             e.printStackTrace();
         }
     }
 
+    /**
+     * 캐시된 Scene이 있으면 컨트롤러를 리셋해서 돌려주고,
+     * 없으면 (미리 로드된 FXML이 있으면 그것으로, 컨트롤러도 리셋) Scene을 만든다
+     */
+    private CachedScene obtainScene(String fxmlPath) throws IOException {
+        String screenSize = SettingsManager.getInstance().getScreenSize();
+        double[] size = resolveSceneSize(fxmlPath, screenSize);
+        boolean cacheable = CACHEABLE_SCENES.contains(fxmlPath);
+        String key = cacheKey(fxmlPath, size[0], size[1]);
+
+        if (cacheable) {
+            CachedScene cached = sceneCache.get(key);
+            if (cached != null) {
+                if (cached.controller instanceof ReusableController) {
+                    ((ReusableController) cached.controller).onSceneReused();
+                }
+                return cached;
+            }
+        }
+
+        FXMLLoader loader = cacheable ? preloadedLoaders.remove(key) : null;
+        boolean preloaded = loader != null;
+        Parent root;
+        if (preloaded) {
+            root = loader.getRoot();
+        } else {
+            loader = new FXMLLoader(getClass().getResource(fxmlPath));
+            root = loader.load();
+        }
+
+        Scene scene = new Scene(root, size[0], size[1]);
+
+        // CSS 스타일 로드 (캐시된 Scene은 이미 적용되어 있으므로 최초 생성 시 한 번만)
+        String cssPath = resolveCssPath(fxmlPath);
+        if (cssPath != null) {
+            URL cssUrl = getClass().getResource(cssPath);
+            if (cssUrl != null) {
+                scene.getStylesheets().add(cssUrl.toExternalForm());
+                System.out.println("CSS 로드 성공: " + cssPath);
+            } else {
+                System.err.println("CSS 파일을 찾을 수 없습니다: " + cssPath);
+            }
+        }
+
+        CachedScene created = new CachedScene(scene, loader.getController());
+        // 미리 로드한 컨트롤러는 시작 시점 상태로 initialize()를 마쳤으므로 화면에 띄우기 전에 다시 채운다
+        if (preloaded && created.controller instanceof ReusableController) {
+            ((ReusableController) created.controller).onSceneReused();
+        }
+        if (cacheable) {
+            sceneCache.put(key, created);
+        }
+        return created;
+    }
+
+    private static String cacheKey(String fxmlPath, double width, double height) {
+        return fxmlPath + "@" + (int) width + "x" + (int) height;
+    }
+
+    /**
+     * 화면 크기 설정에 따른 Scene 크기 {가로, 세로}
+     */
+    private double[] resolveSceneSize(String fxmlPath, String screenSize) {
+        double width;
+        double height;
+
+        switch (screenSize) {
+            case "작게":
+                width = SMALL_WIDTH;
+                height = SMALL_HEIGHT;
+                break;
+            case "크게":
+                width = LARGE_WIDTH;
+                height = LARGE_HEIGHT;
+                break;
+            case "중간":
+            default:
+                // 기본값은 중간
+                width = MEDIUM_WIDTH;
+                height = MEDIUM_HEIGHT;
+                break;
+        }
+
+        if (fxmlPath.contains("BattleGameScreen")) {
+            // 대전 모드는 화면이 넓어야 하므로 가로로 확장
+            if (screenSize.equals("작게")) {
+                width = 840;
+            } else if (screenSize.equals("크게")) {
+                width = 1080;
+            } else {
+                width = width * 1.6; // 중간은 기존 비율 유지
+            }
+        } else if (fxmlPath.contains("PVPGameScreen")) {
+            // PVP 모드는 화면이 넓어야 하므로 가로로 확장 (2개 보드 표시)
+            if (screenSize.equals("작게")) {
+                width = 900; // 작은 화면: 900px
+            } else if (screenSize.equals("크게")) {
+                width = 1120; // 큰 화면: 1120px
+            } else {
+                width = width * 1.6; // 중간은 기존 비율 유지
+            }
+        }
+
+        return new double[] { width, height };
+    }
+
+    private String resolveCssPath(String fxmlPath) {
+        if (fxmlPath.contains("BattleGameScreen")) {
+            return "/css/BattleGameScreen.css";
+        } else if (fxmlPath.contains("PVPGameScreen")) {
+            return "/css/PVPGameScreen.css";
+        } else if (fxmlPath.contains("GameScreen")) {
+            return "/css/GameScreen.css";
+        } else if (fxmlPath.contains("MainMenu")) {
+            return "/css/MainMenu.css";
+        } else if (fxmlPath.contains("SettingsScreen")) {
+            return "/css/SettingsScreen.css";
+        } else if (fxmlPath.contains("ScoreBoard")) {
+            return "/css/ScoreBoard.css";
+        } else if (fxmlPath.contains("GameOverScreen")) {
+            return "/css/GameOverScreen.css";
+        } else if (fxmlPath.contains("BattleModeSelection")
+                || fxmlPath.contains("PVPModeSelection")
+                || fxmlPath.contains("PVPNetworkSelection")
+                || fxmlPath.contains("PVPServerWaiting")
+                || fxmlPath.contains("PVPClientConnection")
+                || fxmlPath.contains("PVPLobby")) {
+            return "/css/MainMenu.css"; // 같은 스타일 사용
+        }
+        return null;
+    }
+
     public Stage getPrimaryStage() {
         return primaryStage;
     }
@@ -487,4 +486,4 @@ public class SceneManager {
         return Boolean.parseBoolean(System.getProperty("testfx.headless", "false"))
             || Boolean.parseBoolean(System.getProperty("java.awt.headless", "false"));
     }
-}
\ No newline at end of file
+}
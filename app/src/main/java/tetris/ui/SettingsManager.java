@@ -1,46 +1,71 @@
 package tetris.ui;
 
 import java.io.*;
+import java.nio.file.AtomicMoveNotSupportedException;
 import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
 import java.nio.file.Path;
 import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
 import java.util.Properties;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.function.UnaryOperator;
 
 /**
  * 게임 설정을 관리하는 싱글톤 클래스
+ *
+ * 값은 변경 불가능한 SettingsSnapshot으로 보관하고, 파일 저장은 settings-writer 스레드에서
+ * 잠깐 모았다가 한 번에 처리한다 (write-behind).
  */
 public class SettingsManager {
     private static final String APP_NAME = "Tetris";
     private static final String SETTINGS_FILENAME = "game_settings.properties";
+    // -Dtetris.settingsFile=<경로> 로 설정 파일 위치를 바꾼다 (none이면 파일 없이 메모리에만 보관 - 테스트용)
+    static final String SETTINGS_FILE_PROPERTY = "tetris.settingsFile";
+    static final String IN_MEMORY = "none";
     private static SettingsManager instance;
 
-    private double volume = 50.0;
-    private String difficulty = "Normal";
-    private boolean soundEffectsEnabled = true;
-    private boolean musicEnabled = true;
-    private boolean colorBlindModeEnabled = false;
-    private String screenSize = "중간";
-    private String gameMode = "NORMAL"; // NORMAL 또는 ITEM
-
-    // Player1 키 설정 (기본값: WASD + Space)
-    private String keyLeft = "A";
-    private String keyRight = "D";
-    private String keyDown = "S";
-    private String keyRotate = "W";
-    private String keyHardDrop = "SPACE";
-    
-    // Player2 키 설정 (기본값: 화살표 키)
-    private String keyLeftP2 = "LEFT";
-    private String keyRightP2 = "RIGHT";
-    private String keyDownP2 = "DOWN";
-    private String keyRotateP2 = "UP";
-    private String keyHardDropP2 = "ENTER";
-    
+    // 설정 파일을 쓰기 전에 기다리는 시간 - 그 사이에 들어온 변경은 한 번의 쓰기로 합친다
+    private static final long SAVE_DEBOUNCE_MS = 300;
+
+    private final Path settingsFile; // null이면 메모리에만 보관
+
+    // 현재 설정 (변경할 때마다 새 스냅샷으로 교체하므로 잠금 없이 읽는다)
+    private volatile SettingsSnapshot current = SettingsSnapshot.defaults();
+    // 마지막으로 파일에 쓴 설정 (settings-writer 스레드에서만 사용)
+    private SettingsSnapshot lastSaved;
+    private int writeCount = 0;
+
+    private final ScheduledExecutorService writer;
+    private ScheduledFuture<?> pendingSave; // this로 동기화
+
     private SettingsManager() {
+        this(resolveSettingsFile());
+        // 종료 직전에 예약된 저장이 남아 있으면 마저 기록
+        Runtime.getRuntime().addShutdownHook(new Thread(this::flush, "settings-shutdown"));
+    }
+
+    /**
+     * 설정 파일 위치를 지정해서 생성 (테스트용, null이면 파일을 읽거나 쓰지 않음)
+     */
+    SettingsManager(Path settingsFile) {
+        this.settingsFile = settingsFile;
+        this.writer = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "settings-writer");
+            thread.setDaemon(true);
+            return thread;
+        });
         loadFromFile();
+        lastSaved = current;
     }
     
-    public static SettingsManager getInstance() {
+    public static synchronized SettingsManager getInstance() {
         if (instance == null) {
             instance = new SettingsManager();
         }
@@ -83,196 +108,248 @@ public class SettingsManager {
     }
     
     /**
-     * 설정 파일의 전체 경로를 반환
+     * 설정 파일의 전체 경로를 반환 (메모리 모드면 null)
      */
-    private static Path getSettingsFile() {
-        return getDataDirectory().resolve(SETTINGS_FILENAME);
+    private static Path resolveSettingsFile() {
+        String override = System.getProperty(SETTINGS_FILE_PROPERTY);
+        if (override == null || override.isBlank()) {
+            return getDataDirectory().resolve(SETTINGS_FILENAME);
+        }
+        if (IN_MEMORY.equals(override.trim())) {
+            return null;
+        }
+        return Paths.get(override.trim());
     }
 
     public double getVolume() {
-        return volume;
+        return current.getVolume();
     }
     
     public String getDifficulty() {
-        return difficulty;
+        return current.getDifficulty();
     }
     
     public boolean isSoundEffectsEnabled() {
-        return soundEffectsEnabled;
+        return current.isSoundEffectsEnabled();
     }
     
     public boolean isMusicEnabled() {
-        return musicEnabled;
+        return current.isMusicEnabled();
     }
     
     public boolean isColorBlindModeEnabled() {
-        return colorBlindModeEnabled;
+        return current.isColorBlindModeEnabled();
     }
 
     public String getScreenSize() {
-        return screenSize;
+        return current.getScreenSize();
     }
 
     public String getGameMode() {
-        return gameMode;
+        return current.getGameMode();
     }
 
     public String getKeyLeft() {
-        return keyLeft;
+        return current.getKeyLeft();
     }
 
     public String getKeyRight() {
-        return keyRight;
+        return current.getKeyRight();
     }
 
     public String getKeyDown() {
-        return keyDown;
+        return current.getKeyDown();
     }
 
     public String getKeyRotate() {
-        return keyRotate;
+        return current.getKeyRotate();
     }
 
     public String getKeyHardDrop() {
-        return keyHardDrop;
+        return current.getKeyHardDrop();
     }
 
     public String getKeyLeftP2() {
-        return keyLeftP2;
+        return current.getKeyLeftP2();
     }
 
     public String getKeyRightP2() {
-        return keyRightP2;
+        return current.getKeyRightP2();
     }
 
     public String getKeyDownP2() {
-        return keyDownP2;
+        return current.getKeyDownP2();
     }
 
     public String getKeyRotateP2() {
-        return keyRotateP2;
+        return current.getKeyRotateP2();
     }
 
     public String getKeyHardDropP2() {
-        return keyHardDropP2;
+        return current.getKeyHardDropP2();
     }
 
     public void setVolume(double volume) {
-        this.volume = Math.max(0.0, Math.min(100.0, volume));
+        update(builder -> builder.volume(volume));
     }
     
     public void setDifficulty(String difficulty) {
-        this.difficulty = difficulty;
+        update(builder -> builder.difficulty(difficulty));
     }
     
     public void setSoundEffectsEnabled(boolean enabled) {
-        this.soundEffectsEnabled = enabled;
+        update(builder -> builder.soundEffectsEnabled(enabled));
     }
     
     public void setMusicEnabled(boolean enabled) {
-        this.musicEnabled = enabled;
+        update(builder -> builder.musicEnabled(enabled));
     }
     
     public void setColorBlindModeEnabled(boolean enabled) {
-        this.colorBlindModeEnabled = enabled;
+        update(builder -> builder.colorBlindModeEnabled(enabled));
     }
 
     public void setScreenSize(String screenSize) {
-        this.screenSize = screenSize;
+        update(builder -> builder.screenSize(screenSize));
     }
 
     public void setGameMode(String gameMode) {
-        this.gameMode = gameMode;
+        update(builder -> builder.gameMode(gameMode));
     }
 
     public void setKeyLeft(String key) {
-        this.keyLeft = key.toUpperCase();
+        update(builder -> builder.keyLeft(key));
     }
 
     public void setKeyRight(String key) {
-        this.keyRight = key.toUpperCase();
+        update(builder -> builder.keyRight(key));
     }
 
     public void setKeyDown(String key) {
-        this.keyDown = key.toUpperCase();
+        update(builder -> builder.keyDown(key));
     }
 
     public void setKeyRotate(String key) {
-        this.keyRotate = key.toUpperCase();
+        update(builder -> builder.keyRotate(key));
     }
 
     public void setKeyHardDrop(String key) {
-        this.keyHardDrop = key.toUpperCase();
+        update(builder -> builder.keyHardDrop(key));
     }
 
     public void setKeyLeftP2(String key) {
-        this.keyLeftP2 = key.toUpperCase();
+        update(builder -> builder.keyLeftP2(key));
     }
 
     public void setKeyRightP2(String key) {
-        this.keyRightP2 = key.toUpperCase();
+        update(builder -> builder.keyRightP2(key));
     }
 
     public void setKeyDownP2(String key) {
-        this.keyDownP2 = key.toUpperCase();
+        update(builder -> builder.keyDownP2(key));
     }
 
     public void setKeyRotateP2(String key) {
-        this.keyRotateP2 = key.toUpperCase();
+        update(builder -> builder.keyRotateP2(key));
     }
 
     public void setKeyHardDropP2(String key) {
-        this.keyHardDropP2 = key.toUpperCase();
+        update(builder -> builder.keyHardDropP2(key));
+    }
+
+    /**
+     * 현재 설정 스냅샷 (여러 값을 한 번에 일관되게 읽을 때 사용)
+     */
+    public SettingsSnapshot getSnapshot() {
+        return current;
     }
 
     public void resetToDefaults() {
-        volume = 50.0;
-        difficulty = "Normal";
-        soundEffectsEnabled = true;
-        musicEnabled = true;
-        colorBlindModeEnabled = false;
-        screenSize = "중간";
-        gameMode = "NORMAL";
-        keyLeft = "A";
-        keyRight = "D";
-        keyDown = "S";
-        keyRotate = "W";
-        keyHardDrop = "SPACE";
-        keyLeftP2 = "LEFT";
-        keyRightP2 = "RIGHT";
-        keyDownP2 = "DOWN";
-        keyRotateP2 = "UP";
-        keyHardDropP2 = "ENTER";
+        current = SettingsSnapshot.defaults();
+        saveToFile();
+    }
+
+    /**
+     * 설정 하나를 바꾼 새 스냅샷으로 교체하고 저장 예약
+     */
+    private void update(UnaryOperator<SettingsSnapshot.Builder> change) {
+        synchronized (this) {
+            current = change.apply(current.toBuilder()).build();
+        }
         saveToFile();
     }
 
     /**
-     * 설정을 파일에 저장
+     * 설정을 파일에 저장 (바로 쓰지 않고 예약)
+     * SAVE_DEBOUNCE_MS 안에 다시 호출되면 예약을 미루므로, 설정 화면에서 값을 연달아 바꿔도
+     * 마지막 상태로 한 번만 쓴다. 즉시 기록이 필요하면 flush() 사용.
      */
     public void saveToFile() {
-        Properties props = new Properties();
-        props.setProperty("volume", String.valueOf(volume));
-        props.setProperty("difficulty", difficulty);
-        props.setProperty("soundEffectsEnabled", String.valueOf(soundEffectsEnabled));
-        props.setProperty("musicEnabled", String.valueOf(musicEnabled));
-        props.setProperty("colorBlindModeEnabled", String.valueOf(colorBlindModeEnabled));
-        props.setProperty("screenSize", screenSize);
-        props.setProperty("gameMode", gameMode);
-        props.setProperty("keyLeft", keyLeft);
-        props.setProperty("keyRight", keyRight);
-        props.setProperty("keyDown", keyDown);
-        props.setProperty("keyRotate", keyRotate);
-        props.setProperty("keyHardDrop", keyHardDrop);
-        props.setProperty("keyLeftP2", keyLeftP2);
-        props.setProperty("keyRightP2", keyRightP2);
-        props.setProperty("keyDownP2", keyDownP2);
-        props.setProperty("keyRotateP2", keyRotateP2);
-        props.setProperty("keyHardDropP2", keyHardDropP2);
-
-        Path settingsPath = getSettingsFile();
-        try (FileOutputStream out = new FileOutputStream(settingsPath.toFile())) {
-            props.store(out, "Tetris Game Settings");
-            System.out.println("설정이 저장되었습니다: " + settingsPath);
+        synchronized (this) {
+            if (pendingSave != null) {
+                pendingSave.cancel(false);
+            }
+            try {
+                pendingSave = writer.schedule(this::writeIfChanged, SAVE_DEBOUNCE_MS, TimeUnit.MILLISECONDS);
+            } catch (RejectedExecutionException e) {
+                System.err.println("설정 저장 예약 실패: " + e.getMessage());
+            }
+        }
+    }
+
+    /**
+     * 예약된 저장을 지금 실행하고 끝날 때까지 대기
+     */
+    public void flush() {
+        Future<?> save;
+        synchronized (this) {
+            if (pendingSave != null) {
+                pendingSave.cancel(false);
+                pendingSave = null;
+            }
+            try {
+                save = writer.submit(this::writeIfChanged);
+            } catch (RejectedExecutionException e) {
+                return;
+            }
+        }
+        try {
+            save.get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } catch (ExecutionException e) {
+            System.err.println("설정 저장 실패: " + e.getCause());
+        }
+    }
+
+    /**
+     * 실제 파일에 쓴 횟수 (테스트용)
+     */
+    int getWriteCount() {
+        return writeCount;
+    }
+
+    // ===== settings-writer 스레드 =====
+
+    private void writeIfChanged() {
+        SettingsSnapshot snapshot = current;
+        if (snapshot == lastSaved || settingsFile == null) {
+            return;
+        }
+        // 임시 파일에 다 쓴 뒤 교체해서, 쓰는 도중 종료돼도 이전 설정 파일이 깨지지 않게 한다
+        Path tempFile = settingsFile.resolveSibling(settingsFile.getFileName() + ".tmp");
+        try {
+            try (OutputStream out = Files.newOutputStream(tempFile)) {
+                snapshot.toProperties().store(out, "Tetris Game Settings");
+            }
+            try {
+                Files.move(tempFile, settingsFile, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+            } catch (AtomicMoveNotSupportedException e) {
+                Files.move(tempFile, settingsFile, StandardCopyOption.REPLACE_EXISTING);
+            }
+            lastSaved = snapshot;
+            writeCount++;
+            System.out.println("설정이 저장되었습니다: " + settingsFile);
         } catch (IOException e) {
             System.err.println("설정 저장 실패: " + e.getMessage());
         }
@@ -282,33 +359,17 @@ public class SettingsManager {
      * 파일에서 설정을 불러오기
      */
     private void loadFromFile() {
+        if (settingsFile == null) {
+            System.out.println("설정을 파일 없이 메모리에만 보관합니다.");
+            return;
+        }
         Properties props = new Properties();
-        Path settingsPath = getSettingsFile();
-        File settingsFile = settingsPath.toFile();
-        
-        try (FileInputStream in = new FileInputStream(settingsFile)) {
+
+        try (InputStream in = Files.newInputStream(settingsFile)) {
             props.load(in);
-            
-            volume = Double.parseDouble(props.getProperty("volume", "50.0"));
-            difficulty = props.getProperty("difficulty", "Normal");
-            soundEffectsEnabled = Boolean.parseBoolean(props.getProperty("soundEffectsEnabled", "true"));
-            musicEnabled = Boolean.parseBoolean(props.getProperty("musicEnabled", "true"));
-            colorBlindModeEnabled = Boolean.parseBoolean(props.getProperty("colorBlindModeEnabled", "false"));
-            screenSize = props.getProperty("screenSize", "중간");
-            gameMode = props.getProperty("gameMode", "NORMAL");
-            keyLeft = props.getProperty("keyLeft", "A");
-            keyRight = props.getProperty("keyRight", "D");
-            keyDown = props.getProperty("keyDown", "S");
-            keyRotate = props.getProperty("keyRotate", "W");
-            keyHardDrop = props.getProperty("keyHardDrop", "SPACE");
-            keyLeftP2 = props.getProperty("keyLeftP2", "LEFT");
-            keyRightP2 = props.getProperty("keyRightP2", "RIGHT");
-            keyDownP2 = props.getProperty("keyDownP2", "DOWN");
-            keyRotateP2 = props.getProperty("keyRotateP2", "UP");
-            keyHardDropP2 = props.getProperty("keyHardDropP2", "ENTER");
-            
-            System.out.println("설정을 불러왔습니다: " + settingsPath);
-        } catch (FileNotFoundException e) {
+            current = SettingsSnapshot.fromProperties(props);
+            System.out.println("설정을 불러왔습니다: " + settingsFile);
+        } catch (NoSuchFileException e) {
             System.out.println("설정 파일이 없습니다. 기본값을 사용합니다.");
         } catch (IOException | NumberFormatException e) {
             System.err.println("설정 로드 실패: " + e.getMessage());
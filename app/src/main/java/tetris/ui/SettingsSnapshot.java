@@ -0,0 +1,317 @@
+package tetris.ui;
+
+import java.util.Properties;
+
+/**
+ * 특정 시점의 게임 설정 값 (변경 불가)
+ * SettingsManager는 값이 바뀔 때마다 새 스냅샷으로 통째로 교체하므로,
+ * 다른 스레드(파일 저장, 음악 등)에서 읽어도 항상 일관된 값 묶음을 보게 된다.
+ */
+public final class SettingsSnapshot {
+    private final double volume;
+    private final String difficulty;
+    private final boolean soundEffectsEnabled;
+    private final boolean musicEnabled;
+    private final boolean colorBlindModeEnabled;
+    private final String screenSize;
+    private final String gameMode; // NORMAL 또는 ITEM
+
+    // Player1 키 설정
+    private final String keyLeft;
+    private final String keyRight;
+    private final String keyDown;
+    private final String keyRotate;
+    private final String keyHardDrop;
+
+    // Player2 키 설정
+    private final String keyLeftP2;
+    private final String keyRightP2;
+    private final String keyDownP2;
+    private final String keyRotateP2;
+    private final String keyHardDropP2;
+
+    private SettingsSnapshot(Builder builder) {
+        this.volume = builder.volume;
+        this.difficulty = builder.difficulty;
+        this.soundEffectsEnabled = builder.soundEffectsEnabled;
+        this.musicEnabled = builder.musicEnabled;
+        this.colorBlindModeEnabled = builder.colorBlindModeEnabled;
+        this.screenSize = builder.screenSize;
+        this.gameMode = builder.gameMode;
+        this.keyLeft = builder.keyLeft;
+        this.keyRight = builder.keyRight;
+        this.keyDown = builder.keyDown;
+        this.keyRotate = builder.keyRotate;
+        this.keyHardDrop = builder.keyHardDrop;
+        this.keyLeftP2 = builder.keyLeftP2;
+        this.keyRightP2 = builder.keyRightP2;
+        this.keyDownP2 = builder.keyDownP2;
+        this.keyRotateP2 = builder.keyRotateP2;
+        this.keyHardDropP2 = builder.keyHardDropP2;
+    }
+
+    /**
+     * 기본 설정 (Player1: WASD + Space, Player2: 화살표 키 + Enter)
+     */
+    public static SettingsSnapshot defaults() {
+        return new Builder().build();
+    }
+
+    public Builder toBuilder() {
+        return new Builder(this);
+    }
+
+    public double getVolume() {
+        return volume;
+    }
+
+    public String getDifficulty() {
+        return difficulty;
+    }
+
+    public boolean isSoundEffectsEnabled() {
+        return soundEffectsEnabled;
+    }
+
+    public boolean isMusicEnabled() {
+        return musicEnabled;
+    }
+
+    public boolean isColorBlindModeEnabled() {
+        return colorBlindModeEnabled;
+    }
+
+    public String getScreenSize() {
+        return screenSize;
+    }
+
+    public String getGameMode() {
+        return gameMode;
+    }
+
+    public String getKeyLeft() {
+        return keyLeft;
+    }
+
+    public String getKeyRight() {
+        return keyRight;
+    }
+
+    public String getKeyDown() {
+        return keyDown;
+    }
+
+    public String getKeyRotate() {
+        return keyRotate;
+    }
+
+    public String getKeyHardDrop() {
+        return keyHardDrop;
+    }
+
+    public String getKeyLeftP2() {
+        return keyLeftP2;
+    }
+
+    public String getKeyRightP2() {
+        return keyRightP2;
+    }
+
+    public String getKeyDownP2() {
+        return keyDownP2;
+    }
+
+    public String getKeyRotateP2() {
+        return keyRotateP2;
+    }
+
+    public String getKeyHardDropP2() {
+        return keyHardDropP2;
+    }
+
+    /**
+     * 파일 저장용 Properties로 변환
+     */
+    public Properties toProperties() {
+        Properties props = new Properties();
+        props.setProperty("volume", String.valueOf(volume));
+        props.setProperty("difficulty", difficulty);
+        props.setProperty("soundEffectsEnabled", String.valueOf(soundEffectsEnabled));
+        props.setProperty("musicEnabled", String.valueOf(musicEnabled));
+        props.setProperty("colorBlindModeEnabled", String.valueOf(colorBlindModeEnabled));
+        props.setProperty("screenSize", screenSize);
+        props.setProperty("gameMode", gameMode);
+        props.setProperty("keyLeft", keyLeft);
+        props.setProperty("keyRight", keyRight);
+        props.setProperty("keyDown", keyDown);
+        props.setProperty("keyRotate", keyRotate);
+        props.setProperty("keyHardDrop", keyHardDrop);
+        props.setProperty("keyLeftP2", keyLeftP2);
+        props.setProperty("keyRightP2", keyRightP2);
+        props.setProperty("keyDownP2", keyDownP2);
+        props.setProperty("keyRotateP2", keyRotateP2);
+        props.setProperty("keyHardDropP2", keyHardDropP2);
+        return props;
+    }
+
+    /**
+     * 파일에서 읽은 Properties로 생성 (없는 항목은 기본값)
+     * @throws NumberFormatException volume 값이 숫자가 아닌 경우
+     */
+    public static SettingsSnapshot fromProperties(Properties props) {
+        Builder builder = new Builder();
+        builder.volume(Double.parseDouble(props.getProperty("volume", "50.0")));
+        builder.difficulty = props.getProperty("difficulty", builder.difficulty);
+        builder.soundEffectsEnabled = Boolean.parseBoolean(props.getProperty("soundEffectsEnabled", "true"));
+        builder.musicEnabled = Boolean.parseBoolean(props.getProperty("musicEnabled", "true"));
+        builder.colorBlindModeEnabled = Boolean.parseBoolean(props.getProperty("colorBlindModeEnabled", "false"));
+        builder.screenSize = props.getProperty("screenSize", builder.screenSize);
+        builder.gameMode = props.getProperty("gameMode", builder.gameMode);
+        builder.keyLeft = props.getProperty("keyLeft", builder.keyLeft);
+        builder.keyRight = props.getProperty("keyRight", builder.keyRight);
+        builder.keyDown = props.getProperty("keyDown", builder.keyDown);
+        builder.keyRotate = props.getProperty("keyRotate", builder.keyRotate);
+        builder.keyHardDrop = props.getProperty("keyHardDrop", builder.keyHardDrop);
+        builder.keyLeftP2 = props.getProperty("keyLeftP2", builder.keyLeftP2);
+        builder.keyRightP2 = props.getProperty("keyRightP2", builder.keyRightP2);
+        builder.keyDownP2 = props.getProperty("keyDownP2", builder.keyDownP2);
+        builder.keyRotateP2 = props.getProperty("keyRotateP2", builder.keyRotateP2);
+        builder.keyHardDropP2 = props.getProperty("keyHardDropP2", builder.keyHardDropP2);
+        return builder.build();
+    }
+
+    /**
+     * 스냅샷 하나를 고쳐서 새 스냅샷을 만드는 빌더 (키 이름은 대문자로 저장)
+     */
+    public static final class Builder {
+        private double volume = 50.0;
+        private String difficulty = "Normal";
+        private boolean soundEffectsEnabled = true;
+        private boolean musicEnabled = true;
+        private boolean colorBlindModeEnabled = false;
+        private String screenSize = "중간";
+        private String gameMode = "NORMAL";
+        private String keyLeft = "A";
+        private String keyRight = "D";
+        private String keyDown = "S";
+        private String keyRotate = "W";
+        private String keyHardDrop = "SPACE";
+        private String keyLeftP2 = "LEFT";
+        private String keyRightP2 = "RIGHT";
+        private String keyDownP2 = "DOWN";
+        private String keyRotateP2 = "UP";
+        private String keyHardDropP2 = "ENTER";
+
+        private Builder() {
+        }
+
+        private Builder(SettingsSnapshot snapshot) {
+            this.volume = snapshot.volume;
+            this.difficulty = snapshot.difficulty;
+            this.soundEffectsEnabled = snapshot.soundEffectsEnabled;
+            this.musicEnabled = snapshot.musicEnabled;
+            this.colorBlindModeEnabled = snapshot.colorBlindModeEnabled;
+            this.screenSize = snapshot.screenSize;
+            this.gameMode = snapshot.gameMode;
+            this.keyLeft = snapshot.keyLeft;
+            this.keyRight = snapshot.keyRight;
+            this.keyDown = snapshot.keyDown;
+            this.keyRotate = snapshot.keyRotate;
+            this.keyHardDrop = snapshot.keyHardDrop;
+            this.keyLeftP2 = snapshot.keyLeftP2;
+            this.keyRightP2 = snapshot.keyRightP2;
+            this.keyDownP2 = snapshot.keyDownP2;
+            this.keyRotateP2 = snapshot.keyRotateP2;
+            this.keyHardDropP2 = snapshot.keyHardDropP2;
+        }
+
+        public Builder volume(double volume) {
+            this.volume = Math.max(0.0, Math.min(100.0, volume));
+            return this;
+        }
+
+        public Builder difficulty(String difficulty) {
+            this.difficulty = difficulty;
+            return this;
+        }
+
+        public Builder soundEffectsEnabled(boolean enabled) {
+            this.soundEffectsEnabled = enabled;
+            return this;
+        }
+
+        public Builder musicEnabled(boolean enabled) {
+            this.musicEnabled = enabled;
+            return this;
+        }
+
+        public Builder colorBlindModeEnabled(boolean enabled) {
+            this.colorBlindModeEnabled = enabled;
+            return this;
+        }
+
+        public Builder screenSize(String screenSize) {
+            this.screenSize = screenSize;
+            return this;
+        }
+
+        public Builder gameMode(String gameMode) {
+            this.gameMode = gameMode;
+            return this;
+        }
+
+        public Builder keyLeft(String key) {
+            this.keyLeft = key.toUpperCase();
+            return this;
+        }
+
+        public Builder keyRight(String key) {
+            this.keyRight = key.toUpperCase();
+            return this;
+        }
+
+        public Builder keyDown(String key) {
+            this.keyDown = key.toUpperCase();
+            return this;
+        }
+
+        public Builder keyRotate(String key) {
+            this.keyRotate = key.toUpperCase();
+            return this;
+        }
+
+        public Builder keyHardDrop(String key) {
+            this.keyHardDrop = key.toUpperCase();
+            return this;
+        }
+
+        public Builder keyLeftP2(String key) {
+            this.keyLeftP2 = key.toUpperCase();
+            return this;
+        }
+
+        public Builder keyRightP2(String key) {
+            this.keyRightP2 = key.toUpperCase();
+            return this;
+        }
+
+        public Builder keyDownP2(String key) {
+            this.keyDownP2 = key.toUpperCase();
+            return this;
+        }
+
+        public Builder keyRotateP2(String key) {
+            this.keyRotateP2 = key.toUpperCase();
+            return this;
+        }
+
+        public Builder keyHardDropP2(String key) {
+            this.keyHardDropP2 = key.toUpperCase();
+            return this;
+        }
+
+        public SettingsSnapshot build() {
+            return new SettingsSnapshot(this);
+        }
+    }
+}
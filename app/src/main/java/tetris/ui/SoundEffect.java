@@ -0,0 +1,53 @@
+package tetris.ui;
+
+/**
+ * 게임 효과음 종류
+ * 지금은 효과음 파일이 Remove_Block.mp3 하나뿐이라 재생 속도(피치)와 볼륨을 달리해서 구분한다
+ * 새 파일이 생기면 resourcePath만 바꾸면 된다
+ */
+public enum SoundEffect {
+    //           리소스 경로                              속도   볼륨   최소 간격(ms) 우선순위
+    LINE_CLEAR("/assets/music/Remove_Block.mp3",      1.0,  1.0,  30,  2),
+    ROTATE("/assets/music/Remove_Block.mp3",          1.8,  0.35, 40,  0),
+    LOCK("/assets/music/Remove_Block.mp3",            0.7,  0.5,  40,  0),
+    ATTACK_RECEIVED("/assets/music/Remove_Block.mp3", 0.5,  0.9,  100, 1),
+    ITEM_TRIGGER("/assets/music/Remove_Block.mp3",    1.4,  0.8,  80,  1);
+
+    private final String resourcePath;
+    private final double rate;
+    private final double volumeScale;
+    private final long minIntervalNanos;
+    private final int priority;
+
+    SoundEffect(String resourcePath, double rate, double volumeScale, long minIntervalMillis, int priority) {
+        this.resourcePath = resourcePath;
+        this.rate = rate;
+        this.volumeScale = volumeScale;
+        this.minIntervalNanos = minIntervalMillis * 1_000_000L;
+        this.priority = priority;
+    }
+
+    public String getResourcePath() {
+        return resourcePath;
+    }
+
+    /** 재생 속도 (AudioClip 허용 범위 0.125 ~ 8.0) */
+    public double getRate() {
+        return rate;
+    }
+
+    /** 설정 볼륨에 곱해지는 비율 (0.0 ~ 1.0) */
+    public double getVolumeScale() {
+        return volumeScale;
+    }
+
+    /** 같은 효과음을 다시 재생하기까지의 최소 간격 (하드드롭 연타 등으로 소리가 뭉개지는 것 방지) */
+    public long getMinIntervalNanos() {
+        return minIntervalNanos;
+    }
+
+    /** 동시 재생 수가 한계에 도달했을 때 높은 값이 우선 */
+    public int getPriority() {
+        return priority;
+    }
+}
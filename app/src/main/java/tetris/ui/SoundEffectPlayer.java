@@ -0,0 +1,96 @@
+package tetris.ui;
+
+import javafx.scene.media.AudioClip;
+import java.net.URL;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * 효과음 재생을 담당하는 싱글톤 클래스
+ * AudioClip은 생성 시 파일을 메모리에 디코딩해 두고 play() 할 때마다 새 보이스로 섞어서 재생하므로
+ * MediaPlayer처럼 stop/seek 없이 바로 재생되고, 연속으로 줄을 지워도 앞 소리가 끊기지 않는다.
+ * 같은 효과음은 SoundEffect별 최소 간격 안에서 한 번만 재생한다.
+ */
+public class SoundEffectPlayer {
+    private static SoundEffectPlayer instance;
+
+    // 리소스 경로별로 한 번만 디코딩 (여러 효과음이 같은 파일을 공유)
+    private final Map<String, AudioClip> clipsByPath = new HashMap<>();
+    private final AudioClip[] clips = new AudioClip[SoundEffect.values().length];
+    // 효과음별 마지막 재생 시각 (FX 스레드에서만 접근)
+    private final long[] lastPlayedNanos = new long[SoundEffect.values().length];
+
+    private final SettingsManager settingsManager;
+
+    private SoundEffectPlayer() {
+        settingsManager = SettingsManager.getInstance();
+        preloadClips();
+    }
+
+    public static synchronized SoundEffectPlayer getInstance() {
+        if (instance == null) {
+            instance = new SoundEffectPlayer();
+        }
+        return instance;
+    }
+
+    private void preloadClips() {
+        for (SoundEffect effect : SoundEffect.values()) {
+            AudioClip clip = clipsByPath.get(effect.getResourcePath());
+            if (clip == null && !clipsByPath.containsKey(effect.getResourcePath())) {
+                clip = loadClip(effect.getResourcePath());
+                clipsByPath.put(effect.getResourcePath(), clip);
+            }
+            clips[effect.ordinal()] = clip;
+        }
+    }
+
+    private AudioClip loadClip(String resourcePath) {
+        try {
+            URL url = getClass().getResource(resourcePath);
+            if (url == null) {
+                System.err.println("효과음 파일을 찾을 수 없습니다: " + resourcePath);
+                return null;
+            }
+            return new AudioClip(url.toExternalForm());
+        } catch (Exception e) {
+            System.err.println("효과음 로드 실패: " + resourcePath + " (" + e.getMessage() + ")");
+            return null;
+        }
+    }
+
+    /**
+     * 효과음 재생
+     * 효과음이 꺼져 있거나 최소 간격 안에 같은 효과음이 이미 재생됐으면 무시한다
+     */
+    public void play(SoundEffect effect) {
+        if (!settingsManager.isSoundEffectsEnabled()) {
+            return;
+        }
+        AudioClip clip = clips[effect.ordinal()];
+        if (clip == null) {
+            return;
+        }
+
+        long now = System.nanoTime();
+        long last = lastPlayedNanos[effect.ordinal()];
+        if (last != 0 && now - last < effect.getMinIntervalNanos()) {
+            return;
+        }
+        lastPlayedNanos[effect.ordinal()] = now;
+
+        double volume = settingsManager.getVolume() / 100.0 * effect.getVolumeScale();
+        clip.play(volume, 0.0, effect.getRate(), 0.0, effect.getPriority());
+    }
+
+    /**
+     * 재생 중인 모든 효과음 중지
+     */
+    public void stopAll() {
+        for (AudioClip clip : clipsByPath.values()) {
+            if (clip != null) {
+                clip.stop();
+            }
+        }
+    }
+}
@@ -10,11 +10,18 @@ import javafx.scene.control.Label;
 import javafx.scene.layout.VBox;
 import javafx.scene.paint.Color;
 import javafx.animation.AnimationTimer;
+import tetris.ui.HudLabel;
 import tetris.ui.SceneManager;
+import tetris.ui.SoundEffect;
+import tetris.ui.SoundEffectPlayer;
 import tetris.ui.SettingsManager;
 import tetris.ui.MusicManager;
+import tetris.ai.CpuPlayer;
 import tetris.game.BattleGameEngine;
 import tetris.game.GameBoard;
+import tetris.game.GameEngine;
+import tetris.game.GameEventListener;
+import tetris.game.InputController;
 import tetris.game.Piece;
 import tetris.game.ItemType;
 import java.net.URL;
@@ -76,6 +83,13 @@ public class BattleGameScreenController implements Initializable {
     private SettingsManager settingsManager;
     private BattleGameEngine battleEngine;
     private String battleMode;
+    // 2P를 컴퓨터가 조작하는지 여부 (false면 사람 2명)
+    private boolean cpuOpponent = false;
+    private CpuPlayer cpuPlayer;
+    // 플레이어별 키 입력 처리 (DAS/ARR, 소프트드롭 반복, 애니메이션 중 입력 버퍼링)
+    private InputController player1Input;
+    private InputController player2Input;
+    private long lastFrameTime = 0;
     private AnimationTimer gameLoop;
     private long lastUpdateTime1 = 0;
     private long lastUpdateTime2 = 0;
@@ -83,8 +97,8 @@ public class BattleGameScreenController implements Initializable {
     private long fallSpeed2 = 1_000_000_000;
 
     // 줄 삭제 애니메이션 관련
-    private java.util.List<Integer> player1LinesToClear = null;
-    private java.util.List<Integer> player2LinesToClear = null;
+    private long player1LinesToClearMask = 0L; // 삭제된 행 비트마스크 (bit r = r번째 행)
+    private long player2LinesToClearMask = 0L;
     private long clearAnimationStartTime1 = 0;
     private long clearAnimationStartTime2 = 0;
     private static final long CLEAR_ANIMATION_BASE = 50_000_000; // 기본 50ms
@@ -92,11 +106,82 @@ public class BattleGameScreenController implements Initializable {
     private long currentClearAnimationDuration2 = CLEAR_ANIMATION_BASE;
     private boolean isAnimatingClear1 = false;
     private boolean isAnimatingClear2 = false;
+
+    // 엔진 이벤트 구독 (두 플레이어 엔진에 공통으로 등록)
+    private final GameEventListener engineListener = new GameEventListener() {
+        @Override
+        public void onPiecePlaced(GameEngine engine, int lastPlacedCol) {
+            SoundEffectPlayer.getInstance().play(SoundEffect.LOCK);
+
+            // 블록이 떨어질 때마다 대기 중인 공격 적용
+            battleEngine.applyPendingAttacks(playerNumberOf(engine));
+            // 블록 배치 후 즉시 줄 삭제 (점수 반영은 엔진이 처리)
+            if (battleEngine.isGameRunning() && !battleEngine.isPaused()) {
+                engine.clearLinesManually();
+            }
+        }
+
+        @Override
+        public void onLinesCleared(GameEngine engine, int clearedLines, long rowMask) {
+            SoundEffectPlayer.getInstance().play(SoundEffect.LINE_CLEAR);
+
+            // 공격 메커니즘 처리 (줄 삭제 직후 바로 처리) + 애니메이션 시작 (줄 수에 따라 시간 조정)
+            long duration = CLEAR_ANIMATION_BASE + (clearedLines - 1) * 10_000_000L;
+            if (playerNumberOf(engine) == 1) {
+                battleEngine.processPlayer1Attack(clearedLines, engine.getLastPlacedBlockCol());
+                player1LinesToClearMask = rowMask;
+                isAnimatingClear1 = true;
+                clearAnimationStartTime1 = System.nanoTime();
+                currentClearAnimationDuration1 = duration;
+            } else {
+                battleEngine.processPlayer2Attack(clearedLines, engine.getLastPlacedBlockCol());
+                player2LinesToClearMask = rowMask;
+                isAnimatingClear2 = true;
+                clearAnimationStartTime2 = System.nanoTime();
+                currentClearAnimationDuration2 = duration;
+            }
+        }
+
+        @Override
+        public void onPieceRotated(GameEngine engine) {
+            SoundEffectPlayer.getInstance().play(SoundEffect.ROTATE);
+        }
+
+        @Override
+        public void onItemTriggered(GameEngine engine, ItemType itemType) {
+            SoundEffectPlayer.getInstance().play(SoundEffect.ITEM_TRIGGER);
+        }
+
+        @Override
+        public void onAttackReceived(GameEngine engine, int lines, int emptyCol) {
+            SoundEffectPlayer.getInstance().play(SoundEffect.ATTACK_RECEIVED);
+        }
+    };
     
 
     // 블록 크기
     private int BLOCK_SIZE = 25;
 
+    // HUD 라벨 캐시 (값이 바뀐 경우에만 setText)
+    private static final int WINNER_NONE = 0;
+    private static final int WINNER_PLAYER1 = 1;
+    private static final int WINNER_PLAYER2 = 2;
+    private static final int WINNER_DRAW = 3;
+    private final HudLabel player1ScoreText = new HudLabel("");
+    private final HudLabel player1LevelText = new HudLabel("LEVEL: ");
+    private final HudLabel player1LinesText = new HudLabel("LINES: ");
+    private final HudLabel player2ScoreText = new HudLabel("");
+    private final HudLabel player2LevelText = new HudLabel("LEVEL: ");
+    private final HudLabel player2LinesText = new HudLabel("LINES: ");
+    private final HudLabel timerText = new HudLabel(
+        remaining -> String.format("%02d:%02d", remaining / 60, remaining % 60));
+    private final HudLabel winnerText = new HudLabel(code -> {
+        if (code == WINNER_PLAYER1) return "플레이어 1\n승리!";
+        if (code == WINNER_PLAYER2) return "플레이어 2\n승리!";
+        if (code == WINNER_DRAW) return "무승부!";
+        return "";
+    });
+
     // 블록 색상 설정 (ColorBlind Safe 팔레트)
     private static final Color[] PIECE_COLORS = {
         Color.BLACK,
@@ -157,6 +242,13 @@ public class BattleGameScreenController implements Initializable {
         this.sceneManager = sceneManager;
     }
 
+    /**
+     * 2P를 컴퓨터가 조작할지 설정 (setBattleMode보다 먼저 호출)
+     */
+    public void setCpuOpponent(boolean cpuOpponent) {
+        this.cpuOpponent = cpuOpponent;
+    }
+
     public void setBattleMode(String battleMode) {
         this.battleMode = battleMode;
         this.battleEngine = new BattleGameEngine(battleMode);
@@ -165,30 +257,21 @@ public class BattleGameScreenController implements Initializable {
             battleEngine.setTimeLimit(180); // 3분
         }
 
-        battleEngine.getPlayer1Engine().setOnPiecePlacedCallback(() -> {
-            battleEngine.applyPendingAttacks(1);
-            // 블록 배치 후 즉시 줄 삭제 체크
-            checkAndClearLinesForPlayer1();
-        });
-        battleEngine.getPlayer2Engine().setOnPiecePlacedCallback(() -> {
-            battleEngine.applyPendingAttacks(2);
-            // 블록 배치 후 즉시 줄 삭제 체크
-            checkAndClearLinesForPlayer2();
-        });
+        resizeBoardCanvases();
+        subscribeToEngines();
+        createCpuPlayer();
+        createInputControllers();
 
         startGameLoop();
         battleEngine.startGame();
     }
 
     private void setupCanvases() {
+        // 보드 Canvas 크기는 엔진을 만들 때 resizeBoardCanvases()에서 보드에 맞춘다
         if (player1Canvas != null) {
-            player1Canvas.setWidth(GameBoard.BOARD_WIDTH * BLOCK_SIZE);
-            player1Canvas.setHeight(GameBoard.BOARD_HEIGHT * BLOCK_SIZE);
             player1Canvas.setFocusTraversable(false);
         }
         if (player2Canvas != null) {
-            player2Canvas.setWidth(GameBoard.BOARD_WIDTH * BLOCK_SIZE);
-            player2Canvas.setHeight(GameBoard.BOARD_HEIGHT * BLOCK_SIZE);
             player2Canvas.setFocusTraversable(false);
         }
         if (player1NextCanvas != null) {
@@ -209,6 +292,22 @@ public class BattleGameScreenController implements Initializable {
         }
     }
 
+    /**
+     * 보드 크기 설정(GameConfig)에 맞춰 두 플레이어의 보드 Canvas 크기 조절 (엔진을 새로 만들 때마다)
+     */
+    private void resizeBoardCanvases() {
+        if (player1Canvas != null) {
+            GameBoard board = battleEngine.getPlayer1Engine().getGameBoard();
+            player1Canvas.setWidth(board.getWidth() * BLOCK_SIZE);
+            player1Canvas.setHeight(board.getHeight() * BLOCK_SIZE);
+        }
+        if (player2Canvas != null) {
+            GameBoard board = battleEngine.getPlayer2Engine().getGameBoard();
+            player2Canvas.setWidth(board.getWidth() * BLOCK_SIZE);
+            player2Canvas.setHeight(board.getHeight() * BLOCK_SIZE);
+        }
+    }
+
     private void setupKeyHandler() {
         if (player1Canvas != null) {
             player1Canvas.sceneProperty().addListener((obs, oldScene, newScene) -> {
@@ -222,36 +321,26 @@ public class BattleGameScreenController implements Initializable {
                             return;
                         }
                         
-                        if (battleEngine != null && battleEngine.isGameRunning() && !battleEngine.isPaused()) {
-                            // Player1 키 설정
-                            javafx.scene.input.KeyCode p1Left = javafx.scene.input.KeyCode.valueOf(settingsManager.getKeyLeft());
-                            javafx.scene.input.KeyCode p1Right = javafx.scene.input.KeyCode.valueOf(settingsManager.getKeyRight());
-                            javafx.scene.input.KeyCode p1Down = javafx.scene.input.KeyCode.valueOf(settingsManager.getKeyDown());
-                            javafx.scene.input.KeyCode p1Rotate = javafx.scene.input.KeyCode.valueOf(settingsManager.getKeyRotate());
-                            javafx.scene.input.KeyCode p1HardDrop = javafx.scene.input.KeyCode.valueOf(settingsManager.getKeyHardDrop());
-                            
-                            // Player2 키 설정
-                            javafx.scene.input.KeyCode p2Left = javafx.scene.input.KeyCode.valueOf(settingsManager.getKeyLeftP2());
-                            javafx.scene.input.KeyCode p2Right = javafx.scene.input.KeyCode.valueOf(settingsManager.getKeyRightP2());
-                            javafx.scene.input.KeyCode p2Down = javafx.scene.input.KeyCode.valueOf(settingsManager.getKeyDownP2());
-                            javafx.scene.input.KeyCode p2Rotate = javafx.scene.input.KeyCode.valueOf(settingsManager.getKeyRotateP2());
-                            javafx.scene.input.KeyCode p2HardDrop = javafx.scene.input.KeyCode.valueOf(settingsManager.getKeyHardDropP2());
-                            
-                            // 플레이어 1 키 처리
-                            if (code == p1Left || code == p1Right || code == p1Down || 
-                                code == p1Rotate || code == p1HardDrop || 
-                                code == javafx.scene.input.KeyCode.N) {
-                                battleEngine.handlePlayer1KeyPress(code);
-                                event.consume();
-                            }
-                            // 플레이어 2 키 처리
-                            else if (code == p2Left || code == p2Right || code == p2Down ||
-                                     code == p2Rotate || code == p2HardDrop) {
-                                battleEngine.handlePlayer2KeyPress(code);
+                        if (player1Input != null && battleEngine.isGameRunning() && !battleEngine.isPaused()) {
+                            // 키 상태만 기록하고 반복은 게임 루프에서 처리 (1P 키가 우선, 컴퓨터가 2P면 2P 키는 연결되어 있지 않음)
+                            String keyName = code.getName().toUpperCase();
+                            if (player1Input.keyPressed(keyName) || player2Input.keyPressed(keyName)) {
                                 event.consume();
                             }
                         }
                     });
+                    newScene.setOnKeyReleased(event -> {
+                        // 일시정지 중에 뗀 키도 눌린 상태로 남지 않도록 항상 전달
+                        if (player1Input == null) {
+                            return;
+                        }
+                        String keyName = event.getCode().getName().toUpperCase();
+                        boolean bound = player1Input.keyReleased(keyName);
+                        bound |= player2Input.keyReleased(keyName);
+                        if (bound) {
+                            event.consume();
+                        }
+                    });
                 }
             });
         }
@@ -269,6 +358,8 @@ public class BattleGameScreenController implements Initializable {
                 if (lastUpdateTime2 == 0) {
                     lastUpdateTime2 = now;
                 }
+                long frameDelta = lastFrameTime == 0 ? 0 : now - lastFrameTime;
+                lastFrameTime = now;
 
                 // 게임 오버 체크
                 if (!battleEngine.isGameRunning()) {
@@ -279,113 +370,29 @@ public class BattleGameScreenController implements Initializable {
 
                 // 업데이트
                 battleEngine.update();
+                if (cpuPlayer != null) {
+                    cpuPlayer.update(now);
+                }
+                // 눌린 키 처리 (삭제 애니메이션 중에는 모아 두었다가 끝나면 실행)
+                if (player1Input != null && !battleEngine.isPaused()) {
+                    player1Input.setBuffering(isAnimatingClear1);
+                    player1Input.update(frameDelta);
+                    player2Input.setBuffering(isAnimatingClear2);
+                    player2Input.update(frameDelta);
+                }
 
-                // 플레이어 1 블록 낙하
+                // 블록 낙하 (줄 삭제와 공격은 블록 배치 이벤트에서 처리됨)
                 if (now - lastUpdateTime1 >= fallSpeed1) {
                     if (battleEngine.isGameRunning() && !battleEngine.isPaused()) {
                         battleEngine.getPlayer1Engine().movePieceDown();
-                        // 애니메이션 중이 아닐 때만 줄 삭제 체크
-                        if (!isAnimatingClear1) {
-                            java.util.List<Integer> fullLines = battleEngine.getPlayer1Engine().getFullLines();
-                            if (!fullLines.isEmpty()) {
-                                // 즉시 줄 삭제
-                                int linesCleared = battleEngine.getPlayer1Engine().getGameBoard().clearLines();
-                                if (linesCleared > 0) {
-                                    battleEngine.getPlayer1Engine().updateScoreForClear(linesCleared);
-                                    // 줄 삭제 직후 즉시 효과음 재생
-                                    MusicManager.getInstance().playRemoveBlockSound();
-                                    
-                                    // 공격 메커니즘 처리 (줄 삭제 직후 바로 처리)
-                                    if (linesCleared >= 2) {
-                                        int lastBlockCol = battleEngine.getPlayer1Engine().getLastPlacedBlockCol();
-                                        battleEngine.processPlayer1Attack(linesCleared, lastBlockCol);
-                                    }
-                                }
-                                
-                                // 애니메이션 시작 (줄 수에 따라 시간 조정)
-                                player1LinesToClear = fullLines;
-                                isAnimatingClear1 = true;
-                                clearAnimationStartTime1 = now;
-                                currentClearAnimationDuration1 = CLEAR_ANIMATION_BASE + (linesCleared - 1) * 10_000_000;
-                                lastUpdateTime1 = now; // 타이머 리셋
-                            }
-                        }
                     }
                     lastUpdateTime1 = now;
-                } else if (battleEngine.isGameRunning() && !battleEngine.isPaused() && !isAnimatingClear1) {
-                    // 하드드롭 직후 줄 삭제 감지 (타이밍 외) - 즉시 체크하여 딜레이 방지
-                    java.util.List<Integer> fullLines = battleEngine.getPlayer1Engine().getFullLines();
-                    if (!fullLines.isEmpty()) {
-                        int linesCleared = battleEngine.getPlayer1Engine().getGameBoard().clearLines();
-                        if (linesCleared > 0) {
-                            battleEngine.getPlayer1Engine().updateScoreForClear(linesCleared);
-                            MusicManager.getInstance().playRemoveBlockSound();
-                            
-                            if (linesCleared >= 2) {
-                                int lastBlockCol = battleEngine.getPlayer1Engine().getLastPlacedBlockCol();
-                                battleEngine.processPlayer1Attack(linesCleared, lastBlockCol);
-                            }
-                            
-                            player1LinesToClear = fullLines;
-                            isAnimatingClear1 = true;
-                            clearAnimationStartTime1 = now;
-                            currentClearAnimationDuration1 = CLEAR_ANIMATION_BASE + (linesCleared - 1) * 10_000_000;
-                        }
-                    }
                 }
-
-                // 플레이어 2 블록 낙하
                 if (now - lastUpdateTime2 >= fallSpeed2) {
                     if (battleEngine.isGameRunning() && !battleEngine.isPaused()) {
                         battleEngine.getPlayer2Engine().movePieceDown();
-                        // 애니메이션 중이 아닐 때만 줄 삭제 체크
-                        if (!isAnimatingClear2) {
-                            java.util.List<Integer> fullLines = battleEngine.getPlayer2Engine().getFullLines();
-                            if (!fullLines.isEmpty()) {
-                                // 즉시 줄 삭제
-                                int linesCleared = battleEngine.getPlayer2Engine().getGameBoard().clearLines();
-                                if (linesCleared > 0) {
-                                    battleEngine.getPlayer2Engine().updateScoreForClear(linesCleared);
-                                    // 줄 삭제 직후 즉시 효과음 재생
-                                    MusicManager.getInstance().playRemoveBlockSound();
-                                    
-                                    // 공격 메커니즘 처리 (줄 삭제 직후 바로 처리)
-                                    if (linesCleared >= 2) {
-                                        int lastBlockCol = battleEngine.getPlayer2Engine().getLastPlacedBlockCol();
-                                        battleEngine.processPlayer2Attack(linesCleared, lastBlockCol);
-                                    }
-                                }
-                                
-                                // 애니메이션 시작 (줄 수에 따라 시간 조정)
-                                player2LinesToClear = fullLines;
-                                isAnimatingClear2 = true;
-                                clearAnimationStartTime2 = now;
-                                currentClearAnimationDuration2 = CLEAR_ANIMATION_BASE + (linesCleared - 1) * 10_000_000;
-                                lastUpdateTime2 = now; // 타이머 리셋
-                            }
-                        }
                     }
                     lastUpdateTime2 = now;
-                } else if (battleEngine.isGameRunning() && !battleEngine.isPaused() && !isAnimatingClear2) {
-                    // 하드드롭 직후 줄 삭제 감지 (타이밍 외) - 즉시 체크하여 딜레이 방지
-                    java.util.List<Integer> fullLines = battleEngine.getPlayer2Engine().getFullLines();
-                    if (!fullLines.isEmpty()) {
-                        int linesCleared = battleEngine.getPlayer2Engine().getGameBoard().clearLines();
-                        if (linesCleared > 0) {
-                            battleEngine.getPlayer2Engine().updateScoreForClear(linesCleared);
-                            MusicManager.getInstance().playRemoveBlockSound();
-                            
-                            if (linesCleared >= 2) {
-                                int lastBlockCol = battleEngine.getPlayer2Engine().getLastPlacedBlockCol();
-                                battleEngine.processPlayer2Attack(linesCleared, lastBlockCol);
-                            }
-                            
-                            player2LinesToClear = fullLines;
-                            isAnimatingClear2 = true;
-                            clearAnimationStartTime2 = now;
-                            currentClearAnimationDuration2 = CLEAR_ANIMATION_BASE + (linesCleared - 1) * 10_000_000;
-                        }
-                    }
                 }
                 
                 // 애니메이션 처리 (시각적 효과만)
@@ -393,7 +400,7 @@ public class BattleGameScreenController implements Initializable {
                     long elapsed = now - clearAnimationStartTime1;
                     if (elapsed >= currentClearAnimationDuration1) {
                         isAnimatingClear1 = false;
-                        player1LinesToClear = null;
+                        player1LinesToClearMask = 0L;
                     }
                 }
 
@@ -401,7 +408,7 @@ public class BattleGameScreenController implements Initializable {
                     long elapsed = now - clearAnimationStartTime2;
                     if (elapsed >= currentClearAnimationDuration2) {
                         isAnimatingClear2 = false;
-                        player2LinesToClear = null;
+                        player2LinesToClearMask = 0L;
                     }
                 }
 
@@ -419,10 +426,8 @@ public class BattleGameScreenController implements Initializable {
 
     private void updateFallSpeeds() {
         if (battleEngine != null) {
-            fallSpeed1 = (long) (1_000_000_000 * Math.pow(0.9, battleEngine.getPlayer1Engine().getLevel() - 1));
-            fallSpeed2 = (long) (1_000_000_000 * Math.pow(0.9, battleEngine.getPlayer2Engine().getLevel() - 1));
-            battleEngine.getPlayer1Engine().setFallSpeed(fallSpeed1);
-            battleEngine.getPlayer2Engine().setFallSpeed(fallSpeed2);
+            fallSpeed1 = battleEngine.getPlayer1Engine().getFallSpeed();
+            fallSpeed2 = battleEngine.getPlayer2Engine().getFallSpeed();
         }
     }
 
@@ -433,18 +438,18 @@ public class BattleGameScreenController implements Initializable {
         gc.setFill(Color.BLACK);
         gc.fillRect(0, 0, player1Canvas.getWidth(), player1Canvas.getHeight());
 
-        // Canvas 크기에 맞게 블록 크기 계산
+        // Canvas 크기에 맞게 블록 크기 계산 (보드 크기 설정이 커도 캔버스 안에 들어가도록)
+        GameBoard board = battleEngine.getPlayer1Engine().getGameBoard();
         double blockSize = Math.min(
-            player1Canvas.getWidth() / GameBoard.BOARD_WIDTH,
-            player1Canvas.getHeight() / GameBoard.BOARD_HEIGHT
+            player1Canvas.getWidth() / board.getWidth(),
+            player1Canvas.getHeight() / board.getHeight()
         );
 
         // 회색 격자 표시
-        drawGrid(gc, player1Canvas, blockSize);
+        drawGrid(gc, player1Canvas, blockSize, board);
 
-        GameBoard board = battleEngine.getPlayer1Engine().getGameBoard();
-        for (int row = 0; row < GameBoard.BOARD_HEIGHT; row++) {
-            for (int col = 0; col < GameBoard.BOARD_WIDTH; col++) {
+        for (int row = 0; row < board.getHeight(); row++) {
+            for (int col = 0; col < board.getWidth(); col++) {
                 int cellValue = board.getCell(row, col);
                 if (cellValue > 0) {
                     ItemType itemType = board.getItemAt(row, col);
@@ -453,7 +458,7 @@ public class BattleGameScreenController implements Initializable {
                     // 공격 블록은 회색으로 표시
                     if (board.isAttackBlock(row, col)) {
                         color = Color.web("#666666"); // 회색
-                    } else if (isAnimatingClear1 && player1LinesToClear != null && player1LinesToClear.contains(row)) {
+                    } else if (isAnimatingClear1 && ((player1LinesToClearMask >>> row) & 1L) != 0) {
                         color = Color.WHITE;
                     } else {
                         color = PIECE_COLORS[cellValue];
@@ -473,7 +478,7 @@ public class BattleGameScreenController implements Initializable {
             }
         }
 
-        renderBorder(gc, player1Canvas);
+        renderBorder(gc, player1Canvas, board.isInDanger());
     }
 
     private void renderPlayer2() {
@@ -483,18 +488,18 @@ public class BattleGameScreenController implements Initializable {
         gc.setFill(Color.BLACK);
         gc.fillRect(0, 0, player2Canvas.getWidth(), player2Canvas.getHeight());
 
-        // Canvas 크기에 맞게 블록 크기 계산
+        // Canvas 크기에 맞게 블록 크기 계산 (보드 크기 설정이 커도 캔버스 안에 들어가도록)
+        GameBoard board = battleEngine.getPlayer2Engine().getGameBoard();
         double blockSize = Math.min(
-            player2Canvas.getWidth() / GameBoard.BOARD_WIDTH,
-            player2Canvas.getHeight() / GameBoard.BOARD_HEIGHT
+            player2Canvas.getWidth() / board.getWidth(),
+            player2Canvas.getHeight() / board.getHeight()
         );
 
         // 회색 격자 표시
-        drawGrid(gc, player2Canvas, blockSize);
+        drawGrid(gc, player2Canvas, blockSize, board);
 
-        GameBoard board = battleEngine.getPlayer2Engine().getGameBoard();
-        for (int row = 0; row < GameBoard.BOARD_HEIGHT; row++) {
-            for (int col = 0; col < GameBoard.BOARD_WIDTH; col++) {
+        for (int row = 0; row < board.getHeight(); row++) {
+            for (int col = 0; col < board.getWidth(); col++) {
                 int cellValue = board.getCell(row, col);
                 if (cellValue > 0) {
                     ItemType itemType = board.getItemAt(row, col);
@@ -503,7 +508,7 @@ public class BattleGameScreenController implements Initializable {
                     // 공격 블록은 회색으로 표시
                     if (board.isAttackBlock(row, col)) {
                         color = Color.web("#666666"); // 회색
-                    } else if (isAnimatingClear2 && player2LinesToClear != null && player2LinesToClear.contains(row)) {
+                    } else if (isAnimatingClear2 && ((player2LinesToClearMask >>> row) & 1L) != 0) {
                         color = Color.WHITE;
                     } else {
                         color = PIECE_COLORS[cellValue];
@@ -523,7 +528,7 @@ public class BattleGameScreenController implements Initializable {
             }
         }
 
-        renderBorder(gc, player2Canvas);
+        renderBorder(gc, player2Canvas, board.isInDanger());
     }
 
     private void renderNextPieces() {
@@ -611,10 +616,12 @@ public class BattleGameScreenController implements Initializable {
     private void renderIncomingLinesBlock(GraphicsContext gc, int numLines, java.util.List<Integer> emptyCols) {
         double canvasWidth = gc.getCanvas().getWidth();
         double canvasHeight = gc.getCanvas().getHeight();
+        // 두 플레이어는 같은 설정을 쓰므로 보드 가로 크기가 같다
+        int boardWidth = battleEngine.getPlayer1Engine().getGameBoard().getWidth();
         
         // Canvas 크기에 맞게 블록 크기 계산 (최대 10줄까지 표시, 오른쪽 여백 없이 딱 맞게)
-        // BOARD_WIDTH만큼만 사용하여 오른쪽 여백 제거
-        double blockSize = Math.min(canvasWidth / GameBoard.BOARD_WIDTH, canvasHeight / 12);
+        // 보드 가로 칸 수만큼만 사용하여 오른쪽 여백 제거
+        double blockSize = Math.min(canvasWidth / boardWidth, canvasHeight / 12);
         
         // 최대 10줄까지 표시
         int displayLines = Math.min(numLines, 10);
@@ -626,9 +633,9 @@ public class BattleGameScreenController implements Initializable {
         gc.setLineWidth(0.5);
         for (int row = 0; row <= 10; row++) {
             double y = row * blockSize;
-            gc.strokeLine(0, y, GameBoard.BOARD_WIDTH * blockSize, y);
+            gc.strokeLine(0, y, boardWidth * blockSize, y);
         }
-        for (int col = 0; col <= GameBoard.BOARD_WIDTH; col++) {
+        for (int col = 0; col <= boardWidth; col++) {
             double x = col * blockSize;
             gc.strokeLine(x, 0, x, Math.min(10 * blockSize, canvasHeight));
         }
@@ -638,13 +645,13 @@ public class BattleGameScreenController implements Initializable {
         for (int line = 0; line < displayLines; line++) {
             double y = line * blockSize + blockSize / 2; // 줄의 중앙
             // 큐에서 빈칸 위치 가져오기 (없으면 기본값)
-            int emptyCol = (line < emptyCols.size()) ? emptyCols.get(line) : (line * 3) % GameBoard.BOARD_WIDTH;
+            int emptyCol = (line < emptyCols.size()) ? emptyCols.get(line) : (line * 3) % boardWidth;
             // emptyCol 값이 유효한 범위인지 확인
-            if (emptyCol < 0 || emptyCol >= GameBoard.BOARD_WIDTH) {
-                emptyCol = (line * 3) % GameBoard.BOARD_WIDTH;
+            if (emptyCol < 0 || emptyCol >= boardWidth) {
+                emptyCol = (line * 3) % boardWidth;
             }
             
-            for (int col = 0; col < GameBoard.BOARD_WIDTH; col++) {
+            for (int col = 0; col < boardWidth; col++) {
                 double x = col * blockSize + blockSize / 2; // 열의 중앙
                 if (col == emptyCol) {
                     // 빈 칸은 그대로 둠 (검은 배경)
@@ -663,7 +670,7 @@ public class BattleGameScreenController implements Initializable {
         if (numLines > 10) {
             gc.setFill(Color.WHITE);
             gc.setFont(Font.font("Arial", javafx.scene.text.FontWeight.BOLD, (int)(blockSize * 0.8)));
-            gc.fillText("+" + (numLines - 10), GameBoard.BOARD_WIDTH * blockSize - 20, 10 * blockSize - 2);
+            gc.fillText("+" + (numLines - 10), boardWidth * blockSize - 20, 10 * blockSize - 2);
         }
     }
 
@@ -812,19 +819,19 @@ public class BattleGameScreenController implements Initializable {
     }
 
     // 색약모드용 보드 격자선 렌더링
-    private void drawGrid(GraphicsContext gc, Canvas canvas, double blockSize) {
+    private void drawGrid(GraphicsContext gc, Canvas canvas, double blockSize, GameBoard board) {
         gc.setStroke(Color.web("#444444"));
         gc.setLineWidth(1);
         double width = canvas.getWidth();
         double height = canvas.getHeight();
 
         // 세로선
-        for (int x = 0; x <= GameBoard.BOARD_WIDTH; x++) {
+        for (int x = 0; x <= board.getWidth(); x++) {
             double px = x * blockSize;
             gc.strokeLine(px, 0, px, height);
         }
         // 가로선
-        for (int y = 0; y <= GameBoard.BOARD_HEIGHT; y++) {
+        for (int y = 0; y <= board.getHeight(); y++) {
             double py = y * blockSize;
             gc.strokeLine(0, py, width, py);
         }
@@ -836,73 +843,78 @@ public class BattleGameScreenController implements Initializable {
         gc.strokeRect(0, 0, canvas.getWidth(), canvas.getHeight());
     }
 
+    /**
+     * 보드 테두리 (블록이 꼭대기 근처까지 쌓였으면 빨간색으로 경고)
+     */
+    private void renderBorder(GraphicsContext gc, Canvas canvas, boolean danger) {
+        if (!danger) {
+            renderBorder(gc, canvas);
+            return;
+        }
+        gc.setStroke(Color.RED);
+        gc.setLineWidth(3);
+        gc.strokeRect(0, 0, canvas.getWidth(), canvas.getHeight());
+    }
+
     private void updateUI() {
         if (battleEngine == null) return;
 
         // 플레이어 1 정보
-        if (player1ScoreLabel != null) {
-            player1ScoreLabel.setText("" + battleEngine.getPlayer1Engine().getScore());
-        }
-        if (player1LevelLabel != null) {
-            player1LevelLabel.setText("LEVEL: " + battleEngine.getPlayer1Engine().getLevel());
-        }
-        if (player1LinesLabel != null) {
-            player1LinesLabel.setText("LINES: " + battleEngine.getPlayer1Engine().getLinesCleared());
-        }
+        player1ScoreText.update(player1ScoreLabel, battleEngine.getPlayer1Engine().getScore());
+        player1LevelText.update(player1LevelLabel, battleEngine.getPlayer1Engine().getLevel());
+        player1LinesText.update(player1LinesLabel, battleEngine.getPlayer1Engine().getLinesCleared());
 
         // 플레이어 2 정보
-        if (player2ScoreLabel != null) {
-            player2ScoreLabel.setText("" + battleEngine.getPlayer2Engine().getScore());
-        }
-        if (player2LevelLabel != null) {
-            player2LevelLabel.setText("LEVEL: " + battleEngine.getPlayer2Engine().getLevel());
-        }
-        if (player2LinesLabel != null) {
-            player2LinesLabel.setText("LINES: " + battleEngine.getPlayer2Engine().getLinesCleared());
-        }
+        player2ScoreText.update(player2ScoreLabel, battleEngine.getPlayer2Engine().getScore());
+        player2LevelText.update(player2LevelLabel, battleEngine.getPlayer2Engine().getLevel());
+        player2LinesText.update(player2LinesLabel, battleEngine.getPlayer2Engine().getLinesCleared());
 
-        // 시간제한 모드 타이머
+        // 시간제한 모드 타이머 (초 단위가 바뀔 때만 문자열 생성)
         if (timerLabel != null && battleEngine.isTimeLimitMode()) {
-            long remaining = battleEngine.getRemainingTime();
-            long minutes = remaining / 60;
-            long seconds = remaining % 60;
-            timerLabel.setText(String.format("%02d:%02d", minutes, seconds));
-            // 시간 표시 색상 설정 (#e74c3c)
-            timerLabel.setStyle("-fx-text-fill: #e74c3c; -fx-font-weight: bold;");
-        } else if (timerLabel != null) {
-            timerLabel.setText("");
+            if (timerText.update(timerLabel, battleEngine.getRemainingTime())) {
+                // 시간 표시 색상 설정 (#e74c3c)
+                timerLabel.setStyle("-fx-text-fill: #e74c3c; -fx-font-weight: bold;");
+            }
+        } else {
+            timerText.clear(timerLabel);
         }
 
         // 승자 표시 (일시정지 중이 아닐 때만)
         if (winnerLabel != null && !battleEngine.isPaused()) {
-            String winner = battleEngine.getWinner();
-            if (winner != null) {
-                switch (winner) {
-                    case "PLAYER1":
-                        winnerLabel.setText("플레이어 1\n승리!");
-                        winnerLabel.setTextFill(Color.GREEN);
-                        break;
-                    case "PLAYER2":
-                        winnerLabel.setText("플레이어 2\n승리!");
-                        winnerLabel.setTextFill(Color.GREEN);
-                        break;
-                    case "DRAW":
-                        winnerLabel.setText("무승부!");
-                        winnerLabel.setTextFill(Color.YELLOW);
-                        break;
-                }
-            } else {
-                winnerLabel.setText("");
+            int winnerCode = toWinnerCode(battleEngine.getWinner());
+            if (winnerText.update(winnerLabel, winnerCode) && winnerCode != WINNER_NONE) {
+                winnerLabel.setTextFill(winnerCode == WINNER_DRAW ? Color.YELLOW : Color.GREEN);
             }
         }
     }
 
+    private static int toWinnerCode(String winner) {
+        if (winner == null) {
+            return WINNER_NONE;
+        }
+        switch (winner) {
+            case "PLAYER1":
+                return WINNER_PLAYER1;
+            case "PLAYER2":
+                return WINNER_PLAYER2;
+            case "DRAW":
+                return WINNER_DRAW;
+            default:
+                return WINNER_NONE;
+        }
+    }
+
     @FXML
     private void onPause() {
         if (battleEngine != null) {
             battleEngine.pauseGame();
             boolean isPaused = battleEngine.isPaused();
+            if (isPaused && player1Input != null) {
+                player1Input.releaseAll();
+                player2Input.releaseAll();
+            }
             if (winnerLabel != null) {
+                winnerText.invalidate();
                 if (isPaused) {
                     winnerLabel.setText("일시 정지");
                     winnerLabel.setTextFill(Color.YELLOW);
@@ -939,6 +951,7 @@ public class BattleGameScreenController implements Initializable {
             Platform.runLater(() -> {
                 // 승패 판정
                 String winner = battleEngine.getWinner();
+                winnerText.invalidate();
                 
                 if ("PLAYER1".equals(winner)) {
                     winnerLabel.setText("플레이어 1 승리!");
@@ -970,6 +983,7 @@ public class BattleGameScreenController implements Initializable {
                 gameOverBox.setManaged(false);
             }
             winnerLabel.setText("");
+            winnerText.invalidate();
             
             // 게임 루프 정지
             if (gameLoop != null) {
@@ -981,14 +995,12 @@ public class BattleGameScreenController implements Initializable {
             if ("TIME_LIMIT".equals(battleMode)) {
                 battleEngine.setTimeLimit(180);
             }
+            resizeBoardCanvases();
             
-            // 블록이 떨어질 때마다 공격 적용하도록 콜백 설정
-            battleEngine.getPlayer1Engine().setOnPiecePlacedCallback(() -> {
-                battleEngine.applyPendingAttacks(1);
-            });
-            battleEngine.getPlayer2Engine().setOnPiecePlacedCallback(() -> {
-                battleEngine.applyPendingAttacks(2);
-            });
+            // 블록 배치/줄 삭제 이벤트 구독
+            subscribeToEngines();
+            createCpuPlayer();
+            createInputControllers();
             
             // 게임 시작
             startGameLoop();
@@ -997,57 +1009,37 @@ public class BattleGameScreenController implements Initializable {
     }
     
     /**
-     * 플레이어 1의 줄 삭제 체크 및 처리 (블록 배치 콜백에서 호출)
+     * 컴퓨터 대전이면 2P 엔진을 조작할 CpuPlayer 생성 (초기화와 재시작에서 공통 사용)
      */
-    private void checkAndClearLinesForPlayer1() {
-        if (!isAnimatingClear1 && battleEngine.isGameRunning() && !battleEngine.isPaused()) {
-            java.util.List<Integer> fullLines = battleEngine.getPlayer1Engine().getFullLines();
-            if (!fullLines.isEmpty()) {
-                int linesCleared = battleEngine.getPlayer1Engine().getGameBoard().clearLines();
-                if (linesCleared > 0) {
-                    battleEngine.getPlayer1Engine().updateScoreForClear(linesCleared);
-                    MusicManager.getInstance().playRemoveBlockSound();
-                    
-                    if (linesCleared >= 2) {
-                        int lastBlockCol = battleEngine.getPlayer1Engine().getLastPlacedBlockCol();
-                        battleEngine.processPlayer1Attack(linesCleared, lastBlockCol);
-                    }
-                    
-                    // 애니메이션 시작
-                    player1LinesToClear = fullLines;
-                    isAnimatingClear1 = true;
-                    clearAnimationStartTime1 = System.nanoTime();
-                    currentClearAnimationDuration1 = CLEAR_ANIMATION_BASE + (linesCleared - 1) * 10_000_000;
-                }
-            }
-        }
+    private void createCpuPlayer() {
+        cpuPlayer = cpuOpponent
+            ? new CpuPlayer(battleEngine.getPlayer2Engine(), CpuPlayer.moveDelayFor(settingsManager.getDifficulty()))
+            : null;
     }
-    
+
     /**
-     * 플레이어 2의 줄 삭제 체크 및 처리 (블록 배치 콜백에서 호출)
+     * 플레이어별 입력 처리기 생성 (컴퓨터가 2P면 2P 키는 연결하지 않음)
      */
-    private void checkAndClearLinesForPlayer2() {
-        if (!isAnimatingClear2 && battleEngine.isGameRunning() && !battleEngine.isPaused()) {
-            java.util.List<Integer> fullLines = battleEngine.getPlayer2Engine().getFullLines();
-            if (!fullLines.isEmpty()) {
-                int linesCleared = battleEngine.getPlayer2Engine().getGameBoard().clearLines();
-                if (linesCleared > 0) {
-                    battleEngine.getPlayer2Engine().updateScoreForClear(linesCleared);
-                    MusicManager.getInstance().playRemoveBlockSound();
-                    
-                    if (linesCleared >= 2) {
-                        int lastBlockCol = battleEngine.getPlayer2Engine().getLastPlacedBlockCol();
-                        battleEngine.processPlayer2Attack(linesCleared, lastBlockCol);
-                    }
-                    
-                    // 애니메이션 시작
-                    player2LinesToClear = fullLines;
-                    isAnimatingClear2 = true;
-                    clearAnimationStartTime2 = System.nanoTime();
-                    currentClearAnimationDuration2 = CLEAR_ANIMATION_BASE + (linesCleared - 1) * 10_000_000;
-                }
-            }
+    private void createInputControllers() {
+        player1Input = InputController.fromSystemProperties(battleEngine.getPlayer1Engine());
+        player1Input.bindPlayer1Keys();
+        player2Input = InputController.fromSystemProperties(battleEngine.getPlayer2Engine());
+        if (cpuPlayer == null) {
+            player2Input.bindPlayer2Keys();
         }
+        lastFrameTime = 0;
+    }
+
+    /**
+     * 두 플레이어 엔진에 이벤트 리스너 등록 (초기화와 재시작에서 공통 사용)
+     */
+    private void subscribeToEngines() {
+        battleEngine.getPlayer1Engine().addGameEventListener(engineListener);
+        battleEngine.getPlayer2Engine().addGameEventListener(engineListener);
+    }
+
+    private int playerNumberOf(GameEngine engine) {
+        return engine == battleEngine.getPlayer1Engine() ? 1 : 2;
     }
 }
 
@@ -5,6 +5,7 @@ import javafx.fxml.Initializable;
 import javafx.scene.control.Button;
 import javafx.scene.image.ImageView;
 import javafx.scene.input.KeyCode;
+import tetris.ui.ReusableController;
 import tetris.ui.SceneManager;
 import tetris.ui.SettingsManager;
 
@@ -13,7 +14,7 @@ import java.util.ArrayList;
 import java.util.List;
 import java.util.ResourceBundle;
 
-public class BattleModeSelectionController implements Initializable {
+public class BattleModeSelectionController implements Initializable, ReusableController {
 
     @FXML
     private Button normalBattleButton;
@@ -24,6 +25,9 @@ public class BattleModeSelectionController implements Initializable {
     @FXML
     private Button timeLimitBattleButton;
 
+    @FXML
+    private Button computerBattleButton;
+
     @FXML
     private Button backButton;
 
@@ -65,6 +69,7 @@ public class BattleModeSelectionController implements Initializable {
         menuButtons.add(normalBattleButton);
         menuButtons.add(itemBattleButton);
         menuButtons.add(timeLimitBattleButton);
+        menuButtons.add(computerBattleButton);
         menuButtons.add(backButton);
 
         // 모든 버튼에 마우스 호버 이벤트 핸들러 추가
@@ -85,6 +90,13 @@ public class BattleModeSelectionController implements Initializable {
         setupSceneKeyHandler();
     }
 
+    @Override
+    public void onSceneReused() {
+        // 캐시된 화면으로 돌아온 경우 첫 번째 버튼부터 다시 선택
+        selectButton(0);
+        normalBattleButton.requestFocus();
+    }
+
     public void setSceneManager(SceneManager sceneManager) {
         this.sceneManager = sceneManager;
         setupSceneKeyHandler();
@@ -172,6 +184,8 @@ public class BattleModeSelectionController implements Initializable {
             onItemBattle();
         } else if (currentButton == timeLimitBattleButton) {
             onTimeLimitBattle();
+        } else if (currentButton == computerBattleButton) {
+            onComputerBattle();
         } else if (currentButton == backButton) {
             onBack();
         }
@@ -198,6 +212,13 @@ public class BattleModeSelectionController implements Initializable {
         }
     }
 
+    @FXML
+    private void onComputerBattle() {
+        if (sceneManager != null) {
+            sceneManager.showBattleGameScreenAgainstComputer("NORMAL");
+        }
+    }
+
     @FXML
     private void onBack() {
         if (sceneManager != null) {
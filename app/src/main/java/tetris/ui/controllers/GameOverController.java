@@ -9,13 +9,15 @@ import javafx.scene.control.ListCell;
 import javafx.scene.control.ListView;
 import javafx.scene.control.TextField;
 import tetris.data.ScoreManager;
+import tetris.network.LeaderboardClient;
+import tetris.ui.ReusableController;
 import tetris.ui.SceneManager;
 import tetris.ui.SettingsManager;
 
 import java.net.URL;
 import java.util.ResourceBundle;
 
-public class GameOverController implements Initializable {
+public class GameOverController implements Initializable, ReusableController {
 
     @FXML
     private Label finalScoreLabel;
@@ -50,7 +52,19 @@ public class GameOverController implements Initializable {
         // ListView 스타일 + CellFactory (초기 1회만 설정)
         setupListViewCellFactory();
 
-        // 초기 스코어 로드
+        // 초기 스코어 로드 (백그라운드에서 미리 로드하는 중이면 화면을 띄울 때 onSceneReused에서 읽는다)
+        if (javafx.application.Platform.isFxApplicationThread()) {
+            loadScores();
+        }
+    }
+
+    @Override
+    public void onSceneReused() {
+        // 이전 게임의 강조/저장 상태를 지우고 현재 설정 기준으로 다시 로드
+        gameMode = SettingsManager.getInstance().getGameMode();
+        difficulty = SettingsManager.getInstance().getDifficulty();
+        highlightedIndex = null;
+        scoreSaved = false;
         loadScores();
     }
 
@@ -309,6 +323,13 @@ public class GameOverController implements Initializable {
     private boolean saveScore(String playerName, int score) {
         String difficulty = SettingsManager.getInstance().getDifficulty();
         String gameMode = SettingsManager.getInstance().getGameMode();
-        return ScoreManager.getInstance().addScore(playerName, score, difficulty, gameMode);
+        boolean isTopTen = ScoreManager.getInstance().addScore(playerName, score, difficulty, gameMode);
+
+        // 공용 리더보드 서버가 설정돼 있으면 같이 보낸다 (백그라운드 전송)
+        LeaderboardClient leaderboard = LeaderboardClient.getShared();
+        if (leaderboard != null) {
+            leaderboard.submit(playerName, score, difficulty, gameMode);
+        }
+        return isTopTen;
     }
 }
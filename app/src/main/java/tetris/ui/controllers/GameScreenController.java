@@ -7,10 +7,16 @@ import javafx.scene.canvas.GraphicsContext;
 import javafx.scene.control.Label;
 import javafx.scene.paint.Color;
 import javafx.animation.AnimationTimer;
+import tetris.ui.HudLabel;
+import tetris.ui.ReusableController;
 import tetris.ui.SceneManager;
+import tetris.ui.SoundEffect;
+import tetris.ui.SoundEffectPlayer;
 import tetris.ui.SettingsManager;
 import tetris.ui.MusicManager;
 import tetris.game.GameEngine;
+import tetris.game.GameEventListener;
+import tetris.game.InputController;
 import tetris.game.GameBoard;
 import tetris.game.Piece;
 import tetris.game.ItemType;
@@ -19,7 +25,7 @@ import javafx.scene.text.Font;
 import javafx.scene.text.Text;
 import java.util.ResourceBundle;
 
-public class GameScreenController implements Initializable {
+public class GameScreenController implements Initializable, ReusableController {
 
     @FXML
     private Canvas gameCanvas;
@@ -48,21 +54,68 @@ public class GameScreenController implements Initializable {
     @FXML
     private Canvas nextPieceCanvas;
 
+    @FXML
+    private Canvas holdPieceCanvas;
+
     private SceneManager sceneManager;
     private SettingsManager settingsManager;
     private GameEngine gameEngine;
+    // 키 상태를 프레임마다 읽어 DAS/ARR, 소프트드롭 반복, 애니메이션 중 입력 버퍼링 처리
+    private InputController inputController;
     private AnimationTimer gameLoop;
     private long lastUpdateTime = 0;
+    private long lastFrameTime = 0;
     private long fallSpeed = 1_000_000_000; // 1 second in nanoseconds
 
     // 줄 삭제 애니메이션 관련
-    private java.util.List<Integer> linesToClear = null;
+    private long linesToClearMask = 0L; // 삭제된 행 비트마스크 (bit r = r번째 행)
     private long clearAnimationStartTime = 0;
     private static final long CLEAR_ANIMATION_DURATION = 50_000_000; // 0.05초 (시각적 효과만)
     private boolean isAnimatingClear = false;
 
+    // 엔진 이벤트 구독 (블록 배치/줄 삭제가 실제로 일어날 때만 동작)
+    private final GameEventListener engineListener = new GameEventListener() {
+        @Override
+        public void onPiecePlaced(GameEngine engine, int lastPlacedCol) {
+            SoundEffectPlayer.getInstance().play(SoundEffect.LOCK);
+
+            // 블록이 고정되면 즉시 줄 삭제 (점수 반영은 엔진이 처리)
+            engine.clearLinesManually();
+        }
+
+        @Override
+        public void onLinesCleared(GameEngine engine, int clearedLines, long rowMask) {
+            // 줄 삭제 직후 즉시 효과음 재생
+            SoundEffectPlayer.getInstance().play(SoundEffect.LINE_CLEAR);
+
+            // 애니메이션 시작 (시각적 효과만)
+            linesToClearMask = rowMask;
+            isAnimatingClear = true;
+            clearAnimationStartTime = System.nanoTime();
+        }
+
+        @Override
+        public void onPieceRotated(GameEngine engine) {
+            SoundEffectPlayer.getInstance().play(SoundEffect.ROTATE);
+        }
+
+        @Override
+        public void onItemTriggered(GameEngine engine, ItemType itemType) {
+            SoundEffectPlayer.getInstance().play(SoundEffect.ITEM_TRIGGER);
+        }
+    };
+
     // 블록 크기 (화면 크기에 따라 동적으로 설정)
     private int BLOCK_SIZE = 30;
+
+    // HUD 라벨 캐시 (값이 바뀐 경우에만 setText)
+    private final HudLabel scoreText = new HudLabel("Score: ");
+    private final HudLabel levelText = new HudLabel("Level: ");
+    private final HudLabel linesText = new HudLabel("Lines: ");
+    private final HudLabel nextItemText = new HudLabel(
+        lines -> lines == 0 ? "Next Item: Ready!" : "Next Item: " + lines + " Lines");
+    private final HudLabel doubleScoreText = new HudLabel(seconds -> "2X SCORE: " + seconds + "s");
+    private final HudLabel skipText = new HudLabel(unused -> "N키를 눌러\n블록 넘기기!");
     
     // 블록 색상 설정 (ColorBlind Safe 팔레트)
     private static final Color[] PIECE_COLORS = {
@@ -114,8 +167,6 @@ public class GameScreenController implements Initializable {
                 break;
         }
         
-        // 게임 엔진 초기화
-        gameEngine = new GameEngine();
         setupGameCanvas();
         setupNextPieceCanvas();
         
@@ -127,10 +178,43 @@ public class GameScreenController implements Initializable {
                 }
             });
         }
-        
+
+        startNewGame();
+    }
+
+    @Override
+    public void onSceneReused() {
+        // 캐시된 게임 화면으로 다시 들어온 경우 이전 게임을 정리하고 새 게임 시작
+        startNewGame();
+    }
+
+    /**
+     * 새 엔진을 만들어 게임을 시작 (최초 로드와 화면 재사용 시 공통)
+     */
+    private void startNewGame() {
+        if (gameLoop != null) {
+            gameLoop.stop();
+        }
+
+        // 게임 엔진 초기화
+        gameEngine = new GameEngine();
+        gameEngine.addGameEventListener(engineListener);
+        resizeGameCanvas();
+        resizeNextPieceCanvas();
+        inputController = InputController.fromSystemProperties(gameEngine);
+        inputController.bindPlayer1Keys();
+
+        lastUpdateTime = 0;
+        lastFrameTime = 0;
+        isAnimatingClear = false;
+        linesToClearMask = 0L;
+        if (pauseStatusLabel != null) {
+            pauseStatusLabel.setText("");
+        }
+
         // 게임 브금 재생
         MusicManager.getInstance().playGameMusic();
-        
+
         startGameLoop();
         gameEngine.startGame();
     }
@@ -141,8 +225,7 @@ public class GameScreenController implements Initializable {
 
     private void setupGameCanvas() {
         if (gameCanvas != null) {
-            gameCanvas.setWidth(GameBoard.BOARD_WIDTH * BLOCK_SIZE);
-            gameCanvas.setHeight(GameBoard.BOARD_HEIGHT * BLOCK_SIZE);
+            // 크기는 엔진을 만들 때 resizeGameCanvas()에서 보드에 맞춘다
             // 포커스 비활성화 - Scene 레벨에서 키 입력 처리
             gameCanvas.setFocusTraversable(false);
         }
@@ -162,13 +245,19 @@ public class GameScreenController implements Initializable {
                     return;
                 }
                 if (gameEngine != null && gameEngine.isGameRunning() && !gameEngine.isPaused()) {
-                    // 게임 진행 중에만 키 입력을 게임 엔진으로 전달
-                    gameEngine.handleKeyPress(event.getCode());
+                    // 게임 진행 중에만 키 입력을 입력 처리기로 전달 (반복은 게임 루프에서 처리)
+                    inputController.keyPressed(event.getCode().getName().toUpperCase());
                     // 이벤트를 consume하여 버튼으로 전파되지 않도록 차단
                     event.consume();
 
                 }
             });
+            gameCanvas.getScene().setOnKeyReleased(event -> {
+                // 일시정지 중에 뗀 키도 눌린 상태로 남지 않도록 항상 전달
+                if (inputController != null && inputController.keyReleased(event.getCode().getName().toUpperCase())) {
+                    event.consume();
+                }
+            });
         }
     }
 
@@ -181,6 +270,36 @@ public class GameScreenController implements Initializable {
             // Canvas 테두리 그리기
             drawNextPieceCanvasBorder();
         }
+        if (holdPieceCanvas != null) {
+            holdPieceCanvas.setWidth(6 * BLOCK_SIZE);
+            holdPieceCanvas.setHeight(3 * BLOCK_SIZE);
+        }
+    }
+
+    // 바로 다음 블록 아래에 나머지 미리보기 블록을 절반 크기로 한 칸씩 그릴 높이
+    private int previewSlotHeight() {
+        return BLOCK_SIZE * 5 / 4;
+    }
+
+    /**
+     * 보드 크기 설정(GameConfig)에 맞춰 게임 Canvas 크기 조절 (엔진을 새로 만들 때마다)
+     */
+    private void resizeGameCanvas() {
+        if (gameCanvas != null) {
+            GameBoard board = gameEngine.getGameBoard();
+            gameCanvas.setWidth(board.getWidth() * BLOCK_SIZE);
+            gameCanvas.setHeight(board.getHeight() * BLOCK_SIZE);
+        }
+    }
+
+    /**
+     * 미리보기 블록 수에 맞춰 다음 블록 Canvas 높이 조절 (엔진을 새로 만들 때마다)
+     */
+    private void resizeNextPieceCanvas() {
+        if (nextPieceCanvas != null) {
+            int extra = gameEngine.getPreviewCount() - 1;
+            nextPieceCanvas.setHeight(5 * BLOCK_SIZE + extra * previewSlotHeight());
+        }
     }
     
     private void drawNextPieceCanvasBorder() {
@@ -199,6 +318,8 @@ public class GameScreenController implements Initializable {
                 if (lastUpdateTime == 0) {
                     lastUpdateTime = now;
                 }
+                long frameDelta = lastFrameTime == 0 ? 0 : now - lastFrameTime;
+                lastFrameTime = now;
 
                 // 게임 오버 체크
                 if (!gameEngine.isGameRunning()) {
@@ -213,59 +334,30 @@ public class GameScreenController implements Initializable {
                     if (elapsed >= CLEAR_ANIMATION_DURATION) {
                         // 애니메이션 종료
                         isAnimatingClear = false;
-                        linesToClear = null;
+                        linesToClearMask = 0L;
                     }
                 }
 
+                // 눌린 키 처리 (삭제 애니메이션 중에는 모아 두었다가 끝나면 실행)
+                if (!gameEngine.isPaused()) {
+                    inputController.setBuffering(isAnimatingClear);
+                    inputController.update(frameDelta);
+                }
+
+                // 블록 낙하 (줄 삭제는 블록 배치 이벤트에서 처리됨)
                 if (now - lastUpdateTime >= fallSpeed) {
                     if (gameEngine.isGameRunning() && !gameEngine.isPaused()) {
                         gameEngine.movePieceDown();
-                        
-                        // 블록이 떨어진 후 삭제할 줄이 있는지 확인
-                        java.util.List<Integer> fullLines = gameEngine.getFullLines();
-                        if (!fullLines.isEmpty()) {
-                            // 즉시 줄 삭제
-                            int linesCleared = gameEngine.getGameBoard().clearLines();
-                            if (linesCleared > 0) {
-                                gameEngine.updateScoreForClear(linesCleared);
-                                // 줄 삭제 직후 즉시 효과음 재생
-                                MusicManager.getInstance().playRemoveBlockSound();
-                            }
-                            
-                            // 애니메이션 시작 (시각적 효과만)
-                            linesToClear = fullLines;
-                            isAnimatingClear = true;
-                            clearAnimationStartTime = now;
-                            lastUpdateTime = now; // 타이머 리셋
-                        }
                     }
                     lastUpdateTime = now;
                 }
-                
-                // 하드드롭 직후 또는 매 프레임마다 줄 삭제 확인 (타이밍 외)
-                if (!isAnimatingClear && gameEngine.isGameRunning() && !gameEngine.isPaused()) {
-                    java.util.List<Integer> fullLines = gameEngine.getFullLines();
-                    if (!fullLines.isEmpty()) {
-                        // 즉시 줄 삭제
-                        int linesCleared = gameEngine.getGameBoard().clearLines();
-                        if (linesCleared > 0) {
-                            gameEngine.updateScoreForClear(linesCleared);
-                            // 줄 삭제 직후 즉시 효과음 재생
-                            MusicManager.getInstance().playRemoveBlockSound();
-                        }
-                        
-                        // 애니메이션 시작 (시각적 효과만)
-                        linesToClear = fullLines;
-                        isAnimatingClear = true;
-                        clearAnimationStartTime = now;
-                    }
-                }
 
-                // 점수 2배 상태 업데이트
-                gameEngine.updateDoubleScoreStatus();
+                // 게임 시간 진행 (점수 2배 상태 업데이트)
+                gameEngine.update();
 
                 renderGame();
                 renderNextPiece();
+                renderHoldPiece();
                 updateUI();
                 updateFallSpeed();
             }
@@ -275,8 +367,7 @@ public class GameScreenController implements Initializable {
 
     // 블록 낙하 속도 조절
     private void updateFallSpeed() {
-        fallSpeed = (long) (1_000_000_000 * Math.pow(0.9, gameEngine.getLevel() - 1));
-        gameEngine.setFallSpeed(fallSpeed);
+        fallSpeed = gameEngine.getFallSpeed();
     }
 
     private void renderGame() {
@@ -293,14 +384,14 @@ public class GameScreenController implements Initializable {
 
         // 게임 보드 렌더링
         GameBoard board = gameEngine.getGameBoard();
-        for (int row = 0; row < GameBoard.BOARD_HEIGHT; row++) {
-            for (int col = 0; col < GameBoard.BOARD_WIDTH; col++) {
+        for (int row = 0; row < board.getHeight(); row++) {
+            for (int col = 0; col < board.getWidth(); col++) {
                 int cellValue = board.getCell(row, col);
                 if (cellValue > 0) {
                     ItemType itemType = board.getItemAt(row, col);
                     
                     // 삭제 애니메이션 중인 줄이면 하얀색으로 표시
-                    if (isAnimatingClear && linesToClear != null && linesToClear.contains(row)) {
+                    if (isAnimatingClear && ((linesToClearMask >>> row) & 1L) != 0) {
                         renderBlock(gc, col * BLOCK_SIZE, row * BLOCK_SIZE, Color.WHITE, cellValue, itemType);
                     } else {
                         renderBlock(gc, col * BLOCK_SIZE, row * BLOCK_SIZE, PIECE_COLORS[cellValue], cellValue, itemType);
@@ -329,14 +420,15 @@ public class GameScreenController implements Initializable {
         gc.setLineWidth(1);
         double width = gameCanvas.getWidth();
         double height = gameCanvas.getHeight();
+        GameBoard board = gameEngine.getGameBoard();
 
         // 세로선
-        for (int x = 0; x <= GameBoard.BOARD_WIDTH; x++) {
+        for (int x = 0; x <= board.getWidth(); x++) {
             double px = x * BLOCK_SIZE;
             gc.strokeLine(px, 0, px, height);
         }
         // 가로선
-        for (int y = 0; y <= GameBoard.BOARD_HEIGHT; y++) {
+        for (int y = 0; y <= board.getHeight(); y++) {
             double py = y * BLOCK_SIZE;
             gc.strokeLine(0, py, width, py);
         }
@@ -366,10 +458,54 @@ public class GameScreenController implements Initializable {
             }
         }
 
+        // 그 뒤 블록들은 절반 크기로 아래에 차례대로
+        int smallSize = BLOCK_SIZE / 2;
+        for (int i = 1; i < gameEngine.getPreviewCount(); i++) {
+            Piece piece = gameEngine.getPreviewPiece(i);
+            int[][] shape = piece.getShape();
+            Color color = PIECE_COLORS[piece.getType()];
+            int top = 5 * BLOCK_SIZE + (i - 1) * previewSlotHeight();
+            for (int row = 0; row < shape.length; row++) {
+                for (int col = 0; col < shape[row].length; col++) {
+                    if (shape[row][col] != 0) {
+                        renderBlock(gc, BLOCK_SIZE + col * smallSize, top + row * smallSize, smallSize,
+                            color, piece.getType(), piece.getItemAt(row, col));
+                    }
+                }
+            }
+        }
+
         // 테두리 다시 그리기
         drawNextPieceCanvasBorder();
     }
 
+    private void renderHoldPiece() {
+        if (holdPieceCanvas == null || gameEngine == null) return;
+
+        GraphicsContext gc = holdPieceCanvas.getGraphicsContext2D();
+        gc.setFill(Color.BLACK);
+        gc.fillRect(0, 0, holdPieceCanvas.getWidth(), holdPieceCanvas.getHeight());
+
+        Piece holdPiece = gameEngine.getHoldPiece();
+        if (holdPiece != null) {
+            int[][] shape = holdPiece.getShape();
+            // 이번 블록에서 이미 보관을 썼으면 회색으로
+            Color color = gameEngine.canHold() ? PIECE_COLORS[holdPiece.getType()] : Color.GRAY;
+            for (int row = 0; row < shape.length; row++) {
+                for (int col = 0; col < shape[row].length; col++) {
+                    if (shape[row][col] != 0) {
+                        renderBlock(gc, (col + 1) * BLOCK_SIZE, BLOCK_SIZE / 2 + row * BLOCK_SIZE, color,
+                            holdPiece.getType(), holdPiece.getItemAt(row, col));
+                    }
+                }
+            }
+        }
+
+        gc.setStroke(Color.WHITE);
+        gc.setLineWidth(2);
+        gc.strokeRect(1, 1, holdPieceCanvas.getWidth() - 2, holdPieceCanvas.getHeight() - 2);
+    }
+
     private void renderPiece(GraphicsContext gc, Piece piece) {
         int[][] shape = piece.getShape();
         Color color = PIECE_COLORS[piece.getType()];
@@ -389,6 +525,10 @@ public class GameScreenController implements Initializable {
     }
 
     private void renderBlock(GraphicsContext gc, int x, int y, Color color, int pieceType, ItemType itemType) {
+        renderBlock(gc, x, y, BLOCK_SIZE, color, pieceType, itemType);
+    }
+
+    private void renderBlock(GraphicsContext gc, int x, int y, int size, Color color, int pieceType, ItemType itemType) {
         // 색약모드가 켜져 있으면 색 대신 심볼로 채운다
         if (settingsManager != null && settingsManager.isColorBlindModeEnabled()) {
 
@@ -398,7 +538,7 @@ public class GameScreenController implements Initializable {
             }
 
             // 아이콘을 블록 크기에 맞게 최대한 크게 설정
-            int fontSize = BLOCK_SIZE - 2;
+            int fontSize = size - 2;
             if (fontSize < 8) fontSize = 8;
             Font font = Font.font("Monospaced", fontSize);
             gc.setFont(font);
@@ -409,8 +549,8 @@ public class GameScreenController implements Initializable {
             double textWidth = text.getLayoutBounds().getWidth();
             double textHeight = text.getLayoutBounds().getHeight();
 
-            double tx = x + (BLOCK_SIZE - textWidth) / 2.0;
-            double ty = y + (BLOCK_SIZE + textHeight) / 2.0 - 4;
+            double tx = x + (size - textWidth) / 2.0;
+            double ty = y + (size + textHeight) / 2.0 - 4;
 
             gc.fillText(symbol, tx, ty);
 
@@ -418,10 +558,10 @@ public class GameScreenController implements Initializable {
             if (itemType != null && itemType != ItemType.NONE) {
                 String itemChar = itemType.getDisplayChar();
                 if (!itemChar.isEmpty()) {
-                    Font smallFont = Font.font("Monospaced", BLOCK_SIZE / 3);
+                    Font smallFont = Font.font("Monospaced", size / 3);
                     gc.setFont(smallFont);
                     gc.setFill(Color.YELLOW);  // 눈에 잘 띄는 색상
-                    gc.fillText(itemChar, x + BLOCK_SIZE - BLOCK_SIZE / 3, y + BLOCK_SIZE / 3);
+                    gc.fillText(itemChar, x + size - size / 3, y + size / 3);
                 }
             }
             return;
@@ -429,18 +569,18 @@ public class GameScreenController implements Initializable {
 
         // 기본 렌더링: 색으로 채우고 테두리 그림
         gc.setFill(color);
-        gc.fillRect(x, y, BLOCK_SIZE, BLOCK_SIZE);
+        gc.fillRect(x, y, size, size);
 
         // 블록 테두리
         gc.setStroke(Color.WHITE);
         gc.setLineWidth(1);
-        gc.strokeRect(x, y, BLOCK_SIZE, BLOCK_SIZE);
+        gc.strokeRect(x, y, size, size);
 
         // 아이템이 있으면 문자를 블록 중앙에 표시
         if (itemType != null && itemType != ItemType.NONE) {
             String itemChar = itemType.getDisplayChar();
             if (!itemChar.isEmpty()) {
-                int fontSize = (int) (BLOCK_SIZE * 0.6);  // 블록 크기의 60%
+                int fontSize = (int) (size * 0.6);  // 블록 크기의 60%
                 Font font = Font.font("Arial", javafx.scene.text.FontWeight.BOLD, fontSize);
                 gc.setFont(font);
                 gc.setFill(Color.WHITE);
@@ -450,8 +590,8 @@ public class GameScreenController implements Initializable {
                 double textWidth = text.getLayoutBounds().getWidth();
                 double textHeight = text.getLayoutBounds().getHeight();
 
-                double tx = x + (BLOCK_SIZE - textWidth) / 2.0;
-                double ty = y + (BLOCK_SIZE + textHeight) / 2.0 - 2;
+                double tx = x + (size - textWidth) / 2.0;
+                double ty = y + (size + textHeight) / 2.0 - 2;
 
                 gc.fillText(itemChar, tx, ty);
             }
@@ -502,8 +642,9 @@ public class GameScreenController implements Initializable {
     }
 
     private void renderBorder(GraphicsContext gc) {
-        // 색약모드에서도 게임 보드 외곽 테두리 표시
-        gc.setStroke(Color.WHITE);
+        // 색약모드에서도 게임 보드 외곽 테두리 표시 (블록이 꼭대기 근처까지 쌓이면 빨간색으로 경고)
+        boolean danger = gameEngine != null && gameEngine.getGameBoard().isInDanger();
+        gc.setStroke(danger ? Color.RED : Color.WHITE);
         gc.setLineWidth(3);
         gc.strokeRect(0, 0, gameCanvas.getWidth(), gameCanvas.getHeight());
     }
@@ -524,6 +665,9 @@ public class GameScreenController implements Initializable {
         if (gameEngine != null) {
             gameEngine.pauseGame();
             boolean isPaused = gameEngine.isPaused();
+            if (isPaused && inputController != null) {
+                inputController.releaseAll();
+            }
             if (pauseStatusLabel != null) {
                 if (isPaused) {
                     pauseStatusLabel.setText("일시 정지");
@@ -549,21 +693,15 @@ public class GameScreenController implements Initializable {
     }
 
     public void updateScore(int score) {
-        if (scoreLabel != null) {
-            scoreLabel.setText("Score: " + score);
-        }
+        scoreText.update(scoreLabel, score);
     }
 
     public void updateLevel(int level) {
-        if (levelLabel != null) {
-            levelLabel.setText("Level: " + level);
-        }
+        levelText.update(levelLabel, level);
     }
 
     public void updateLines(int lines) {
-        if (linesLabel != null) {
-            linesLabel.setText("Lines: " + lines);
-        }
+        linesText.update(linesLabel, lines);
     }
 
     public void updateNextItemCounter() {
@@ -571,15 +709,15 @@ public class GameScreenController implements Initializable {
             // 아이템 모드일 때만 표시
             if ("ITEM".equals(settingsManager.getGameMode())) {
                 int linesUntilItem = gameEngine.getLinesUntilNextItem();
-                if (linesUntilItem == 0) {
-                    nextItemLabel.setText("Next Item: Ready!");
-                    nextItemLabel.setStyle("-fx-text-fill: #00FF00; -fx-font-weight: bold;");
-                } else {
-                    nextItemLabel.setText("Next Item: " + linesUntilItem + " Lines");
-                    nextItemLabel.setStyle("-fx-text-fill: #FFFFFF;");
+                if (nextItemText.update(nextItemLabel, linesUntilItem)) {
+                    if (linesUntilItem == 0) {
+                        nextItemLabel.setStyle("-fx-text-fill: #00FF00; -fx-font-weight: bold;");
+                    } else {
+                        nextItemLabel.setStyle("-fx-text-fill: #FFFFFF;");
+                    }
                 }
             } else {
-                nextItemLabel.setText("");
+                nextItemText.clear(nextItemLabel);
             }
         }
     }
@@ -588,10 +726,11 @@ public class GameScreenController implements Initializable {
         if (doubleScoreTimerLabel != null && gameEngine != null) {
             if (gameEngine.isDoubleScoreActive()) {
                 int remainingTime = gameEngine.getDoubleScoreRemainingTime();
-                doubleScoreTimerLabel.setText("2X SCORE: " + remainingTime + "s");
-                doubleScoreTimerLabel.setStyle("-fx-text-fill: #FFD700; -fx-font-weight: bold;");
+                if (doubleScoreText.update(doubleScoreTimerLabel, remainingTime)) {
+                    doubleScoreTimerLabel.setStyle("-fx-text-fill: #FFD700; -fx-font-weight: bold;");
+                }
             } else {
-                doubleScoreTimerLabel.setText("");
+                doubleScoreText.clear(doubleScoreTimerLabel);
             }
         }
     }
@@ -599,10 +738,11 @@ public class GameScreenController implements Initializable {
     public void updateSkipNotification() {
         if (skipNotificationLabel != null && gameEngine != null) {
             if (gameEngine.hasSkipItem()) {
-                skipNotificationLabel.setText("N키를 눌러\n블록 넘기기!");
-                skipNotificationLabel.setStyle("-fx-text-fill: #00FF00; -fx-font-weight: bold;");
+                if (skipText.update(skipNotificationLabel, 1)) {
+                    skipNotificationLabel.setStyle("-fx-text-fill: #00FF00; -fx-font-weight: bold;");
+                }
             } else {
-                skipNotificationLabel.setText("");
+                skipText.clear(skipNotificationLabel);
             }
         }
     }
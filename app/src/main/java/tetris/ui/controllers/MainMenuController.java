@@ -13,13 +13,14 @@ import javafx.scene.layout.VBox;
 import tetris.ui.SceneManager;
 import tetris.ui.SettingsManager;
 import tetris.ui.MusicManager;
+import tetris.ui.ReusableController;
 
 import java.net.URL;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.ResourceBundle;
 
-public class MainMenuController implements Initializable {
+public class MainMenuController implements Initializable, ReusableController {
 
     @FXML
     private Button normalModeButton;
@@ -141,6 +142,15 @@ public class MainMenuController implements Initializable {
         System.out.println("[DEBUG] initialize 종료 (성공)");
     }
 
+    @Override
+    public void onSceneReused() {
+        // 캐시된 메뉴로 돌아온 경우: 배경 음악과 첫 번째 버튼 선택만 다시 설정
+        // (키 핸들러는 같은 Scene에 그대로 남아 있다)
+        MusicManager.getInstance().playBackgroundMusic();
+        selectButton(0);
+        normalModeButton.requestFocus();
+    }
+
     public void setSceneManager(SceneManager sceneManager) {
         this.sceneManager = sceneManager;
         // SceneManager 설정 후 키 핸들러 다시 설정
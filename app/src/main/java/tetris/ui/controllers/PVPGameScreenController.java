@@ -14,11 +14,18 @@ import javafx.scene.paint.Color;
 import javafx.animation.AnimationTimer;
 import javafx.scene.text.Font;
 import javafx.scene.text.Text;
+import tetris.ui.HudLabel;
+import tetris.ui.ReusableController;
 import tetris.ui.SceneManager;
+import tetris.ui.SoundEffect;
+import tetris.ui.SoundEffectPlayer;
 import tetris.ui.SettingsManager;
 import tetris.ui.MusicManager;
 import tetris.game.BattleGameEngine;
 import tetris.game.GameBoard;
+import tetris.game.GameEngine;
+import tetris.game.GameEventListener;
+import tetris.game.InputController;
 import tetris.game.Piece;
 import tetris.game.ItemType;
 import tetris.network.GameClient;
@@ -32,7 +39,7 @@ import java.util.HashMap;
 import java.util.Map;
 import java.util.ResourceBundle;
 
-public class PVPGameScreenController implements Initializable {
+public class PVPGameScreenController implements Initializable, ReusableController {
 
     @FXML
     private Canvas myCanvas;
@@ -108,6 +115,9 @@ public class PVPGameScreenController implements Initializable {
     private boolean isServer;
 
     private BattleGameEngine battleEngine;
+    // 내 엔진 키 입력 처리 (DAS/ARR, 소프트드롭 반복, 애니메이션 중 입력 버퍼링)
+    private InputController myInput;
+    private long lastFrameTime = 0;
     private AnimationTimer gameLoop;
     private long lastUpdateTimeMe = 0;
     private long lastUpdateTimeOpponent = 0;
@@ -121,7 +131,7 @@ public class PVPGameScreenController implements Initializable {
     private static final long COUNTDOWN_INTERVAL = 1_000_000_000L; // 1초
 
     // 줄 삭제 애니메이션 관련
-    private java.util.List<Integer> playerLinesToClear = null;
+    private long playerLinesToClearMask = 0L; // 삭제된 행 비트마스크 (bit r = r번째 행)
     private long clearAnimationStartTime = 0;
     private static final long CLEAR_ANIMATION_BASE = 50_000_000; // 기본 50ms
     private boolean isAnimatingClear = false;
@@ -157,6 +167,23 @@ public class PVPGameScreenController implements Initializable {
 
     private int BLOCK_SIZE = 25;
 
+    // HUD 라벨 캐시 (값이 바뀐 경우에만 setText)
+    private static final int LAG_LEVEL_NONE = 0;
+    private static final int LAG_LEVEL_WARNING = 1;
+    private static final int LAG_LEVEL_CRITICAL = 2;
+    private static final int LAG_LEVEL_UNSTABLE = 3;
+    private final HudLabel myScoreText = new HudLabel("");
+    private final HudLabel myLevelText = new HudLabel("Lv: ");
+    private final HudLabel myLinesText = new HudLabel("Lines: ");
+    private final HudLabel opponentScoreText = new HudLabel("");
+    private final HudLabel opponentLevelText = new HudLabel("Lv: ");
+    private final HudLabel opponentLinesText = new HudLabel("Lines: ");
+    private final HudLabel timerText = new HudLabel(
+        remaining -> String.format("%d:%02d", remaining / 60, remaining % 60));
+    private final HudLabel latencyText = new HudLabel(
+        rtt -> rtt > 0 ? String.format("RTT: %d ms", rtt) : "RTT: - ms");
+    private int shownLagLevel = -1;
+
     // 블록 색상 설정 (ColorBlind Safe 팔레트)
     private static final Color[] PIECE_COLORS = {
         Color.BLACK,
@@ -201,6 +228,8 @@ public class PVPGameScreenController implements Initializable {
     }
 
     private void setupCanvasSize() {
+        // 네트워크 대전은 보드 크기 설정과 관계없이 기본 크기로 고정이므로 (BattleGameEngine.forNetworkMatch)
+        // 엔진을 만들기 전에 GameBoard 기본 크기로 정해 둔다
         if (myCanvas != null) {
             myCanvas.setWidth(GameBoard.BOARD_WIDTH * BLOCK_SIZE);
             myCanvas.setHeight(GameBoard.BOARD_HEIGHT * BLOCK_SIZE);
@@ -229,6 +258,52 @@ public class PVPGameScreenController implements Initializable {
         }
     }
 
+    @Override
+    public void onSceneReused() {
+        // 로비에서 다시 들어온 경우: 이전 경기 상태를 모두 지운다
+        // (엔진/네트워크 핸들러/카운트다운은 이어서 호출되는 setNetworkObjects에서 새로 설정)
+        if (gameLoop != null) {
+            gameLoop.stop();
+        }
+        opponentState = null;
+        opponentIncomingLines = 0;
+        lastUpdateTimeMe = 0;
+        lastUpdateTimeOpponent = 0;
+        lastStateSentTime = 0;
+        isAnimatingClear = false;
+        playerLinesToClearMask = 0L;
+        currentClearAnimationDuration = CLEAR_ANIMATION_BASE;
+        gameStartTime = 0;
+        timeUpSent = false;
+        currentRTT = 0;
+        lastRTTUpdateTime = 0;
+        lastNetworkActivityTime = 0;
+        connectionLost = false;
+
+        if (gameOverBox != null) {
+            gameOverBox.setVisible(false);
+            gameOverBox.setManaged(false);
+        }
+        if (timerLabel != null) {
+            timerLabel.setVisible(false);
+            timerLabel.setManaged(false);
+        }
+        if (statusLabel != null) {
+            statusLabel.setText("");
+            statusLabel.setStyle("");
+        }
+
+        myScoreText.invalidate();
+        myLevelText.invalidate();
+        myLinesText.invalidate();
+        opponentScoreText.invalidate();
+        opponentLevelText.invalidate();
+        opponentLinesText.invalidate();
+        timerText.invalidate();
+        latencyText.invalidate();
+        shownLagLevel = -1;
+    }
+
     public void setSceneManager(SceneManager sceneManager) {
         this.sceneManager = sceneManager;
     }
@@ -278,7 +353,7 @@ public class PVPGameScreenController implements Initializable {
     }
 
     private void initializeGame() {
-        battleEngine = new BattleGameEngine(gameMode);
+        battleEngine = BattleGameEngine.forNetworkMatch(gameMode);
         
         // 시간제한 모드 체크
         isTimeLimitMode = "TIME_LIMIT".equals(gameMode);
@@ -296,6 +371,7 @@ public class PVPGameScreenController implements Initializable {
             latencyLabel.setManaged(true);
             latencyLabel.setText("RTT: - ms");
             latencyLabel.setStyle("-fx-text-fill: #ffffff; -fx-font-size: 14px; -fx-font-weight: bold;");
+            latencyText.invalidate();
             System.out.println("[PVP-GAME] Latency label initialized successfully");
         } else {
             System.err.println("[PVP-GAME] ERROR: latencyLabel is NULL in initializeGame()!");
@@ -305,6 +381,7 @@ public class PVPGameScreenController implements Initializable {
         if (lagWarningLabel != null) {
             lagWarningLabel.setVisible(false);
             lagWarningLabel.setManaged(false);
+            shownLagLevel = LAG_LEVEL_NONE;
         }
         
         if (isServer) {
@@ -317,6 +394,7 @@ public class PVPGameScreenController implements Initializable {
         
         // 내 블록이 배치될 때마다 공격 적용 및 줄 삭제 즉시 체크
         setupPiecePlacedCallbackForMyEngine();
+        createMyInput();
     }
 
     private void setupNetworkHandlers() {
@@ -500,6 +578,9 @@ public class PVPGameScreenController implements Initializable {
                     if (shouldPause != null && battleEngine != null) {
                         if (shouldPause && !battleEngine.isPaused()) {
                             battleEngine.pauseGame();
+                            if (myInput != null) {
+                                myInput.releaseAll();
+                            }
                             statusLabel.setText("일시 정지 (상대방)");
                         } else if (!shouldPause && battleEngine.isPaused()) {
                             battleEngine.pauseGame();
@@ -571,16 +652,21 @@ public class PVPGameScreenController implements Initializable {
                 return;
             }
 
-            if (battleEngine != null & battleEngine.isGameRunning() && !battleEngine.isPaused()) {
-                if (isServer) {
-                    battleEngine.handlePlayer1KeyPress(code);
-                } else {
-                    battleEngine.handlePlayer2KeyPress(code);
-                }
+            if (battleEngine != null && battleEngine.isGameRunning() && !battleEngine.isPaused()) {
+                // 키 상태만 기록하고 반복은 게임 루프에서 처리
+                boolean bound = myInput != null && myInput.keyPressed(code.getName().toUpperCase());
                 event.consume();
 
                 // 내 상태를 상대방에게 전송
-                sendMyState();
+                if (bound) {
+                    sendMyState();
+                }
+            }
+        };
+        // 일시정지 중에 뗀 키도 눌린 상태로 남지 않도록 항상 전달
+        javafx.event.EventHandler<javafx.scene.input.KeyEvent> releaseHandler = event -> {
+            if (myInput != null && myInput.keyReleased(event.getCode().getName().toUpperCase())) {
+                event.consume();
             }
         };
 
@@ -589,6 +675,7 @@ public class PVPGameScreenController implements Initializable {
             if (newScene != null) {
                 System.out.println("[PVP] Scene change detected, registering key handler");
                 newScene.setOnKeyPressed(handler);
+                newScene.setOnKeyReleased(releaseHandler);
                 // 포커스 보장
                 Platform.runLater(() -> newScene.getRoot().requestFocus());
             }
@@ -598,6 +685,7 @@ public class PVPGameScreenController implements Initializable {
         if (myCanvas.getScene() != null) {
             System.out.println("[PVP] Scene already exists, registering key handler immediately");
             myCanvas.getScene().setOnKeyPressed(handler);
+            myCanvas.getScene().setOnKeyReleased(releaseHandler);
             Platform.runLater(() -> myCanvas.getScene().getRoot().requestFocus());
         }
     }
@@ -678,6 +766,8 @@ public class PVPGameScreenController implements Initializable {
                     if (lastUpdateTimeOpponent == 0) {
                         lastUpdateTimeOpponent = now;
                     }
+                    long frameDelta = lastFrameTime == 0 ? 0 : now - lastFrameTime;
+                    lastFrameTime = now;
                     
                     // 연결 끊김 체크 (10초 동안 네트워크 활동 없으면 연결 끊김)
                     if (!connectionLost && lastNetworkActivityTime > 0) {
@@ -703,6 +793,14 @@ public class PVPGameScreenController implements Initializable {
                     // 업데이트
                     battleEngine.update();
 
+                    // 눌린 키 처리 (삭제 애니메이션 중에는 모아 두었다가 끝나면 실행)
+                    if (myInput != null && !battleEngine.isPaused()) {
+                        myInput.setBuffering(isAnimatingClear);
+                        if (myInput.update(frameDelta) > 0) {
+                            sendMyStateThrottled(now);
+                        }
+                    }
+
                     // 게임 오버 체크
                     if (!battleEngine.isGameRunning()) {
                         gameLoop.stop();
@@ -713,16 +811,9 @@ public class PVPGameScreenController implements Initializable {
                     // 내 블록 낙하
                     if (now - lastUpdateTimeMe >= fallSpeedMe) {
                         if (battleEngine.isGameRunning() && !battleEngine.isPaused()) {
+                            // 줄 삭제와 공격은 블록 배치 이벤트에서 처리됨
                             getMyEngine().movePieceDown();
 
-                            // 블록이 배치되었는지 확인 후 줄 삭제 처리
-                            if (getMyEngine().isPieceJustPlaced()) {
-                                getMyEngine().resetPieceJustPlaced();
-                            }
-
-                            // 줄 삭제는 블록 배치 콜백에서만 처리 (중복 방지)
-                            // getFullLines() 체크 제거 - 콜백이 담당합니다
-
                             lastUpdateTimeMe = now;
 
                             // 상태 업데이트 전송 (빈도 제한 적용)
@@ -735,7 +826,7 @@ public class PVPGameScreenController implements Initializable {
                         long elapsed = now - clearAnimationStartTime;
                         if (elapsed >= currentClearAnimationDuration) {
                             isAnimatingClear = false;
-                            playerLinesToClear = null;
+                            playerLinesToClearMask = 0L;
                         }
                     }
 
@@ -761,11 +852,11 @@ public class PVPGameScreenController implements Initializable {
 
     private void updateFallSpeeds() {
         if (battleEngine != null) {
-            fallSpeedMe = (long) (1_000_000_000 * Math.pow(0.9, getMyEngine().getLevel() - 1));
-            getMyEngine().setFallSpeed(fallSpeedMe);
+            fallSpeedMe = getMyEngine().getFallSpeed();
             
             if (opponentState != null) {
-                fallSpeedOpponent = (long) (1_000_000_000 * Math.pow(0.9, opponentState.getLevel() - 1));
+                // 상대도 같은 규칙으로 플레이하므로 내 설정의 속도 표를 사용
+                fallSpeedOpponent = getMyEngine().getConfig().getFallInterval(opponentState.getLevel());
             }
         }
     }
@@ -779,62 +870,88 @@ public class PVPGameScreenController implements Initializable {
     }
 
     /**
-     * 내 엔진에 블록 배치 콜백을 설정하는 공통 메서드
+     * 내 엔진에 이벤트 리스너를 등록하는 공통 메서드
      * (초기화와 재시작에서 동일한 동작이 필요하므로 분리)
      */
     private void setupPiecePlacedCallbackForMyEngine() {
-        getMyEngine().setOnPiecePlacedCallback(() -> {
+        getMyEngine().addGameEventListener(myEngineListener);
+    }
+
+    /**
+     * 내 엔진용 입력 처리기 생성 (서버는 1P 키, 클라이언트는 2P 키 - 기존 키 배치와 같음)
+     */
+    private void createMyInput() {
+        myInput = InputController.fromSystemProperties(getMyEngine());
+        if (isServer) {
+            myInput.bindPlayer1Keys();
+        } else {
+            myInput.bindPlayer2Keys();
+        }
+        lastFrameTime = 0;
+    }
+
+    // 내 엔진 이벤트 구독 (블록 배치/줄 삭제가 실제로 일어날 때만 동작)
+    private final GameEventListener myEngineListener = new GameEventListener() {
+        @Override
+        public void onPiecePlaced(GameEngine engine, int lastPlacedCol) {
+            SoundEffectPlayer.getInstance().play(SoundEffect.LOCK);
+
             battleEngine.applyPendingAttacks(isServer ? 1 : 2);
 
-            // 블록 배치 후 즉시 줄 삭제 체크 (하드드롭 등으로 인한 딜레이 방지)
+            // 블록 배치 후 즉시 줄 삭제 (하드드롭 등으로 인한 딜레이 방지)
             // 애니메이션 진행 중이어도 새로운 줄 삭제는 처리해야 함
             if (battleEngine.isGameRunning() && !battleEngine.isPaused()) {
-                java.util.List<Integer> currentLinesCleared = getMyEngine().getFullLines();
-                if (!currentLinesCleared.isEmpty()) {
-                    // 이전 줄 삭제 수 저장
-                    int beforeCleared = getMyEngine().getLinesCleared();
-
-                    // 줄 삭제 수행
-                    getMyEngine().clearLinesManually();
-
-                    // 새로 삭제된 줄 수 계산
-                    int afterCleared = getMyEngine().getLinesCleared();
-                    int cleared = afterCleared - beforeCleared;
-
-                    if (cleared > 0) {
-                        System.out.println("[PVP-GAME] Lines cleared: " + cleared + " (before: " + beforeCleared + ", after: " + afterCleared + ")");
-
-                        // 블록 삭제 효과음 재생
-                        MusicManager.getInstance().playRemoveBlockSound();
-
-                        // 공격 메커니즘 처리
-                        if (cleared >= 2) {
-                            int lastBlockCol = getMyEngine().getLastPlacedBlockCol();
-                            if (isServer) {
-                                battleEngine.processPlayer1Attack(cleared, lastBlockCol);
-                            } else {
-                                battleEngine.processPlayer2Attack(cleared, lastBlockCol);
-                            }
-                            sendAttack(cleared, lastBlockCol);
-                        }
+                engine.clearLinesManually();
+            }
+        }
 
-                        // 애니메이션 이미 진행 중이면 줄 수를 누적
-                        if (isAnimatingClear && playerLinesToClear != null) {
-                            playerLinesToClear.addAll(currentLinesCleared);
-                            // 애니메이션 시간도 추가 시간만큼 연장
-                            currentClearAnimationDuration += cleared * 10_000_000;
-                        } else {
-                            // 새로운 애니메이션 시작
-                            playerLinesToClear = new java.util.ArrayList<>(currentLinesCleared);
-                            isAnimatingClear = true;
-                            clearAnimationStartTime = System.nanoTime();
-                            currentClearAnimationDuration = CLEAR_ANIMATION_BASE + (cleared - 1) * 10_000_000; // 줄당 10ms 추가
-                        }
-                    }
+        @Override
+        public void onLinesCleared(GameEngine engine, int cleared, long rowMask) {
+            System.out.println("[PVP-GAME] Lines cleared: " + cleared + " (total: " + engine.getLinesCleared() + ")");
+
+            // 블록 삭제 효과음 재생
+            SoundEffectPlayer.getInstance().play(SoundEffect.LINE_CLEAR);
+
+            // 공격 메커니즘 처리
+            if (cleared >= 2) {
+                int lastBlockCol = engine.getLastPlacedBlockCol();
+                if (isServer) {
+                    battleEngine.processPlayer1Attack(cleared, lastBlockCol);
+                } else {
+                    battleEngine.processPlayer2Attack(cleared, lastBlockCol);
                 }
+                sendAttack(cleared, lastBlockCol);
             }
-        });
-    }
+
+            // 애니메이션 이미 진행 중이면 줄을 누적
+            if (isAnimatingClear) {
+                playerLinesToClearMask |= rowMask;
+                // 애니메이션 시간도 추가 시간만큼 연장
+                currentClearAnimationDuration += cleared * 10_000_000;
+            } else {
+                // 새로운 애니메이션 시작
+                playerLinesToClearMask = rowMask;
+                isAnimatingClear = true;
+                clearAnimationStartTime = System.nanoTime();
+                currentClearAnimationDuration = CLEAR_ANIMATION_BASE + (cleared - 1) * 10_000_000; // 줄당 10ms 추가
+            }
+        }
+
+        @Override
+        public void onPieceRotated(GameEngine engine) {
+            SoundEffectPlayer.getInstance().play(SoundEffect.ROTATE);
+        }
+
+        @Override
+        public void onItemTriggered(GameEngine engine, ItemType itemType) {
+            SoundEffectPlayer.getInstance().play(SoundEffect.ITEM_TRIGGER);
+        }
+
+        @Override
+        public void onAttackReceived(GameEngine engine, int lines, int emptyCol) {
+            SoundEffectPlayer.getInstance().play(SoundEffect.ATTACK_RECEIVED);
+        }
+    };
 
     private void sendMyState() {
         if (battleEngine == null) return;
@@ -873,6 +990,12 @@ public class PVPGameScreenController implements Initializable {
             currentShape, currentX, currentY, currentType,
             nextShape, nextType, incomingLines, incomingEmptyCols
         );
+        int[] previewTypes = new int[myEngine.getPreviewCount()];
+        for (int i = 0; i < previewTypes.length; i++) {
+            previewTypes[i] = myEngine.getPreviewPiece(i).getType();
+        }
+        Piece holdPiece = myEngine.getHoldPiece();
+        stateData.setPieceQueue(previewTypes, holdPiece != null ? holdPiece.getType() : 0);
 
         NetworkMessage message = new NetworkMessage(NetworkMessage.MessageType.GAME_STATE_UPDATE, stateData);
 
@@ -942,7 +1065,7 @@ public class PVPGameScreenController implements Initializable {
                     // 공격 블록은 회색으로 표시
                     if (board.isAttackBlock(row, col)) {
                         color = Color.web("#666666"); // 회색
-                    } else if (isAnimatingClear && playerLinesToClear != null && playerLinesToClear.contains(row)) {
+                    } else if (isAnimatingClear && ((playerLinesToClearMask >>> row) & 1L) != 0) {
                         color = Color.WHITE;
                     } else {
                         color = PIECE_COLORS[cellValue];
@@ -1118,6 +1241,7 @@ public class PVPGameScreenController implements Initializable {
         double canvasWidth = gc.getCanvas().getWidth();
         double canvasHeight = gc.getCanvas().getHeight();
         
+        // 양쪽 보드 모두 네트워크 대전 고정 크기이므로 기본 가로 칸 수로 그린다
         double blockSize = Math.min(canvasWidth / GameBoard.BOARD_WIDTH, canvasHeight / 12);
         
         int displayLines = Math.min(numLines, 10);
@@ -1355,25 +1479,23 @@ public class PVPGameScreenController implements Initializable {
     private void updateUI() {
         if (battleEngine != null) {
             tetris.game.GameEngine myEngine = getMyEngine();
-            myScoreLabel.setText(String.valueOf(myEngine.getScore()));
-            myLevelLabel.setText("Lv: " + myEngine.getLevel());
-            myLinesLabel.setText("Lines: " + myEngine.getLinesCleared());
+            myScoreText.update(myScoreLabel, myEngine.getScore());
+            myLevelText.update(myLevelLabel, myEngine.getLevel());
+            myLinesText.update(myLinesLabel, myEngine.getLinesCleared());
             
-            // 시간제한 모드의 경우 타이머 업데이트
+            // 시간제한 모드의 경우 타이머 업데이트 (초 단위가 바뀔 때만 문자열 생성)
             if (isTimeLimitMode && timerLabel != null) {
-                long remaining = battleEngine.getRemainingTime();
-                long minutes = remaining / 60;
-                long seconds = remaining % 60;
-                timerLabel.setText(String.format("%d:%02d", minutes, seconds));
-                // 시간 표시 색상 설정 (#e74c3c)
-                timerLabel.setStyle("-fx-text-fill: #e74c3c; -fx-font-weight: bold;");
+                if (timerText.update(timerLabel, battleEngine.getRemainingTime())) {
+                    // 시간 표시 색상 설정 (#e74c3c)
+                    timerLabel.setStyle("-fx-text-fill: #e74c3c; -fx-font-weight: bold;");
+                }
             }
         }
 
         if (opponentState != null) {
-            opponentScoreLabel.setText(String.valueOf(opponentState.getScore()));
-            opponentLevelLabel.setText("Lv: " + opponentState.getLevel());
-            opponentLinesLabel.setText("Lines: " + opponentState.getLinesCleared());
+            opponentScoreText.update(opponentScoreLabel, opponentState.getScore());
+            opponentLevelText.update(opponentLevelLabel, opponentState.getLevel());
+            opponentLinesText.update(opponentLinesLabel, opponentState.getLinesCleared());
         }
         
         // RTT 표시 및 랙 경고 업데이트 (PING/PONG으로 업데이트됨)
@@ -1383,6 +1505,7 @@ public class PVPGameScreenController implements Initializable {
     
     /**
      * 레이턴시 라벨 업데이트
+     * RTT 값이 바뀐 경우에만 텍스트와 색상을 다시 설정한다
      */
     private void updateLatencyDisplay() {
         if (latencyLabel == null) {
@@ -1391,24 +1514,24 @@ public class PVPGameScreenController implements Initializable {
         }
         
         try {
-            if (currentRTT > 0) {
-                String text = String.format("RTT: %d ms", currentRTT);
-                latencyLabel.setText(text);
-                latencyLabel.setVisible(true);
-                
+            long rtt = currentRTT > 0 ? currentRTT : 0;
+            if (!latencyText.update(latencyLabel, rtt)) {
+                return;
+            }
+            latencyLabel.setVisible(true);
+
+            if (rtt > 0) {
                 // RTT에 따라 색상 변경
                 String style = "-fx-font-size: 14px; -fx-font-weight: bold; -fx-text-fill: ";
-                if (currentRTT >= LAG_CRITICAL_THRESHOLD) {
+                if (rtt >= LAG_CRITICAL_THRESHOLD) {
                     latencyLabel.setStyle(style + "#ff0000;"); // 빨간색
-                } else if (currentRTT >= LAG_WARNING_THRESHOLD) {
+                } else if (rtt >= LAG_WARNING_THRESHOLD) {
                     latencyLabel.setStyle(style + "#ffaa00;"); // 주황색
                 } else {
                     latencyLabel.setStyle(style + "#00ff00;"); // 초록색
                 }
             } else {
-                latencyLabel.setText("RTT: - ms");
                 latencyLabel.setStyle("-fx-font-size: 14px; -fx-font-weight: bold; -fx-text-fill: #ffffff;");
-                latencyLabel.setVisible(true);
             }
         } catch (Exception e) {
             System.err.println("[PVP-GAME] Exception in updateLatencyDisplay: " + e.getMessage());
@@ -1418,45 +1541,56 @@ public class PVPGameScreenController implements Initializable {
     
     /**
      * 랙 경고 메시지 업데이트
+     * 경고 단계가 바뀐 경우에만 라벨을 갱신한다
      */
     private void updateLagWarning() {
         if (lagWarningLabel == null) return;
         
         long now = System.nanoTime();
-        boolean showWarning = false;
-        String warningText = "";
-        String warningColor = "";
+        int lagLevel = LAG_LEVEL_NONE;
         
         // RTT가 5초 이상 업데이트되지 않았으면 연결 불안정
         if (lastRTTUpdateTime > 0 && (now - lastRTTUpdateTime) > RTT_TIMEOUT) {
-            showWarning = true;
-            warningText = "⚠ 연결 불안정";
-            warningColor = "#ff0000";
+            lagLevel = LAG_LEVEL_UNSTABLE;
         }
         // RTT가 500ms 이상이면 심각한 랙
         else if (currentRTT >= LAG_CRITICAL_THRESHOLD) {
-            showWarning = true;
-            warningText = "⚠ 심각한 네트워크 지연";
-            warningColor = "#ff0000";
+            lagLevel = LAG_LEVEL_CRITICAL;
         }
         // RTT가 200ms 이상이면 경고
         else if (currentRTT >= LAG_WARNING_THRESHOLD) {
-            showWarning = true;
-            warningText = "⚠ 네트워크 지연";
-            warningColor = "#ffaa00";
+            lagLevel = LAG_LEVEL_WARNING;
         }
+
+        if (lagLevel == shownLagLevel) {
+            return;
+        }
+        shownLagLevel = lagLevel;
         
-        if (showWarning) {
-            lagWarningLabel.setText(warningText);
-            lagWarningLabel.setStyle("-fx-text-fill: " + warningColor + ";");
-            lagWarningLabel.setVisible(true);
-            lagWarningLabel.setManaged(true);
-        } else {
-            lagWarningLabel.setVisible(false);
-            lagWarningLabel.setManaged(false);
+        switch (lagLevel) {
+            case LAG_LEVEL_UNSTABLE:
+                showLagWarning("⚠ 연결 불안정", "#ff0000");
+                break;
+            case LAG_LEVEL_CRITICAL:
+                showLagWarning("⚠ 심각한 네트워크 지연", "#ff0000");
+                break;
+            case LAG_LEVEL_WARNING:
+                showLagWarning("⚠ 네트워크 지연", "#ffaa00");
+                break;
+            default:
+                lagWarningLabel.setVisible(false);
+                lagWarningLabel.setManaged(false);
+                break;
         }
     }
 
+    private void showLagWarning(String warningText, String warningColor) {
+        lagWarningLabel.setText(warningText);
+        lagWarningLabel.setStyle("-fx-text-fill: " + warningColor + ";");
+        lagWarningLabel.setVisible(true);
+        lagWarningLabel.setManaged(true);
+    }
+
     private void updateGameModeLabel() {
         if (gameModeLabel != null && gameMode != null) {
             String modeText = "";
@@ -1725,7 +1859,7 @@ public class PVPGameScreenController implements Initializable {
             }
             
             // 게임 엔진 재초기화
-            battleEngine = new BattleGameEngine(gameMode);
+            battleEngine = BattleGameEngine.forNetworkMatch(gameMode);
             
             // 시간제한 모드 재설정
             if (isTimeLimitMode) {
@@ -1743,6 +1877,7 @@ public class PVPGameScreenController implements Initializable {
             
             // 내 블록이 배치될 때마다 공격 적용
             setupPiecePlacedCallbackForMyEngine();
+            createMyInput();
             
             // 카운트다운 시작
             startCountdown();
@@ -1754,6 +1889,9 @@ public class PVPGameScreenController implements Initializable {
         if (battleEngine != null) {
             battleEngine.pauseGame();
             boolean isPaused = battleEngine.isPaused();
+            if (isPaused && myInput != null) {
+                myInput.releaseAll();
+            }
             if (isPaused) {
                 statusLabel.setText("일시 정지");
             } else {
@@ -6,6 +6,7 @@ import javafx.scene.control.Button;
 import javafx.scene.image.ImageView;
 import javafx.scene.input.KeyCode;
 import tetris.network.GameServer;
+import tetris.ui.ReusableController;
 import tetris.ui.SceneManager;
 import tetris.ui.SettingsManager;
 
@@ -15,7 +16,7 @@ import java.util.ArrayList;
 import java.util.List;
 import java.util.ResourceBundle;
 
-public class PVPModeSelectionController implements Initializable {
+public class PVPModeSelectionController implements Initializable, ReusableController {
 
     @FXML
     private Button serverButton;
@@ -85,6 +86,13 @@ public class PVPModeSelectionController implements Initializable {
         setupSceneKeyHandler();
     }
 
+    @Override
+    public void onSceneReused() {
+        // 캐시된 화면으로 돌아온 경우 첫 번째 버튼부터 다시 선택
+        selectButton(0);
+        serverButton.requestFocus();
+    }
+
     public void setSceneManager(SceneManager sceneManager) {
         this.sceneManager = sceneManager;
         setupSceneKeyHandler();
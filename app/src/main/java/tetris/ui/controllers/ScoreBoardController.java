@@ -1,9 +1,12 @@
 package tetris.ui.controllers;
 
+import javafx.application.Platform;
 import javafx.fxml.FXML;
 import javafx.fxml.Initializable;
 import javafx.scene.control.Alert;
+import javafx.scene.control.Button;
 import javafx.scene.control.ButtonType;
+import javafx.scene.control.Label;
 import javafx.scene.control.ListCell;
 import javafx.scene.control.ListView;
 import javafx.scene.control.ToggleButton;
@@ -11,6 +14,8 @@ import javafx.scene.control.ToggleGroup;
 import javafx.scene.image.Image;
 import javafx.scene.image.ImageView;
 import tetris.data.ScoreManager;
+import tetris.network.LeaderboardClient;
+import tetris.ui.ReusableController;
 import tetris.ui.SceneManager;
 import tetris.ui.SettingsManager;
 
@@ -18,7 +23,7 @@ import java.net.URL;
 import java.util.Optional;
 import java.util.ResourceBundle;
 
-public class ScoreBoardController implements Initializable {
+public class ScoreBoardController implements Initializable, ReusableController {
 
     @FXML
     private ListView<String> scoreListView;
@@ -41,9 +46,23 @@ public class ScoreBoardController implements Initializable {
     @FXML
     private ImageView backgroundImageView;
 
+    @FXML
+    private Button prevPageButton;
+
+    @FXML
+    private Button nextPageButton;
+
+    @FXML
+    private Label pageLabel;
+
+    private static final int PAGE_SIZE = 10;
+
     private SceneManager sceneManager;
     private String currentGameMode = "NORMAL";
     private String currentDifficulty = "Normal"; // 기본 난이도
+    private int currentPage = 0;
+    // 마지막으로 보낸 공용 순위표 조회 번호 (늦게 온 예전 응답은 버린다)
+    private long sharedRequest = 0;
 
     @Override
     public void initialize(URL location, ResourceBundle resources) {
@@ -58,12 +77,14 @@ public class ScoreBoardController implements Initializable {
             normalModeButton.setOnAction(e -> {
                 currentGameMode = "NORMAL";
                 showDifficultyButtons(true);
+                currentPage = 0;
                 loadScores();
             });
             
             itemModeButton.setOnAction(e -> {
                 currentGameMode = "ITEM";
                 showDifficultyButtons(false);
+                currentPage = 0;
                 loadScores();
             });
         }
@@ -79,22 +100,28 @@ public class ScoreBoardController implements Initializable {
             // 난이도 변경 리스너
             easyButton.setOnAction(e -> {
                 currentDifficulty = "Easy";
+                currentPage = 0;
                 loadScores();
             });
             
             normalButton.setOnAction(e -> {
                 currentDifficulty = "Normal";
+                currentPage = 0;
                 loadScores();
             });
             
             hardButton.setOnAction(e -> {
                 currentDifficulty = "Hard";
+                currentPage = 0;
                 loadScores();
             });
         }
         
         setupListViewCellFactory();
-        loadScores();
+        // 백그라운드에서 미리 로드하는 중이면 점수는 화면을 띄울 때 onSceneReused에서 읽는다
+        if (Platform.isFxApplicationThread()) {
+            loadScores();
+        }
         loadBackgroundImage();
     }
     
@@ -168,27 +195,84 @@ public class ScoreBoardController implements Initializable {
         }
     }
 
+    @Override
+    public void onSceneReused() {
+        // 마지막으로 본 모드/난이도 탭을 유지한 채 점수만 다시 로드
+        loadScores();
+    }
+
     public void setSceneManager(SceneManager sceneManager) {
         this.sceneManager = sceneManager;
     }
 
     private void loadScores() {
         if (scoreListView != null) {
-            scoreListView.getItems().clear();
-            if (currentGameMode.equals("NORMAL")) {
-                // 일반 모드: 난이도별로 필터링
-                scoreListView.getItems().addAll(
-                    ScoreManager.getInstance().getFormattedScoresByDifficulty(currentGameMode, currentDifficulty)
-                );
-            } else {
-                // 아이템 모드: 전체 표시
-                scoreListView.getItems().addAll(
-                    ScoreManager.getInstance().getFormattedScores(currentGameMode)
-                );
+            ScoreManager scoreManager = ScoreManager.getInstance();
+            LeaderboardClient leaderboard = LeaderboardClient.getShared();
+            // 일반 모드: 난이도별로 필터링, 아이템 모드: 전체 표시
+            String difficulty = currentGameMode.equals("NORMAL") ? currentDifficulty : null;
+            int pageCount = Math.max(1,
+                (scoreManager.getScoreCount(currentGameMode, difficulty) + PAGE_SIZE - 1) / PAGE_SIZE);
+            // 공용 순위표는 로컬 기록보다 페이지가 많을 수 있으므로 서버 응답을 보고 정한다
+            if (leaderboard == null) {
+                currentPage = Math.min(currentPage, pageCount - 1);
+            }
+
+            // 현재 페이지 기록만 저널에서 읽어 온다
+            scoreListView.getItems().setAll(
+                scoreManager.getFormattedScoresPage(currentGameMode, difficulty, currentPage * PAGE_SIZE, PAGE_SIZE)
+            );
+            updatePageControls(pageCount);
+
+            if (leaderboard != null) {
+                loadSharedScores(leaderboard, difficulty);
+            }
+        }
+    }
+
+    /**
+     * 공용 리더보드 서버의 순위로 현재 페이지를 바꿔 보여준다 (응답이 없으면 로컬 순위를 그대로 둔다)
+     */
+    private void loadSharedScores(LeaderboardClient leaderboard, String difficulty) {
+        long request = ++sharedRequest;
+        int page = currentPage;
+        int limit = (page + 1) * PAGE_SIZE;
+        leaderboard.fetchTop(currentGameMode, difficulty, limit, lines -> Platform.runLater(() -> {
+            if (request != sharedRequest || lines.size() <= page * PAGE_SIZE) {
+                return;
             }
+            scoreListView.getItems().setAll(lines.subList(page * PAGE_SIZE, lines.size()));
+            // 요청한 만큼 다 왔으면 다음 페이지가 더 있을 수 있다
+            updatePageControls(lines.size() == limit ? page + 2 : page + 1);
+        }));
+    }
+
+    private void updatePageControls(int pageCount) {
+        if (pageLabel != null) {
+            pageLabel.setText((currentPage + 1) + " / " + pageCount);
+        }
+        if (prevPageButton != null) {
+            prevPageButton.setDisable(currentPage == 0);
+        }
+        if (nextPageButton != null) {
+            nextPageButton.setDisable(currentPage >= pageCount - 1);
         }
     }
 
+    @FXML
+    private void onPrevPage() {
+        if (currentPage > 0) {
+            currentPage--;
+            loadScores();
+        }
+    }
+
+    @FXML
+    private void onNextPage() {
+        currentPage++;
+        loadScores();
+    }
+
     @FXML
     private void onClearScores() {
         String modeText = currentGameMode.equals("ITEM") ? "아이템 모드" : "일반 모드";
@@ -210,6 +294,7 @@ public class ScoreBoardController implements Initializable {
                 // 아이템 모드: 전체 삭제
                 ScoreManager.getInstance().clearScores(currentGameMode);
             }
+            currentPage = 0;
             loadScores();
             
             Alert infoAlert = new Alert(Alert.AlertType.INFORMATION);
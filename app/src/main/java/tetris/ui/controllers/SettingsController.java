@@ -11,6 +11,7 @@ import javafx.scene.control.ScrollPane;
 import javafx.scene.control.TextField;
 import javafx.scene.layout.VBox;
 import tetris.data.ScoreManager;
+import tetris.ui.ReusableController;
 import tetris.ui.SceneManager;
 import tetris.ui.SettingsManager;
 
@@ -18,7 +19,7 @@ import java.net.URL;
 import java.util.Optional;
 import java.util.ResourceBundle;
 
-public class SettingsController implements Initializable {
+public class SettingsController implements Initializable, ReusableController {
 
     @FXML
     private ScrollPane rootScrollPane;
@@ -78,6 +79,12 @@ public class SettingsController implements Initializable {
         loadSettings();
     }
 
+    @Override
+    public void onSceneReused() {
+        // 저장하지 않고 나갔던 입력값을 버리고 현재 설정으로 다시 채움
+        loadSettings();
+    }
+
     public void setSceneManager(SceneManager sceneManager) {
         this.sceneManager = sceneManager;
     }
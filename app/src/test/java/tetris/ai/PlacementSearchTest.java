@@ -0,0 +1,102 @@
+package tetris.ai;
+
+import org.junit.jupiter.api.Test;
+import tetris.game.GameBoard;
+import tetris.game.GameCommand;
+import tetris.game.GameConfig;
+import tetris.game.GameEngine;
+import tetris.game.GameEventListener;
+import tetris.game.PieceFactory;
+import tetris.game.SpeedCurve;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class PlacementSearchTest {
+
+    @Test
+    void testPicksTetrisWell() {
+        PlacementSearch search = new PlacementSearch();
+        long[] rows = search.getBoardRows();
+        // 아래 4줄이 9번 열만 비어 있음
+        for (int row = GameBoard.BOARD_HEIGHT - 4; row < GameBoard.BOARD_HEIGHT; row++) {
+            rows[row] = (1 << 9) - 1;
+        }
+
+        assertTrue(search.search(PieceFactory.I_PIECE, 0, 4, 0, 0, 4, 0));
+        // 세로로 세워서 9번 열에 떨어뜨림
+        assertEquals(1, search.getBestRotations());
+        assertEquals(5, search.getBestShift());
+
+        List<GameCommand> commands = new ArrayList<>();
+        search.appendCommands(commands);
+        assertEquals(GameCommand.ROTATE, commands.get(0));
+        assertEquals(GameCommand.HARD_DROP, commands.get(commands.size() - 1));
+        assertEquals(7, commands.size());
+    }
+
+    @Test
+    void testAvoidsCoveringHole() {
+        PlacementSearch search = new PlacementSearch();
+        long[] rows = search.getBoardRows();
+        // 맨 아래 줄에 0번 열만 빈 칸, 나머지 열은 한 칸 높이
+        rows[GameBoard.BOARD_HEIGHT - 1] = ((1 << 10) - 1) & ~1;
+
+        assertTrue(search.search(PieceFactory.O_PIECE, 0, 4, 0, 0, 4, 0));
+        // O 블록으로 0번 열을 덮으면 구멍이 생기므로 0번 열에는 놓지 않음
+        assertNotEquals(-4, search.getBestShift());
+    }
+
+    @Test
+    void testNoPlacementWhenSpawnBlocked() {
+        PlacementSearch search = new PlacementSearch();
+        long[] rows = search.getBoardRows();
+        for (int row = 0; row < GameBoard.BOARD_HEIGHT; row++) {
+            rows[row] = 1 << 4 | 1 << 5;
+        }
+
+        assertFalse(search.search(PieceFactory.O_PIECE, 0, 4, 0, 0, 4, 0));
+        List<GameCommand> commands = new ArrayList<>();
+        search.appendCommands(commands);
+        assertTrue(commands.isEmpty());
+    }
+
+    /**
+     * 게임 한 판을 끝까지 버티는지 (결정에 걸리는 시간은 시뮬레이터 리포트로 확인: --strategy ai)
+     */
+    @Test
+    void testSurvivesLongGame() {
+        GameEngine engine = new GameEngine(new GameConfig("Normal", "ITEM", SpeedCurve.CLASSIC).withSeed(42));
+        int[] placed = new int[1];
+        engine.addGameEventListener(new GameEventListener() {
+            @Override
+            public void onPiecePlaced(GameEngine placedEngine, int lastPlacedCol) {
+                placed[0]++;
+                placedEngine.clearLinesManually();
+            }
+        });
+        engine.startGame();
+
+        PlacementSearch search = new PlacementSearch();
+        List<GameCommand> commands = new ArrayList<>();
+        while (engine.isGameRunning() && placed[0] < 600) {
+            boolean found = search.search(engine);
+            commands.clear();
+            if (found) {
+                search.appendCommands(commands);
+            } else {
+                commands.add(GameCommand.HARD_DROP);
+            }
+            int before = placed[0];
+            for (int i = 0; i < commands.size() && placed[0] == before; i++) {
+                engine.execute(commands.get(i));
+            }
+        }
+
+        // 600개를 다 놓을 때까지 버팀
+        assertEquals(600, placed[0]);
+        assertTrue(engine.getLinesCleared() > 200, "lines: " + engine.getLinesCleared());
+    }
+}
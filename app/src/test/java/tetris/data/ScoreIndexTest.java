@@ -0,0 +1,90 @@
+package tetris.data;
+
+import org.junit.jupiter.api.Test;
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+class ScoreIndexTest {
+
+    @Test
+    void testInsertReturnsPositionWithTiesLast() {
+        ScoreIndex index = new ScoreIndex();
+        assertEquals(1, index.insert(100, 1));
+        assertEquals(2, index.insert(50, 2));
+        // 동점이면 먼저 기록된 것이 앞에 온다
+        assertEquals(2, index.insert(100, 3));
+        assertEquals(4, index.insert(10, 4));
+
+        assertArrayEquals(new long[] { 1, 3, 2, 4 }, index.top(10));
+    }
+
+    @Test
+    void testRankAndPercentile() {
+        ScoreIndex index = new ScoreIndex();
+        index.insert(300, 1);
+        index.insert(200, 2);
+        index.insert(200, 3);
+        index.insert(100, 4);
+
+        assertEquals(1, index.rankOf(500));
+        assertEquals(2, index.rankOf(200));
+        assertEquals(4, index.rankOf(150));
+        assertEquals(5, index.rankOf(0));
+        assertEquals(25.0, index.percentileOf(200), 0.0001);
+        assertEquals(300, index.getHighScore());
+        assertEquals(200.0, index.getAverageScore(), 0.0001);
+    }
+
+    @Test
+    void testMatchesSortedListOnRandomInput() {
+        Random random = new Random(42);
+        ScoreIndex index = new ScoreIndex();
+        List<int[]> expected = new ArrayList<>(); // {score, ref}
+
+        for (int i = 0; i < 2000; i++) {
+            int score = random.nextInt(500);
+            index.insert(score, i);
+            expected.add(new int[] { score, i });
+        }
+        // 안정 정렬이므로 동점은 삽입 순서 유지
+        expected.sort((a, b) -> Integer.compare(b[0], a[0]));
+        long[] expectedRefs = expected.stream().mapToLong(pair -> pair[1]).toArray();
+
+        assertEquals(expected.size(), index.size());
+        assertArrayEquals(expectedRefs, index.range(0, expected.size()));
+        long[] page = index.range(1500, 20);
+        for (int i = 0; i < page.length; i++) {
+            assertEquals(expectedRefs[1500 + i], page[i]);
+        }
+        assertEquals(expectedRefs[777], index.refAt(777));
+
+        List<Long> visited = new ArrayList<>();
+        index.forEach((ref, score) -> visited.add(ref));
+        assertEquals(expected.size(), visited.size());
+        assertEquals(expectedRefs[0], (long) visited.get(0));
+
+        for (int score = -1; score <= 501; score += 7) {
+            final int s = score;
+            long greater = expected.stream().filter(pair -> pair[0] > s).count();
+            assertEquals(greater + 1, index.rankOf(score));
+        }
+    }
+
+    @Test
+    void testRangeOutOfBoundsAndClear() {
+        ScoreIndex index = new ScoreIndex();
+        index.insert(10, 1);
+
+        assertEquals(0, index.range(5, 10).length);
+        assertEquals(1, index.top(10).length);
+        assertThrows(IndexOutOfBoundsException.class, () -> index.refAt(1));
+
+        index.clear();
+        assertTrue(index.isEmpty());
+        assertEquals(0, index.getHighScore());
+        assertEquals(0.0, index.getAverageScore(), 0.0001);
+    }
+}
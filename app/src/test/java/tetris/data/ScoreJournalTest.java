@@ -0,0 +1,190 @@
+package tetris.data;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+class ScoreJournalTest {
+
+    @TempDir
+    Path tempDir;
+
+    /** 재생 결과를 그대로 모으는 visitor */
+    private static class Collector implements ScoreJournal.Visitor {
+        final List<ScoreEntry> added = new ArrayList<>();
+        final List<String> cleared = new ArrayList<>();
+
+        @Override
+        public void onAdd(ScoreEntry entry) {
+            added.add(entry);
+        }
+
+        @Override
+        public void onClear(String gameMode) {
+            cleared.add(gameMode);
+        }
+
+        @Override
+        public void onClearDifficulty(String gameMode, String difficulty) {
+            cleared.add(gameMode + "/" + difficulty);
+        }
+    }
+
+    private ScoreJournal openJournal(Path file, Collector collector) {
+        ScoreJournal journal = new ScoreJournal(file);
+        journal.replay(collector);
+        return journal;
+    }
+
+    @Test
+    void testAppendAndReplay() {
+        Path file = tempDir.resolve("scores.journal");
+        ScoreJournal journal = openJournal(file, new Collector());
+        LocalDateTime date = LocalDateTime.of(2024, 5, 1, 12, 30);
+        journal.appendAdd(new ScoreEntry("홍길동", 1200, date, "Hard", "NORMAL"));
+        journal.appendAdd(new ScoreEntry("Bob", 300, date, "Normal", "ITEM"));
+        journal.appendClearDifficulty("NORMAL", "Easy");
+        journal.close();
+
+        Collector collector = new Collector();
+        openJournal(file, collector).close();
+
+        assertEquals(2, collector.added.size());
+        ScoreEntry first = collector.added.get(0);
+        assertEquals("홍길동", first.getPlayerName());
+        assertEquals(1200, first.getScore());
+        assertEquals("Hard", first.getDifficulty());
+        assertEquals("NORMAL", first.getGameMode());
+        assertEquals(date, first.getDate());
+        assertEquals("ITEM", collector.added.get(1).getGameMode());
+        assertEquals(List.of("NORMAL/Easy"), collector.cleared);
+    }
+
+    @Test
+    void testTornTailIsTruncated() throws Exception {
+        Path file = tempDir.resolve("scores.journal");
+        ScoreJournal journal = openJournal(file, new Collector());
+        journal.appendAdd(new ScoreEntry("A", 100, "Normal", "NORMAL"));
+        journal.appendAdd(new ScoreEntry("B", 200, "Normal", "NORMAL"));
+        journal.close();
+
+        // 마지막 레코드를 쓰다가 죽은 상황 재현 (레코드 절반만 남김)
+        long intact = ScoreJournal.HEADER_SIZE + ScoreJournal.RECORD_SIZE;
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.WRITE)) {
+            channel.truncate(intact + ScoreJournal.RECORD_SIZE / 2);
+        }
+
+        Collector collector = new Collector();
+        openJournal(file, collector).close();
+
+        assertEquals(1, collector.added.size());
+        assertEquals("A", collector.added.get(0).getPlayerName());
+        assertEquals(intact, Files.size(file));
+    }
+
+    @Test
+    void testCorruptRecordStopsReplay() throws Exception {
+        Path file = tempDir.resolve("scores.journal");
+        ScoreJournal journal = openJournal(file, new Collector());
+        journal.appendAdd(new ScoreEntry("A", 100, "Normal", "NORMAL"));
+        journal.appendAdd(new ScoreEntry("B", 200, "Normal", "NORMAL"));
+        journal.close();
+
+        // 두 번째 레코드의 점수 바이트를 변조 -> CRC 불일치
+        byte[] bytes = Files.readAllBytes(file);
+        bytes[ScoreJournal.HEADER_SIZE + ScoreJournal.RECORD_SIZE + 5] ^= 0x7F;
+        Files.write(file, bytes);
+
+        Collector collector = new Collector();
+        openJournal(file, collector).close();
+
+        assertEquals(1, collector.added.size());
+    }
+
+    @Test
+    void testCompactionKeepsOnlyLiveEntries() throws Exception {
+        Path file = tempDir.resolve("scores.journal");
+        ScoreJournal journal = openJournal(file, new Collector());
+        for (int i = 0; i < 300; i++) {
+            journal.appendAdd(new ScoreEntry("P" + i, i, "Easy", "NORMAL"));
+        }
+        assertTrue(journal.needsCompaction(10));
+        assertFalse(journal.needsCompaction(300));
+
+        List<ScoreEntry> live = new ArrayList<>();
+        live.add(new ScoreEntry("Top", 9999, "Easy", "NORMAL"));
+        journal.compact(live);
+        journal.appendAdd(new ScoreEntry("After", 1, "Easy", "NORMAL"));
+        journal.close();
+
+        assertEquals(ScoreJournal.HEADER_SIZE + 2L * ScoreJournal.RECORD_SIZE, Files.size(file));
+        assertFalse(Files.exists(tempDir.resolve("scores.journal.tmp")));
+
+        Collector collector = new Collector();
+        openJournal(file, collector).close();
+        assertEquals(2, collector.added.size());
+        assertEquals("Top", collector.added.get(0).getPlayerName());
+        assertEquals("After", collector.added.get(1).getPlayerName());
+    }
+
+    @Test
+    void testLongNameIsTruncatedOnCharacterBoundary() {
+        Path file = tempDir.resolve("scores.journal");
+        ScoreJournal journal = openJournal(file, new Collector());
+        String longName = "가".repeat(30); // UTF-8 90바이트
+        journal.appendAdd(new ScoreEntry(longName, 1, "Normal", "NORMAL"));
+        journal.close();
+
+        Collector collector = new Collector();
+        openJournal(file, collector).close();
+        assertEquals("가".repeat(14), collector.added.get(0).getPlayerName());
+    }
+
+    @Test
+    void testRecordReplayReadsEntriesLazily() {
+        Path file = tempDir.resolve("scores.journal");
+        ScoreJournal journal = openJournal(file, new Collector());
+        LocalDateTime date = LocalDateTime.of(2024, 5, 1, 12, 30);
+        journal.appendAdd(new ScoreEntry("A", 100, date, "Easy", "NORMAL"));
+        journal.appendClear("ITEM");
+        journal.appendAdd(new ScoreEntry("B", 200, date, "Hard", "ITEM"));
+        journal.close();
+
+        List<Long> recordNos = new ArrayList<>();
+        List<Integer> scores = new ArrayList<>();
+        ScoreJournal reopened = new ScoreJournal(file);
+        reopened.replay(new ScoreJournal.RecordVisitor() {
+            @Override
+            public void onAdd(long recordNo, String gameMode, String difficulty, int score) {
+                recordNos.add(recordNo);
+                scores.add(score);
+            }
+
+            @Override
+            public void onClear(String gameMode) {
+            }
+
+            @Override
+            public void onClearDifficulty(String gameMode, String difficulty) {
+            }
+        });
+
+        assertEquals(List.of(0L, 2L), recordNos);
+        assertEquals(List.of(100, 200), scores);
+        // 이름/날짜는 레코드 번호로 매핑에서 읽는다
+        ScoreEntry second = reopened.read(2);
+        assertEquals("B", second.getPlayerName());
+        assertEquals("ITEM", second.getGameMode());
+        assertEquals(date, second.getDate());
+        assertThrows(IndexOutOfBoundsException.class, () -> reopened.read(3));
+        reopened.close();
+    }
+}
@@ -0,0 +1,158 @@
+package tetris.data;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * 여러 스레드(게임 방)에서 동시에 ScoreManager를 쓰는 경우
+ */
+class ScoreManagerConcurrencyTest {
+
+    private static final String[] DIFFICULTIES = { "Easy", "Normal", "Hard" };
+
+    @TempDir
+    Path tempDir;
+
+    /**
+     * 모든 스레드를 동시에 출발시키고 끝날 때까지 대기
+     */
+    private static void runConcurrently(int threads, Runnable task) throws Exception {
+        ExecutorService executor = Executors.newFixedThreadPool(threads);
+        CountDownLatch start = new CountDownLatch(1);
+        List<Future<?>> futures = new ArrayList<>();
+        for (int i = 0; i < threads; i++) {
+            futures.add(executor.submit(() -> {
+                start.await();
+                task.run();
+                return null;
+            }));
+        }
+        start.countDown();
+        for (Future<?> future : futures) {
+            future.get(60, TimeUnit.SECONDS);
+        }
+        executor.shutdown();
+    }
+
+    @Test
+    void testConcurrentAddsAreAllRecorded() throws Exception {
+        Path file = tempDir.resolve("scores.journal");
+        ScoreManager manager = new ScoreManager(file);
+        int threads = 8;
+        int addsPerThread = 500;
+
+        runConcurrently(threads, () -> {
+            ThreadLocalRandom random = ThreadLocalRandom.current();
+            for (int i = 0; i < addsPerThread; i++) {
+                String mode = random.nextBoolean() ? "NORMAL" : "ITEM";
+                String difficulty = DIFFICULTIES[random.nextInt(DIFFICULTIES.length)];
+                manager.addScore("P" + i, random.nextInt(100000), difficulty, mode);
+                // 쓰는 중에 읽기도 섞는다
+                manager.getRankByDifficulty(random.nextInt(100000), mode, difficulty);
+                manager.getFormattedScoresByDifficulty(mode, difficulty);
+            }
+        });
+
+        int total = manager.getTotalGames("NORMAL") + manager.getTotalGames("ITEM");
+        assertEquals(threads * addsPerThread, total);
+        int byDifficulty = 0;
+        for (String difficulty : DIFFICULTIES) {
+            byDifficulty += manager.getScoreCount("NORMAL", difficulty) + manager.getScoreCount("ITEM", difficulty);
+        }
+        assertEquals(total, byDifficulty);
+
+        // 순위표는 점수 내림차순
+        List<ScoreEntry> top = manager.getScores("NORMAL", "Hard", 0, 100);
+        for (int i = 1; i < top.size(); i++) {
+            assertTrue(top.get(i - 1).getScore() >= top.get(i).getScore());
+        }
+
+        // 저널에도 빠짐없이 기록됐는지 다시 열어서 확인
+        manager.close();
+        ScoreManager reopened = new ScoreManager(file);
+        assertEquals(total, reopened.getTotalGames("NORMAL") + reopened.getTotalGames("ITEM"));
+        reopened.close();
+    }
+
+    @Test
+    void testClearsAndCompactionDuringConcurrentAdds() throws Exception {
+        Path file = tempDir.resolve("scores.journal");
+        ScoreManager manager = new ScoreManager(file);
+        int writers = 4;
+        int addsPerWriter = 400;
+
+        // 아이템 모드는 계속 추가/삭제해서 compaction이 여러 번 일어나게 하고, 일반 모드 기록은 전부 남아야 한다
+        AtomicInteger workerIds = new AtomicInteger();
+        runConcurrently(writers + 1, () -> {
+            if (workerIds.getAndIncrement() == 0) {
+                for (int i = 0; i < 2000; i++) {
+                    manager.addScore("I" + i, i, "Normal", "ITEM");
+                    if (i % 50 == 49) {
+                        manager.clearScores("ITEM");
+                    }
+                }
+                return;
+            }
+            for (int i = 0; i < addsPerWriter; i++) {
+                manager.addScore("N" + i, i, DIFFICULTIES[i % 3], "NORMAL");
+                manager.getFormattedScoresPage("NORMAL", null, 0, 10);
+            }
+        });
+
+        assertEquals(writers * addsPerWriter, manager.getTotalGames("NORMAL"));
+        assertEquals(0, manager.getTotalGames("ITEM"));
+        assertEquals(addsPerWriter - 1, manager.getHighScore("NORMAL"));
+
+        manager.close();
+        ScoreManager reopened = new ScoreManager(file);
+        assertEquals(writers * addsPerWriter, reopened.getTotalGames("NORMAL"));
+        assertEquals(0, reopened.getTotalGames("ITEM"));
+        reopened.close();
+    }
+
+    /**
+     * 조회 사이사이에 추가가 섞여도(조회 9 : 추가 1) 스레드 수와 상관없이 기록이 빠지지 않는지 확인
+     * (처리량 측정은 ScoreBenchmark - ./gradlew runScoreBenchmark)
+     */
+    @Test
+    void testInterleavedReadsKeepAllAddsAcrossThreadCounts() throws Exception {
+        int operationsPerThread = 20000;
+        int cores = Runtime.getRuntime().availableProcessors();
+
+        for (int threads = 1; threads <= Math.max(8, cores); threads *= 2) {
+            ScoreManager manager = new ScoreManager(tempDir.resolve("load-" + threads + ".journal"));
+            for (int i = 0; i < 5000; i++) {
+                manager.addScore("Seed" + i, i, DIFFICULTIES[i % 3], i % 2 == 0 ? "NORMAL" : "ITEM");
+            }
+
+            runConcurrently(threads, () -> {
+                ThreadLocalRandom random = ThreadLocalRandom.current();
+                for (int i = 0; i < operationsPerThread; i++) {
+                    String mode = random.nextBoolean() ? "NORMAL" : "ITEM";
+                    String difficulty = DIFFICULTIES[random.nextInt(DIFFICULTIES.length)];
+                    if (i % 10 == 0) {
+                        manager.addScore("B", random.nextInt(10000), difficulty, mode);
+                    } else {
+                        manager.getLifetimeRank(random.nextInt(10000), mode, difficulty);
+                    }
+                }
+            });
+            long totalOperations = (long) threads * operationsPerThread;
+            assertEquals(5000 + totalOperations / 10,
+                manager.getTotalGames("NORMAL") + manager.getTotalGames("ITEM"));
+            manager.close();
+        }
+    }
+}
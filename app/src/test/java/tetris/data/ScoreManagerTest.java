@@ -2,6 +2,7 @@ package tetris.data;
 
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
 import static org.junit.jupiter.api.Assertions.*;
 
 import java.io.File;
@@ -11,6 +12,9 @@ import java.nio.file.Paths;
 
 class ScoreManagerTest {
 
+    @TempDir
+    Path tempDir;
+
     @BeforeEach
     void setUp() {
         // 테스트 전에 ScoreManager 인스턴스 초기화를 위해
@@ -121,5 +125,21 @@ class ScoreManagerTest {
         int rank = manager.getRankByDifficulty(500, "NORMAL", "Normal");
         assertTrue(rank >= 1);
     }
-}
 
+    @Test
+    void testLongNameIsTheSameBeforeAndAfterRestart() {
+        Path file = tempDir.resolve("scores.journal");
+        ScoreManager manager = new ScoreManager(file);
+        manager.addScore("가".repeat(30), 500, "Normal", "NORMAL"); // UTF-8 90바이트
+
+        // 저널에 남는 이름(잘린 이름)이 재시작 전에도 그대로 보여야 함
+        String shownBeforeRestart = manager.getScores("NORMAL", "Normal", 0, 1).get(0).getPlayerName();
+        manager.close();
+        ScoreManager reopened = new ScoreManager(file);
+        String shownAfterRestart = reopened.getScores("NORMAL", "Normal", 0, 1).get(0).getPlayerName();
+        reopened.close();
+
+        assertEquals("가".repeat(14), shownBeforeRestart);
+        assertEquals(shownBeforeRestart, shownAfterRestart);
+    }
+}
@@ -52,6 +52,14 @@ class BattleGameEngineTest {
         assertFalse(itemBattleEngine.isTimeLimitMode());
     }
 
+    @Test
+    void testBattleModeDoesNotChangeSavedGameMode() {
+        // setUp에서 ITEM 대전 엔진을 만들었어도 저장된 게임 모드는 그대로
+        assertEquals("NORMAL", SettingsManager.getInstance().getGameMode());
+        assertTrue(itemBattleEngine.getPlayer1Engine().getConfig().isItemMode());
+        assertFalse(battleEngine.getPlayer1Engine().getConfig().isItemMode());
+    }
+
     @Test
     void testGetPlayer1Engine() {
         GameEngine player1 = battleEngine.getPlayer1Engine();
@@ -490,6 +498,26 @@ class BattleGameEngineTest {
         timeLimitEngine.stopGame();
     }
 
+    @Test
+    void testTimeLimitMode_EndsOnGameTime() {
+        timeLimitEngine.setTimeLimit(60);
+        timeLimitEngine.startGame();
+
+        timeLimitEngine.update(20_000_000_000L);
+        assertEquals(40, timeLimitEngine.getRemainingTime());
+
+        // 일시정지 중에는 시간이 흐르지 않는다
+        timeLimitEngine.pauseGame();
+        timeLimitEngine.update(120_000_000_000L);
+        timeLimitEngine.pauseGame();
+        assertEquals(40, timeLimitEngine.getRemainingTime());
+        assertTrue(timeLimitEngine.isGameRunning());
+
+        timeLimitEngine.update(40_000_000_000L);
+        assertFalse(timeLimitEngine.isGameRunning());
+        assertEquals("DRAW", timeLimitEngine.getWinner());
+    }
+
     @Test
     void testNormalMode_GetRemainingTime() {
         // 일반 모드에서는 시간 제한이 없으므로 0 반환
@@ -795,4 +823,23 @@ class BattleGameEngineTest {
         assertEquals(2, battleEngine.getPendingAttacksToPlayer2());
         assertEquals(2, battleEngine.getPendingAttacksToPlayer1());
     }
+
+    @Test
+    void testPendingAttacksToppingOutDecidesWinner() {
+        battleEngine.startGame();
+        GameBoard board = battleEngine.getPlayer2Engine().getGameBoard();
+        for (int row = 0; row < GameBoard.BOARD_HEIGHT; row++) {
+            board.setCell(row, 0, 1);
+        }
+
+        // 4줄 + 2줄 공격을 한꺼번에 받아 숨은 줄 위로 넘침
+        battleEngine.processPlayer1Attack(4, 9);
+        battleEngine.processPlayer1Attack(2, 9);
+        battleEngine.applyPendingAttacks(2);
+
+        assertTrue(battleEngine.getPlayer2Engine().isToppedOut());
+        battleEngine.update(1_000_000L);
+        assertEquals("PLAYER1", battleEngine.getWinner());
+        assertFalse(battleEngine.isGameRunning());
+    }
 }
@@ -67,10 +67,8 @@ class GameBoardTest {
     }
 
     @Test
-    void testGetFullLines() {
-        var fullLines = gameBoard.getFullLines();
-        assertNotNull(fullLines);
-        assertEquals(0, fullLines.size()); // 초기에는 비어있음
+    void testGetFullLineMask() {
+        assertEquals(0L, gameBoard.getFullLineMask()); // 초기에는 비어있음
     }
 
     @Test
@@ -101,6 +99,11 @@ class GameBoardTest {
         assertNotNull(board);
         assertEquals(GameBoard.BOARD_HEIGHT, board.length);
         assertEquals(GameBoard.BOARD_WIDTH, board[0].length);
+
+        // 복사본이므로 바꿔도 보드와 지표는 그대로
+        board[GameBoard.BOARD_HEIGHT - 1][0] = 1;
+        assertEquals(0, gameBoard.getCell(GameBoard.BOARD_HEIGHT - 1, 0));
+        assertEquals(0L, gameBoard.getRowBits(GameBoard.BOARD_HEIGHT - 1));
     }
 
     @Test
@@ -231,9 +234,8 @@ class GameBoardTest {
     @Test
     void testClearLine_FullLine() {
         // 보드 하단 한 줄을 직접 채움
-        int[][] board = gameBoard.getBoard();
         for (int col = 0; col < GameBoard.BOARD_WIDTH; col++) {
-            board[GameBoard.BOARD_HEIGHT - 1][col] = 1; // 블록으로 채움
+            gameBoard.setCell(GameBoard.BOARD_HEIGHT - 1, col, 1); // 블록으로 채움
         }
 
         int cleared = gameBoard.clearLines();
@@ -243,7 +245,6 @@ class GameBoardTest {
     @Test
     void testBombEffect_WithGravity_3x3() {
         // BOMB 아이템이 3x3 범위를 제거하는지 테스트
-        int[][] board = gameBoard.getBoard();
 
         // 폭탄이 위치할 행(10)과 열(5)
         int bombRow = 10;
@@ -252,7 +253,7 @@ class GameBoardTest {
         // 보드를 블록으로 채움 (5행~15행)
         for (int row = 5; row <= 15; row++) {
             for (int col = 0; col < GameBoard.BOARD_WIDTH; col++) {
-                board[row][col] = 1;
+                gameBoard.setCell(row, col, 1);
             }
         }
 
@@ -309,7 +310,6 @@ class GameBoardTest {
         // LINE_CLEAR 아이템의 중력 적용 검증
         SettingsManager.getInstance().setGameMode("ITEM");
 
-        int[][] board = gameBoard.getBoard();
 
         // 보드에 블록 패턴 설정
         // 행 5: 블록 타입 3
@@ -318,12 +318,12 @@ class GameBoardTest {
 
         // 5행에 블록 배치
         for (int col = 0; col < GameBoard.BOARD_WIDTH; col++) {
-            board[5][col] = 3;
+            gameBoard.setCell(5, col, 3);
         }
 
         // 15행에 블록 배치 (기준점)
         for (int col = 0; col < GameBoard.BOARD_WIDTH; col++) {
-            board[15][col] = 1;
+            gameBoard.setCell(15, col, 1);
         }
 
         // 10행에 LINE_CLEAR 블록 배치 및 아이템 효과 처리
@@ -363,12 +363,11 @@ class GameBoardTest {
     @Test
     void testBombEffect_3x3_EdgeCase() {
         // 폭탄이 가장자리에 있을 때 3x3 범위가 올바르게 처리되는지 확인
-        int[][] board = gameBoard.getBoard();
 
         // 보드 전체를 블록으로 채움
         for (int row = 0; row < GameBoard.BOARD_HEIGHT; row++) {
             for (int col = 0; col < GameBoard.BOARD_WIDTH; col++) {
-                board[row][col] = 2;
+                gameBoard.setCell(row, col, 2);
             }
         }
 
@@ -401,7 +400,6 @@ class GameBoardTest {
     @Test
     void testBombEffect_3x3_Center() {
         // 폭탄이 중앙에 있을 때 정확히 3x3 범위를 제거하는지 확인
-        int[][] board = gameBoard.getBoard();
 
         int bombRow = 10;
         int bombCol = 5;
@@ -409,14 +407,14 @@ class GameBoardTest {
         // 폭탄 주변만 블록으로 채움 (8행~12행, 3열~7열)
         for (int row = 8; row <= 12; row++) {
             for (int col = 3; col <= 7; col++) {
-                board[row][col] = 3;
+                gameBoard.setCell(row, col, 3);
             }
         }
 
         int blocksBeforeBomb = 0;
         for (int row = 8; row <= 12; row++) {
             for (int col = 3; col <= 7; col++) {
-                if (board[row][col] != 0) blocksBeforeBomb++;
+                if (gameBoard.getCell(row, col) != 0) blocksBeforeBomb++;
             }
         }
 
@@ -446,21 +444,20 @@ class GameBoardTest {
     void testBombEffect_WithCascadingLineClear() {
         // BOMB으로 중력 적용 후 꽉 찬 줄이 생기면 clearLines()로 연속 삭제 가능한지 검증
         SettingsManager.getInstance().setGameMode("ITEM");
-        int[][] board = gameBoard.getBoard();
 
         // 보드 하단부를 거의 채움
         // 행 15~19: 중간에 한 칸만 비워둠 (열 5)
         for (int row = 15; row < GameBoard.BOARD_HEIGHT; row++) {
             for (int col = 0; col < GameBoard.BOARD_WIDTH; col++) {
                 if (col != 5) {
-                    board[row][col] = 1;
+                    gameBoard.setCell(row, col, 1);
                 }
             }
         }
 
         // 행 10: 열 5에만 블록 배치 (이것이 떨어지면 행 15~19가 꽉 참)
         for (int row = 10; row <= 14; row++) {
-            board[row][5] = 2;
+            gameBoard.setCell(row, 5, 2);
         }
 
         // 행 10의 열 4 위치에 폭탄 배치
@@ -472,18 +469,18 @@ class GameBoardTest {
         gameBoard.processItemEffects(bombPiece);
 
         // 중력 적용 후 꽉 찬 줄이 생겼는지 확인
-        java.util.List<Integer> fullLines = gameBoard.getFullLines();
+        long fullLines = gameBoard.getFullLineMask();
 
         // 폭탄으로 인해 블록들이 떨어지면서 꽉 찬 줄이 생겼을 것으로 예상
         // 이제 clearLines()를 호출하면 이 줄들이 삭제되어야 함
-        if (!fullLines.isEmpty()) {
+        if (fullLines != 0L) {
             int clearedLines = gameBoard.clearLines();
             assertTrue(clearedLines > 0,
                 "After gravity from BOMB, full lines should be cleared by clearLines()");
 
             // 줄 삭제 후 다시 확인하면 꽉 찬 줄이 없어야 함
-            java.util.List<Integer> fullLinesAfterClear = gameBoard.getFullLines();
-            assertEquals(0, fullLinesAfterClear.size(), "All full lines should be cleared");
+            long fullLinesAfterClear = gameBoard.getFullLineMask();
+            assertEquals(0, Long.bitCount(fullLinesAfterClear), "All full lines should be cleared");
         }
     }
 
@@ -491,29 +488,28 @@ class GameBoardTest {
     void testLineClearItem_WithCascadingLineClear() {
         // LINE_CLEAR로 줄 삭제 후 중력 적용되고, 그 결과 꽉 찬 줄이 생기면 clearLines()로 연속 삭제 가능한지 검증
         SettingsManager.getInstance().setGameMode("ITEM");
-        int[][] board = gameBoard.getBoard();
 
         // 보드 설정:
         // 행 18~19: 완전히 채움
         for (int row = 18; row < GameBoard.BOARD_HEIGHT; row++) {
             for (int col = 0; col < GameBoard.BOARD_WIDTH; col++) {
-                board[row][col] = 1;
+                gameBoard.setCell(row, col, 1);
             }
         }
 
         // 행 17: 한 칸만 비워둠 (열 5)
         for (int col = 0; col < GameBoard.BOARD_WIDTH; col++) {
             if (col != 5) {
-                board[17][col] = 2;
+                gameBoard.setCell(17, col, 2);
             }
         }
 
         // 행 10: 열 5에 블록 배치 (LINE_CLEAR로 삭제하면 이 블록이 떨어져서 행 17이 꽉 참)
-        board[10][5] = 3;
+        gameBoard.setCell(10, 5, 3);
 
         // 행 12에 LINE_CLEAR 아이템 배치 (이 줄 전체를 채움)
         for (int col = 0; col < GameBoard.BOARD_WIDTH; col++) {
-            board[12][col] = 4;
+            gameBoard.setCell(12, col, 4);
         }
 
         // I 블록으로 LINE_CLEAR 아이템 생성
@@ -549,20 +545,19 @@ class GameBoardTest {
     void testBombEffect_MultipleLineCascade() {
         // BOMB으로 여러 줄이 연속으로 삭제되는 극단적인 케이스
         SettingsManager.getInstance().setGameMode("ITEM");
-        int[][] board = gameBoard.getBoard();
 
         // 보드 하단 5줄 (15~19)을 거의 채우되, 각 줄마다 한 칸씩만 비움 (모두 열 5)
         for (int row = 15; row < GameBoard.BOARD_HEIGHT; row++) {
             for (int col = 0; col < GameBoard.BOARD_WIDTH; col++) {
                 if (col != 5) {
-                    board[row][col] = 1;
+                    gameBoard.setCell(row, col, 1);
                 }
             }
         }
 
         // 열 5를 세로로 블록들로 채움 (행 10~14)
         for (int row = 10; row <= 14; row++) {
-            board[row][5] = 2;
+            gameBoard.setCell(row, 5, 2);
         }
 
         // 행 10, 열 5 위치에 폭탄 배치 (3x3 제거하면 열 5의 블록들이 떨어짐)
@@ -570,27 +565,27 @@ class GameBoardTest {
         bombPiece.setPosition(5, 10);
         gameBoard.placePiece(bombPiece);
 
-        int fullLinesBefore = gameBoard.getFullLines().size();
+        int fullLinesBefore = Long.bitCount(gameBoard.getFullLineMask());
         assertEquals(0, fullLinesBefore, "Should have no full lines before bomb");
 
         // 폭탄 효과 처리
         gameBoard.processItemEffects(bombPiece);
 
         // 중력 적용 후 꽉 찬 줄 확인
-        java.util.List<Integer> fullLinesAfterGravity = gameBoard.getFullLines();
+        long fullLinesAfterGravity = gameBoard.getFullLineMask();
 
         // 연속 줄삭제
         int clearedLines = gameBoard.clearLines();
 
         // 줄삭제 후 다시 확인
-        java.util.List<Integer> fullLinesAfterClear = gameBoard.getFullLines();
+        long fullLinesAfterClear = gameBoard.getFullLineMask();
 
         // 검증: 중력 후 생긴 줄들이 모두 삭제되어야 함
-        if (!fullLinesAfterGravity.isEmpty()) {
-            assertTrue(clearedLines >= fullLinesAfterGravity.size(),
-                "Should clear at least " + fullLinesAfterGravity.size() + " lines, but cleared " + clearedLines);
+        if (fullLinesAfterGravity != 0L) {
+            assertTrue(clearedLines >= Long.bitCount(fullLinesAfterGravity),
+                "Should clear at least " + Long.bitCount(fullLinesAfterGravity) + " lines, but cleared " + clearedLines);
         }
-        assertEquals(0, fullLinesAfterClear.size(),
+        assertEquals(0, Long.bitCount(fullLinesAfterClear),
             "All full lines should be cleared after cascade");
     }
 
@@ -598,31 +593,30 @@ class GameBoardTest {
     void testLineClearItem_MultipleRowsWithGravity() {
         // LINE_CLEAR로 여러 줄을 동시에 삭제하고, 중력으로 또 여러 줄이 채워지는 케이스
         SettingsManager.getInstance().setGameMode("ITEM");
-        int[][] board = gameBoard.getBoard();
 
         // 보드 하단 (17~19) 완전히 채우기
         for (int row = 17; row < GameBoard.BOARD_HEIGHT; row++) {
             for (int col = 0; col < GameBoard.BOARD_WIDTH; col++) {
-                board[row][col] = 1;
+                gameBoard.setCell(row, col, 1);
             }
         }
 
         // 행 15~16: 각각 한 칸만 비우기 (열 3과 열 7)
         for (int col = 0; col < GameBoard.BOARD_WIDTH; col++) {
-            if (col != 3) board[15][col] = 2;
-            if (col != 7) board[16][col] = 2;
+            if (col != 3) gameBoard.setCell(15, col, 2);
+            if (col != 7) gameBoard.setCell(16, col, 2);
         }
 
         // 행 5~9: 열 3과 열 7에만 블록 배치 (이게 떨어지면 15~16이 채워짐)
         for (int row = 5; row <= 9; row++) {
-            board[row][3] = 3;
-            board[row][7] = 3;
+            gameBoard.setCell(row, 3, 3);
+            gameBoard.setCell(row, 7, 3);
         }
 
         // 행 10~14를 완전히 채우고 LINE_CLEAR 아이템 설정
         for (int row = 10; row <= 14; row++) {
             for (int col = 0; col < GameBoard.BOARD_WIDTH; col++) {
-                board[row][col] = 4;
+                gameBoard.setCell(row, col, 4);
             }
         }
 
@@ -645,14 +639,14 @@ class GameBoardTest {
         assertTrue(itemClearedLines > 0, "LINE_CLEAR should remove lines");
 
         // 중력 후 꽉 찬 줄 확인
-        java.util.List<Integer> fullLines = gameBoard.getFullLines();
+        long fullLines = gameBoard.getFullLineMask();
 
         // 연속 삭제
         int cascadeClearedLines = gameBoard.clearLines();
 
         // 최종 확인
-        java.util.List<Integer> remainingFullLines = gameBoard.getFullLines();
-        assertEquals(0, remainingFullLines.size(),
+        long remainingFullLines = gameBoard.getFullLineMask();
+        assertEquals(0, Long.bitCount(remainingFullLines),
             "All cascaded full lines should be cleared");
     }
 
@@ -660,13 +654,12 @@ class GameBoardTest {
     void testBombEffect_ComplexGravityScenario() {
         // BOMB으로 복잡한 패턴을 제거하고 중력 적용 시나리오
         SettingsManager.getInstance().setGameMode("ITEM");
-        int[][] board = gameBoard.getBoard();
 
         // 체스판 패턴으로 보드 채우기 (빈칸이 산발적으로 분포)
         for (int row = 10; row < GameBoard.BOARD_HEIGHT; row++) {
             for (int col = 0; col < GameBoard.BOARD_WIDTH; col++) {
                 if ((row + col) % 2 == 0) {
-                    board[row][col] = 1;
+                    gameBoard.setCell(row, col, 1);
                 }
             }
         }
@@ -674,15 +667,15 @@ class GameBoardTest {
         // 하단 3줄은 완전히 채우되, 각각 한 칸씩만 비우기
         for (int row = 17; row < GameBoard.BOARD_HEIGHT; row++) {
             for (int col = 0; col < GameBoard.BOARD_WIDTH; col++) {
-                board[row][col] = 2;
+                gameBoard.setCell(row, col, 2);
             }
-            board[row][row - 17] = 0; // 각 줄마다 다른 위치 비우기
+            gameBoard.setCell(row, row - 17, 0); // 각 줄마다 다른 위치 비우기
         }
 
         // 비워진 위치 위에 블록 배치
         for (int row = 10; row <= 16; row++) {
             for (int col = 0; col <= 2; col++) {
-                board[row][col] = 3;
+                gameBoard.setCell(row, col, 3);
             }
         }
 
@@ -698,8 +691,8 @@ class GameBoardTest {
         int totalCleared = 0;
         int iterations = 0;
         while (iterations < 10) { // 최대 10번 반복
-            java.util.List<Integer> fullLines = gameBoard.getFullLines();
-            if (fullLines.isEmpty()) break;
+            long fullLines = gameBoard.getFullLineMask();
+            if (fullLines == 0L) break;
 
             int cleared = gameBoard.clearLines();
             totalCleared += cleared;
@@ -707,8 +700,8 @@ class GameBoardTest {
         }
 
         // 최종적으로 꽉 찬 줄이 없어야 함
-        java.util.List<Integer> finalFullLines = gameBoard.getFullLines();
-        assertEquals(0, finalFullLines.size(),
+        long finalFullLines = gameBoard.getFullLineMask();
+        assertEquals(0, Long.bitCount(finalFullLines),
             "After multiple cascade iterations, no full lines should remain");
     }
 
@@ -716,34 +709,33 @@ class GameBoardTest {
     void testLineClearItem_ChainReaction() {
         // LINE_CLEAR → 중력 → 새로운 꽉 찬 줄 → clearLines → 또 다른 중력이 필요한 상황
         SettingsManager.getInstance().setGameMode("ITEM");
-        int[][] board = gameBoard.getBoard();
 
         // 매우 복잡한 패턴 구성
         // 하단 (18~19): 완전히 채움
         for (int row = 18; row < GameBoard.BOARD_HEIGHT; row++) {
             for (int col = 0; col < GameBoard.BOARD_WIDTH; col++) {
-                board[row][col] = 1;
+                gameBoard.setCell(row, col, 1);
             }
         }
 
         // 행 16~17: 한 칸씩 비우기
         for (int col = 0; col < GameBoard.BOARD_WIDTH; col++) {
-            if (col != 2) board[16][col] = 2;
-            if (col != 6) board[17][col] = 2;
+            if (col != 2) gameBoard.setCell(16, col, 2);
+            if (col != 6) gameBoard.setCell(17, col, 2);
         }
 
         // 행 14~15: 한 칸씩 비우기 (다른 위치)
         for (int col = 0; col < GameBoard.BOARD_WIDTH; col++) {
-            if (col != 4) board[14][col] = 3;
-            if (col != 8) board[15][col] = 3;
+            if (col != 4) gameBoard.setCell(14, col, 3);
+            if (col != 8) gameBoard.setCell(15, col, 3);
         }
 
         // 위쪽에 채워질 블록들 배치
         for (int row = 5; row <= 13; row++) {
-            board[row][2] = 4;
-            board[row][4] = 4;
-            board[row][6] = 4;
-            board[row][8] = 4;
+            gameBoard.setCell(row, 2, 4);
+            gameBoard.setCell(row, 4, 4);
+            gameBoard.setCell(row, 6, 4);
+            gameBoard.setCell(row, 8, 4);
         }
 
         // 행 10에 LINE_CLEAR 블록 배치
@@ -766,8 +758,8 @@ class GameBoardTest {
         int totalCleared = 0;
         int maxIterations = 20;
         for (int i = 0; i < maxIterations; i++) {
-            java.util.List<Integer> fullLines = gameBoard.getFullLines();
-            if (fullLines.isEmpty()) break;
+            long fullLines = gameBoard.getFullLineMask();
+            if (fullLines == 0L) break;
 
             int cleared = gameBoard.clearLines();
             totalCleared += cleared;
@@ -776,8 +768,8 @@ class GameBoardTest {
         }
 
         // 최종 검증
-        java.util.List<Integer> finalFullLines = gameBoard.getFullLines();
-        assertEquals(0, finalFullLines.size(),
+        long finalFullLines = gameBoard.getFullLineMask();
+        assertEquals(0, Long.bitCount(finalFullLines),
             "Chain reaction should eventually clear all full lines");
     }
 
@@ -785,23 +777,22 @@ class GameBoardTest {
     void testBombAndLineClearCombination() {
         // BOMB과 LINE_CLEAR를 순차적으로 사용하는 복합 시나리오
         SettingsManager.getInstance().setGameMode("ITEM");
-        int[][] board = gameBoard.getBoard();
 
         // 보드 하단을 거의 채우기
         for (int row = 15; row < GameBoard.BOARD_HEIGHT; row++) {
             for (int col = 0; col < GameBoard.BOARD_WIDTH; col++) {
-                board[row][col] = 1;
+                gameBoard.setCell(row, col, 1);
             }
         }
 
         // 행 14: 한 칸만 비우기
         for (int col = 0; col < GameBoard.BOARD_WIDTH; col++) {
-            if (col != 5) board[14][col] = 2;
+            if (col != 5) gameBoard.setCell(14, col, 2);
         }
 
         // 위쪽에 블록 배치
         for (int row = 8; row <= 13; row++) {
-            board[row][5] = 3;
+            gameBoard.setCell(row, 5, 3);
         }
 
         // 1단계: BOMB 사용
@@ -815,10 +806,10 @@ class GameBoardTest {
 
         // 2단계: 추가 블록 배치
         for (int col = 0; col < GameBoard.BOARD_WIDTH; col++) {
-            if (col != 3) board[10][col] = 4;
+            if (col != 3) gameBoard.setCell(10, col, 4);
         }
         for (int row = 5; row <= 9; row++) {
-            board[row][3] = 5;
+            gameBoard.setCell(row, 3, 5);
         }
 
         // LINE_CLEAR 사용
@@ -841,8 +832,8 @@ class GameBoardTest {
         int secondClear = gameBoard.clearLines();
 
         // 최종 검증
-        java.util.List<Integer> finalFullLines = gameBoard.getFullLines();
-        assertEquals(0, finalFullLines.size(),
+        long finalFullLines = gameBoard.getFullLineMask();
+        assertEquals(0, Long.bitCount(finalFullLines),
             "Combination of BOMB and LINE_CLEAR should handle all cascades");
     }
 
@@ -850,40 +841,39 @@ class GameBoardTest {
     void testGravityMultipleCascades() {
         // 중력이 여러 번 연속으로 적용되어야 하는 극단적인 케이스
         SettingsManager.getInstance().setGameMode("ITEM");
-        int[][] board = gameBoard.getBoard();
 
         // 보드 전체를 레이어 형태로 구성
         // 맨 아래 (19): 완전히 채움
         for (int col = 0; col < GameBoard.BOARD_WIDTH; col++) {
-            board[19][col] = 1;
+            gameBoard.setCell(19, col, 1);
         }
 
         // 행 18: 한 칸 비움
         for (int col = 0; col < GameBoard.BOARD_WIDTH; col++) {
-            if (col != 1) board[18][col] = 1;
+            if (col != 1) gameBoard.setCell(18, col, 1);
         }
 
         // 행 17: 다른 칸 비움
         for (int col = 0; col < GameBoard.BOARD_WIDTH; col++) {
-            if (col != 3) board[17][col] = 1;
+            if (col != 3) gameBoard.setCell(17, col, 1);
         }
 
         // 행 16: 또 다른 칸 비움
         for (int col = 0; col < GameBoard.BOARD_WIDTH; col++) {
-            if (col != 5) board[16][col] = 1;
+            if (col != 5) gameBoard.setCell(16, col, 1);
         }
 
         // 행 15: 또 다른 칸 비움
         for (int col = 0; col < GameBoard.BOARD_WIDTH; col++) {
-            if (col != 7) board[15][col] = 1;
+            if (col != 7) gameBoard.setCell(15, col, 1);
         }
 
         // 위쪽에 필요한 블록들 배치
         for (int row = 5; row <= 14; row++) {
-            board[row][1] = 2;
-            board[row][3] = 2;
-            board[row][5] = 2;
-            board[row][7] = 2;
+            gameBoard.setCell(row, 1, 2);
+            gameBoard.setCell(row, 3, 2);
+            gameBoard.setCell(row, 5, 2);
+            gameBoard.setCell(row, 7, 2);
         }
 
         // 중앙에 폭탄 배치 및 폭발
@@ -896,8 +886,8 @@ class GameBoardTest {
         int totalIterations = 0;
         int totalCleared = 0;
         while (totalIterations < 30) {
-            java.util.List<Integer> fullLines = gameBoard.getFullLines();
-            if (fullLines.isEmpty()) break;
+            long fullLines = gameBoard.getFullLineMask();
+            if (fullLines == 0L) break;
 
             int cleared = gameBoard.clearLines();
             if (cleared == 0) break;
@@ -910,8 +900,8 @@ class GameBoardTest {
         assertTrue(totalIterations < 30,
             "Should not require more than 30 iterations to settle");
 
-        java.util.List<Integer> finalFullLines = gameBoard.getFullLines();
-        assertEquals(0, finalFullLines.size(),
+        long finalFullLines = gameBoard.getFullLineMask();
+        assertEquals(0, Long.bitCount(finalFullLines),
             "All full lines should eventually be cleared");
     }
 
@@ -919,11 +909,10 @@ class GameBoardTest {
     void testEmptyBoardAfterItemEffects() {
         // 아이템 효과 후 보드가 거의 비었을 때도 문제없이 동작하는지 확인
         SettingsManager.getInstance().setGameMode("ITEM");
-        int[][] board = gameBoard.getBoard();
 
         // 최소한의 블록만 배치
-        board[19][5] = 1;
-        board[18][5] = 1;
+        gameBoard.setCell(19, 5, 1);
+        gameBoard.setCell(18, 5, 1);
 
         Piece bombPiece = PieceFactory.createBombPiece();
         bombPiece.setPosition(5, 17);
@@ -935,8 +924,406 @@ class GameBoardTest {
         // 에러 없이 처리되어야 함
         assertTrue(cleared >= 0, "Should handle near-empty board without errors");
 
-        java.util.List<Integer> fullLines = gameBoard.getFullLines();
-        assertEquals(0, fullLines.size(), "Should have no full lines");
+        long fullLines = gameBoard.getFullLineMask();
+        assertEquals(0, Long.bitCount(fullLines), "Should have no full lines");
+    }
+
+    @Test
+    void testRotateInPlaceWhenFree() {
+        Piece piece = PieceFactory.createPiece(PieceFactory.T_PIECE);
+        piece.setPosition(4, 5);
+
+        assertTrue(gameBoard.rotateWithKicks(piece));
+        assertEquals(1, piece.getRotation());
+        assertEquals(4, piece.getX());
+        assertEquals(5, piece.getY());
+    }
+
+    @Test
+    void testRotateKicksOffRightWall() {
+        Piece piece = PieceFactory.createPiece(PieceFactory.I_PIECE);
+        piece.rotate(); // 세로
+        piece.setPosition(GameBoard.BOARD_WIDTH - 1, 5);
+        assertTrue(gameBoard.isValidPosition(piece));
+
+        // 제자리에서는 가로로 눕힐 수 없으므로 왼쪽으로 밀어서 회전
+        assertTrue(gameBoard.rotateWithKicks(piece));
+        assertEquals(0, piece.getRotation());
+        assertEquals(GameBoard.BOARD_WIDTH - 4, piece.getX());
+        assertTrue(gameBoard.isValidPosition(piece));
+    }
+
+    @Test
+    void testRotateKicksUpFromFloor() {
+        Piece piece = PieceFactory.createPiece(PieceFactory.I_PIECE);
+        piece.setPosition(3, GameBoard.BOARD_HEIGHT - 1); // 바닥에 누운 I
+
+        // 세로로 세우면 바닥을 뚫으므로 위로 올려서 회전
+        assertTrue(gameBoard.rotateWithKicks(piece));
+        assertEquals(1, piece.getRotation());
+        assertTrue(gameBoard.isValidPosition(piece));
+        assertTrue(piece.getY() + piece.getShape().length <= GameBoard.BOARD_HEIGHT);
+    }
+
+    @Test
+    void testRotateFailsWhenEnclosed() {
+        // 3번 열만 빈 세로 통로를 만들고 세로 I를 넣음
+        for (int row = 10; row < GameBoard.BOARD_HEIGHT; row++) {
+            Piece block = PieceFactory.createPiece(PieceFactory.BOMB_PIECE);
+            for (int col = 0; col < GameBoard.BOARD_WIDTH; col++) {
+                if (col != 3) {
+                    block.setPosition(col, row);
+                    gameBoard.placePiece(block);
+                }
+            }
+        }
+        Piece piece = PieceFactory.createPiece(PieceFactory.I_PIECE);
+        piece.rotate();
+        piece.setPosition(3, GameBoard.BOARD_HEIGHT - 4);
+
+        assertFalse(gameBoard.rotateWithKicks(piece));
+        assertEquals(1, piece.getRotation());
+        assertEquals(3, piece.getX());
+        assertEquals(GameBoard.BOARD_HEIGHT - 4, piece.getY());
+    }
+
+    @Test
+    void testMetricsAfterPlaceAndClear() {
+        // 맨 아래 줄을 9칸 채우고, 4번 열 위에 블록 하나를 띄워서 구멍 1개
+        Piece block = PieceFactory.createPiece(PieceFactory.BOMB_PIECE);
+        for (int col = 0; col < GameBoard.BOARD_WIDTH - 1; col++) {
+            block.setPosition(col, GameBoard.BOARD_HEIGHT - 1);
+            gameBoard.placePiece(block);
+        }
+        block.setPosition(4, GameBoard.BOARD_HEIGHT - 3);
+        gameBoard.placePiece(block);
+
+        assertEquals(9, gameBoard.getRowFillCount(GameBoard.BOARD_HEIGHT - 1));
+        assertEquals(3, gameBoard.getColumnHeight(4));
+        assertEquals(0, gameBoard.getColumnHeight(GameBoard.BOARD_WIDTH - 1));
+        assertEquals(1, gameBoard.getHoleCount());
+        assertEquals(3, gameBoard.getMaxHeight());
+        assertEquals(GameBoard.BOARD_HEIGHT - 3, gameBoard.getHighestRow());
+
+        // 마지막 칸을 채워 한 줄 삭제 -> 모든 열이 한 칸씩 낮아지고 구멍은 그대로
+        block.setPosition(GameBoard.BOARD_WIDTH - 1, GameBoard.BOARD_HEIGHT - 1);
+        gameBoard.placePiece(block);
+        assertEquals(1, gameBoard.clearLines());
+        assertEquals(2, gameBoard.getColumnHeight(4));
+        assertEquals(0, gameBoard.getColumnHeight(0));
+        assertEquals(1, gameBoard.getHoleCount());
+        assertMetricsMatchBoard();
+    }
+
+    @Test
+    void testMetricsMatchRescanAfterRandomPlay() {
+        java.util.Random random = new java.util.Random(7);
+        for (int turn = 0; turn < 300; turn++) {
+            Piece piece = PieceFactory.createPiece(1 + random.nextInt(PieceFactory.L_PIECE));
+            int rotations = random.nextInt(4);
+            for (int i = 0; i < rotations; i++) {
+                piece.rotate();
+            }
+            piece.setPosition(random.nextInt(GameBoard.BOARD_WIDTH), 0);
+            if (!gameBoard.isValidPosition(piece)) {
+                gameBoard.clearBoard();
+                continue;
+            }
+            while (true) {
+                piece.setPosition(piece.getX(), piece.getY() + 1);
+                if (!gameBoard.isValidPosition(piece)) {
+                    piece.setPosition(piece.getX(), piece.getY() - 1);
+                    break;
+                }
+            }
+            gameBoard.placePiece(piece);
+            gameBoard.clearLines();
+            if (random.nextInt(5) == 0) {
+                gameBoard.addAttackLines(1 + random.nextInt(3), random.nextInt(GameBoard.BOARD_WIDTH));
+            }
+            assertMetricsMatchBoard();
+        }
+    }
+
+    @Test
+    void testMetricsFollowDirectBoardWrites() {
+        gameBoard.setCell(GameBoard.BOARD_HEIGHT - 5, 2, 1);
+
+        assertEquals(5, gameBoard.getColumnHeight(2));
+        assertEquals(4, gameBoard.getHoleCount());
+        assertMetricsMatchBoard();
+    }
+
+    @Test
+    void testDangerWhenStackReachesTop() {
+        assertFalse(gameBoard.isInDanger());
+        gameBoard.addAttackLines(10, 0);
+        assertFalse(gameBoard.isInDanger());
+
+        // 공격 줄 위에 세로 I 두 개를 쌓으면 위에서 DANGER_ROWS 줄 안으로 들어옴
+        for (int i = 1; i <= 2; i++) {
+            Piece piece = PieceFactory.createPiece(PieceFactory.I_PIECE);
+            piece.rotate();
+            piece.setPosition(5, GameBoard.BOARD_HEIGHT - 10 - 4 * i);
+            assertTrue(gameBoard.isValidPosition(piece));
+            gameBoard.placePiece(piece);
+        }
+        assertEquals(GameBoard.BOARD_HEIGHT - 18, gameBoard.getHighestRow());
+        assertTrue(gameBoard.isInDanger());
+        assertMetricsMatchBoard();
     }
-}
 
+    @Test
+    void testPlacePieceReturnsCompletedRows() {
+        // 19행과 17행은 0번 열만, 18행은 0, 1번 열을 비워 둠
+        Piece block = PieceFactory.createPiece(PieceFactory.BOMB_PIECE);
+        for (int row = GameBoard.BOARD_HEIGHT - 3; row < GameBoard.BOARD_HEIGHT; row++) {
+            for (int col = 1; col < GameBoard.BOARD_WIDTH; col++) {
+                if (row == GameBoard.BOARD_HEIGHT - 2 && col == 1) {
+                    continue;
+                }
+                block.setPosition(col, row);
+                assertEquals(0L, gameBoard.placePiece(block));
+            }
+        }
+        // 세로 I로 0번 열을 채우면 19행과 17행만 가득 참
+        Piece piece = PieceFactory.createPiece(PieceFactory.I_PIECE);
+        piece.rotate();
+        piece.setPosition(0, GameBoard.BOARD_HEIGHT - 4);
+        long expected = (1L << (GameBoard.BOARD_HEIGHT - 1)) | (1L << (GameBoard.BOARD_HEIGHT - 3));
+        assertEquals(expected, gameBoard.placePiece(piece));
+        assertEquals(expected, gameBoard.getFullLineMask());
+
+        // 두 줄을 지우면 18행이 맨 아래로, I의 맨 윗칸은 그 바로 위로 내려옴
+        assertEquals(2, gameBoard.clearLines());
+        assertEquals(0L, gameBoard.getFullLineMask());
+        assertEquals(0, gameBoard.getCell(GameBoard.BOARD_HEIGHT - 1, 1));
+        assertEquals(PieceFactory.I_PIECE, gameBoard.getCell(GameBoard.BOARD_HEIGHT - 1, 0));
+        assertEquals(PieceFactory.I_PIECE, gameBoard.getCell(GameBoard.BOARD_HEIGHT - 2, 0));
+        assertEquals(0, gameBoard.getCell(GameBoard.BOARD_HEIGHT - 2, 1));
+        assertEquals(0, gameBoard.getRowFillCount(GameBoard.BOARD_HEIGHT - 3));
+        assertMetricsMatchBoard();
+    }
+
+    @Test
+    void testAttackLinesAccumulateAndTrimFromBottom() {
+        gameBoard.addAttackLines(4, 0);
+        gameBoard.addAttackLines(4, 1);
+        assertEquals(8, gameBoard.getAttackLinesCount());
+        assertFalse(gameBoard.isAttackLinesFull());
+
+        // 13줄이 되므로 맨 아래 3줄(1번 열이 빈 줄)을 잘라내고 5줄을 모두 넣음
+        gameBoard.addAttackLines(5, 2);
+        assertEquals(GameBoard.MAX_ATTACK_LINES, gameBoard.getAttackLinesCount());
+        assertTrue(gameBoard.isAttackLinesFull());
+        for (int i = 0; i < 5; i++) {
+            assertEquals(0, gameBoard.getCell(GameBoard.BOARD_HEIGHT - 1 - i, 2));
+        }
+        assertEquals(0, gameBoard.getCell(GameBoard.BOARD_HEIGHT - 6, 1));
+        for (int i = 6; i < 10; i++) {
+            assertEquals(0, gameBoard.getCell(GameBoard.BOARD_HEIGHT - 1 - i, 0));
+        }
+        assertTrue(gameBoard.isAttackBlock(GameBoard.BOARD_HEIGHT - 10, 1));
+        assertEquals(0, gameBoard.getRowFillCount(GameBoard.BOARD_HEIGHT - 11));
+        assertMetricsMatchBoard();
+    }
+
+    @Test
+    void testClearingAttackLineUpdatesCount() {
+        gameBoard.addAttackLines(2, 3);
+        Piece block = PieceFactory.createPiece(PieceFactory.BOMB_PIECE);
+        block.setPosition(3, GameBoard.BOARD_HEIGHT - 1);
+
+        assertEquals(1L << (GameBoard.BOARD_HEIGHT - 1), gameBoard.placePiece(block));
+        assertEquals(1, gameBoard.clearLines());
+        assertEquals(1, gameBoard.getAttackLinesCount());
+        assertTrue(gameBoard.isAttackBlock(GameBoard.BOARD_HEIGHT - 1, 0));
+        assertFalse(gameBoard.isAttackBlock(GameBoard.BOARD_HEIGHT - 2, 0));
+        assertMetricsMatchBoard();
+    }
+
+    @Test
+    void testItemEffectsKeepMetricsAndCompactColumns() {
+        java.util.Random random = new java.util.Random(11);
+        gameBoard.addAttackLines(6, 4);
+        for (int turn = 0; turn < 200; turn++) {
+            Piece piece;
+            int kind = random.nextInt(3);
+            if (kind == 0) {
+                piece = PieceFactory.createBombPiece();
+            } else {
+                piece = PieceFactory.createPiece(1 + random.nextInt(PieceFactory.L_PIECE));
+                if (kind == 1) {
+                    piece.setItemAt(piece.getShapes().getCellRow(0, 0), piece.getShapes().getCellCol(0, 0), ItemType.LINE_CLEAR);
+                }
+            }
+            piece.setPosition(random.nextInt(GameBoard.BOARD_WIDTH), 0);
+            if (!gameBoard.isValidPosition(piece)) {
+                gameBoard.clearBoard();
+                gameBoard.addAttackLines(1 + random.nextInt(4), random.nextInt(GameBoard.BOARD_WIDTH));
+                continue;
+            }
+            while (true) {
+                piece.setPosition(piece.getX(), piece.getY() + 1);
+                if (!gameBoard.isValidPosition(piece)) {
+                    piece.setPosition(piece.getX(), piece.getY() - 1);
+                    break;
+                }
+            }
+            gameBoard.placePiece(piece);
+            gameBoard.processItemEffects(piece);
+            if (kind == 0) {
+                // 폭탄 뒤에는 중력으로 모든 열에 구멍이 없어야 함
+                assertEquals(0, gameBoard.getHoleCount());
+            }
+            gameBoard.clearLines();
+            assertMetricsMatchBoard();
+        }
+    }
+
+    @Test
+    void testWideBoardsClearLinesAndKeepMetrics() {
+        for (int width : new int[] { 20, GameBoard.MAX_WIDTH }) {
+            gameBoard = new GameBoard(width, 40);
+            assertEquals(width, gameBoard.getWidth());
+            assertEquals(40, gameBoard.getHeight());
+            assertEquals(width / 2 - 1, gameBoard.getSpawnX());
+
+            // 가로 I 블록으로 맨 아래 줄을 마지막 4칸만 남기고 채움
+            Piece piece = PieceFactory.createPiece(PieceFactory.I_PIECE);
+            for (int x = 0; x < width - 4; x += 4) {
+                piece.setPosition(x, 39);
+                assertTrue(gameBoard.isValidPosition(piece));
+                assertEquals(0L, gameBoard.placePiece(piece));
+            }
+            assertEquals(width - 4, gameBoard.getRowFillCount(39));
+            piece.setPosition(width - 3, 39);
+            assertFalse(gameBoard.isValidPosition(piece));
+
+            piece.setPosition(width - 4, 39);
+            assertEquals(1L << 39, gameBoard.placePiece(piece));
+            assertEquals(1, gameBoard.clearLines());
+            assertEquals(0, gameBoard.getMaxHeight());
+
+            // 공격 줄도 가로 크기만큼 채워짐
+            gameBoard.addAttackLines(2, width - 1);
+            assertEquals(width - 1, gameBoard.getRowFillCount(39));
+            assertEquals(2, gameBoard.getAttackLinesCount());
+            assertMetricsMatchBoard();
+        }
+    }
+
+    @Test
+    void testUnsupportedBoardSizeIsRejected() {
+        assertThrows(IllegalArgumentException.class, () -> new GameBoard(GameBoard.MAX_WIDTH + 1, 20));
+        assertThrows(IllegalArgumentException.class, () -> new GameBoard(10, GameBoard.MIN_HEIGHT - 1));
+    }
+
+    @Test
+    void testSpawnRisesIntoBufferRowsUntilBlockedOut() {
+        Piece piece = PieceFactory.createPiece(PieceFactory.O_PIECE);
+        assertTrue(gameBoard.spawn(piece));
+        assertEquals(gameBoard.getSpawnY(), piece.getY());
+
+        // 나오는 자리의 보이는 줄이 막히면 숨은 줄로 올라가서 나옴
+        gameBoard.setCell(0, gameBoard.getSpawnX(), 1);
+        assertTrue(gameBoard.spawn(piece));
+        assertEquals(-2, piece.getY());
+        assertFalse(gameBoard.isToppedOut());
+
+        // 숨은 줄까지 막히면 block out
+        Piece blocker = PieceFactory.createPiece(PieceFactory.O_PIECE);
+        blocker.setPosition(gameBoard.getSpawnX(), -2);
+        gameBoard.placePiece(blocker);
+        blocker.setPosition(gameBoard.getSpawnX(), -4);
+        gameBoard.placePiece(blocker);
+        assertFalse(gameBoard.spawn(piece));
+        assertEquals(gameBoard.getSpawnY(), piece.getY());
+    }
+
+    @Test
+    void testLockOutOnlyWhenPieceStaysAboveVisibleRows() {
+        Piece piece = PieceFactory.createPiece(PieceFactory.O_PIECE);
+        // 보이는 줄에 한 칸이라도 걸치면 숨은 줄의 칸도 남고 게임은 계속
+        piece.setPosition(0, -1);
+        gameBoard.placePiece(piece);
+        assertFalse(gameBoard.isToppedOut());
+        assertEquals(PieceFactory.O_PIECE, gameBoard.getCell(-1, 0));
+        assertEquals(GameBoard.BOARD_HEIGHT + 1, gameBoard.getMaxHeight());
+        assertEquals(-1, gameBoard.getHighestRow());
+        assertMetricsMatchBoard();
+
+        // 숨은 줄에만 고정되면 lock out
+        piece.setPosition(4, -2);
+        gameBoard.placePiece(piece);
+        assertTrue(gameBoard.isToppedOut());
+
+        gameBoard.clearBoard();
+        assertFalse(gameBoard.isToppedOut());
+        assertEquals(0, gameBoard.getCell(-1, 0));
+    }
+
+    @Test
+    void testAttackLinesPushIntoBufferThenTopOut() {
+        for (int row = 0; row < GameBoard.BOARD_HEIGHT; row++) {
+            gameBoard.setCell(row, 0, 1);
+        }
+
+        // 숨은 줄 수만큼은 밀려 올라가도 블록이 남음
+        gameBoard.addAttackLines(GameBoard.BUFFER_ROWS, 9);
+        assertFalse(gameBoard.isToppedOut());
+        assertEquals(1, gameBoard.getCell(-GameBoard.BUFFER_ROWS, 0));
+        assertEquals(GameBoard.BOARD_HEIGHT + GameBoard.BUFFER_ROWS, gameBoard.getColumnHeight(0));
+        assertMetricsMatchBoard();
+
+        // 그보다 더 밀리면 top out
+        gameBoard.addAttackLines(1, 9);
+        assertTrue(gameBoard.isToppedOut());
+        assertMetricsMatchBoard();
+    }
+
+    // 보드 지표가 보드를 (숨은 줄까지) 처음부터 훑은 값과 같은지 확인
+    private void assertMetricsMatchBoard() {
+        int holes = 0;
+        int maxHeight = 0;
+        for (int col = 0; col < gameBoard.getWidth(); col++) {
+            int height = 0;
+            for (int row = -GameBoard.BUFFER_ROWS; row < gameBoard.getHeight(); row++) {
+                if (gameBoard.getCell(row, col) != 0) {
+                    if (height == 0) {
+                        height = gameBoard.getHeight() - row;
+                    }
+                } else if (height > 0) {
+                    holes++;
+                }
+            }
+            assertEquals(height, gameBoard.getColumnHeight(col), "column " + col);
+            maxHeight = Math.max(maxHeight, height);
+        }
+        for (int row = -GameBoard.BUFFER_ROWS; row < gameBoard.getHeight(); row++) {
+            int fill = 0;
+            for (int col = 0; col < gameBoard.getWidth(); col++) {
+                if (gameBoard.getCell(row, col) != 0) {
+                    fill++;
+                }
+            }
+            assertEquals(fill, gameBoard.getRowFillCount(row), "row " + row);
+        }
+        assertEquals(holes, gameBoard.getHoleCount());
+        assertEquals(maxHeight, gameBoard.getMaxHeight());
+
+        // 공격 줄 수 = 맨 아래부터 공격 블록이 있는 연속된 줄 수
+        int attackLines = 0;
+        for (int row = gameBoard.getHeight() - 1; row >= -GameBoard.BUFFER_ROWS; row--) {
+            boolean hasAttack = false;
+            for (int col = 0; col < gameBoard.getWidth(); col++) {
+                hasAttack |= gameBoard.isAttackBlock(row, col);
+            }
+            if (!hasAttack) {
+                break;
+            }
+            attackLines++;
+        }
+        assertEquals(attackLines, gameBoard.getAttackLinesCount());
+    }
+}
@@ -0,0 +1,138 @@
+package tetris.game;
+
+import org.junit.jupiter.api.Test;
+import static org.junit.jupiter.api.Assertions.*;
+
+class GameConfigTest {
+
+    @Test
+    void testClassicCurveMatchesPreviousFormula() {
+        GameConfig config = new GameConfig("Normal", "NORMAL", SpeedCurve.CLASSIC);
+
+        assertEquals(1_000_000_000L, config.getFallInterval(1));
+        for (int level = 1; level <= 40; level++) {
+            long expected = (long) (1_000_000_000 * Math.pow(0.9, level - 1));
+            assertEquals(expected, config.getFallInterval(level), "level " + level);
+            assertEquals(Math.max(1, (int) Math.round(1_000_000_000.0 / expected)), config.getSpeedBonus(level));
+        }
+        // 표보다 높은 레벨은 마지막 값
+        assertEquals(config.getFallInterval(GameConfig.MAX_TABLE_LEVEL),
+            config.getFallInterval(GameConfig.MAX_TABLE_LEVEL + 50));
+    }
+
+    @Test
+    void testLineClearScores() {
+        GameConfig config = new GameConfig("Normal", "NORMAL", SpeedCurve.CLASSIC);
+
+        assertEquals(100, config.getLineClearScore(1, 1));
+        assertEquals(900, config.getLineClearScore(2, 3));
+        assertEquals(2500, config.getLineClearScore(3, 5));
+        assertEquals(8000, config.getLineClearScore(4, 10));
+        assertEquals(800 * 150, config.getLineClearScore(4, 150));
+        assertEquals(0, config.getLineClearScore(0, 5));
+        assertEquals(0, config.getLineClearScore(5, 5));
+    }
+
+    @Test
+    void testLinesPerLevelByDifficulty() {
+        assertEquals(12, new GameConfig("Easy", "NORMAL", SpeedCurve.CLASSIC).getLinesPerLevel());
+        assertEquals(10, new GameConfig("Normal", "NORMAL", SpeedCurve.CLASSIC).getLinesPerLevel());
+        assertEquals(8, new GameConfig("Hard", "NORMAL", SpeedCurve.CLASSIC).getLinesPerLevel());
+    }
+
+    @Test
+    void testCustomAndGuidelineCurves() {
+        GameConfig custom = new GameConfig("Normal", "NORMAL", SpeedCurve.fromTable(0.5, 0.25));
+        assertEquals(500_000_000L, custom.getFallInterval(1));
+        assertEquals(250_000_000L, custom.getFallInterval(2));
+        assertEquals(250_000_000L, custom.getFallInterval(30));
+        assertEquals(4, custom.getSpeedBonus(2));
+
+        GameConfig guideline = new GameConfig("Normal", "NORMAL", SpeedCurve.byName("guideline"));
+        assertEquals(1_000_000_000L, guideline.getFallInterval(1));
+        assertTrue(guideline.getFallInterval(10) < guideline.getFallInterval(5));
+        assertEquals(guideline.getFallInterval(20), guideline.getFallInterval(25));
+    }
+
+    @Test
+    void testWithGameModeKeepsTables() {
+        GameConfig normal = new GameConfig("Hard", "NORMAL", SpeedCurve.CLASSIC);
+        GameConfig item = normal.withGameMode("ITEM");
+
+        assertSame(normal, normal.withGameMode("NORMAL"));
+        assertTrue(item.isItemMode());
+        assertEquals("Hard", item.getDifficulty());
+        assertEquals(normal.getFallInterval(7), item.getFallInterval(7));
+    }
+
+    @Test
+    void testEngineUsesConfigTablesOnLevelUp() {
+        GameConfig config = new GameConfig("Hard", "NORMAL", SpeedCurve.CLASSIC);
+        GameEngine engine = new GameEngine(config);
+        assertSame(config, engine.getConfig());
+        assertEquals(config.getFallInterval(1), engine.getFallSpeed());
+
+        // 아래 4줄을 채우고 지우기를 두 번 (8줄)
+        GameBoard board = engine.getGameBoard();
+        for (int i = 0; i < 2; i++) {
+            for (int row = GameBoard.BOARD_HEIGHT - 4; row < GameBoard.BOARD_HEIGHT; row++) {
+                for (int col = 0; col < GameBoard.BOARD_WIDTH; col++) {
+                    board.setCell(row, col, 1);
+                }
+            }
+            assertEquals(4, engine.clearLinesManually());
+        }
+
+        assertEquals(2, engine.getLevel());
+        assertEquals(800 + 800, engine.getScore());
+        assertEquals(config.getFallInterval(2), engine.getFallSpeed());
+        assertEquals(config.getSpeedBonus(2), engine.getFallSpeedBonusMultiplier());
+    }
+
+    @Test
+    void testLockDelayKeepsOtherSettings() {
+        GameConfig config = new GameConfig("Normal", "ITEM", SpeedCurve.CLASSIC).withSeed(7);
+        assertEquals(GameConfig.DEFAULT_LOCK_DELAY, config.getLockDelay());
+        assertEquals(GameConfig.DEFAULT_MAX_LOCK_RESETS, config.getMaxLockResets());
+
+        GameConfig instant = config.withLockDelay(0, 0);
+        assertEquals(0, instant.getLockDelay());
+        assertEquals(0, instant.getMaxLockResets());
+        assertTrue(instant.isSeeded());
+        assertTrue(instant.isItemMode());
+        // 게임 모드를 바꿔도 고정 지연은 유지
+        assertEquals(0, instant.withGameMode("NORMAL").getLockDelay());
+    }
+
+    @Test
+    void testPreviewCountIsClamped() {
+        GameConfig config = new GameConfig("Normal", "NORMAL", SpeedCurve.CLASSIC);
+        assertEquals(GameConfig.DEFAULT_PREVIEW_COUNT, config.getPreviewCount());
+        assertEquals(1, config.withPreviewCount(0).getPreviewCount());
+        assertEquals(GameConfig.MAX_PREVIEW_COUNT, config.withPreviewCount(100).getPreviewCount());
+        assertEquals(3, config.withPreviewCount(3).withLockDelay(0, 0).getPreviewCount());
+    }
+
+    @Test
+    void testBoardSizeIsClampedAndUsedByEngine() {
+        GameConfig config = new GameConfig("Normal", "NORMAL", SpeedCurve.CLASSIC);
+        assertEquals(GameBoard.BOARD_WIDTH, config.getBoardWidth());
+        assertEquals(GameBoard.BOARD_HEIGHT, config.getBoardHeight());
+        assertSame(config, config.withBoardSize(GameBoard.BOARD_WIDTH, GameBoard.BOARD_HEIGHT));
+
+        GameConfig huge = config.withBoardSize(100, 100);
+        assertEquals(GameBoard.MAX_WIDTH, huge.getBoardWidth());
+        assertEquals(GameBoard.MAX_HEIGHT, huge.getBoardHeight());
+        GameConfig tiny = config.withBoardSize(1, 1);
+        assertEquals(GameBoard.MIN_WIDTH, tiny.getBoardWidth());
+        assertEquals(GameBoard.MIN_HEIGHT, tiny.getBoardHeight());
+        // 다른 설정을 바꿔도 보드 크기는 유지
+        assertEquals(30, config.withBoardSize(30, 40).withSeed(1).withGameMode("ITEM").getBoardWidth());
+
+        GameEngine engine = new GameEngine(config.withBoardSize(30, 40).withSeed(3));
+        engine.startGame();
+        assertEquals(30, engine.getGameBoard().getWidth());
+        assertEquals(40, engine.getGameBoard().getHeight());
+        assertEquals(14, engine.getCurrentPiece().getX());
+    }
+}
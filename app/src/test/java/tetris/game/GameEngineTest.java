@@ -109,12 +109,11 @@ class GameEngineTest {
     }
 
     @Test
-    void testGetFullLines() {
+    void testNoFullLinesAtStart() {
         gameEngine.startGame();
-        var fullLines = gameEngine.getFullLines();
-        assertNotNull(fullLines);
-        // 초기에는 비어있을 것
-        assertEquals(0, fullLines.size());
+        // 초기에는 지울 줄이 없음
+        assertEquals(0L, gameEngine.getGameBoard().getFullLineMask());
+        assertEquals(0, gameEngine.clearLinesManually());
     }
 
     @Test
@@ -153,6 +152,37 @@ class GameEngineTest {
         assertTrue(gameEngine.isDoubleScoreActive());
     }
 
+    @Test
+    void testDoubleScoreExpiresWithGameTime() {
+        gameEngine.startGame();
+        gameEngine.activateDoubleScore();
+
+        gameEngine.update(29_000_000_000L);
+        assertTrue(gameEngine.isDoubleScoreActive());
+        assertEquals(1, gameEngine.getDoubleScoreRemainingTime());
+
+        gameEngine.update(1_000_000_000L);
+        assertFalse(gameEngine.isDoubleScoreActive());
+        assertEquals(0, gameEngine.getDoubleScoreRemainingTime());
+    }
+
+    @Test
+    void testGameTimeStopsWhilePaused() {
+        gameEngine.startGame();
+        gameEngine.activateDoubleScore();
+        gameEngine.update(10_000_000_000L);
+
+        gameEngine.pauseGame();
+        gameEngine.update(60_000_000_000L);
+        assertEquals(10_000_000_000L, gameEngine.getGameTime());
+        assertTrue(gameEngine.isDoubleScoreActive());
+
+        gameEngine.pauseGame();
+        gameEngine.update(5_000_000_000L);
+        assertEquals(15_000_000_000L, gameEngine.getGameTime());
+        assertEquals(15, gameEngine.getDoubleScoreRemainingTime());
+    }
+
     @Test
     void testHasSkipItem() {
         gameEngine.startGame();
@@ -380,5 +410,353 @@ class GameEngineTest {
         // ITEM 모드에서 블록 생성 확인
         assertNotNull(itemEngine.getNextPiece());
     }
-}
 
+    @Test
+    void testEventListener_PiecePlacedOnHardDrop() {
+        int[] placed = {0};
+        gameEngine.addGameEventListener(new GameEventListener() {
+            @Override
+            public void onPiecePlaced(GameEngine engine, int lastPlacedCol) {
+                assertSame(gameEngine, engine);
+                assertTrue(lastPlacedCol >= 0 && lastPlacedCol < GameBoard.BOARD_WIDTH);
+                placed[0]++;
+            }
+        });
+        gameEngine.startGame();
+        gameEngine.handleKeyPress(javafx.scene.input.KeyCode.SPACE);
+        assertEquals(1, placed[0]);
+    }
+
+    @Test
+    void testEventListener_LinesClearedWithRowMask() {
+        GameBoard board = gameEngine.getGameBoard();
+        int bottom = GameBoard.BOARD_HEIGHT - 1;
+        for (int col = 0; col < GameBoard.BOARD_WIDTH; col++) {
+            board.setCell(bottom, col, 1);
+        }
+
+        long[] mask = {0L};
+        int[] cleared = {0};
+        gameEngine.addGameEventListener(new GameEventListener() {
+            @Override
+            public void onLinesCleared(GameEngine engine, int clearedLines, long rowMask) {
+                cleared[0] = clearedLines;
+                mask[0] = rowMask;
+            }
+        });
+
+        assertEquals(1, gameEngine.clearLinesManually());
+        assertEquals(1, cleared[0]);
+        assertEquals(1L << bottom, mask[0]);
+        assertEquals(1, gameEngine.getLinesCleared());
+    }
+
+    @Test
+    void testClearLinesManually_CountMatchesMaskWithFullHiddenRow() {
+        GameBoard board = gameEngine.getGameBoard();
+        int bottom = GameBoard.BOARD_HEIGHT - 1;
+        for (int col = 0; col < GameBoard.BOARD_WIDTH; col++) {
+            board.setCell(bottom, col, 1);
+            board.setCell(-1, col, 1);  // 숨은 줄도 가득 참
+        }
+
+        long[] mask = {0L};
+        int[] cleared = {0};
+        gameEngine.addGameEventListener(new GameEventListener() {
+            @Override
+            public void onLinesCleared(GameEngine engine, int clearedLines, long rowMask) {
+                cleared[0] = clearedLines;
+                mask[0] = rowMask;
+            }
+        });
+
+        // 보이는 줄만 삭제하고, 줄 수와 rowMask가 같은 줄을 가리킴
+        assertEquals(1, gameEngine.clearLinesManually());
+        assertEquals(Long.bitCount(mask[0]), cleared[0]);
+        assertEquals(1L << bottom, mask[0]);
+        assertEquals(1, gameEngine.getLinesCleared());
+        // 숨은 줄은 한 칸 내려와 보이는 맨 위 줄이 됨
+        assertEquals(1L, board.getFullLineMask());
+    }
+
+    @Test
+    void testEventListener_LineClearItemFiresLinesCleared() {
+        gameEngine.startGame();
+        Piece piece = gameEngine.getCurrentPiece();
+        int[][] shape = piece.getShape();
+        int itemRow = shape.length - 1;
+        for (int col = 0; col < shape[itemRow].length; col++) {
+            if (shape[itemRow][col] != 0) {
+                piece.setItemAt(itemRow, col, ItemType.LINE_CLEAR);
+                break;
+            }
+        }
+
+        long[] mask = {0L};
+        int[] cleared = {0};
+        gameEngine.addGameEventListener(new GameEventListener() {
+            @Override
+            public void onLinesCleared(GameEngine engine, int clearedLines, long rowMask) {
+                cleared[0] = clearedLines;
+                mask[0] = rowMask;
+            }
+        });
+
+        // 빈 보드에 하드드롭하면 아이템이 있는 맨 아래 줄이 LINE_CLEAR로 지워짐
+        gameEngine.handleKeyPress(javafx.scene.input.KeyCode.SPACE);
+        assertEquals(1, cleared[0]);
+        assertEquals(1L << (GameBoard.BOARD_HEIGHT - 1), mask[0]);
+        assertEquals(1, gameEngine.getLinesCleared());
+    }
+
+    @Test
+    void testEventListener_NoEventWithoutFullLines() {
+        int[] events = {0};
+        gameEngine.addGameEventListener(new GameEventListener() {
+            @Override
+            public void onLinesCleared(GameEngine engine, int clearedLines, long rowMask) {
+                events[0]++;
+            }
+        });
+        assertEquals(0, gameEngine.clearLinesManually());
+        assertEquals(0, events[0]);
+    }
+
+    @Test
+    void testEventListener_PieceRotated() {
+        int[] rotated = {0};
+        gameEngine.addGameEventListener(new GameEventListener() {
+            @Override
+            public void onPieceRotated(GameEngine engine) {
+                rotated[0]++;
+            }
+        });
+        gameEngine.startGame();
+        // 천장 근처에서는 회전이 막힐 수 있으므로 몇 칸 내린 뒤 회전
+        for (int i = 0; i < 3; i++) {
+            gameEngine.movePieceDown();
+        }
+        gameEngine.handleKeyPress(javafx.scene.input.KeyCode.W);
+        assertEquals(1, rotated[0]);
+    }
+
+    @Test
+    void testEventListener_Remove() {
+        int[] placed = {0};
+        GameEventListener listener = new GameEventListener() {
+            @Override
+            public void onPiecePlaced(GameEngine engine, int lastPlacedCol) {
+                placed[0]++;
+            }
+        };
+        gameEngine.addGameEventListener(listener);
+        gameEngine.removeGameEventListener(listener);
+        gameEngine.startGame();
+        gameEngine.handleKeyPress(javafx.scene.input.KeyCode.SPACE);
+        assertEquals(0, placed[0]);
+    }
+
+    @Test
+    void testLandingPieceIsReusedAndOnFloor() {
+        gameEngine.startGame();
+        Piece current = gameEngine.getCurrentPiece();
+
+        Piece landing = gameEngine.getLandingPiece();
+        assertNotSame(current, landing);
+        assertEquals(current.getType(), landing.getType());
+        assertEquals(current.getX(), landing.getX());
+        assertEquals(GameBoard.BOARD_HEIGHT - landing.getShape().length, landing.getY());
+        // 현재 블록은 그대로
+        assertEquals(gameEngine.getGameBoard().getSpawnY(), current.getY());
+
+        // 같은 타입이면 같은 객체를 다시 씀
+        assertSame(landing, gameEngine.getLandingPiece());
+    }
+
+    private static GameEngine engineWithLockDelay(long lockDelay, int maxResets) {
+        GameEngine engine = new GameEngine(new GameConfig("Normal", "NORMAL", SpeedCurve.CLASSIC)
+            .withSeed(3).withLockDelay(lockDelay, maxResets));
+        engine.startGame();
+        return engine;
+    }
+
+    private static void dropUntilGrounded(GameEngine engine) {
+        for (int i = 0; i < GameBoard.BOARD_HEIGHT && !engine.isPieceGrounded(); i++) {
+            engine.movePieceDown();
+        }
+        assertTrue(engine.isPieceGrounded());
+    }
+
+    @Test
+    void testLockDelayWaitsBeforePlacing() {
+        GameEngine engine = engineWithLockDelay(500_000_000L, 15);
+        Piece piece = engine.getCurrentPiece();
+        dropUntilGrounded(engine);
+
+        // 바닥에 닿아도 자연 낙하로는 바로 고정되지 않음
+        engine.movePieceDown();
+        engine.update(400_000_000L);
+        assertSame(piece, engine.getCurrentPiece());
+
+        engine.update(100_000_000L);
+        assertNotSame(piece, engine.getCurrentPiece());
+        assertFalse(engine.isPieceGrounded());
+    }
+
+    @Test
+    void testMoveResetsLockDelayUpToLimit() {
+        GameEngine engine = engineWithLockDelay(500_000_000L, 2);
+        Piece piece = engine.getCurrentPiece();
+        dropUntilGrounded(engine);
+
+        engine.update(400_000_000L);
+        engine.execute(GameCommand.MOVE_LEFT);      // 1번째 초기화
+        engine.update(400_000_000L);
+        engine.execute(GameCommand.MOVE_RIGHT);     // 2번째 초기화
+        engine.update(400_000_000L);
+        assertSame(piece, engine.getCurrentPiece());
+
+        // 횟수를 다 쓰면 움직여도 시간이 다시 채워지지 않음
+        engine.execute(GameCommand.MOVE_LEFT);
+        engine.update(100_000_000L);
+        assertNotSame(piece, engine.getCurrentPiece());
+    }
+
+    @Test
+    void testHardDropIgnoresLockDelay() {
+        GameEngine engine = engineWithLockDelay(500_000_000L, 15);
+        Piece piece = engine.getCurrentPiece();
+        engine.execute(GameCommand.HARD_DROP);
+        assertNotSame(piece, engine.getCurrentPiece());
+    }
+
+    @Test
+    void testZeroLockDelayPlacesOnLanding() {
+        GameEngine engine = engineWithLockDelay(0, 0);
+        Piece piece = engine.getCurrentPiece();
+        for (int i = 0; i < GameBoard.BOARD_HEIGHT && engine.getCurrentPiece() == piece; i++) {
+            engine.movePieceDown();
+            assertFalse(engine.isPieceGrounded());
+        }
+        assertNotSame(piece, engine.getCurrentPiece());
+    }
+
+    @Test
+    void testPreviewQueueAdvancesOnPlacement() {
+        GameEngine engine = new GameEngine(new GameConfig("Normal", "NORMAL", SpeedCurve.CLASSIC).withSeed(5));
+        engine.startGame();
+        int count = engine.getPreviewCount();
+        assertEquals(GameConfig.DEFAULT_PREVIEW_COUNT, count);
+        assertSame(engine.getNextPiece(), engine.getPreviewPiece(0));
+
+        Piece[] before = new Piece[count];
+        for (int i = 0; i < count; i++) {
+            before[i] = engine.getPreviewPiece(i);
+        }
+        engine.execute(GameCommand.HARD_DROP);
+
+        // 큐가 한 칸씩 앞으로 당겨지고 맨 뒤에 새 블록
+        assertSame(before[0], engine.getCurrentPiece());
+        for (int i = 0; i < count - 1; i++) {
+            assertSame(before[i + 1], engine.getPreviewPiece(i));
+        }
+        for (Piece piece : before) {
+            assertNotSame(piece, engine.getPreviewPiece(count - 1));
+        }
+    }
+
+    @Test
+    void testSameSeedGivesSamePreviewRegardlessOfCount() {
+        GameConfig config = new GameConfig("Normal", "NORMAL", SpeedCurve.CLASSIC).withSeed(9);
+        GameEngine one = new GameEngine(config.withPreviewCount(1));
+        GameEngine five = new GameEngine(config.withPreviewCount(5));
+        one.startGame();
+        five.startGame();
+        for (int i = 0; i < 20; i++) {
+            assertEquals(one.getCurrentPiece().getType(), five.getCurrentPiece().getType());
+            one.execute(GameCommand.HARD_DROP);
+            five.execute(GameCommand.HARD_DROP);
+            one.clearLinesManually();
+            five.clearLinesManually();
+        }
+    }
+
+    @Test
+    void testHoldSwapsOncePerPiece() {
+        GameEngine engine = new GameEngine(new GameConfig("Normal", "NORMAL", SpeedCurve.CLASSIC).withSeed(5));
+        engine.startGame();
+        Piece first = engine.getCurrentPiece();
+        Piece next = engine.getNextPiece();
+        assertNull(engine.getHoldPiece());
+        assertTrue(engine.canHold());
+
+        // 보관 칸이 비어 있으면 다음 블록이 나옴
+        engine.execute(GameCommand.ROTATE);
+        engine.execute(GameCommand.HOLD);
+        assertSame(first, engine.getHoldPiece());
+        assertEquals(0, first.getRotation());
+        assertSame(next, engine.getCurrentPiece());
+        assertEquals(engine.getGameBoard().getSpawnY(), next.getY());
+        assertFalse(engine.canHold());
+
+        // 같은 블록에서는 다시 보관할 수 없음
+        engine.execute(GameCommand.HOLD);
+        assertSame(next, engine.getCurrentPiece());
+
+        // 블록을 놓으면 다시 보관 가능 - 보관 중이던 블록과 맞바꿈
+        engine.execute(GameCommand.HARD_DROP);
+        assertTrue(engine.canHold());
+        Piece third = engine.getCurrentPiece();
+        engine.execute(GameCommand.HOLD);
+        assertSame(first, engine.getCurrentPiece());
+        assertSame(third, engine.getHoldPiece());
+    }
+
+    @Test
+    void testSkipAllowsHoldAgain() {
+        GameEngine engine = new GameEngine(new GameConfig("Normal", "NORMAL", SpeedCurve.CLASSIC).withSeed(5));
+        engine.startGame();
+        engine.execute(GameCommand.HOLD);
+        assertFalse(engine.canHold());
+
+        // 넘기기로 새 블록이 나오면 놓을 때와 같이 다시 보관 가능
+        engine.skipCurrentPiece();
+        assertTrue(engine.canHold());
+        Piece skippedTo = engine.getCurrentPiece();
+        engine.execute(GameCommand.HOLD);
+        assertSame(skippedTo, engine.getHoldPiece());
+    }
+
+    @Test
+    void testAttackLinesLiftCurrentPieceInsteadOfEndingGame() {
+        gameEngine.startGame();
+        // 블록이 나오는 곳 바로 아래(1행)까지 쌓고, 공격 한 줄로 0행까지 올라오게 함
+        GameBoard board = gameEngine.getGameBoard();
+        for (int row = 1; row < GameBoard.BOARD_HEIGHT; row++) {
+            for (int col = 0; col < GameBoard.BOARD_WIDTH - 1; col++) {
+                board.setCell(row, col, 1);
+            }
+        }
+
+        gameEngine.receiveAttackLines(1, GameBoard.BOARD_WIDTH - 1);
+
+        Piece current = gameEngine.getCurrentPiece();
+        assertTrue(gameEngine.isGameRunning());
+        assertTrue(current.getY() < 0);
+        assertTrue(gameEngine.getGameBoard().isValidPosition(current));
+    }
+
+    @Test
+    void testAttackOverflowEndsGameAsTopOut() {
+        gameEngine.startGame();
+        GameBoard board = gameEngine.getGameBoard();
+        for (int row = 0; row < GameBoard.BOARD_HEIGHT; row++) {
+            board.setCell(row, 0, 1);
+        }
+
+        gameEngine.receiveAttackLines(GameBoard.BUFFER_ROWS + 1, GameBoard.BOARD_WIDTH - 1);
+
+        assertFalse(gameEngine.isGameRunning());
+        assertTrue(gameEngine.isToppedOut());
+    }
+}
@@ -0,0 +1,151 @@
+package tetris.game;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class InputControllerTest {
+
+    private static final long MS = 1_000_000L;
+
+    private static GameEngine startedEngine() {
+        GameEngine engine = new GameEngine(new GameConfig("Normal", "NORMAL", SpeedCurve.CLASSIC).withSeed(11));
+        engine.startGame();
+        return engine;
+    }
+
+    private static InputController controllerFor(GameEngine engine, long das, long arr) {
+        InputController input = new InputController(engine, das, arr, 20);
+        input.bind("LEFT", GameCommand.MOVE_LEFT);
+        input.bind("RIGHT", GameCommand.MOVE_RIGHT);
+        input.bind("DOWN", GameCommand.SOFT_DROP);
+        input.bind("SPACE", GameCommand.HARD_DROP);
+        return input;
+    }
+
+    @Test
+    void testDelayedAutoShiftThenRepeatRate() {
+        GameEngine engine = startedEngine();
+        InputController input = controllerFor(engine, 100 * MS, 20 * MS);
+        int startX = engine.getCurrentPiece().getX();
+
+        // 누르는 순간 한 칸
+        assertTrue(input.keyPressed("LEFT"));
+        assertEquals(startX - 1, engine.getCurrentPiece().getX());
+
+        // DAS 전에는 움직이지 않음
+        input.update(60 * MS);
+        assertEquals(startX - 1, engine.getCurrentPiece().getX());
+
+        // DAS가 차면 한 칸, 그 뒤로 ARR마다 한 칸
+        input.update(40 * MS);
+        assertEquals(startX - 2, engine.getCurrentPiece().getX());
+        input.update(20 * MS);
+        assertEquals(startX - 3, engine.getCurrentPiece().getX());
+
+        // 떼면 멈춤
+        assertTrue(input.keyReleased("LEFT"));
+        input.update(100 * MS);
+        assertEquals(startX - 3, engine.getCurrentPiece().getX());
+    }
+
+    @Test
+    void testOsKeyRepeatIsIgnored() {
+        GameEngine engine = startedEngine();
+        InputController input = controllerFor(engine, 100 * MS, 20 * MS);
+        int startX = engine.getCurrentPiece().getX();
+
+        input.keyPressed("RIGHT");
+        input.keyPressed("RIGHT");
+        input.keyPressed("RIGHT");
+        assertEquals(startX + 1, engine.getCurrentPiece().getX());
+        assertFalse(input.keyPressed("F1"));
+    }
+
+    @Test
+    void testLastPressedDirectionWins() {
+        GameEngine engine = startedEngine();
+        InputController input = controllerFor(engine, 100 * MS, 20 * MS);
+        int startX = engine.getCurrentPiece().getX();
+
+        input.keyPressed("LEFT");
+        input.keyPressed("RIGHT");
+        assertEquals(startX, engine.getCurrentPiece().getX());
+        input.update(100 * MS);
+        assertEquals(startX + 1, engine.getCurrentPiece().getX());
+
+        // 오른쪽을 떼면 아직 누르고 있는 왼쪽으로 다시 DAS 충전
+        input.keyReleased("RIGHT");
+        input.update(60 * MS);
+        assertEquals(startX + 1, engine.getCurrentPiece().getX());
+        input.update(40 * MS);
+        assertEquals(startX, engine.getCurrentPiece().getX());
+    }
+
+    @Test
+    void testZeroRepeatRateShiftsToWall() {
+        GameEngine engine = startedEngine();
+        InputController input = controllerFor(engine, 100 * MS, 0);
+
+        input.keyPressed("RIGHT");
+        input.update(100 * MS);
+        Piece piece = engine.getCurrentPiece();
+        int rightEdge = piece.getX() + piece.getShapes().getMaxCol(piece.getRotation());
+        assertEquals(GameBoard.BOARD_WIDTH - 1, rightEdge);
+    }
+
+    @Test
+    void testSoftDropRepeatsAtFactorOfFallSpeed() {
+        GameEngine engine = startedEngine();
+        InputController input = controllerFor(engine, 100 * MS, 20 * MS);
+        long interval = engine.getFallSpeed() / 20;
+        int startY = engine.getCurrentPiece().getY();
+
+        input.keyPressed("DOWN");
+        assertEquals(startY + 1, engine.getCurrentPiece().getY());
+        input.update(interval * 2);
+        assertEquals(startY + 3, engine.getCurrentPiece().getY());
+
+        input.keyReleased("DOWN");
+        input.update(interval * 2);
+        assertEquals(startY + 3, engine.getCurrentPiece().getY());
+    }
+
+    @Test
+    void testCommandsBufferedDuringAnimation() {
+        GameEngine engine = startedEngine();
+        InputController input = controllerFor(engine, 100 * MS, 20 * MS);
+        Piece piece = engine.getCurrentPiece();
+
+        input.setBuffering(true);
+        input.keyPressed("SPACE");
+        input.update(16 * MS);
+        assertSame(piece, engine.getCurrentPiece());
+
+        // 애니메이션이 끝나면 모아 둔 하드드롭 실행
+        input.setBuffering(false);
+        assertEquals(1, input.update(16 * MS));
+        assertNotSame(piece, engine.getCurrentPiece());
+    }
+
+    @Test
+    void testReleaseAllDropsHeldKeysAndBuffer() {
+        GameEngine engine = startedEngine();
+        InputController input = controllerFor(engine, 100 * MS, 20 * MS);
+        Piece piece = engine.getCurrentPiece();
+
+        input.keyPressed("LEFT");
+        input.setBuffering(true);
+        input.keyPressed("SPACE");
+        input.releaseAll();
+        input.setBuffering(false);
+        int x = piece.getX();
+        assertEquals(0, input.update(200 * MS));
+        assertSame(piece, engine.getCurrentPiece());
+        assertEquals(x, piece.getX());
+
+        // 다시 누르면 새로 누른 것으로 처리
+        input.keyPressed("LEFT");
+        assertEquals(x - 1, piece.getX());
+    }
+}
@@ -247,5 +247,65 @@ class PieceTest {
         // 유효하지 않은 위치이므로 아이템이 설정되지 않아야 함
         assertTrue(!piece.hasItem() || piece.hasItem()); // 두 경우 모두 가능
     }
-}
 
+    @Test
+    void testPiecesOfSameTypeShareShapeTable() {
+        Piece first = PieceFactory.createPiece(PieceFactory.T_PIECE);
+        Piece second = PieceFactory.createPiece(PieceFactory.T_PIECE);
+
+        assertSame(first.getShapes(), second.getShapes());
+        assertSame(first.getShape(), second.getShape());
+
+        // 회전 상태는 블록마다 따로
+        first.rotate();
+        assertEquals(1, first.getRotation());
+        assertEquals(0, second.getRotation());
+        assertSame(PieceFactory.shapeOf(PieceFactory.T_PIECE).getShape(1), first.getShape());
+    }
+
+    @Test
+    void testItemFollowsRotationTable() {
+        Piece piece = PieceFactory.createPiece(PieceFactory.L_PIECE);
+        // {{0, 0, 7}, {7, 7, 7}} 의 오른쪽 위 칸
+        piece.setItemAt(0, 2, ItemType.LINE_CLEAR);
+
+        piece.rotate();
+        // {{7, 0}, {7, 0}, {7, 7}} 에서는 오른쪽 아래 칸
+        assertEquals(2, piece.getItemRow());
+        assertEquals(1, piece.getItemCol());
+        assertEquals(ItemType.LINE_CLEAR, piece.getItemAt(2, 1));
+        assertEquals(ItemType.NONE, piece.getItemAt(0, 0));
+
+        piece.rotateBack();
+        assertEquals(0, piece.getItemRow());
+        assertEquals(2, piece.getItemCol());
+
+        // 한 바퀴 돌면 원래 칸
+        for (int i = 0; i < 4; i++) {
+            piece.rotate();
+        }
+        assertEquals(0, piece.getItemRow());
+        assertEquals(2, piece.getItemCol());
+    }
+
+    @Test
+    void testCopyFrom() {
+        Piece piece = PieceFactory.createPiece(PieceFactory.J_PIECE);
+        piece.setItemAt(0, 0, ItemType.DOUBLE_SCORE);
+        piece.rotate();
+        piece.setPosition(3, 7);
+
+        Piece target = PieceFactory.createPiece(PieceFactory.J_PIECE);
+        target.copyFrom(piece);
+
+        assertEquals(3, target.getX());
+        assertEquals(7, target.getY());
+        assertEquals(piece.getRotation(), target.getRotation());
+        assertEquals(piece.getItemRow(), target.getItemRow());
+        assertEquals(piece.getItemCol(), target.getItemCol());
+        assertEquals(ItemType.DOUBLE_SCORE, target.getItemType());
+
+        assertThrows(IllegalArgumentException.class,
+            () -> PieceFactory.createPiece(PieceFactory.O_PIECE).copyFrom(piece));
+    }
+}
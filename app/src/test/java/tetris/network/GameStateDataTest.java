@@ -216,4 +216,30 @@ class GameStateDataTest {
             assertEquals(pieceType, data.getNextPieceType());
         }
     }
+
+    @Test
+    void testPieceQueueSurvivesSerialization() throws Exception {
+        GameStateData data = new GameStateData(
+            new int[20][10], new int[20][10], 0, 1, 0, false,
+            new int[2][2], 0, 0, 1,
+            new int[2][2], 3, 0, new ArrayList<>()
+        );
+        // 설정하지 않으면 빈 큐, 보관 블록 없음
+        assertEquals(0, data.getPreviewPieceTypes().length);
+        assertEquals(0, data.getHoldPieceType());
+
+        data.setPieceQueue(new int[] {3, 4, 5}, 6);
+        java.io.ByteArrayOutputStream bytes = new java.io.ByteArrayOutputStream();
+        try (java.io.ObjectOutputStream out = new java.io.ObjectOutputStream(bytes)) {
+            out.writeObject(data);
+        }
+        GameStateData copy;
+        try (java.io.ObjectInputStream in = new java.io.ObjectInputStream(
+                new java.io.ByteArrayInputStream(bytes.toByteArray()))) {
+            copy = (GameStateData) in.readObject();
+        }
+
+        assertArrayEquals(new int[] {3, 4, 5}, copy.getPreviewPieceTypes());
+        assertEquals(6, copy.getHoldPieceType());
+    }
 }
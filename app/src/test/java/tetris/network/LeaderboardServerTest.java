@@ -0,0 +1,162 @@
+package tetris.network;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.Timeout;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class LeaderboardServerTest {
+
+    private static final int TEST_PORT = 17790;
+
+    @TempDir
+    Path tempDir;
+
+    private LeaderboardServer server;
+    private LeaderboardClient client;
+
+    @AfterEach
+    void tearDown() {
+        if (client != null) {
+            client.close();
+        }
+        if (server != null) {
+            server.close();
+        }
+    }
+
+    private static ScoreSubmission submission(String id, String name, int score, String difficulty, String mode) {
+        return new ScoreSubmission(id, "cab-1", name, score, difficulty, mode, System.currentTimeMillis());
+    }
+
+    @Test
+    @Timeout(10)
+    void testDuplicateSubmissionsAreAckedButStoredOnce() throws Exception {
+        server = new LeaderboardServer(TEST_PORT, tempDir.resolve("board.journal"));
+        List<ScoreSubmission> batch = new ArrayList<>();
+        batch.add(submission("a", "AAA", 500, "Normal", "NORMAL"));
+        batch.add(submission("b", "BBB", 900, "Normal", "NORMAL"));
+
+        assertEquals(List.of("a", "b"), server.submit(batch));
+        // 응답을 못 받은 클라이언트가 같은 묶음을 다시 보낸 경우
+        assertEquals(List.of("a", "b"), server.submit(batch));
+
+        assertEquals(2, server.getAcceptedCount());
+        assertEquals(2, server.getDuplicateCount());
+        List<String> top = server.query(new LeaderboardQuery("NORMAL", "Normal", 10));
+        assertEquals(2, top.size());
+        assertTrue(top.get(0).contains("BBB"));
+    }
+
+    @Test
+    @Timeout(10)
+    void testQueryCacheIsInvalidatedBySubmission() throws Exception {
+        server = new LeaderboardServer(TEST_PORT + 1, tempDir.resolve("board.journal"));
+        server.submit(List.of(submission("a", "AAA", 100, "Easy", "NORMAL")));
+
+        LeaderboardQuery query = new LeaderboardQuery("NORMAL", "Easy", 5);
+        List<String> first = server.query(query);
+        assertSame(first, server.query(query), "같은 조회는 캐시된 결과를 사용");
+
+        // 다른 모드 제출은 캐시에 영향 없음
+        server.submit(List.of(submission("i", "ITEM", 50, "Normal", "ITEM")));
+        assertSame(first, server.query(query));
+
+        server.submit(List.of(submission("b", "BBB", 200, "Easy", "NORMAL")));
+        List<String> updated = server.query(query);
+        assertNotSame(first, updated);
+        assertEquals(2, updated.size());
+    }
+
+    @Test
+    @Timeout(20)
+    void testClientBatchesSubmissionsAndQueriesOverNetwork() throws Exception {
+        Path journal = tempDir.resolve("board.journal");
+        server = new LeaderboardServer(TEST_PORT + 2, journal);
+        server.start();
+
+        client = new LeaderboardClient("localhost", TEST_PORT + 2, "cab-1");
+        for (int i = 0; i < 30; i++) {
+            client.submit("P" + i, i * 10, "Hard", "NORMAL");
+        }
+        client.flush();
+        long deadline = System.currentTimeMillis() + 5000;
+        while (client.getPendingCount() > 0 && System.currentTimeMillis() < deadline) {
+            Thread.sleep(50);
+        }
+        assertEquals(0, client.getPendingCount());
+        assertEquals(30, server.getAcceptedCount());
+
+        List<String> top = client.fetchTop("NORMAL", "Hard", 3);
+        assertEquals(3, top.size());
+        assertTrue(top.get(0).startsWith("1. P29"));
+
+        // 화면용 비동기 조회도 같은 결과를 callback으로 넘긴다
+        BlockingQueue<List<String>> results = new ArrayBlockingQueue<>(1);
+        client.fetchTop("NORMAL", "Hard", 3, results::offer);
+        assertEquals(top, results.poll(5, TimeUnit.SECONDS));
+
+        // 서버를 다시 켜도 순위 유지
+        client.close();
+        client = null;
+        server.close();
+        server = new LeaderboardServer(TEST_PORT + 3, journal);
+        assertEquals(30, server.query(new LeaderboardQuery("NORMAL", "Hard", 100)).size());
+    }
+
+    @Test
+    @Timeout(10)
+    void testStoredSubmissionIdsFilterDuplicatesAfterRestart() throws Exception {
+        Path journal = tempDir.resolve("board.journal");
+        server = new LeaderboardServer(TEST_PORT + 4, journal);
+        List<ScoreSubmission> batch = new ArrayList<>();
+        batch.add(submission("a", "AAA", 500, "Normal", "NORMAL"));
+        batch.add(submission("b", "BBB", 900, "Normal", "NORMAL"));
+        server.submit(batch);
+        server.close();
+
+        // ACK를 못 받은 클라이언트가 서버 재시작 후 같은 점수를 다시 보낸 경우
+        server = new LeaderboardServer(TEST_PORT + 5, journal);
+        assertEquals(List.of("a", "b"), server.submit(batch));
+        assertEquals(0, server.getAcceptedCount());
+        assertEquals(2, server.getDuplicateCount());
+        assertEquals(2, server.query(new LeaderboardQuery("NORMAL", "Normal", 10)).size());
+    }
+
+    @Test
+    @Timeout(20)
+    void testPendingScoresAreResentAfterClientRestart() throws Exception {
+        Path pendingFile = tempDir.resolve("pending.log");
+        // 서버가 꺼져 있는 동안 제출한 점수
+        client = new LeaderboardClient("localhost", TEST_PORT + 6, "cab-1", pendingFile);
+        for (int i = 0; i < 3; i++) {
+            client.submit("P" + i, i * 10, "Normal", "NORMAL");
+        }
+        client.close();
+        client = null;
+        assertEquals(3, Files.readAllLines(pendingFile).size());
+
+        server = new LeaderboardServer(TEST_PORT + 6, tempDir.resolve("board.journal"));
+        server.start();
+        client = new LeaderboardClient("localhost", TEST_PORT + 6, "cab-1", pendingFile);
+        long deadline = System.currentTimeMillis() + 5000;
+        // 모두 ACK를 받았으면 대기 목록 파일을 비운다
+        while ((client.getPendingCount() > 0 || Files.exists(pendingFile))
+                && System.currentTimeMillis() < deadline) {
+            Thread.sleep(50);
+        }
+        assertEquals(3, server.getAcceptedCount());
+        assertEquals(0, client.getPendingCount());
+        assertFalse(Files.exists(pendingFile));
+    }
+}
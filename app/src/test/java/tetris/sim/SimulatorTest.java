@@ -0,0 +1,86 @@
+package tetris.sim;
+
+import org.junit.jupiter.api.Test;
+import static org.junit.jupiter.api.Assertions.*;
+
+class SimulatorTest {
+
+    private static Simulator.Options options(String... args) {
+        return Simulator.Options.parse(args);
+    }
+
+    @Test
+    void testSameSeedGivesSameResultRegardlessOfThreads() throws Exception {
+        SimulationStats single = new Simulator(options("--games", "40", "--threads", "1", "--seed", "7",
+            "--mode", "ITEM")).run();
+        SimulationStats parallel = new Simulator(options("--games", "40", "--threads", "4", "--seed", "7",
+            "--mode", "ITEM")).run();
+
+        assertEquals(40, single.getGames());
+        assertEquals(single.getGames(), parallel.getGames());
+        assertEquals(single.getTotalPieces(), parallel.getTotalPieces());
+        assertEquals(single.getTotalLines(), parallel.getTotalLines());
+        assertEquals(single.getScorePercentile(50), parallel.getScorePercentile(50));
+        assertEquals(single.getScorePercentile(100), parallel.getScorePercentile(100));
+    }
+
+    @Test
+    void testSoloGameStopsAtPieceLimit() {
+        Simulator simulator = new Simulator(options("--strategy", "lowest", "--max-pieces", "15"));
+        GameResult result = simulator.playSolo(3);
+
+        assertEquals(15, result.getPiecesPlaced());
+        assertFalse(result.isToppedOut());
+        // 블록마다 전략이 한 번씩 결정 (걸린 시간은 리포트로만 보고 여기서는 확인하지 않음)
+        assertEquals(15, result.getDecisions());
+        assertTrue(result.getMaxDecisionNanos() <= result.getDecisionNanos());
+        // 블록 하나마다 기본 1초씩 진행
+        assertEquals(15_000_000_000L, result.getGameTimeNanos());
+    }
+
+    @Test
+    void testRandomStrategyTopsOut() {
+        Simulator simulator = new Simulator(options("--strategy", "random", "--max-pieces", "5000"));
+        GameResult result = simulator.playSolo(11);
+
+        assertTrue(result.isToppedOut());
+        assertTrue(result.getPiecesPlaced() > 0 && result.getPiecesPlaced() < 5000);
+    }
+
+    @Test
+    void testBattleRecordsWinner() throws Exception {
+        SimulationStats stats = new Simulator(options("--games", "10", "--threads", "2", "--seed", "5",
+            "--battle", "NORMAL", "--strategy", "lowest", "--opponent", "random")).run();
+
+        assertEquals(10, stats.getGames());
+        int decided = stats.getWinCount("PLAYER1") + stats.getWinCount("PLAYER2") + stats.getWinCount("DRAW")
+            + stats.getWinCount("UNFINISHED");
+        assertEquals(10, decided);
+        assertTrue(stats.getWinCount("PLAYER1") > stats.getWinCount("PLAYER2"));
+    }
+
+    @Test
+    void testAiStrategyBeatsLowestStack() throws Exception {
+        SimulationStats stats = new Simulator(options("--games", "6", "--threads", "2", "--seed", "1",
+            "--battle", "NORMAL", "--strategy", "ai", "--opponent", "lowest")).run();
+
+        assertEquals(6, stats.getWinCount("PLAYER1"));
+    }
+
+    @Test
+    void testTimeLimitBattleEndsOnGameTime() throws Exception {
+        SimulationStats stats = new Simulator(options("--games", "4", "--seed", "9", "--battle", "TIME_LIMIT",
+            "--time-limit", "5", "--piece-time-ms", "1000")).run();
+
+        assertEquals(4, stats.getGames());
+        // 5초 = 블록 5개 안에 시간 종료
+        assertTrue(stats.getTotalPieces() <= 4 * 2 * 5);
+    }
+
+    @Test
+    void testUnknownOptionsAreRejected() {
+        assertThrows(IllegalArgumentException.class, () -> options("--bogus", "1"));
+        assertThrows(IllegalArgumentException.class, () -> options("--strategy", "nope"));
+        assertThrows(IllegalArgumentException.class, () -> options("--games"));
+    }
+}
@@ -15,9 +15,11 @@ import org.junit.jupiter.api.Test;
 import org.junit.jupiter.params.ParameterizedTest;
 import org.junit.jupiter.params.provider.CsvSource;
 import tetris.ui.controllers.JavaFXTestBase;
+import tetris.data.ScoreManager;
 import tetris.ui.SettingsManager;
 
 import java.lang.reflect.Field;
+import java.util.Map;
 
 import static org.junit.jupiter.api.Assertions.*;
 
@@ -413,6 +415,86 @@ class SceneManagerTest extends JavaFXTestBase {
         });
     }
 
+    @Test
+    void testCachedSceneIsReusedWithoutDuplicatingCss() throws Exception {
+        runOnFxThreadAndWait(() -> {
+            try {
+                Stage stage = new Stage();
+                this.stage = stage;
+                SceneManager sceneManager = new SceneManager(stage);
+
+                sceneManager.showScoreBoard();
+                Scene first = stage.getScene();
+                sceneManager.showSettingsScreen();
+                sceneManager.showScoreBoard();
+
+                assertSame(first, stage.getScene(), "Score board scene should be reused from cache");
+                long cssCount = first.getStylesheets().stream()
+                    .filter(path -> path.contains("ScoreBoard.css"))
+                    .count();
+                assertEquals(1, cssCount, "CSS should be added only once to a cached scene");
+            } catch (Exception e) {
+                fail("Scene cache test failed: " + e.getMessage());
+            }
+        });
+    }
+
+    @Test
+    void testGameOverSceneReuseUpdatesScore() throws Exception {
+        runOnFxThreadAndWait(() -> {
+            try {
+                Stage stage = new Stage();
+                this.stage = stage;
+                SceneManager sceneManager = new SceneManager(stage);
+
+                sceneManager.showGameOverScreen(100);
+                sceneManager.showMainMenu();
+                sceneManager.showGameOverScreen(200);
+
+                Label finalScoreLabel = (Label) stage.getScene().lookup("#finalScoreLabel");
+                assertEquals("최종 점수: 200점", finalScoreLabel.getText(),
+                    "Reused game over screen should display the new score");
+            } catch (Exception e) {
+                fail("Game over reuse test failed: " + e.getMessage());
+            }
+        });
+    }
+
+    @Test
+    void testPreloadedScoreBoardShowsScoresAddedAfterPreload() throws Exception {
+        ScoreManager scoreManager = ScoreManager.getInstance();
+        SceneManager[] holder = new SceneManager[1];
+        runOnFxThreadAndWait(() -> {
+            this.stage = new Stage();
+            holder[0] = new SceneManager(stage);
+        });
+
+        holder[0].preloadScenes();
+        Field field = SceneManager.class.getDeclaredField("preloadedLoaders");
+        field.setAccessible(true);
+        Map<?, ?> preloaded = (Map<?, ?>) field.get(holder[0]);
+        long deadline = System.currentTimeMillis() + 10_000;
+        while (preloaded.keySet().stream().noneMatch(key -> key.toString().startsWith("/fxml/ScoreBoard.fxml"))
+                && System.currentTimeMillis() < deadline) {
+            Thread.sleep(20);
+        }
+
+        try {
+            // 미리 로드가 끝난 뒤에 추가된 점수도 처음 띄울 때 보여야 한다
+            scoreManager.clearScores("NORMAL");
+            scoreManager.addScore("PRE", 1234, "Normal", "NORMAL");
+            runOnFxThreadAndWait(() -> {
+                holder[0].showScoreBoard();
+                ListView<?> scoreList = (ListView<?>) stage.getScene().lookup("#scoreListView");
+                assertNotNull(scoreList, "Score list should exist");
+                assertTrue(scoreList.getItems().stream().anyMatch(item -> item.toString().contains("PRE")),
+                    "Preloaded score board should reload scores when first shown");
+            });
+        } finally {
+            scoreManager.clearScores("NORMAL");
+        }
+    }
+
     private boolean sceneHasStylesheet(Stage stage, String cssFileName) {
         return stage.getScene() != null
             && stage.getScene().getStylesheets().stream()
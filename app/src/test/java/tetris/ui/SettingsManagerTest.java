@@ -2,12 +2,21 @@ package tetris.ui;
 
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
 import static org.junit.jupiter.api.Assertions.*;
 
+import java.io.InputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Properties;
+
 class SettingsManagerTest {
 
     private SettingsManager settings;
 
+    @TempDir
+    Path tempDir;
+
     @BeforeEach
     void setUp() {
         settings = SettingsManager.getInstance();
@@ -142,5 +151,59 @@ class SettingsManagerTest {
         // 싱글톤이므로 같은 인스턴스
         assertSame(settings, newInstance);
     }
-}
 
+    @Test
+    void testRapidChangesAreCoalescedIntoOneWrite() throws Exception {
+        Path file = tempDir.resolve("settings.properties");
+        SettingsManager manager = new SettingsManager(file);
+
+        // 슬라이더를 끄는 것처럼 값을 연달아 변경
+        for (int i = 0; i <= 100; i++) {
+            manager.setVolume(i);
+        }
+        manager.setKeyLeft("j");
+        manager.saveToFile();
+        manager.flush();
+
+        assertEquals(1, manager.getWriteCount());
+        Properties props = new Properties();
+        try (InputStream in = Files.newInputStream(file)) {
+            props.load(in);
+        }
+        assertEquals("100.0", props.getProperty("volume"));
+        assertEquals("J", props.getProperty("keyLeft"));
+
+        // 바뀐 것이 없으면 다시 쓰지 않는다
+        manager.flush();
+        assertEquals(1, manager.getWriteCount());
+
+        SettingsManager reloaded = new SettingsManager(file);
+        assertEquals(100.0, reloaded.getVolume());
+        assertEquals("J", reloaded.getKeyLeft());
+    }
+
+    @Test
+    void testSnapshotIsNotAffectedByLaterChanges() {
+        SettingsManager manager = new SettingsManager(tempDir.resolve("settings.properties"));
+        manager.setDifficulty("Hard");
+        SettingsSnapshot before = manager.getSnapshot();
+
+        manager.setDifficulty("Easy");
+
+        assertEquals("Hard", before.getDifficulty());
+        assertEquals("Easy", manager.getSnapshot().getDifficulty());
+        assertNotSame(before, manager.getSnapshot());
+    }
+
+    @Test
+    void testInMemoryManagerNeverWritesFile() {
+        SettingsManager manager = new SettingsManager(null);
+        manager.setVolume(30.0);
+        manager.setGameMode("ITEM");
+        manager.flush();
+
+        assertEquals(30.0, manager.getVolume());
+        assertEquals("ITEM", manager.getGameMode());
+        assertEquals(0, manager.getWriteCount());
+    }
+}
@@ -214,6 +214,26 @@ class BattleModeSelectionControllerTest extends JavaFXTestBase {
         });
     }
 
+    @Test
+    void testComputerBattleNavigates() throws Exception {
+        runOnFxThreadAndWait(() -> {
+            try {
+                FXMLLoader loader = new FXMLLoader(getClass().getResource("/fxml/BattleModeSelection.fxml"));
+                loader.load();
+                BattleModeSelectionController controller = loader.getController();
+
+                TestSceneManager sceneManager = new TestSceneManager(new Stage());
+                controller.setSceneManager(sceneManager);
+
+                invoke(controller, "onComputerBattle");
+                assertEquals("NORMAL", sceneManager.lastBattleMode);
+                assertTrue(sceneManager.vsComputer);
+            } catch (Exception e) {
+                fail("Computer battle navigation failed: " + e.getMessage());
+            }
+        });
+    }
+
     @Test
     void testSelectCurrentButton_ItemBattle() throws Exception {
         runOnFxThreadAndWait(() -> {
@@ -259,11 +279,11 @@ class BattleModeSelectionControllerTest extends JavaFXTestBase {
             vsComputer = false;
         }
 
-        // @Override
-        // public void showBattleGameScreenAgainstComputer(String battleMode) {
-        //     lastBattleMode = battleMode;
-        //     vsComputer = true;
-        // }
+        @Override
+        public void showBattleGameScreenAgainstComputer(String battleMode) {
+            lastBattleMode = battleMode;
+            vsComputer = true;
+        }
 
         @Override
         public void showMainMenu() {
@@ -745,8 +745,8 @@ class GameScreenControllerTest extends JavaFXTestBase {
                 Boolean isAnimatingClear = (Boolean) getPrivateField(controller, "isAnimatingClear");
                 assertFalse(isAnimatingClear);
                 
-                Object linesToClear = getPrivateField(controller, "linesToClear");
-                assertNull(linesToClear);
+                long linesToClearMask = (Long) getPrivateField(controller, "linesToClearMask");
+                assertEquals(0L, linesToClearMask);
             } catch (Exception e) {
                 fail("Clear animation flags test failed: " + e.getMessage());
             }
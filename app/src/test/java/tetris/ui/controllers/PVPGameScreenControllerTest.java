@@ -442,10 +442,10 @@ class PVPGameScreenControllerTest extends JavaFXTestBase {
                 PVPGameScreenController controller = loader.getController();
                 
                 boolean isAnimatingClear = (boolean) getPrivateField(controller, "isAnimatingClear");
-                Object playerLinesToClear = getPrivateField(controller, "playerLinesToClear");
+                long playerLinesToClearMask = (long) getPrivateField(controller, "playerLinesToClearMask");
                 
                 assertFalse(isAnimatingClear, "Should not be animating clear initially");
-                assertNull(playerLinesToClear, "Lines to clear should be null initially");
+                assertEquals(0L, playerLinesToClearMask, "Lines to clear should be empty initially");
             } catch (Exception e) {
                 fail("Failed to check clear animation initialization: " + e.getMessage());
             }
@@ -1,6 +1,7 @@
 package tetris.ui.controllers;
 
 import javafx.fxml.FXMLLoader;
+import javafx.scene.control.Label;
 import javafx.scene.control.ListView;
 import javafx.scene.control.ToggleButton;
 import javafx.stage.Stage;
@@ -174,6 +175,42 @@ class ScoreBoardControllerTest extends JavaFXTestBase {
         });
     }
 
+    @Test
+    void testNextPageShowsRemainingScores() throws Exception {
+        runOnFxThreadAndWait(() -> {
+            ScoreManager scoreManager = ScoreManager.getInstance();
+            scoreManager.clearScores("ITEM");
+            for (int i = 0; i < 12; i++) {
+                scoreManager.addScore("P" + i, 100 * (i + 1), "Normal", "ITEM");
+            }
+            try {
+                FXMLLoader loader = new FXMLLoader(getClass().getResource("/fxml/ScoreBoard.fxml"));
+                loader.load();
+                ScoreBoardController controller = loader.getController();
+
+                ListView<String> scoreList = getNode(loader, "scoreListView");
+                ToggleButton itemModeButton = getNode(loader, "itemModeButton");
+                Label pageLabel = getNode(loader, "pageLabel");
+
+                itemModeButton.fire();
+                assertEquals(10, scoreList.getItems().size());
+                assertEquals("1 / 2", pageLabel.getText());
+
+                Method nextMethod = ScoreBoardController.class.getDeclaredMethod("onNextPage");
+                nextMethod.setAccessible(true);
+                nextMethod.invoke(controller);
+
+                assertEquals(2, scoreList.getItems().size());
+                assertTrue(scoreList.getItems().get(0).startsWith("11. "));
+                assertEquals("2 / 2", pageLabel.getText());
+            } catch (Exception e) {
+                fail("Score paging failed: " + e.getMessage());
+            } finally {
+                scoreManager.clearScores("ITEM");
+            }
+        });
+    }
+
     @Test
     void testBackToMenuCallsSceneManager() throws Exception {
         runOnFxThreadAndWait(() -> {